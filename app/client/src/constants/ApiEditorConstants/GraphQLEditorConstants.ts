@@ -29,6 +29,7 @@ export interface GRAPHQL_PAGINATION_TYPE {
     next?: {
       limit?: GRAPHQL_PAGINATION_INDIVIDUAL_TYPE & { isSeparate: boolean };
       cursor?: GRAPHQL_PAGINATION_INDIVIDUAL_TYPE;
+      prefetch?: boolean;
     };
     previous?: {
       limit?: GRAPHQL_PAGINATION_INDIVIDUAL_TYPE;
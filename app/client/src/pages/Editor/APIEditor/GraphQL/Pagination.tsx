@@ -650,6 +650,23 @@ function Pagination(props: PaginationProps) {
                   variableOptions={variableOptions}
                   variableTooltip="Select the variable which holds the after cursor"
                 />
+                <CheckboxFieldWrapper>
+                  <Checkbox
+                    className="t--apiFormPaginationNextPrefetch"
+                    defaultChecked={!!paginationNext?.prefetch}
+                    name={`${PAGINATION_PREFIX}.${CURSORBASED_PREFIX}.${CURSOR_NEXT_PREFIX}.prefetch`}
+                    onChange={(value: boolean) => {
+                      setPaginationValue(
+                        `${CURSORBASED_PREFIX}.${CURSOR_NEXT_PREFIX}`,
+                        "prefetch",
+                        value,
+                      );
+                    }}
+                  >
+                    Fetch the next page in advance, using the end cursor in the
+                    pageInfo of the response
+                  </Checkbox>
+                </CheckboxFieldWrapper>
               </PaginationSection>
             </PaginationTypeView>,
           ]}
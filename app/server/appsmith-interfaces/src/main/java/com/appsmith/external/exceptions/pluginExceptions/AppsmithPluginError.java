@@ -44,6 +44,16 @@ public enum AppsmithPluginError implements BasePluginError {
             ErrorType.CONNECTIVITY_ERROR,
             "{2}",
             "{3}"),
+    PLUGIN_QUERY_QUEUE_TIMEOUT_ERROR(
+            503,
+            AppsmithPluginErrorCode.PLUGIN_QUERY_QUEUE_TIMEOUT_ERROR.getCode(),
+            "{0} could not start within {1} milliseconds, as too many queries are already running on its datasource. "
+                    + "Please try again later.",
+            AppsmithErrorAction.DEFAULT,
+            "Timed out waiting to execute query",
+            ErrorType.CONNECTIVITY_ERROR,
+            "{2}",
+            "{3}"),
     PLUGIN_GET_STRUCTURE_TIMEOUT_ERROR(
             504,
             AppsmithPluginErrorCode.PLUGIN_GET_STRUCTURE_TIMEOUT_ERROR.getCode(),
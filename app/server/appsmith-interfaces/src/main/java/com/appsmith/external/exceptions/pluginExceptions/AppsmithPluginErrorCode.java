@@ -16,6 +16,7 @@ public enum AppsmithPluginErrorCode {
     PLUGIN_DATASOURCE_ARGUMENT_ERROR("PE-DSE-5003", "One or more arguments in datasource configuration is invalid"),
     PLUGIN_DATASOURCE_TIMEOUT_ERROR("PE-DSE-5004", "Timed out when connecting to datasource"),
     PLUGIN_QUERY_TIMEOUT_ERROR("PE-QRY-5000", "Timed out on query execution"),
+    PLUGIN_QUERY_QUEUE_TIMEOUT_ERROR("PE-QRY-5030", "Timed out waiting for a free slot to execute the query"),
     PLUGIN_AUTHENTICATION_ERROR("PE-ATH-5000", "Datasource authentication error"),
     PLUGIN_DATASOURCE_AUTHENTICATION_ERROR("PE-ATH-4000", "Datasource authentication error"),
     PLUGIN_DATASOURCE_ERROR("PE-DSE-4000", "Datasource error"),
@@ -0,0 +1,149 @@
+package com.appsmith.external.helpers;
+
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoSink;
+
+import java.time.Duration;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Bounds the number of publishers that are subscribed to at the same time, without blocking any thread while waiting.
+ * Publishers that arrive while all permits are taken are queued and subscribed to in arrival order as permits free up.
+ * A permit is returned when the publisher completes, errors out or is cancelled.
+ */
+public class ConcurrencyLimiter {
+
+    private final int maxConcurrency;
+
+    private final Semaphore permits;
+
+    private final Queue<Waiter> waiters = new ConcurrentLinkedQueue<>();
+
+    private final AtomicInteger queuedCount = new AtomicInteger();
+
+    private final AtomicInteger drainRequests = new AtomicInteger();
+
+    public ConcurrencyLimiter(int maxConcurrency) {
+        if (maxConcurrency < 1) {
+            throw new IllegalArgumentException("maxConcurrency must be at least 1, found " + maxConcurrency);
+        }
+
+        this.maxConcurrency = maxConcurrency;
+        this.permits = new Semaphore(maxConcurrency);
+    }
+
+    public <T> Mono<T> limit(Mono<T> source) {
+        return limit(source, acquire());
+    }
+
+    /**
+     * Same as {@link #limit(Mono)}, but gives up on waiting for a permit after the given queue timeout. The returned
+     * Mono then errors out with the throwable from queueTimeoutError, without ever subscribing to the source.
+     */
+    public <T> Mono<T> limit(Mono<T> source, Duration queueTimeout, Supplier<? extends Throwable> queueTimeoutError) {
+        return limit(source, acquire().timeout(queueTimeout, Mono.error(queueTimeoutError)));
+    }
+
+    private <T> Mono<T> limit(Mono<T> source, Mono<Permit> permitMono) {
+        return Mono.usingWhen(
+                // A permit handed to a subscriber that cancelled at the same moment must not be lost.
+                permitMono.doOnDiscard(Permit.class, Permit::release),
+                permit -> source,
+                permit -> Mono.fromRunnable(permit::release),
+                (permit, error) -> Mono.fromRunnable(permit::release),
+                permit -> Mono.fromRunnable(permit::release));
+    }
+
+    public int getMaxConcurrency() {
+        return maxConcurrency;
+    }
+
+    public int getInFlightCount() {
+        return maxConcurrency - permits.availablePermits();
+    }
+
+    public int getQueuedCount() {
+        return queuedCount.get();
+    }
+
+    private Mono<Permit> acquire() {
+        return Mono.create(sink -> {
+            final Waiter waiter = new Waiter(sink);
+            sink.onCancel(() -> {
+                if (waiter.cancel()) {
+                    queuedCount.decrementAndGet();
+                    waiters.remove(waiter);
+                }
+            });
+            queuedCount.incrementAndGet();
+            waiters.add(waiter);
+            drain();
+        });
+    }
+
+    /**
+     * Hands out free permits to queued waiters. Every change to either the queue or the permits is followed by a
+     * drain, so a waiter can't be left queued while a permit is available. Concurrent and re-entrant calls are folded
+     * into the one already running, which keeps a chain of synchronously completing publishers off the stack.
+     */
+    private void drain() {
+        if (drainRequests.getAndIncrement() != 0) {
+            return;
+        }
+
+        int missed = 1;
+        do {
+            while (!waiters.isEmpty() && permits.tryAcquire()) {
+                final Waiter waiter = waiters.poll();
+                if (waiter != null && waiter.grant(new Permit())) {
+                    queuedCount.decrementAndGet();
+                } else {
+                    permits.release();
+                }
+            }
+            missed = drainRequests.addAndGet(-missed);
+        } while (missed != 0);
+    }
+
+    private class Permit {
+        private final AtomicBoolean released = new AtomicBoolean(false);
+
+        void release() {
+            if (released.compareAndSet(false, true)) {
+                permits.release();
+                drain();
+            }
+        }
+    }
+
+    private static class Waiter {
+        private static final int WAITING = 0;
+        private static final int GRANTED = 1;
+        private static final int CANCELLED = 2;
+
+        private final MonoSink<Permit> sink;
+
+        private final AtomicInteger state = new AtomicInteger(WAITING);
+
+        Waiter(MonoSink<Permit> sink) {
+            this.sink = sink;
+        }
+
+        boolean grant(Permit permit) {
+            if (!state.compareAndSet(WAITING, GRANTED)) {
+                return false;
+            }
+            sink.success(permit);
+            return true;
+        }
+
+        boolean cancel() {
+            return state.compareAndSet(WAITING, CANCELLED);
+        }
+    }
+}
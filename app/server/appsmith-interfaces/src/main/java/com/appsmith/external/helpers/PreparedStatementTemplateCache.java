@@ -0,0 +1,84 @@
+package com.appsmith.external.helpers;
+
+import com.appsmith.external.models.MustacheBindingToken;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Caches the result of parsing a query body into a prepared statement template, i.e. the ordered list of mustache
+ * bindings and the query with every binding replaced by a `?`. Both steps are regex heavy and the result only depends
+ * on the query body, so repeated executions of the same action can skip them entirely.
+ */
+public class PreparedStatementTemplateCache {
+
+    // Upper bound on the number of distinct query bodies held in memory. Least recently used entries are evicted first.
+    private static final int MAX_CACHED_TEMPLATES = 2000;
+
+    // Query bodies beyond this length are parsed on every execution rather than pinned in memory.
+    private static final int MAX_CACHEABLE_QUERY_LENGTH = 64 * 1024;
+
+    private static final Map<String, PreparedStatementTemplate> templates =
+            Collections.synchronizedMap(new LinkedHashMap<>(64, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, PreparedStatementTemplate> eldest) {
+                    return size() > MAX_CACHED_TEMPLATES;
+                }
+            });
+
+    @Getter
+    @AllArgsConstructor
+    public static class PreparedStatementTemplate {
+        // Query with all the mustache bindings replaced by `?`
+        private final String query;
+
+        private final List<MustacheBindingToken> bindings;
+
+        /**
+         * Tokens are mutable, hence every caller gets its own copy of the binding list so that the cached template
+         * can never be modified by an execution.
+         */
+        public List<MustacheBindingToken> getBindings() {
+            return bindings.stream()
+                    .map(token -> new MustacheBindingToken(
+                            token.getValue(), token.getStartIndex(), token.isIncludesHandleBars()))
+                    .collect(Collectors.toCollection(ArrayList::new));
+        }
+    }
+
+    public static PreparedStatementTemplate getOrParse(String query) {
+        if (query == null || query.length() > MAX_CACHEABLE_QUERY_LENGTH) {
+            return parse(query);
+        }
+
+        PreparedStatementTemplate template = templates.get(query);
+        if (template == null) {
+            template = parse(query);
+            templates.put(query, template);
+        }
+
+        return template;
+    }
+
+    public static void clear() {
+        templates.clear();
+    }
+
+    public static int size() {
+        return templates.size();
+    }
+
+    private static PreparedStatementTemplate parse(String query) {
+        // First extract all the bindings in order
+        List<MustacheBindingToken> mustacheKeysInOrder = MustacheHelper.extractMustacheKeysInOrder(query);
+        // Replace all the bindings with a ? as expected in a prepared statement.
+        String updatedQuery = MustacheHelper.replaceMustacheWithQuestionMark(query, mustacheKeysInOrder);
+        return new PreparedStatementTemplate(updatedQuery, List.copyOf(mustacheKeysInOrder));
+    }
+}
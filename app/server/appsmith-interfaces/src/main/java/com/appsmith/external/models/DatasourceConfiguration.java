@@ -50,6 +50,15 @@ public class DatasourceConfiguration implements AppsmithDomain {
     @JsonView({Views.Public.class, FromRequest.class})
     List<Property> queryParameters;
 
+    // Most actions that may run against this datasource at the same time on a server, the rest wait in a queue.
+    // Unset means the server wide default.
+    @JsonView({Views.Public.class, FromRequest.class})
+    Integer maxConcurrentExecutions;
+
+    // How long an action may wait in that queue before it fails. Unset means the server wide default.
+    @JsonView({Views.Public.class, FromRequest.class})
+    Integer executionQueueTimeoutInMillisecond;
+
     public boolean isSshProxyEnabled() {
         return sshProxyEnabled == null ? false : sshProxyEnabled;
     }
@@ -375,4 +375,13 @@ public interface PluginExecutor<C> extends ExtensionPoint, CrudTemplateService {
         // wherever applicable.
         return Mono.just("");
     }
+
+    /*
+     * This method returns the number of executions the plugin can run against one datasource at the same time,
+     * usually the size of its connection pool. Executions beyond it would only wait for a connection inside the
+     * plugin, so the server queues them instead. An empty Mono means the plugin has no such limit.
+     */
+    default Mono<Integer> getMaxConcurrentExecutions(DatasourceConfiguration datasourceConfiguration) {
+        return Mono.empty();
+    }
 }
@@ -0,0 +1,114 @@
+package com.appsmith.external.helpers;
+
+import org.junit.jupiter.api.Test;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ConcurrencyLimiterTest {
+
+    @Test
+    public void limit_whenPermitsAreTaken_queuesUntilAPermitIsReleased() {
+        ConcurrencyLimiter limiter = new ConcurrencyLimiter(1);
+        Sinks.One<String> first = Sinks.one();
+        AtomicInteger secondSubscriptions = new AtomicInteger();
+        Mono<String> second = Mono.fromCallable(() -> {
+            secondSubscriptions.incrementAndGet();
+            return "second";
+        });
+
+        Mono<String> firstResult = limiter.limit(first.asMono()).cache();
+        Mono<String> secondResult = limiter.limit(second).cache();
+        firstResult.subscribe();
+        secondResult.subscribe();
+
+        assertThat(limiter.getInFlightCount()).isEqualTo(1);
+        assertThat(secondSubscriptions.get()).isZero();
+
+        first.tryEmitValue("first");
+
+        StepVerifier.create(Mono.zip(firstResult, secondResult))
+                .assertNext(results -> {
+                    assertThat(results.getT1()).isEqualTo("first");
+                    assertThat(results.getT2()).isEqualTo("second");
+                })
+                .verifyComplete();
+        assertThat(secondSubscriptions.get()).isEqualTo(1);
+        assertThat(limiter.getInFlightCount()).isZero();
+    }
+
+    @Test
+    public void limit_whenSourceErrorsOrIsCancelled_releasesPermit() {
+        ConcurrencyLimiter limiter = new ConcurrencyLimiter(1);
+
+        StepVerifier.create(limiter.limit(Mono.error(new IllegalStateException("failed"))))
+                .expectError(IllegalStateException.class)
+                .verify();
+        assertThat(limiter.getInFlightCount()).isZero();
+
+        Disposable pending = limiter.limit(Mono.never()).subscribe();
+        assertThat(limiter.getInFlightCount()).isEqualTo(1);
+        pending.dispose();
+        assertThat(limiter.getInFlightCount()).isZero();
+
+        StepVerifier.create(limiter.limit(Mono.just("done"))).expectNext("done").verifyComplete();
+    }
+
+    @Test
+    public void limit_whenQueueTimeoutElapses_errorsWithoutSubscribingToSource() {
+        ConcurrencyLimiter limiter = new ConcurrencyLimiter(1);
+        AtomicInteger secondSubscriptions = new AtomicInteger();
+        Mono<String> second = Mono.fromCallable(() -> {
+            secondSubscriptions.incrementAndGet();
+            return "second";
+        });
+
+        Disposable pending = limiter.limit(Mono.never()).subscribe();
+
+        StepVerifier.create(limiter.limit(second, Duration.ofMillis(50), () -> new TimeoutException("queued")))
+                .then(() -> assertThat(limiter.getQueuedCount()).isEqualTo(1))
+                .expectErrorMatches(error -> error instanceof TimeoutException && "queued".equals(error.getMessage()))
+                .verify(Duration.ofSeconds(5));
+        assertThat(secondSubscriptions.get()).isZero();
+        assertThat(limiter.getQueuedCount()).isZero();
+        assertThat(limiter.getInFlightCount()).isEqualTo(1);
+
+        pending.dispose();
+        assertThat(limiter.getInFlightCount()).isZero();
+
+        StepVerifier.create(limiter.limit(second, Duration.ofMillis(50), () -> new TimeoutException("queued")))
+                .expectNext("second")
+                .verifyComplete();
+        assertThat(secondSubscriptions.get()).isEqualTo(1);
+    }
+
+    @Test
+    public void limit_withManySynchronousSources_neverExceedsMaxConcurrency() {
+        ConcurrencyLimiter limiter = new ConcurrencyLimiter(3);
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+
+        Mono<Integer> source = Mono.fromCallable(() -> {
+            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+            return running.decrementAndGet();
+        });
+
+        List<Integer> results = Flux.range(0, 1000)
+                .flatMap(i -> limiter.limit(source), 64)
+                .collectList()
+                .block();
+
+        assertThat(results).hasSize(1000);
+        assertThat(maxRunning.get()).isLessThanOrEqualTo(3);
+        assertThat(limiter.getInFlightCount()).isZero();
+    }
+}
@@ -0,0 +1,56 @@
+package com.appsmith.external.helpers;
+
+import com.appsmith.external.helpers.PreparedStatementTemplateCache.PreparedStatementTemplate;
+import com.appsmith.external.models.MustacheBindingToken;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class PreparedStatementTemplateCacheTest {
+
+    @BeforeEach
+    public void setUp() {
+        PreparedStatementTemplateCache.clear();
+    }
+
+    @Test
+    public void getOrParse_withBindings_returnsQuestionMarkQueryAndOrderedBindings() {
+        String query =
+                "SELECT * FROM t WHERE id = {{Input1.text}} AND name = '{{Input2.text}}' OR id = {{Input1.text}}";
+
+        PreparedStatementTemplate template = PreparedStatementTemplateCache.getOrParse(query);
+
+        assertThat(template.getQuery()).isEqualTo("SELECT * FROM t WHERE id = ? AND name = ? OR id = ?");
+        assertThat(template.getBindings())
+                .extracting(MustacheBindingToken::getValue)
+                .containsExactly("Input1.text", "Input2.text", "Input1.text");
+    }
+
+    @Test
+    public void getOrParse_sameQueryTwice_parsesOnce() {
+        String query = "SELECT * FROM users WHERE id = {{Input1.text}}";
+
+        PreparedStatementTemplate first = PreparedStatementTemplateCache.getOrParse(query);
+        PreparedStatementTemplate second = PreparedStatementTemplateCache.getOrParse(query);
+
+        assertThat(second).isSameAs(first);
+        assertThat(PreparedStatementTemplateCache.size()).isEqualTo(1);
+    }
+
+    @Test
+    public void getBindings_mutatingReturnedTokens_doesNotAffectCachedTemplate() {
+        String query = "SELECT * FROM users WHERE id = {{Input1.text}}";
+
+        List<MustacheBindingToken> bindings =
+                PreparedStatementTemplateCache.getOrParse(query).getBindings();
+        bindings.get(0).setValue("tampered");
+        bindings.clear();
+
+        assertThat(PreparedStatementTemplateCache.getOrParse(query).getBindings())
+                .extracting(MustacheBindingToken::getValue)
+                .containsExactly("Input1.text");
+    }
+}
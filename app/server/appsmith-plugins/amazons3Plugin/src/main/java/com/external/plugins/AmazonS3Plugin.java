@@ -7,6 +7,8 @@ import com.amazonaws.services.s3.model.AmazonS3Exception;
 import com.amazonaws.services.s3.model.Bucket;
 import com.amazonaws.services.s3.model.DeleteObjectsRequest;
 import com.amazonaws.services.s3.model.GeneratePresignedUrlRequest;
+import com.amazonaws.services.s3.model.ListObjectsV2Request;
+import com.amazonaws.services.s3.model.ListObjectsV2Result;
 import com.amazonaws.services.s3.model.ObjectListing;
 import com.amazonaws.services.s3.model.ObjectMetadata;
 import com.amazonaws.services.s3.model.S3Object;
@@ -14,7 +16,6 @@ import com.amazonaws.services.s3.model.S3ObjectInputStream;
 import com.amazonaws.services.s3.model.S3ObjectSummary;
 import com.amazonaws.services.s3.transfer.TransferManager;
 import com.amazonaws.services.s3.transfer.TransferManagerBuilder;
-import com.amazonaws.util.IOUtils;
 import com.appsmith.external.dtos.ExecuteActionDTO;
 import com.appsmith.external.dtos.MultipartFormDataDTO;
 import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginError;
@@ -45,6 +46,8 @@ import com.external.plugins.exceptions.S3PluginError;
 import com.external.utils.AmazonS3ErrorUtils;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.node.ArrayNode;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 import org.pf4j.Extension;
 import org.pf4j.PluginWrapper;
@@ -55,9 +58,12 @@ import reactor.core.scheduler.Scheduler;
 import reactor.core.scheduler.Schedulers;
 
 import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
 import java.net.URL;
+import java.nio.charset.StandardCharsets;
 import java.text.DateFormat;
 import java.text.SimpleDateFormat;
 import java.util.ArrayList;
@@ -71,6 +77,8 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
 import java.util.stream.Collectors;
 
 import static com.appsmith.external.constants.ActionConstants.ACTION_CONFIGURATION_BODY;
@@ -82,6 +90,9 @@ import static com.appsmith.external.helpers.PluginUtils.getDataValueSafelyFromFo
 import static com.appsmith.external.helpers.PluginUtils.parseList;
 import static com.appsmith.external.helpers.PluginUtils.parseWhereClause;
 import static com.appsmith.external.helpers.PluginUtils.setDataValueSafelyInFormData;
+import static com.appsmith.external.services.ce.FilterDataServiceCE.PAGINATE_LIMIT_KEY;
+import static com.appsmith.external.services.ce.FilterDataServiceCE.PAGINATE_OFFSET_KEY;
+import static com.appsmith.external.services.ce.FilterDataServiceCE.SORT_BY_COLUMN_NAME_KEY;
 import static com.external.plugins.constants.FieldName.BODY;
 import static com.external.plugins.constants.FieldName.BUCKET;
 import static com.external.plugins.constants.FieldName.COMMAND;
@@ -89,7 +100,9 @@ import static com.external.plugins.constants.FieldName.CREATE_DATATYPE;
 import static com.external.plugins.constants.FieldName.CREATE_EXPIRY;
 import static com.external.plugins.constants.FieldName.KEY_BUCKET;
 import static com.external.plugins.constants.FieldName.KEY_DATA;
+import static com.external.plugins.constants.FieldName.LIST_CONTINUATION_TOKEN;
 import static com.external.plugins.constants.FieldName.LIST_EXPIRY;
+import static com.external.plugins.constants.FieldName.LIST_PAGE_SIZE;
 import static com.external.plugins.constants.FieldName.LIST_PAGINATE;
 import static com.external.plugins.constants.FieldName.LIST_PREFIX;
 import static com.external.plugins.constants.FieldName.LIST_SIGNED_URL;
@@ -98,6 +111,7 @@ import static com.external.plugins.constants.FieldName.LIST_UNSIGNED_URL;
 import static com.external.plugins.constants.FieldName.LIST_WHERE;
 import static com.external.plugins.constants.FieldName.PATH;
 import static com.external.plugins.constants.FieldName.READ_DATATYPE;
+import static com.external.plugins.constants.FieldName.READ_MAX_FILE_SIZE;
 import static com.external.plugins.constants.FieldName.SMART_SUBSTITUTION;
 import static com.external.plugins.constants.S3PluginConstants.ACCESS_DENIED_ERROR_CODE;
 import static com.external.plugins.constants.S3PluginConstants.AWS_S3_SERVICE_PROVIDER;
@@ -107,9 +121,13 @@ import static com.external.plugins.constants.S3PluginConstants.DEFAULT_BUCKET_PR
 import static com.external.plugins.constants.S3PluginConstants.DEFAULT_FILE_NAME;
 import static com.external.plugins.constants.S3PluginConstants.DEFAULT_URL_EXPIRY_IN_MINUTES;
 import static com.external.plugins.constants.S3PluginConstants.GOOGLE_CLOUD_SERVICE_PROVIDER;
+import static com.external.plugins.constants.S3PluginConstants.MAX_FILE_SIZE_LIMIT_IN_MB;
+import static com.external.plugins.constants.S3PluginConstants.MAX_KEYS_PER_LIST_REQUEST;
 import static com.external.plugins.constants.S3PluginConstants.NO;
+import static com.external.plugins.constants.S3PluginConstants.PARALLEL_URL_SIGNING_THRESHOLD;
 import static com.external.plugins.constants.S3PluginConstants.S3_DRIVER;
 import static com.external.plugins.constants.S3PluginConstants.S3_SERVICE_PROVIDER_PROPERTY_INDEX;
+import static com.external.plugins.constants.S3PluginConstants.URL_SIGNING_PARALLELISM;
 import static com.external.plugins.constants.S3PluginConstants.YES;
 import static com.external.utils.DatasourceUtils.getS3ClientBuilder;
 import static com.external.utils.TemplateUtils.getTemplates;
@@ -128,6 +146,70 @@ public class AmazonS3Plugin extends BasePlugin {
         private final Scheduler scheduler = Schedulers.boundedElastic();
         private final FilterDataService filterDataService;
         private static final AmazonS3ErrorUtils amazonS3ErrorUtils;
+        private static final ForkJoinPool urlSigningPool = new ForkJoinPool(URL_SIGNING_PARALLELISM);
+
+        @Getter
+        @AllArgsConstructor
+        static class ListedFilesPage {
+            private final ArrayList<String> fileNames;
+
+            // null when there are no more files to list.
+            private final String nextContinuationToken;
+        }
+
+        @Getter
+        @AllArgsConstructor
+        static class UploadPayload {
+            private final InputStream content;
+
+            private final long contentLength;
+
+            static UploadPayload of(byte[] bytes) {
+                return new UploadPayload(new ByteArrayInputStream(bytes), bytes.length);
+            }
+        }
+
+        /**
+         * Reads the characters in the given range of a string as bytes. Meant for ASCII content like base64, where
+         * this saves making a byte array copy of the whole string.
+         */
+        private static class AsciiStringInputStream extends InputStream {
+            private final String value;
+            private final int end;
+            private int position;
+
+            AsciiStringInputStream(String value, int start, int end) {
+                this.value = value;
+                this.position = start;
+                this.end = end;
+            }
+
+            @Override
+            public int read() {
+                return position < end ? value.charAt(position++) & 0xFF : -1;
+            }
+
+            @Override
+            public int read(byte[] buffer, int offset, int length) {
+                if (length == 0) {
+                    return 0;
+                }
+                if (position >= end) {
+                    return -1;
+                }
+
+                final int count = Math.min(length, end - position);
+                for (int i = 0; i < count; i++) {
+                    buffer[offset + i] = (byte) value.charAt(position++);
+                }
+                return count;
+            }
+
+            @Override
+            public int available() {
+                return end - position;
+            }
+        }
 
         static {
             try {
@@ -165,6 +247,15 @@ public class AmazonS3Plugin extends BasePlugin {
          */
         ArrayList<String> listAllFilesInBucket(AmazonS3 connection, String bucketName, String prefix)
                 throws AppsmithPluginException {
+            return listAllFilesInBucket(connection, bucketName, prefix, Integer.MAX_VALUE);
+        }
+
+        /*
+         * - Stops listing once at least `maxFiles` files have been read.
+         * - Exception thrown by this method is expected to be handled by the caller.
+         */
+        ArrayList<String> listAllFilesInBucket(AmazonS3 connection, String bucketName, String prefix, int maxFiles)
+                throws AppsmithPluginException {
             if (connection == null) {
                 throw new AppsmithPluginException(
                         AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR, S3ErrorMessages.CONNECTIVITY_ERROR_MSG);
@@ -191,7 +282,7 @@ public class AmazonS3Plugin extends BasePlugin {
             ObjectListing result = connection.listObjects(bucketName, prefix);
             ArrayList<String> fileList = new ArrayList<>(getFilenamesFromObjectListing(result));
 
-            while (result.isTruncated()) {
+            while (result.isTruncated() && fileList.size() < maxFiles) {
                 result = connection.listNextBatchOfObjects(result);
                 fileList.addAll(getFilenamesFromObjectListing(result));
             }
@@ -199,21 +290,113 @@ public class AmazonS3Plugin extends BasePlugin {
             return fileList;
         }
 
+        /*
+         * - Lists a single page of at most `pageSize` files, starting from the given continuation token.
+         * - Exception thrown by this method is expected to be handled by the caller.
+         */
+        ListedFilesPage listFilesPage(
+                AmazonS3 connection, String bucketName, String prefix, int pageSize, String continuationToken)
+                throws AppsmithPluginException {
+            if (connection == null) {
+                throw new AppsmithPluginException(
+                        AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR, S3ErrorMessages.CONNECTIVITY_ERROR_MSG);
+            }
+
+            ListObjectsV2Request request = new ListObjectsV2Request()
+                    .withBucketName(bucketName)
+                    .withPrefix(prefix)
+                    .withMaxKeys(Math.min(pageSize, MAX_KEYS_PER_LIST_REQUEST))
+                    .withContinuationToken(StringUtils.isNullOrEmpty(continuationToken) ? null : continuationToken);
+
+            ListObjectsV2Result result = connection.listObjectsV2(request);
+            ArrayList<String> fileList = new ArrayList<>();
+            result.getObjectSummaries().forEach(summary -> fileList.add(summary.getKey()));
+
+            // S3 returns at most 1000 keys per request, so larger pages take more than one request.
+            while (result.isTruncated() && fileList.size() < pageSize) {
+                request.setContinuationToken(result.getNextContinuationToken());
+                request.setMaxKeys(Math.min(pageSize - fileList.size(), MAX_KEYS_PER_LIST_REQUEST));
+                result = connection.listObjectsV2(request);
+                result.getObjectSummaries().forEach(summary -> fileList.add(summary.getKey()));
+            }
+
+            return new ListedFilesPage(fileList, result.isTruncated() ? result.getNextContinuationToken() : null);
+        }
+
+        /**
+         * When the list query has no where or sort clause, the limit and offset pagination only picks a slice of the
+         * files in listing order. Hence, there is no need to list any files beyond the end of that slice.
+         */
+        int getListingLimit(Condition condition, List<Map<String, String>> sortBy, Map<String, String> paginateBy) {
+            final boolean isWhereClauseEmpty = !Condition.isValid(condition)
+                    || (condition.getValue() instanceof List && ((List<?>) condition.getValue()).isEmpty());
+            final boolean isSortClauseEmpty = CollectionUtils.isEmpty(sortBy)
+                    || sortBy.stream()
+                            .allMatch(sortCondition ->
+                                    StringUtils.isNullOrEmpty(sortCondition.get(SORT_BY_COLUMN_NAME_KEY)));
+
+            if (!isWhereClauseEmpty || !isSortClauseEmpty || CollectionUtils.isEmpty(paginateBy)) {
+                return Integer.MAX_VALUE;
+            }
+
+            try {
+                final String limit = paginateBy.get(PAGINATE_LIMIT_KEY);
+                final String offset = paginateBy.get(PAGINATE_OFFSET_KEY);
+                final long listingLimit = Long.parseLong(StringUtils.isNullOrEmpty(limit) ? "20" : limit.trim())
+                        + Long.parseLong(StringUtils.isNullOrEmpty(offset) ? "0" : offset.trim());
+                return listingLimit < 0 ? Integer.MAX_VALUE : (int) Math.min(listingLimit, Integer.MAX_VALUE);
+            } catch (NumberFormatException e) {
+                // Let the filter report the invalid values, as it did before.
+                return Integer.MAX_VALUE;
+            }
+        }
+
         ArrayList<String> getSignedUrls(
                 AmazonS3 connection, String bucketName, ArrayList<String> listOfFiles, Date expiryDateTime) {
-            ArrayList<String> urlList = new ArrayList<>();
+            if (listOfFiles.size() < PARALLEL_URL_SIGNING_THRESHOLD) {
+                ArrayList<String> urlList = new ArrayList<>();
+                for (String filePath : listOfFiles) {
+                    urlList.add(getSignedUrl(connection, bucketName, filePath, expiryDateTime));
+                }
 
-            for (String filePath : listOfFiles) {
-                GeneratePresignedUrlRequest generatePresignedUrlRequest = new GeneratePresignedUrlRequest(
-                                bucketName, filePath)
-                        .withMethod(HttpMethod.GET)
-                        .withExpiration(expiryDateTime);
+                return urlList;
+            }
 
-                URL url = connection.generatePresignedUrl(generatePresignedUrlRequest);
-                urlList.add(url.toString());
+            /*
+             * - Presigning is computed locally, without a network call, but is CPU heavy enough to dominate large
+             *   listings. Hence, large lists are signed in parallel on a fixed size pool, keeping the order of files.
+             */
+            try {
+                return urlSigningPool
+                        .submit(() -> listOfFiles.parallelStream()
+                                .map(filePath -> getSignedUrl(connection, bucketName, filePath, expiryDateTime))
+                                .collect(Collectors.toCollection(ArrayList::new)))
+                        .get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new AppsmithPluginException(
+                        S3PluginError.AMAZON_S3_QUERY_EXECUTION_FAILED,
+                        S3ErrorMessages.ACTION_LIST_OF_FILE_FETCHING_ERROR_MSG,
+                        e.getMessage());
+            } catch (ExecutionException e) {
+                if (e.getCause() instanceof RuntimeException runtimeException) {
+                    throw runtimeException;
+                }
+                throw new AppsmithPluginException(
+                        S3PluginError.AMAZON_S3_QUERY_EXECUTION_FAILED,
+                        S3ErrorMessages.ACTION_LIST_OF_FILE_FETCHING_ERROR_MSG,
+                        e.getMessage());
             }
+        }
 
-            return urlList;
+        private String getSignedUrl(AmazonS3 connection, String bucketName, String filePath, Date expiryDateTime) {
+            GeneratePresignedUrlRequest generatePresignedUrlRequest = new GeneratePresignedUrlRequest(
+                            bucketName, filePath)
+                    .withMethod(HttpMethod.GET)
+                    .withExpiration(expiryDateTime);
+
+            URL url = connection.generatePresignedUrl(generatePresignedUrlRequest);
+            return url.toString();
         }
 
         /**
@@ -259,7 +442,7 @@ public class AmazonS3Plugin extends BasePlugin {
                 Date expiryDateTime)
                 throws InterruptedException, AppsmithPluginException {
 
-            byte[] payload;
+            UploadPayload payload;
             MultipartFormDataDTO multipartFormDataDTO;
             try {
                 multipartFormDataDTO = objectMapper.readValue(body, MultipartFormDataDTO.class);
@@ -275,29 +458,15 @@ public class AmazonS3Plugin extends BasePlugin {
                         S3ErrorMessages.UNPARSABLE_CONTENT_ERROR_MSG);
             }
             if (Boolean.TRUE.equals(usingFilePicker)) {
-
-                String encodedPayload = getEncodedPayloadFromMultipartDTO(multipartFormDataDTO);
-
-                /*
-                 * - For files uploaded using Filepicker.xyz.base64, body format is "<content-type>;base64,<actual-
-                 *   base64-encoded-payload>".
-                 * - Strip off the redundant part in the beginning to get actual payload.
-                 */
-                if (encodedPayload.contains(BASE64_DELIMITER)) {
-                    List<String> bodyArrayList = Arrays.asList(encodedPayload.split(BASE64_DELIMITER));
-                    encodedPayload = bodyArrayList.get(bodyArrayList.size() - 1);
-                }
-
-                try {
-                    payload = Base64.getDecoder().decode(encodedPayload);
-                } catch (IllegalArgumentException e) {
+                payload = getBase64DecodingPayload(getEncodedPayloadFromMultipartDTO(multipartFormDataDTO));
+                if (payload == null) {
                     throw new AppsmithPluginException(
                             AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR,
                             S3ErrorMessages.UNEXPECTED_ENCODING_IN_FILE_CONTENT_ERROR_MSG);
                 }
             } else {
-                payload =
-                        getEncodedPayloadFromMultipartDTO(multipartFormDataDTO).getBytes();
+                payload = UploadPayload.of(
+                        getEncodedPayloadFromMultipartDTO(multipartFormDataDTO).getBytes());
             }
 
             uploadFileInS3(payload, connection, multipartFormDataDTO, bucketName, path);
@@ -339,31 +508,17 @@ public class AmazonS3Plugin extends BasePlugin {
             ArrayList<String> listOfFiles = new ArrayList<>();
             multipartFormDataDTOs.forEach(multipartFormDataDTO -> {
                 final String filePath = path + multipartFormDataDTO.getName();
-                byte[] payload;
+                UploadPayload payload;
                 if (Boolean.TRUE.equals(usingFilePicker)) {
-
-                    String encodedPayload = getEncodedPayloadFromMultipartDTO(multipartFormDataDTO);
-                    /*
-                     * - For files uploaded using Filepicker.xyz.base64, body format is "<content-type>;base64,<actual-
-                     *   base64-encoded-payload>".
-                     * - Strip off the redundant part in the beginning to get actual payload.
-                     */
-                    if (encodedPayload.contains(BASE64_DELIMITER)) {
-                        List<String> bodyArrayList = Arrays.asList(encodedPayload.split(BASE64_DELIMITER));
-                        encodedPayload = bodyArrayList.get(bodyArrayList.size() - 1);
-                    }
-
-                    try {
-                        payload = Base64.getDecoder().decode(encodedPayload);
-                    } catch (IllegalArgumentException e) {
+                    payload = getBase64DecodingPayload(getEncodedPayloadFromMultipartDTO(multipartFormDataDTO));
+                    if (payload == null) {
                         throw new AppsmithPluginException(
                                 AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR,
-                                S3ErrorMessages.UNEXPECTED_ENCODING_IN_FILE_CONTENT_ERROR_MSG,
-                                e.getMessage());
+                                S3ErrorMessages.UNEXPECTED_ENCODING_IN_FILE_CONTENT_ERROR_MSG);
                     }
                 } else {
-                    payload = getEncodedPayloadFromMultipartDTO(multipartFormDataDTO)
-                            .getBytes();
+                    payload = UploadPayload.of(getEncodedPayloadFromMultipartDTO(multipartFormDataDTO)
+                            .getBytes());
                 }
 
                 try {
@@ -384,19 +539,64 @@ public class AmazonS3Plugin extends BasePlugin {
         /*
          * - Exception thrown here needs to be handled by the caller.
          */
-        String readFile(AmazonS3 connection, String bucketName, String path, Boolean encodeContent) throws IOException {
-            S3Object fullObject = connection.getObject(bucketName, path);
-            S3ObjectInputStream content = fullObject.getObjectContent();
-            byte[] bytes = IOUtils.toByteArray(content);
-
-            String result;
-            if (Boolean.TRUE.equals(encodeContent)) {
-                result = new String(Base64.getEncoder().encode(bytes));
-            } else {
-                result = new String(bytes);
+        String readFile(AmazonS3 connection, String bucketName, String path, Boolean encodeContent, long maxFileSize)
+                throws IOException {
+            try (S3Object fullObject = connection.getObject(bucketName, path)) {
+                S3ObjectInputStream content = fullObject.getObjectContent();
+                final ObjectMetadata objectMetadata = fullObject.getObjectMetadata();
+                final long contentLength = objectMetadata == null ? -1 : objectMetadata.getContentLength();
+
+                if (contentLength > maxFileSize) {
+                    // Don't download the rest of the object only to throw it away.
+                    content.abort();
+                    throw new AppsmithPluginException(
+                            AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR,
+                            String.format(S3ErrorMessages.FILE_SIZE_LIMIT_EXCEEDED_ERROR_MSG, maxFileSize >> 20));
+                }
+
+                /*
+                 * - The content is streamed straight into its final (encoded) form, in a buffer sized up front when the
+                 *   length is known. This avoids holding the raw file and the encoded file in memory together.
+                 */
+                if (Boolean.TRUE.equals(encodeContent)) {
+                    final long encodedLength = contentLength < 0 ? -1 : (contentLength + 2) / 3 * 4;
+                    final ByteArrayOutputStream encoded =
+                            new ByteArrayOutputStream(getInitialBufferSize(encodedLength));
+                    try (OutputStream encoder = Base64.getEncoder().wrap(encoded)) {
+                        copyWithLimit(content, encoder, maxFileSize);
+                    }
+                    return encoded.toString(StandardCharsets.ISO_8859_1);
+                }
+
+                final ByteArrayOutputStream raw = new ByteArrayOutputStream(getInitialBufferSize(contentLength));
+                copyWithLimit(content, raw, maxFileSize);
+                return raw.toString();
             }
+        }
 
-            return result;
+        private static int getInitialBufferSize(long expectedLength) {
+            if (expectedLength < 0) {
+                return 8192;
+            }
+            return (int) Math.min(expectedLength, Integer.MAX_VALUE - 8);
+        }
+
+        /*
+         * - Guards against objects whose length isn't known up front, or that grow while being read.
+         */
+        private static void copyWithLimit(InputStream in, OutputStream out, long maxFileSize) throws IOException {
+            final byte[] buffer = new byte[8192];
+            long total = 0;
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                total += read;
+                if (total > maxFileSize) {
+                    throw new AppsmithPluginException(
+                            AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR,
+                            String.format(S3ErrorMessages.FILE_SIZE_LIMIT_EXCEEDED_ERROR_MSG, maxFileSize >> 20));
+                }
+                out.write(buffer, 0, read);
+            }
         }
 
         @Override
@@ -542,7 +742,62 @@ public class AmazonS3Plugin extends BasePlugin {
                                 String prefix = getDataValueSafelyFromFormData(formData, LIST_PREFIX, STRING_TYPE, "");
                                 requestParams.add(new RequestParamDTO(LIST_PREFIX, prefix, null, null, null));
 
-                                ArrayList<String> listOfFiles = listAllFilesInBucket(connection, bucketName, prefix);
+                                // Check if where condition is configured
+                                Object whereFormObject =
+                                        getDataValueSafelyFromFormData(formData, LIST_WHERE, OBJECT_TYPE);
+                                Condition condition = null;
+
+                                if (whereFormObject != null) {
+                                    Map<String, Object> whereForm = (Map<String, Object>) whereFormObject;
+                                    condition = parseWhereClause(whereForm);
+                                }
+
+                                List<Map<String, String>> sortBy = getDataValueSafelyFromFormData(
+                                        formData, LIST_SORT, new TypeReference<List<Map<String, String>>>() {});
+
+                                Map<String, String> paginateBy = getDataValueSafelyFromFormData(
+                                        formData, LIST_PAGINATE, new TypeReference<Map<String, String>>() {});
+
+                                final String pageSizeString =
+                                        getDataValueSafelyFromFormData(formData, LIST_PAGE_SIZE, STRING_TYPE, "");
+                                final boolean isPagedListing = !StringUtils.isNullOrEmpty(pageSizeString.trim());
+
+                                ArrayList<String> listOfFiles;
+                                String nextContinuationToken = null;
+                                if (isPagedListing) {
+                                    int pageSize;
+                                    try {
+                                        pageSize = Integer.parseInt(pageSizeString.trim());
+                                    } catch (NumberFormatException e) {
+                                        pageSize = 0;
+                                    }
+
+                                    if (pageSize < 1) {
+                                        return Mono.error(new AppsmithPluginException(
+                                                AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR,
+                                                S3ErrorMessages.PAGE_SIZE_NOT_A_POSITIVE_NUMBER_ERROR_MSG));
+                                    }
+
+                                    final String continuationToken = getDataValueSafelyFromFormData(
+                                            formData, LIST_CONTINUATION_TOKEN, STRING_TYPE, "");
+                                    requestParams.add(new RequestParamDTO(LIST_PAGE_SIZE, pageSize, null, null, null));
+                                    requestParams.add(new RequestParamDTO(
+                                            LIST_CONTINUATION_TOKEN, continuationToken, null, null, null));
+
+                                    ListedFilesPage page =
+                                            listFilesPage(connection, bucketName, prefix, pageSize, continuationToken);
+                                    listOfFiles = page.getFileNames();
+                                    nextContinuationToken = page.getNextContinuationToken();
+
+                                    // The page size takes the place of the limit and offset pagination.
+                                    paginateBy = null;
+                                } else {
+                                    listOfFiles = listAllFilesInBucket(
+                                            connection,
+                                            bucketName,
+                                            prefix,
+                                            getListingLimit(condition, sortBy, paginateBy));
+                                }
 
                                 Boolean isSignedUrl = YES.equals(
                                         getDataValueSafelyFromFormData(formData, LIST_SIGNED_URL, STRING_TYPE));
@@ -614,27 +869,18 @@ public class AmazonS3Plugin extends BasePlugin {
                                     requestParams.add(new RequestParamDTO(LIST_UNSIGNED_URL, NO, null, null, null));
                                 }
 
-                                // Check if where condition is configured
-                                Object whereFormObject =
-                                        getDataValueSafelyFromFormData(formData, LIST_WHERE, OBJECT_TYPE);
-                                Condition condition = null;
-
-                                if (whereFormObject != null) {
-                                    Map<String, Object> whereForm = (Map<String, Object>) whereFormObject;
-                                    condition = parseWhereClause(whereForm);
-                                }
-
-                                List<Map<String, String>> sortBy = getDataValueSafelyFromFormData(
-                                        formData, LIST_SORT, new TypeReference<List<Map<String, String>>>() {});
-
-                                Map<String, String> paginateBy = getDataValueSafelyFromFormData(
-                                        formData, LIST_PAGINATE, new TypeReference<Map<String, String>>() {});
-
                                 ArrayNode preFilteringResponse = objectMapper.valueToTree(actionResult);
                                 actionResult = filterDataService.filterDataNew(
                                         preFilteringResponse,
                                         new UQIDataFilterParams(condition, null, sortBy, paginateBy));
 
+                                if (isPagedListing) {
+                                    Map<String, Object> pagedResult = new HashMap<>();
+                                    pagedResult.put("files", actionResult);
+                                    pagedResult.put("nextContinuationToken", nextContinuationToken);
+                                    actionResult = pagedResult;
+                                }
+
                                 break;
                             case UPLOAD_FILE_FROM_BODY: {
                                 requestParams.add(
@@ -747,12 +993,41 @@ public class AmazonS3Plugin extends BasePlugin {
 
                                 String isBase64 = getDataValueSafelyFromFormData(formData, READ_DATATYPE, STRING_TYPE);
 
+                                final String maxFileSizeString =
+                                        getDataValueSafelyFromFormData(formData, READ_MAX_FILE_SIZE, STRING_TYPE, "");
+                                long maxFileSize = Long.MAX_VALUE;
+                                if (!StringUtils.isNullOrEmpty(maxFileSizeString.trim())) {
+                                    long maxFileSizeInMb;
+                                    try {
+                                        maxFileSizeInMb = Long.parseLong(maxFileSizeString.trim());
+                                    } catch (NumberFormatException e) {
+                                        maxFileSizeInMb = -1;
+                                    }
+
+                                    if (maxFileSizeInMb < 0) {
+                                        return Mono.error(new AppsmithPluginException(
+                                                AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR,
+                                                S3ErrorMessages.MAX_FILE_SIZE_NOT_A_NUMBER_ERROR_MSG));
+                                    }
+
+                                    // Any larger and the size in bytes would overflow
+                                    if (maxFileSizeInMb > MAX_FILE_SIZE_LIMIT_IN_MB) {
+                                        return Mono.error(new AppsmithPluginException(
+                                                AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR,
+                                                String.format(
+                                                        S3ErrorMessages.MAX_FILE_SIZE_TOO_LARGE_ERROR_MSG,
+                                                        MAX_FILE_SIZE_LIMIT_IN_MB)));
+                                    }
+
+                                    maxFileSize = maxFileSizeInMb << 20;
+                                }
+
                                 if (YES.equals(isBase64)) {
                                     requestParams.add(new RequestParamDTO(READ_DATATYPE, YES, null, null, null));
-                                    result = readFile(connection, bucketName, path, true);
+                                    result = readFile(connection, bucketName, path, true, maxFileSize);
                                 } else {
                                     requestParams.add(new RequestParamDTO(READ_DATATYPE, NO, null, null, null));
-                                    result = readFile(connection, bucketName, path, false);
+                                    result = readFile(connection, bucketName, path, false, maxFileSize);
                                 }
                                 actionResult = Map.of("fileData", result);
                                 break;
@@ -871,6 +1146,12 @@ public class AmazonS3Plugin extends BasePlugin {
             return deleteObjectsRequest.withKeys(listOfFiles.toArray(new String[0]));
         }
 
+        @Override
+        public Set<String> getSelfReferencingDataPaths() {
+            // Lets a list query page through its own result, e.g. with `{{ListFiles.data.nextContinuationToken}}`.
+            return Set.of("prev", "next", "formData.list.continuationToken.data");
+        }
+
         @Override
         public Mono<AmazonS3> datasourceCreate(DatasourceConfiguration datasourceConfiguration) {
 
@@ -1130,13 +1411,12 @@ public class AmazonS3Plugin extends BasePlugin {
         }
 
         void uploadFileInS3(
-                byte[] payload,
+                UploadPayload payload,
                 AmazonS3 connection,
                 MultipartFormDataDTO multipartFormDataDTO,
                 String bucketName,
                 String path)
                 throws InterruptedException {
-            InputStream inputStream = new ByteArrayInputStream(payload);
             TransferManager transferManager =
                     TransferManagerBuilder.standard().withS3Client(connection).build();
             final ObjectMetadata objectMetadata = new ObjectMetadata();
@@ -1144,9 +1424,51 @@ public class AmazonS3Plugin extends BasePlugin {
             if (multipartFormDataDTO.getType() != null) {
                 objectMetadata.setContentType(multipartFormDataDTO.getType());
             }
-            transferManager
-                    .upload(bucketName, path, inputStream, objectMetadata)
-                    .waitForUploadResult();
+            /*
+             * - With a known length, the transfer manager reads the stream part by part for multipart uploads. Without
+             *   it, the whole stream is first buffered in memory.
+             */
+            objectMetadata.setContentLength(payload.getContentLength());
+            try {
+                transferManager
+                        .upload(bucketName, path, payload.getContent(), objectMetadata)
+                        .waitForUploadResult();
+            } finally {
+                // Release the transfer manager's threads, but not the S3 client, which belongs to the datasource.
+                transferManager.shutdownNow(false);
+            }
+        }
+
+        /**
+         * Returns a payload that decodes the base64 content as it is read, so that the decoded file never has to be
+         * held in memory as a whole. Returns null if the content is not valid base64.
+         * For files uploaded using Filepicker.xyz.base64, body format is "<content-type>;base64,<actual-base64-
+         * encoded-payload>". The redundant part in the beginning is skipped to get the actual payload.
+         */
+        static UploadPayload getBase64DecodingPayload(String encodedPayload) {
+            final int delimiterIndex = encodedPayload.lastIndexOf(BASE64_DELIMITER);
+            final int start = delimiterIndex < 0 ? 0 : delimiterIndex + BASE64_DELIMITER.length();
+
+            int end = encodedPayload.length();
+            while (end > start && encodedPayload.charAt(end - 1) == '=') {
+                end--;
+            }
+            if (encodedPayload.length() - end > 2 || (end - start) % 4 == 1) {
+                return null;
+            }
+            for (int i = start; i < end; i++) {
+                if (!isBase64Character(encodedPayload.charAt(i))) {
+                    return null;
+                }
+            }
+
+            final long decodedLength = (end - start) * 3L / 4;
+            final InputStream encodedStream = new AsciiStringInputStream(encodedPayload, start, end);
+            return new UploadPayload(Base64.getDecoder().wrap(encodedStream), decodedLength);
+        }
+
+        private static boolean isBase64Character(char c) {
+            return (c >= 'A' && c <= 'Z') || (c >= 'a' && c <= 'z') || (c >= '0' && c <= '9') || c == '+' || c == '/';
         }
 
         /**
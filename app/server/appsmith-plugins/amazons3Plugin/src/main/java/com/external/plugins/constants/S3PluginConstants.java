@@ -16,4 +16,10 @@ public class S3PluginConstants {
     public static final String ACCESS_DENIED_ERROR_CODE = "AccessDenied";
     public static final String GOOGLE_CLOUD_SERVICE_PROVIDER = "google-cloud-storage";
     public static final String AUTO = "auto";
+    public static final int MAX_KEYS_PER_LIST_REQUEST = 1000;
+    public static final int PARALLEL_URL_SIGNING_THRESHOLD = 256;
+    public static final int URL_SIGNING_PARALLELISM =
+            Math.max(2, Math.min(8, Runtime.getRuntime().availableProcessors()));
+    // Largest maximum file size, in megabytes, that can be converted to bytes without overflowing a long
+    public static final long MAX_FILE_SIZE_LIMIT_IN_MB = Long.MAX_VALUE >> 20;
 }
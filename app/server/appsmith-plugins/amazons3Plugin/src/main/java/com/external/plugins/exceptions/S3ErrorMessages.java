@@ -70,6 +70,21 @@ public class S3ErrorMessages extends BasePluginErrorMessages {
                     + "list of files from AWS S3 server. Please reach out to Appsmith customer "
                     + "support to resolve this.";
 
+    public static final String PAGE_SIZE_NOT_A_POSITIVE_NUMBER_ERROR_MSG =
+            "Parameter 'Page size' is NOT a positive number. Please ensure that the input to 'Page size' field is a "
+                    + "positive integer, or leave it empty to list all the files.";
+
+    public static final String MAX_FILE_SIZE_NOT_A_NUMBER_ERROR_MSG =
+            "Parameter 'Maximum file size' is NOT a number. Please ensure that the input to 'Maximum file size' field "
+                    + "is a non-negative integer number of megabytes, or leave it empty to read files of any size.";
+
+    public static final String MAX_FILE_SIZE_TOO_LARGE_ERROR_MSG =
+            "Parameter 'Maximum file size' is too large. Please ensure that the input to 'Maximum file size' field is "
+                    + "at most %d megabytes, or leave it empty to read files of any size.";
+
+    public static final String FILE_SIZE_LIMIT_EXCEEDED_ERROR_MSG =
+            "The file is larger than the configured maximum file size of %d MB.";
+
     public static final String UNSUPPORTED_ACTION_ERROR_MSG =
             "It seems that the query has requested an unsupported action: %s"
                     + ". Please reach out to Appsmith customer support to resolve this.";
@@ -6,7 +6,10 @@ import com.amazonaws.services.s3.AmazonS3ClientBuilder;
 import com.amazonaws.services.s3.model.AmazonS3Exception;
 import com.amazonaws.services.s3.model.Bucket;
 import com.amazonaws.services.s3.model.DeleteObjectsResult;
+import com.amazonaws.services.s3.model.ListObjectsV2Request;
+import com.amazonaws.services.s3.model.ListObjectsV2Result;
 import com.amazonaws.services.s3.model.ObjectListing;
+import com.amazonaws.services.s3.model.ObjectMetadata;
 import com.amazonaws.services.s3.model.S3Object;
 import com.amazonaws.services.s3.model.S3ObjectInputStream;
 import com.amazonaws.services.s3.model.S3ObjectSummary;
@@ -34,6 +37,7 @@ import com.fasterxml.jackson.databind.node.ArrayNode;
 import lombok.extern.slf4j.Slf4j;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mockito;
 import reactor.core.publisher.Mono;
@@ -61,7 +65,10 @@ import static com.external.plugins.constants.FieldName.BUCKET;
 import static com.external.plugins.constants.FieldName.COMMAND;
 import static com.external.plugins.constants.FieldName.CREATE_DATATYPE;
 import static com.external.plugins.constants.FieldName.CREATE_EXPIRY;
+import static com.external.plugins.constants.FieldName.LIST_CONTINUATION_TOKEN;
 import static com.external.plugins.constants.FieldName.LIST_EXPIRY;
+import static com.external.plugins.constants.FieldName.LIST_PAGE_SIZE;
+import static com.external.plugins.constants.FieldName.LIST_PAGINATE;
 import static com.external.plugins.constants.FieldName.LIST_PREFIX;
 import static com.external.plugins.constants.FieldName.LIST_SIGNED_URL;
 import static com.external.plugins.constants.FieldName.LIST_UNSIGNED_URL;
@@ -69,6 +76,7 @@ import static com.external.plugins.constants.FieldName.LIST_WHERE;
 import static com.external.plugins.constants.FieldName.PATH;
 import static com.external.plugins.constants.FieldName.READ_DATATYPE;
 import static com.external.plugins.constants.FieldName.READ_EXPIRY;
+import static com.external.plugins.constants.FieldName.READ_MAX_FILE_SIZE;
 import static com.external.plugins.constants.FieldName.SMART_SUBSTITUTION;
 import static com.external.plugins.constants.S3PluginConstants.DEFAULT_FILE_NAME;
 import static com.external.plugins.constants.S3PluginConstants.DEFAULT_URL_EXPIRY_IN_MINUTES;
@@ -91,13 +99,16 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.util.CollectionUtils.isEmpty;
 
@@ -370,6 +381,102 @@ public class AmazonS3PluginTest {
                 .verifyComplete();
     }
 
+    @Test
+    public void testListFilesWithPaginationOnly_stopsListingAtEndOfPage() {
+        DatasourceConfiguration datasourceConfiguration = createDatasourceConfiguration();
+        ExecuteActionDTO executeActionDTO = new ExecuteActionDTO();
+        AmazonS3Plugin.S3PluginExecutor pluginExecutor = new AmazonS3Plugin.S3PluginExecutor();
+
+        ActionConfiguration actionConfiguration = new ActionConfiguration();
+
+        Map<String, Object> configMap = new HashMap<>();
+        setDataValueSafelyInFormData(configMap, COMMAND, "LIST");
+        setDataValueSafelyInFormData(configMap, BUCKET, "bucket_name");
+        setDataValueSafelyInFormData(configMap, LIST_SIGNED_URL, "NO");
+        setDataValueSafelyInFormData(configMap, LIST_PAGINATE, Map.of("limit", "1", "offset", "0"));
+
+        actionConfiguration.setFormData(configMap);
+
+        ObjectListing mockObjectListing = mock(ObjectListing.class);
+        AmazonS3 mockConnection = mock(AmazonS3.class);
+        when(mockConnection.listObjects(anyString(), anyString())).thenReturn(mockObjectListing);
+
+        S3ObjectSummary mockS3ObjectSummary = mock(S3ObjectSummary.class);
+        when(mockS3ObjectSummary.getKey()).thenReturn("file_path_1");
+        when(mockObjectListing.getObjectSummaries()).thenReturn(List.of(mockS3ObjectSummary));
+        when(mockObjectListing.isTruncated()).thenReturn(true);
+
+        Mono<ActionExecutionResult> resultMono = pluginExecutor.executeParameterized(
+                mockConnection, executeActionDTO, datasourceConfiguration, actionConfiguration);
+
+        StepVerifier.create(resultMono)
+                .assertNext(result -> {
+                    assertTrue(result.getIsExecutionSuccess());
+
+                    ArrayNode node = (ArrayNode) result.getBody();
+                    assertEquals(1, node.size());
+                    assertEquals("file_path_1", node.get(0).get("fileName").asText());
+
+                    // The first batch already covers the requested page, so the rest of the bucket isn't listed.
+                    verify(mockConnection, never()).listNextBatchOfObjects(any(ObjectListing.class));
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    public void testListFilesWithPageSize_returnsPageAndNextContinuationToken() {
+        DatasourceConfiguration datasourceConfiguration = createDatasourceConfiguration();
+        ExecuteActionDTO executeActionDTO = new ExecuteActionDTO();
+        AmazonS3Plugin.S3PluginExecutor pluginExecutor = new AmazonS3Plugin.S3PluginExecutor();
+
+        ActionConfiguration actionConfiguration = new ActionConfiguration();
+
+        Map<String, Object> configMap = new HashMap<>();
+        setDataValueSafelyInFormData(configMap, COMMAND, "LIST");
+        setDataValueSafelyInFormData(configMap, BUCKET, "bucket_name");
+        setDataValueSafelyInFormData(configMap, LIST_PREFIX, "dir/");
+        setDataValueSafelyInFormData(configMap, LIST_SIGNED_URL, "NO");
+        setDataValueSafelyInFormData(configMap, LIST_PAGE_SIZE, "2");
+        setDataValueSafelyInFormData(configMap, LIST_CONTINUATION_TOKEN, "token_1");
+
+        actionConfiguration.setFormData(configMap);
+
+        ListObjectsV2Result page = new ListObjectsV2Result();
+        for (String key : List.of("dir/file_1", "dir/file_2")) {
+            S3ObjectSummary summary = new S3ObjectSummary();
+            summary.setKey(key);
+            page.getObjectSummaries().add(summary);
+        }
+        page.setTruncated(true);
+        page.setNextContinuationToken("token_2");
+
+        AmazonS3 mockConnection = mock(AmazonS3.class);
+        ArgumentCaptor<ListObjectsV2Request> requestCaptor = ArgumentCaptor.forClass(ListObjectsV2Request.class);
+        when(mockConnection.listObjectsV2(requestCaptor.capture())).thenReturn(page);
+
+        Mono<ActionExecutionResult> resultMono = pluginExecutor.executeParameterized(
+                mockConnection, executeActionDTO, datasourceConfiguration, actionConfiguration);
+
+        StepVerifier.create(resultMono)
+                .assertNext(result -> {
+                    assertTrue(result.getIsExecutionSuccess());
+
+                    Map<String, Object> body = (Map<String, Object>) result.getBody();
+                    ArrayNode files = (ArrayNode) body.get("files");
+                    assertEquals(2, files.size());
+                    assertEquals("dir/file_1", files.get(0).get("fileName").asText());
+                    assertEquals("dir/file_2", files.get(1).get("fileName").asText());
+                    assertEquals("token_2", body.get("nextContinuationToken"));
+
+                    ListObjectsV2Request request = requestCaptor.getValue();
+                    assertEquals("bucket_name", request.getBucketName());
+                    assertEquals("dir/", request.getPrefix());
+                    assertEquals(2, request.getMaxKeys());
+                    assertEquals("token_1", request.getContinuationToken());
+                })
+                .verifyComplete();
+    }
+
     /*
      * - This method tests the create file program flow till the point where an actual call is made by the AmazonS3
      *   connection to upload a file.
@@ -675,6 +782,96 @@ public class AmazonS3PluginTest {
                 .verifyComplete();
     }
 
+    @Test
+    public void testReadFileLargerThanMaxFileSize_returnsErrorWithoutReadingContent() {
+        DatasourceConfiguration datasourceConfiguration = createDatasourceConfiguration();
+        ExecuteActionDTO executeActionDTO = new ExecuteActionDTO();
+        AmazonS3Plugin.S3PluginExecutor pluginExecutor = new AmazonS3Plugin.S3PluginExecutor();
+
+        ActionConfiguration actionConfiguration = new ActionConfiguration();
+
+        Map<String, Object> configMap = new HashMap<>();
+        setDataValueSafelyInFormData(configMap, PATH, "path");
+        setDataValueSafelyInFormData(configMap, COMMAND, "READ_FILE");
+        setDataValueSafelyInFormData(configMap, BUCKET, "bucket_name");
+        setDataValueSafelyInFormData(configMap, READ_DATATYPE, "YES");
+        setDataValueSafelyInFormData(configMap, READ_MAX_FILE_SIZE, "1");
+
+        actionConfiguration.setFormData(configMap);
+
+        S3Object mockS3Object = mock(S3Object.class);
+        AmazonS3 mockConnection = mock(AmazonS3.class);
+        when(mockConnection.getObject(anyString(), anyString())).thenReturn(mockS3Object);
+
+        ObjectMetadata objectMetadata = new ObjectMetadata();
+        objectMetadata.setContentLength(5 * 1024 * 1024);
+        when(mockS3Object.getObjectMetadata()).thenReturn(objectMetadata);
+        S3ObjectInputStream mockS3ObjectInputStream = mock(S3ObjectInputStream.class);
+        when(mockS3Object.getObjectContent()).thenReturn(mockS3ObjectInputStream);
+
+        Mono<ActionExecutionResult> resultMono = pluginExecutor.executeParameterized(
+                mockConnection, executeActionDTO, datasourceConfiguration, actionConfiguration);
+
+        StepVerifier.create(resultMono)
+                .assertNext(result -> {
+                    assertFalse(result.getIsExecutionSuccess());
+                    assertEquals(
+                            String.format(S3ErrorMessages.FILE_SIZE_LIMIT_EXCEEDED_ERROR_MSG, 1), result.getBody());
+                })
+                .verifyComplete();
+
+        verify(mockS3ObjectInputStream).abort();
+    }
+
+    @Test
+    public void testReadFileWithMaxFileSizeTooLargeForBytes_returnsErrorWithoutReadingFile() {
+        DatasourceConfiguration datasourceConfiguration = createDatasourceConfiguration();
+        ExecuteActionDTO executeActionDTO = new ExecuteActionDTO();
+        AmazonS3Plugin.S3PluginExecutor pluginExecutor = new AmazonS3Plugin.S3PluginExecutor();
+
+        ActionConfiguration actionConfiguration = new ActionConfiguration();
+
+        Map<String, Object> configMap = new HashMap<>();
+        setDataValueSafelyInFormData(configMap, PATH, "path");
+        setDataValueSafelyInFormData(configMap, COMMAND, "READ_FILE");
+        setDataValueSafelyInFormData(configMap, BUCKET, "bucket_name");
+        setDataValueSafelyInFormData(configMap, READ_DATATYPE, "YES");
+        // Converted to bytes, this would overflow to a negative size
+        setDataValueSafelyInFormData(configMap, READ_MAX_FILE_SIZE, String.valueOf((Long.MAX_VALUE >> 20) + 1));
+
+        actionConfiguration.setFormData(configMap);
+
+        AmazonS3 mockConnection = mock(AmazonS3.class);
+
+        Mono<ActionExecutionResult> resultMono = pluginExecutor.executeParameterized(
+                mockConnection, executeActionDTO, datasourceConfiguration, actionConfiguration);
+
+        StepVerifier.create(resultMono)
+                .assertNext(result -> {
+                    assertFalse(result.getIsExecutionSuccess());
+                    assertEquals(
+                            String.format(S3ErrorMessages.MAX_FILE_SIZE_TOO_LARGE_ERROR_MSG, Long.MAX_VALUE >> 20),
+                            result.getBody());
+                })
+                .verifyComplete();
+
+        verify(mockConnection, never()).getObject(anyString(), anyString());
+    }
+
+    @Test
+    public void testGetBase64DecodingPayload_decodesLazilyWithKnownLength() throws Exception {
+        String content = "Hello World !!!\n";
+        String encodedPayload = "data:text/plain;base64," + new String(Base64.encode(content.getBytes()));
+
+        AmazonS3Plugin.S3PluginExecutor.UploadPayload payload =
+                AmazonS3Plugin.S3PluginExecutor.getBase64DecodingPayload(encodedPayload);
+
+        assertEquals(content.length(), payload.getContentLength());
+        assertEquals(content, new String(payload.getContent().readAllBytes()));
+
+        assertNull(AmazonS3Plugin.S3PluginExecutor.getBase64DecodingPayload("not base64 at all!"));
+    }
+
     @Test
     public void testReadFileFromPathWithBase64Encoding() {
         DatasourceConfiguration datasourceConfiguration = createDatasourceConfiguration();
@@ -16,16 +16,20 @@ import com.appsmith.external.models.SSLDetails;
 import com.appsmith.external.plugins.AppsmithPluginErrorUtils;
 import com.appsmith.external.plugins.BasePlugin;
 import com.appsmith.external.plugins.PluginExecutor;
+import com.appsmith.external.services.SharedConfig;
 import com.arangodb.ArangoCursor;
 import com.arangodb.ArangoDB.Builder;
 import com.arangodb.ArangoDBException;
 import com.arangodb.ArangoDatabase;
 import com.arangodb.Protocol;
 import com.arangodb.entity.CollectionEntity;
+import com.arangodb.model.AqlQueryOptions;
 import com.arangodb.model.CollectionsReadOptions;
 import com.external.plugins.exceptions.ArangoDBErrorMessages;
 import com.external.plugins.exceptions.ArangoDBPluginError;
 import com.external.utils.ArangoDBErrorUtils;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang.ObjectUtils;
 import org.pf4j.Extension;
@@ -43,6 +47,7 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -50,8 +55,11 @@ import java.util.stream.Collectors;
 
 import static com.appsmith.external.constants.ActionConstants.ACTION_CONFIGURATION_BODY;
 import static com.appsmith.external.helpers.PluginUtils.MATCH_QUOTED_WORDS_REGEX;
+import static com.appsmith.external.helpers.PluginUtils.getValueSafelyFromFormData;
 import static com.external.plugins.exceptions.ArangoDBErrorMessages.CONNECTION_INVALID_ERROR_MSG;
+import static com.external.plugins.exceptions.ArangoDBErrorMessages.CURSOR_RESULT_TRUNCATED_MSG;
 import static com.external.plugins.exceptions.ArangoDBErrorMessages.DS_HOSTNAME_MISSING_OR_INVALID_ERROR_MSG;
+import static com.external.plugins.exceptions.ArangoDBErrorMessages.INVALID_NUMERIC_SETTING_ERROR_MSG;
 import static com.external.utils.SSLUtils.isCaCertificateAvailable;
 import static com.external.utils.SSLUtils.setSSLContext;
 import static com.external.utils.SSLUtils.setSSLParam;
@@ -66,6 +74,13 @@ public class ArangoDBPlugin extends BasePlugin {
     private static String WRITES_IGNORED_KEY = "writesIgnored";
     private static String RETURN_KEY = "return";
     public static final int TEST_DATASOURCE_TIMEOUT_SECONDS = 15;
+    private static final String BATCH_SIZE_KEY = "batchSize";
+    private static final String BATCH_SIZE_LABEL = "Cursor batch size";
+    private static final int DEFAULT_BATCH_SIZE = 1000;
+    private static final String CURSOR_TTL_KEY = "cursorTtl";
+    private static final String CURSOR_TTL_LABEL = "Cursor time to live";
+    private static final String MAX_ROWS_KEY = "maxRows";
+    private static final String MAX_ROWS_LABEL = "Maximum documents to fetch";
 
     public ArangoDBPlugin(PluginWrapper wrapper) {
         super(wrapper);
@@ -79,6 +94,12 @@ public class ArangoDBPlugin extends BasePlugin {
 
         public static AppsmithPluginErrorUtils arangoDBErrorUtils = ArangoDBErrorUtils.getInstance();
 
+        private final int maxResponseSize;
+
+        public ArangoDBPluginExecutor(SharedConfig sharedConfig) {
+            this.maxResponseSize = sharedConfig.getMaxResponseSize();
+        }
+
         @Override
         public Mono<ActionExecutionResult> execute(
                 ArangoDatabase db,
@@ -98,25 +119,30 @@ public class ArangoDBPlugin extends BasePlugin {
                         ArangoDBErrorMessages.MISSING_QUERY_ERROR_MSG));
             }
 
+            final Map<String, Object> formData = actionConfiguration.getFormData();
+
             return Mono.fromCallable(() -> {
-                        log.debug("In the ArangoDBPlugin, got action execution result");
-                        ArangoCursor<Map> cursor = db.query(query, null, null, Map.class);
+                        final boolean isUpdateQuery = isUpdateQuery(query);
+                        // No limit unless the user has set one, the response size limit still applies
+                        final Integer maxRows = getPositiveIntegerSetting(formData, MAX_ROWS_KEY, MAX_ROWS_LABEL, null);
+                        final AqlQueryOptions options = getQueryOptions(formData, isUpdateQuery);
+
                         ActionExecutionResult result = new ActionExecutionResult();
                         result.setIsExecutionSuccess(true);
-                        List<Map> docList = new ArrayList<>();
-
-                        if (isUpdateQuery(query)) {
-                            Map<String, Long> updateCount = new HashMap<>();
-                            updateCount.put(
-                                    WRITES_EXECUTED_KEY, cursor.getStats().getWritesExecuted());
-                            updateCount.put(
-                                    WRITES_IGNORED_KEY, cursor.getStats().getWritesIgnored());
-                            docList.add(updateCount);
-                        } else {
-                            docList.addAll(cursor.asListRemaining());
-                        }
 
-                        result.setBody(objectMapper.valueToTree(docList));
+                        try (ArangoCursor<Map> cursor = db.query(query, null, options, Map.class)) {
+                            log.debug("In the ArangoDBPlugin, got action execution result");
+                            if (isUpdateQuery) {
+                                Map<String, Long> updateCount = new HashMap<>();
+                                updateCount.put(
+                                        WRITES_EXECUTED_KEY, cursor.getStats().getWritesExecuted());
+                                updateCount.put(
+                                        WRITES_IGNORED_KEY, cursor.getStats().getWritesIgnored());
+                                result.setBody(objectMapper.valueToTree(List.of(updateCount)));
+                            } else {
+                                readDocuments(cursor, maxRows, result);
+                            }
+                        }
 
                         return result;
                     })
@@ -143,6 +169,99 @@ public class ArangoDBPlugin extends BasePlugin {
                     .subscribeOn(scheduler);
         }
 
+        /**
+         * Reads the documents of the cursor into the result one at a time, so that only the batch the driver is
+         * currently holding and the documents already read are kept in memory. Stops reading, and closes the cursor on
+         * the server, as soon as the row limit, if any, is reached, and fails once the documents read add up to more
+         * than the maximum response size.
+         */
+        private void readDocuments(ArangoCursor<Map> cursor, Integer maxRows, ActionExecutionResult result) {
+            final ArrayNode documents = objectMapper.createArrayNode();
+            long responseSize = 0;
+
+            while ((maxRows == null || documents.size() < maxRows) && cursor.hasNext()) {
+                final JsonNode document = objectMapper.valueToTree(cursor.next());
+                responseSize += estimateJsonSize(document);
+                if (responseSize > maxResponseSize) {
+                    log.debug(
+                            "[ArangoDBPlugin] Result size greater than maximum supported size of {} bytes. Current size : {}",
+                            maxResponseSize,
+                            responseSize);
+                    throw new AppsmithPluginException(
+                            ArangoDBPluginError.RESPONSE_SIZE_TOO_LARGE, maxResponseSize / (1024f * 1024f));
+                }
+                documents.add(document);
+            }
+
+            if (maxRows != null && documents.size() == maxRows && cursor.hasNext()) {
+                result.setMessages(Set.of(String.format(CURSOR_RESULT_TRUNCATED_MSG, maxRows)));
+            }
+
+            result.setBody(documents);
+        }
+
+        /**
+         * Estimates the length of the document as JSON without serializing it. Strings are counted in characters, so
+         * this is a little short for text with multibyte characters.
+         */
+        private static long estimateJsonSize(JsonNode node) {
+            if (node.isObject()) {
+                long size = 2;
+                final Iterator<Map.Entry<String, JsonNode>> fields = node.fields();
+                while (fields.hasNext()) {
+                    final Map.Entry<String, JsonNode> field = fields.next();
+                    // The quoted name, the colon and the comma
+                    size += field.getKey().length() + 4 + estimateJsonSize(field.getValue());
+                }
+                return size;
+            }
+
+            if (node.isArray()) {
+                long size = 2;
+                for (JsonNode element : node) {
+                    size += 1 + estimateJsonSize(element);
+                }
+                return size;
+            }
+
+            return node.isTextual()
+                    ? node.textValue().length() + 2
+                    : node.asText().length();
+        }
+
+        private AqlQueryOptions getQueryOptions(Map<String, Object> formData, boolean isUpdateQuery) {
+            final AqlQueryOptions options = new AqlQueryOptions();
+            options.batchSize(
+                    getPositiveIntegerSetting(formData, BATCH_SIZE_KEY, BATCH_SIZE_LABEL, DEFAULT_BATCH_SIZE));
+
+            final Integer ttl = getPositiveIntegerSetting(formData, CURSOR_TTL_KEY, CURSOR_TTL_LABEL, null);
+            if (ttl != null) {
+                options.ttl(ttl);
+            }
+
+            // A streaming cursor makes the server compute the documents batch by batch, as they are fetched, instead
+            // of all of them upfront. Write statistics are only final once such a cursor is exhausted, so the results
+            // of update queries are still computed upfront.
+            return options.stream(!isUpdateQuery);
+        }
+
+        private Integer getPositiveIntegerSetting(
+                Map<String, Object> formData, String field, String label, Integer defaultValue) {
+            Object value = getValueSafelyFromFormData(formData, field);
+            if (value == null || isBlank(String.valueOf(value))) {
+                return defaultValue;
+            }
+
+            try {
+                Integer setting = Integer.valueOf(String.valueOf(value).trim());
+                return setting > 0 ? setting : defaultValue;
+            } catch (NumberFormatException e) {
+                throw new AppsmithPluginException(
+                        AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR,
+                        String.format(INVALID_NUMERIC_SETTING_ERROR_MSG, label, value));
+            }
+        }
+
         /**
          * - In ArangoDB query language, any non-update query is indicated by the use of keyword RETURN.
          * - This method checks if the query provided by user has the RETURN keyword or not. To do so, it first
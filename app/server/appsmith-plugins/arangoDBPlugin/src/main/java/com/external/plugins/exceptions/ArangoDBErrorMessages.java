@@ -23,6 +23,11 @@ public class ArangoDBErrorMessages extends BasePluginErrorMessages {
             "Appsmith server has found an unexpected CA certificate option: %s. "
                     + "Please reach out to Appsmith customer support to resolve this.";
 
+    public static final String INVALID_NUMERIC_SETTING_ERROR_MSG = "%s should be a positive number, found: %s";
+
+    public static final String CURSOR_RESULT_TRUNCATED_MSG =
+            "The query returned more documents than the configured limit. Only the first %s documents are shown.";
+
     public static final String GET_STRUCTURE_ERROR_MSG =
             "Appsmith server has failed to fetch list of collections from database. Please check "
                     + "if the database credentials are valid and/or you have the required permissions.";
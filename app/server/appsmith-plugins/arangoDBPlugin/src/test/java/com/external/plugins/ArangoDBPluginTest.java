@@ -1,5 +1,6 @@
 package com.external.plugins;
 
+import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginError;
 import com.appsmith.external.models.ActionConfiguration;
 import com.appsmith.external.models.ActionExecutionResult;
 import com.appsmith.external.models.Connection;
@@ -9,6 +10,7 @@ import com.appsmith.external.models.DatasourceStructure;
 import com.appsmith.external.models.DatasourceTestResult;
 import com.appsmith.external.models.Endpoint;
 import com.appsmith.external.models.SSLDetails;
+import com.appsmith.external.services.SharedConfig;
 import com.arangodb.ArangoCollection;
 import com.arangodb.ArangoDB;
 import com.arangodb.ArangoDatabase;
@@ -35,6 +37,7 @@ import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
@@ -42,7 +45,9 @@ import java.util.stream.Collectors;
 import static com.external.plugins.exceptions.ArangoDBErrorMessages.DS_HOSTNAME_MISSING_OR_INVALID_ERROR_MSG;
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
@@ -50,7 +55,26 @@ import static org.mockito.Mockito.when;
 @Testcontainers
 public class ArangoDBPluginTest {
 
-    ArangoDBPlugin.ArangoDBPluginExecutor pluginExecutor = new ArangoDBPlugin.ArangoDBPluginExecutor();
+    public static class MockSharedConfig implements SharedConfig {
+
+        @Override
+        public int getCodecSize() {
+            return 10 * 1024 * 1024;
+        }
+
+        @Override
+        public int getMaxResponseSize() {
+            return 10000;
+        }
+
+        @Override
+        public String getRemoteExecutionUrl() {
+            return "";
+        }
+    }
+
+    ArangoDBPlugin.ArangoDBPluginExecutor pluginExecutor =
+            new ArangoDBPlugin.ArangoDBPluginExecutor(new MockSharedConfig());
 
     private static String address;
     private static Integer port;
@@ -239,6 +263,75 @@ public class ArangoDBPluginTest {
                 .verifyComplete();
     }
 
+    @Test
+    public void testExecuteReadQuery_whenMoreDocumentsThanMaxRows_returnsFirstDocumentsWithMessage() {
+        DatasourceConfiguration dsConfig = createDatasourceConfiguration();
+        Mono<ArangoDatabase> dsConnectionMono = pluginExecutor.datasourceCreate(dsConfig);
+
+        ActionConfiguration actionConfiguration = new ActionConfiguration();
+        actionConfiguration.setBody("FOR user IN users SORT user.age ASC RETURN user.name");
+        actionConfiguration.setFormData(new HashMap<>(Map.of("batchSize", "1", "cursorTtl", "10", "maxRows", "2")));
+
+        Mono<ActionExecutionResult> executeMono =
+                dsConnectionMono.flatMap(conn -> pluginExecutor.execute(conn, dsConfig, actionConfiguration));
+
+        StepVerifier.create(executeMono)
+                .assertNext(result -> {
+                    assertTrue(result.getIsExecutionSuccess());
+                    ArrayNode documents = (ArrayNode) result.getBody();
+                    assertEquals(2, documents.size());
+                    assertEquals("Cierra Vega", documents.get(0).asText());
+                    assertEquals("Alden Cantrell", documents.get(1).asText());
+                    assertEquals(1, result.getMessages().size());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    public void testExecuteReadQuery_whenMaxRowsIsNotSet_returnsAllDocuments() {
+        DatasourceConfiguration dsConfig = createDatasourceConfiguration();
+        Mono<ArangoDatabase> dsConnectionMono = pluginExecutor.datasourceCreate(dsConfig);
+
+        ActionConfiguration actionConfiguration = new ActionConfiguration();
+        actionConfiguration.setBody("FOR i IN 1..25 RETURN { value: i }");
+        actionConfiguration.setFormData(new HashMap<>(Map.of("batchSize", "2")));
+
+        Mono<ActionExecutionResult> executeMono =
+                dsConnectionMono.flatMap(conn -> pluginExecutor.execute(conn, dsConfig, actionConfiguration));
+
+        StepVerifier.create(executeMono)
+                .assertNext(result -> {
+                    assertTrue(result.getIsExecutionSuccess());
+                    ArrayNode documents = (ArrayNode) result.getBody();
+                    assertEquals(25, documents.size());
+                    assertEquals(25, documents.get(24).get("value").asInt());
+                    assertNull(result.getMessages());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    public void testExecuteReadQuery_whenBatchSizeIsNotANumber_returnsError() {
+        DatasourceConfiguration dsConfig = createDatasourceConfiguration();
+        Mono<ArangoDatabase> dsConnectionMono = pluginExecutor.datasourceCreate(dsConfig);
+
+        ActionConfiguration actionConfiguration = new ActionConfiguration();
+        actionConfiguration.setBody("FOR user IN users RETURN user");
+        actionConfiguration.setFormData(new HashMap<>(Map.of("batchSize", "ten")));
+
+        Mono<ActionExecutionResult> executeMono =
+                dsConnectionMono.flatMap(conn -> pluginExecutor.execute(conn, dsConfig, actionConfiguration));
+
+        StepVerifier.create(executeMono)
+                .assertNext(result -> {
+                    assertFalse(result.getIsExecutionSuccess());
+                    assertEquals(
+                            AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR.getAppErrorCode(),
+                            result.getStatusCode());
+                })
+                .verifyComplete();
+    }
+
     @Test
     public void testExecuteWriteQuery() {
         DatasourceConfiguration dsConfig = createDatasourceConfiguration();
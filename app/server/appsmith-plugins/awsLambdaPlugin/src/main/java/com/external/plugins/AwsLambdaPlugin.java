@@ -1,16 +1,5 @@
 package com.external.plugins;
 
-import com.amazonaws.auth.AWSStaticCredentialsProvider;
-import com.amazonaws.auth.BasicAWSCredentials;
-import com.amazonaws.regions.Regions;
-import com.amazonaws.services.lambda.AWSLambda;
-import com.amazonaws.services.lambda.AWSLambdaClientBuilder;
-import com.amazonaws.services.lambda.model.AWSLambdaException;
-import com.amazonaws.services.lambda.model.FunctionConfiguration;
-import com.amazonaws.services.lambda.model.InvokeRequest;
-import com.amazonaws.services.lambda.model.InvokeResult;
-import com.amazonaws.services.lambda.model.ListFunctionsResult;
-import com.amazonaws.services.lambda.model.ResourceNotFoundException;
 import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginError;
 import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginException;
 import com.appsmith.external.models.ActionConfiguration;
@@ -22,24 +11,39 @@ import com.appsmith.external.models.TriggerRequestDTO;
 import com.appsmith.external.models.TriggerResultDTO;
 import com.appsmith.external.plugins.BasePlugin;
 import com.appsmith.external.plugins.PluginExecutor;
-import com.fasterxml.jackson.databind.node.ArrayNode;
 import lombok.extern.slf4j.Slf4j;
 import org.pf4j.Extension;
 import org.pf4j.PluginWrapper;
-import org.springframework.util.ObjectUtils;
 import org.springframework.util.StringUtils;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
-import reactor.core.scheduler.Schedulers;
-
-import java.nio.ByteBuffer;
-import java.nio.charset.StandardCharsets;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.core.SdkBytes;
+import software.amazon.awssdk.core.SdkField;
+import software.amazon.awssdk.core.SdkPojo;
+import software.amazon.awssdk.core.util.SdkAutoConstructList;
+import software.amazon.awssdk.core.util.SdkAutoConstructMap;
+import software.amazon.awssdk.http.async.SdkAsyncHttpClient;
+import software.amazon.awssdk.http.nio.netty.NettyNioAsyncHttpClient;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.lambda.LambdaAsyncClient;
+import software.amazon.awssdk.services.lambda.LambdaAsyncClientBuilder;
+import software.amazon.awssdk.services.lambda.model.FunctionConfiguration;
+import software.amazon.awssdk.services.lambda.model.InvokeRequest;
+import software.amazon.awssdk.services.lambda.model.InvokeResponse;
+import software.amazon.awssdk.services.lambda.model.LambdaException;
+import software.amazon.awssdk.services.lambda.model.ListFunctionsRequest;
+import software.amazon.awssdk.services.lambda.model.ResourceNotFoundException;
+
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
-import java.util.stream.Collectors;
-import java.util.stream.StreamSupport;
 
 import static com.appsmith.external.helpers.PluginUtils.STRING_TYPE;
 import static com.appsmith.external.helpers.PluginUtils.getDataValueSafelyFromFormData;
@@ -52,26 +56,28 @@ public class AwsLambdaPlugin extends BasePlugin {
 
     @Slf4j
     @Extension
-    public static class AwsLambdaPluginExecutor implements PluginExecutor<AWSLambda> {
+    public static class AwsLambdaPluginExecutor implements PluginExecutor<LambdaAsyncClient> {
+
+        // All datasources share one HTTP client, and with it one connection pool and one set of event loop threads.
+        // A Lambda client that is given an HTTP client doesn't close it when it is closed itself.
+        private static final SdkAsyncHttpClient HTTP_CLIENT =
+                NettyNioAsyncHttpClient.builder().build();
 
         @Override
         public Mono<ActionExecutionResult> execute(
-                AWSLambda connection,
+                LambdaAsyncClient connection,
                 DatasourceConfiguration datasourceConfiguration,
                 ActionConfiguration actionConfiguration) {
 
             Map<String, Object> formData = actionConfiguration.getFormData();
             String command = getDataValueSafelyFromFormData(formData, "command", STRING_TYPE);
 
-            return Mono.fromCallable(() -> {
-                        ActionExecutionResult result;
-                        switch (Objects.requireNonNull(command)) {
-                            case "LIST_FUNCTIONS" -> result = listFunctions(actionConfiguration, connection);
-                            case "INVOKE_FUNCTION" -> result = invokeFunction(actionConfiguration, connection);
-                            default -> throw new IllegalStateException("Unexpected value: " + command);
-                        }
-
-                        return result;
+            // The client doesn't block on any of these calls, so there is no need to move them to another scheduler
+            return Mono.defer(() -> switch (Objects.requireNonNull(command)) {
+                        case "LIST_FUNCTIONS" -> listFunctions(actionConfiguration, connection);
+                        case "INVOKE_FUNCTION" -> invokeFunction(actionConfiguration, connection);
+                        default -> Mono.<ActionExecutionResult>error(
+                                new IllegalStateException("Unexpected value: " + command));
                     })
                     .onErrorMap(
                             IllegalArgumentException.class,
@@ -79,70 +85,143 @@ public class AwsLambdaPlugin extends BasePlugin {
                                     AppsmithPluginError.PLUGIN_ERROR, "Unsupported command: " + command))
                     .onErrorMap(
                             ResourceNotFoundException.class,
-                            e -> new AppsmithPluginException(AppsmithPluginError.PLUGIN_ERROR, e.getErrorMessage()))
+                            e -> new AppsmithPluginException(
+                                    AppsmithPluginError.PLUGIN_ERROR,
+                                    e.awsErrorDetails().errorMessage()))
                     .onErrorMap(
-                            Exception.class,
-                            e -> new AppsmithPluginException(AppsmithPluginError.PLUGIN_ERROR, e.getMessage()))
-                    .map(obj -> obj)
-                    .subscribeOn(Schedulers.boundedElastic());
+                            e -> e instanceof Exception && !(e instanceof AppsmithPluginException),
+                            e -> new AppsmithPluginException(AppsmithPluginError.PLUGIN_ERROR, e.getMessage()));
         }
 
         @Override
         public Mono<TriggerResultDTO> trigger(
-                AWSLambda connection, DatasourceConfiguration datasourceConfiguration, TriggerRequestDTO request) {
+                LambdaAsyncClient connection,
+                DatasourceConfiguration datasourceConfiguration,
+                TriggerRequestDTO request) {
             if (!StringUtils.hasText(request.getRequestType())) {
                 throw new AppsmithPluginException(
                         AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR, "request type is missing");
             }
-            ActionExecutionResult actionExecutionResult = listFunctions(null, connection);
-            ArrayNode body = (ArrayNode) actionExecutionResult.getBody();
-            List<Map<String, String>> functionNames = StreamSupport.stream(body.spliterator(), false)
-                    .map(function -> function.get("functionName").asText())
-                    .sorted()
+
+            return getAllFunctions(connection)
+                    .map(FunctionConfiguration::functionName)
+                    .sort()
                     .map(functionName -> Map.of("label", functionName, "value", functionName))
-                    .collect(Collectors.toList());
+                    .collectList()
+                    .map(functionNames -> {
+                        TriggerResultDTO triggerResultDTO = new TriggerResultDTO();
+                        triggerResultDTO.setTrigger(functionNames);
+                        return triggerResultDTO;
+                    });
+        }
+
+        Mono<ActionExecutionResult> invokeFunction(
+                ActionConfiguration actionConfiguration, LambdaAsyncClient connection) {
+            final Map<String, Object> formData = actionConfiguration.getFormData();
+            final String body = getDataValueSafelyFromFormData(formData, "body", STRING_TYPE);
+
+            InvokeRequest invokeRequest = InvokeRequest.builder()
+                    .functionName(getDataValueSafelyFromFormData(formData, "functionName", STRING_TYPE))
+                    .payload(body == null ? null : SdkBytes.fromUtf8String(body))
+                    .invocationType(getDataValueSafelyFromFormData(formData, "invocationType", STRING_TYPE))
+                    .build();
+
+            return Mono.fromFuture(() -> connection.invoke(invokeRequest)).map(invokeResponse -> {
+                ActionExecutionResult result = new ActionExecutionResult();
+                result.setStatusCode(String.valueOf(invokeResponse.statusCode()));
+                result.setIsExecutionSuccess(invokeResponse.functionError() == null);
+                result.setBody(getResponsePayload(invokeResponse));
+                return result;
+            });
+        }
+
+        /**
+         * Decodes the payload straight from the bytes that the client read the response into, without copying them to
+         * another array first. Event invocations have no payload, as they return before the function has run.
+         */
+        private static String getResponsePayload(InvokeResponse invokeResponse) {
+            final SdkBytes payload = invokeResponse.payload();
+            if (payload == null || payload.asByteBuffer().remaining() == 0) {
+                return null;
+            }
 
-            TriggerResultDTO triggerResultDTO = new TriggerResultDTO();
-            triggerResultDTO.setTrigger(functionNames);
+            return payload.asUtf8String();
+        }
 
-            return Mono.just(triggerResultDTO);
+        Mono<ActionExecutionResult> listFunctions(
+                ActionConfiguration actionConfiguration, LambdaAsyncClient connection) {
+            return getAllFunctions(connection)
+                    .map(AwsLambdaPluginExecutor::toPlain)
+                    .collectList()
+                    .map(functions -> {
+                        ActionExecutionResult result = new ActionExecutionResult();
+                        result.setBody(objectMapper.valueToTree(functions));
+                        result.setIsExecutionSuccess(true);
+                        return result;
+                    });
         }
 
-        ActionExecutionResult invokeFunction(ActionConfiguration actionConfiguration, AWSLambda connection) {
-            InvokeRequest invokeRequest = new InvokeRequest();
-            invokeRequest.setFunctionName(
-                    getDataValueSafelyFromFormData(actionConfiguration.getFormData(), "functionName", STRING_TYPE));
-            invokeRequest.setPayload(
-                    getDataValueSafelyFromFormData(actionConfiguration.getFormData(), "body", STRING_TYPE));
-            invokeRequest.setInvocationType(
-                    getDataValueSafelyFromFormData(actionConfiguration.getFormData(), "invocationType", STRING_TYPE));
-            InvokeResult invokeResult = connection.invoke(invokeRequest);
-
-            ActionExecutionResult result = new ActionExecutionResult();
-            result.setStatusCode(String.valueOf(invokeResult.getStatusCode()));
-            Boolean isExecutionSuccess = (invokeResult.getFunctionError() == null);
-            result.setIsExecutionSuccess(isExecutionSuccess);
-            ByteBuffer responseBuffer = invokeResult.getPayload();
-            String responsePayload = ObjectUtils.isEmpty(responseBuffer)
-                    ? null
-                    : new String(responseBuffer.array(), StandardCharsets.UTF_8);
-            result.setBody(responsePayload);
-
-            return result;
+        /**
+         * Gets all the functions of the account, following the markers of ListFunctions until the last page.
+         */
+        private static Flux<FunctionConfiguration> getAllFunctions(LambdaAsyncClient connection) {
+            return Flux.from(connection
+                    .listFunctionsPaginator(ListFunctionsRequest.builder().build())
+                    .functions());
         }
 
-        ActionExecutionResult listFunctions(ActionConfiguration actionConfiguration, AWSLambda connection) {
-            ListFunctionsResult listFunctionsResult = connection.listFunctions();
-            List<FunctionConfiguration> functions = listFunctionsResult.getFunctions();
+        /**
+         * Converts an SDK model to maps and lists, in the same shape that the models of the previous version of the SDK
+         * were serialized to by Jackson, so that existing bindings on the result keep working. That is, keys are named
+         * like Jackson names bean properties, and members that aren't set are null, even lists and maps.
+         */
+        private static Object toPlain(Object value) {
+            if (value instanceof SdkAutoConstructList<?> || value instanceof SdkAutoConstructMap<?, ?>) {
+                return null;
+            } else if (value instanceof SdkPojo pojo) {
+                final Map<String, Object> plain = new LinkedHashMap<>();
+                for (final SdkField<?> field : pojo.sdkFields()) {
+                    plain.put(toPropertyName(field.memberName()), toPlain(field.getValueOrDefault(pojo)));
+                }
+                return plain;
+            } else if (value instanceof SdkBytes bytes) {
+                return bytes.asUtf8String();
+            } else if (value instanceof Map<?, ?> map) {
+                final Map<Object, Object> plain = new LinkedHashMap<>();
+                for (final Map.Entry<?, ?> entry : map.entrySet()) {
+                    plain.put(entry.getKey(), toPlain(entry.getValue()));
+                }
+                return plain;
+            } else if (value instanceof Collection<?> collection) {
+                final List<Object> plain = new ArrayList<>();
+                for (final Object item : collection) {
+                    plain.add(toPlain(item));
+                }
+                return plain;
+            }
+
+            return value;
+        }
 
-            ActionExecutionResult result = new ActionExecutionResult();
-            result.setBody(objectMapper.valueToTree(functions));
-            result.setIsExecutionSuccess(true);
-            return result;
+        /**
+         * Names a member like Jackson names the property of its getter, by lower casing all the leading upper case
+         * characters, e.g. FunctionName becomes functionName and KMSKeyArn becomes kmskeyArn.
+         */
+        private static String toPropertyName(String memberName) {
+            final StringBuilder propertyName = new StringBuilder(memberName);
+            for (int i = 0; i < propertyName.length(); i++) {
+                final char upper = propertyName.charAt(i);
+                final char lower = Character.toLowerCase(upper);
+                if (upper == lower) {
+                    break;
+                }
+                propertyName.setCharAt(i, lower);
+            }
+            return propertyName.toString();
         }
 
         @Override
-        public Mono<AWSLambda> datasourceCreate(DatasourceConfiguration datasourceConfiguration) {
+        public Mono<LambdaAsyncClient> datasourceCreate(DatasourceConfiguration datasourceConfiguration) {
             DBAuth authentication = (DBAuth) datasourceConfiguration.getAuthentication();
             String accessKey = authentication.getUsername();
             String secretKey = authentication.getPassword();
@@ -154,42 +233,46 @@ public class AwsLambdaPlugin extends BasePlugin {
                 region = "us-east-1"; // Default region
             }
 
-            AWSLambdaClientBuilder awsLambdaClientBuilder =
-                    AWSLambdaClientBuilder.standard().withRegion(Regions.fromName(region));
+            LambdaAsyncClientBuilder lambdaClientBuilder =
+                    LambdaAsyncClient.builder().httpClient(HTTP_CLIENT).region(Region.of(region));
 
             // If access key and secret key are not provided, use the default credentials provider chain. That will
             // pick up the instance role if running on an EC2 instance.
             if ("accessKey".equals(authenticationType)) {
-                BasicAWSCredentials awsCreds = new BasicAWSCredentials(accessKey, secretKey);
+                AwsBasicCredentials awsCreds = AwsBasicCredentials.create(accessKey, secretKey);
 
-                AWSStaticCredentialsProvider staticCredentials = new AWSStaticCredentialsProvider(awsCreds);
-
-                awsLambdaClientBuilder = awsLambdaClientBuilder.withCredentials(staticCredentials);
+                lambdaClientBuilder =
+                        lambdaClientBuilder.credentialsProvider(StaticCredentialsProvider.create(awsCreds));
             }
 
-            AWSLambda awsLambda = awsLambdaClientBuilder.build();
-            return Mono.just(awsLambda);
+            return Mono.just(lambdaClientBuilder.build());
         }
 
         @Override
-        public void datasourceDestroy(AWSLambda connection) {
-            // No need to do anything here.
+        public void datasourceDestroy(LambdaAsyncClient connection) {
+            // Only releases what the client holds for this datasource, the shared HTTP client stays open
+            if (connection != null) {
+                connection.close();
+            }
         }
 
         @Override
-        public Mono<DatasourceTestResult> testDatasource(AWSLambda connection) {
-            return Mono.fromCallable(() -> {
-                        /*
-                         * - Please note that as of 28 Jan 2021, the way Amazon client SDK works, creating a connection
-                         *   object with wrong credentials does not throw any exception.
-                         * - Hence, adding a listFunctions() method call to test the connection.
-                         */
-                        connection.listFunctions();
-                        return new DatasourceTestResult();
-                    })
+        public Mono<DatasourceTestResult> testDatasource(LambdaAsyncClient connection) {
+            /*
+             * - Please note that as of 28 Jan 2021, the way Amazon client SDK works, creating a connection
+             *   object with wrong credentials does not throw any exception.
+             * - Hence, adding a listFunctions() method call to test the connection.
+             */
+            return Mono.fromFuture(() -> connection.listFunctions(
+                            ListFunctionsRequest.builder().maxItems(1).build()))
+                    .thenReturn(new DatasourceTestResult())
                     .onErrorResume(error -> {
-                        if (error instanceof AWSLambdaException
-                                && "AccessDenied".equals(((AWSLambdaException) error).getErrorCode())) {
+                        if (error instanceof LambdaException lambdaException
+                                && lambdaException.awsErrorDetails() != null
+                                && "AccessDenied"
+                                        .equals(lambdaException
+                                                .awsErrorDetails()
+                                                .errorCode())) {
                             /*
                              * Sometimes a valid account credential may not have permission to run listFunctions action
                              * . In this case `AccessDenied` error is returned.
@@ -1,9 +1,5 @@
 package com.external.plugins;
 
-import com.amazonaws.services.lambda.AWSLambda;
-import com.amazonaws.services.lambda.model.FunctionConfiguration;
-import com.amazonaws.services.lambda.model.InvokeResult;
-import com.amazonaws.services.lambda.model.ListFunctionsResult;
 import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginException;
 import com.appsmith.external.models.ActionConfiguration;
 import com.appsmith.external.models.ActionExecutionResult;
@@ -11,22 +7,32 @@ import com.appsmith.external.models.DBAuth;
 import com.appsmith.external.models.DatasourceConfiguration;
 import com.appsmith.external.models.Property;
 import com.appsmith.external.models.TriggerRequestDTO;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.node.ArrayNode;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 import org.testcontainers.junit.jupiter.Testcontainers;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
+import software.amazon.awssdk.core.SdkBytes;
+import software.amazon.awssdk.services.lambda.LambdaAsyncClient;
+import software.amazon.awssdk.services.lambda.model.FunctionConfiguration;
+import software.amazon.awssdk.services.lambda.model.InvokeRequest;
+import software.amazon.awssdk.services.lambda.model.InvokeResponse;
+import software.amazon.awssdk.services.lambda.model.ListFunctionsRequest;
+import software.amazon.awssdk.services.lambda.model.ListFunctionsResponse;
+import software.amazon.awssdk.services.lambda.paginators.ListFunctionsPublisher;
 
-import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 
 import static com.appsmith.external.helpers.PluginUtils.setDataValueSafelyInFormData;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
@@ -75,10 +81,11 @@ public class AwsLambdaPluginTest {
         actionConfiguration.setFormData(configMap);
 
         // Mock the Lambda connection
-        AWSLambda mockLambda = mock(AWSLambda.class);
-        ListFunctionsResult mockFunctionsResult = new ListFunctionsResult();
-        mockFunctionsResult.setFunctions(List.of(new FunctionConfiguration().withFunctionName("test-aws-lambda")));
-        when(mockLambda.listFunctions()).thenReturn(mockFunctionsResult);
+        LambdaAsyncClient mockLambda = mockLambdaWithFunctions(ListFunctionsResponse.builder()
+                .functions(FunctionConfiguration.builder()
+                        .functionName("test-aws-lambda")
+                        .build())
+                .build());
 
         Mono<ActionExecutionResult> resultMono =
                 pluginExecutor.execute(mockLambda, datasourceConfiguration, actionConfiguration);
@@ -89,6 +96,93 @@ public class AwsLambdaPluginTest {
                 .verifyComplete();
     }
 
+    @Test
+    public void testExecuteListFunctions_readsAllPages() {
+        DatasourceConfiguration datasourceConfiguration = createDatasourceConfiguration();
+
+        Map<String, Object> configMap = new HashMap<>();
+        setDataValueSafelyInFormData(configMap, "command", "LIST_FUNCTIONS");
+
+        ActionConfiguration actionConfiguration = new ActionConfiguration();
+        actionConfiguration.setFormData(configMap);
+
+        LambdaAsyncClient mockLambda = mockLambdaWithFunctions(
+                ListFunctionsResponse.builder()
+                        .functions(FunctionConfiguration.builder()
+                                .functionName("first-function")
+                                .build())
+                        .nextMarker("next-page")
+                        .build(),
+                ListFunctionsResponse.builder()
+                        .functions(FunctionConfiguration.builder()
+                                .functionName("second-function")
+                                .build())
+                        .build());
+
+        Mono<ActionExecutionResult> resultMono =
+                pluginExecutor.execute(mockLambda, datasourceConfiguration, actionConfiguration);
+        StepVerifier.create(resultMono)
+                .assertNext(result -> {
+                    ArrayNode functions = (ArrayNode) result.getBody();
+                    assertEquals(2, functions.size());
+                    assertEquals(
+                            "first-function",
+                            functions.get(0).get("functionName").asText());
+                    assertEquals(
+                            "second-function",
+                            functions.get(1).get("functionName").asText());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    public void testExecuteListFunctions_keepsPreviousResultShape() {
+        DatasourceConfiguration datasourceConfiguration = createDatasourceConfiguration();
+
+        Map<String, Object> configMap = new HashMap<>();
+        setDataValueSafelyInFormData(configMap, "command", "LIST_FUNCTIONS");
+
+        ActionConfiguration actionConfiguration = new ActionConfiguration();
+        actionConfiguration.setFormData(configMap);
+
+        LambdaAsyncClient mockLambda = mockLambdaWithFunctions(ListFunctionsResponse.builder()
+                .functions(FunctionConfiguration.builder()
+                        .functionName("kms-function")
+                        .kmsKeyArn("key-arn")
+                        .codeSha256("code-hash")
+                        .build())
+                .build());
+
+        StepVerifier.create(pluginExecutor.execute(mockLambda, datasourceConfiguration, actionConfiguration))
+                .assertNext(result -> {
+                    JsonNode function = ((ArrayNode) result.getBody()).get(0);
+                    // Keys are named like Jackson named the getters of the previous SDK version's models
+                    assertEquals("kms-function", function.get("functionName").asText());
+                    assertEquals("key-arn", function.get("kmskeyArn").asText());
+                    assertEquals("code-hash", function.get("codeSha256").asText());
+                    // Lists that aren't set are null, not empty
+                    assertTrue(function.has("layers"));
+                    assertTrue(function.get("layers").isNull());
+                })
+                .verifyComplete();
+    }
+
+    private static LambdaAsyncClient mockLambdaWithFunctions(ListFunctionsResponse... pages) {
+        LambdaAsyncClient mockLambda = mock(LambdaAsyncClient.class);
+        // The paginator calls listFunctions on the client for every page
+        when(mockLambda.listFunctionsPaginator(any(ListFunctionsRequest.class)))
+                .thenAnswer(invocation -> new ListFunctionsPublisher(mockLambda, invocation.getArgument(0)));
+
+        List<CompletableFuture<ListFunctionsResponse>> responses = new ArrayList<>();
+        for (ListFunctionsResponse page : pages) {
+            responses.add(CompletableFuture.completedFuture(page));
+        }
+        when(mockLambda.listFunctions(any(ListFunctionsRequest.class)))
+                .thenReturn(
+                        responses.get(0), responses.subList(1, responses.size()).toArray(new CompletableFuture[0]));
+        return mockLambda;
+    }
+
     @Test
     public void testExecuteInvokeFunction() {
         DatasourceConfiguration datasourceConfiguration = createDatasourceConfiguration();
@@ -102,10 +196,12 @@ public class AwsLambdaPluginTest {
         actionConfiguration.setFormData(configMap);
 
         // Mock the Lambda connection
-        AWSLambda mockLambda = mock(AWSLambda.class);
-        InvokeResult mockResult = new InvokeResult();
-        mockResult.setPayload(ByteBuffer.wrap("Hello World".getBytes()));
-        when(mockLambda.invoke(any())).thenReturn(mockResult);
+        LambdaAsyncClient mockLambda = mock(LambdaAsyncClient.class);
+        InvokeResponse mockResponse = InvokeResponse.builder()
+                .statusCode(200)
+                .payload(SdkBytes.fromUtf8String("Hello World"))
+                .build();
+        when(mockLambda.invoke(any(InvokeRequest.class))).thenReturn(CompletableFuture.completedFuture(mockResponse));
 
         Mono<ActionExecutionResult> resultMono =
                 pluginExecutor.execute(mockLambda, datasourceConfiguration, actionConfiguration);
@@ -117,6 +213,38 @@ public class AwsLambdaPluginTest {
                 .verifyComplete();
     }
 
+    @Test
+    public void testExecuteInvokeFunction_withEventInvocation() {
+        DatasourceConfiguration datasourceConfiguration = createDatasourceConfiguration();
+
+        Map<String, Object> configMap = new HashMap<>();
+        setDataValueSafelyInFormData(configMap, "command", "INVOKE_FUNCTION");
+        setDataValueSafelyInFormData(configMap, "body", "{\"data\": \"\"}");
+        setDataValueSafelyInFormData(configMap, "functionName", "test-aws-lambda");
+        setDataValueSafelyInFormData(configMap, "invocationType", "Event");
+
+        ActionConfiguration actionConfiguration = new ActionConfiguration();
+        actionConfiguration.setFormData(configMap);
+
+        // Event invocations are accepted by Lambda without waiting for the function to run
+        LambdaAsyncClient mockLambda = mock(LambdaAsyncClient.class);
+        InvokeResponse mockResponse = InvokeResponse.builder()
+                .statusCode(202)
+                .payload(SdkBytes.fromUtf8String(""))
+                .build();
+        when(mockLambda.invoke(any(InvokeRequest.class))).thenReturn(CompletableFuture.completedFuture(mockResponse));
+
+        Mono<ActionExecutionResult> resultMono =
+                pluginExecutor.execute(mockLambda, datasourceConfiguration, actionConfiguration);
+        StepVerifier.create(resultMono)
+                .assertNext(result -> {
+                    assertTrue(result.getIsExecutionSuccess());
+                    assertEquals("202", result.getStatusCode());
+                    assertNull(result.getBody());
+                })
+                .verifyComplete();
+    }
+
     @Test
     public void testValidateDatasource_missingDatasourceConfiguration() {
         // Test case: Missing datasource configuration
@@ -185,7 +313,7 @@ public class AwsLambdaPluginTest {
     @Test
     public void testTrigger_missingRequestType() {
         // Test case: Missing request type
-        AWSLambda mockLambda = mock(AWSLambda.class);
+        LambdaAsyncClient mockLambda = mock(LambdaAsyncClient.class);
         DatasourceConfiguration datasourceConfiguration = createDatasourceConfiguration();
         TriggerRequestDTO request = new TriggerRequestDTO();
 
@@ -1,5 +1,6 @@
 package com.external.plugins;
 
+import com.appsmith.external.configurations.connectionpool.ConnectionPoolConfig;
 import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginError;
 import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginException;
 import com.appsmith.external.exceptions.pluginExceptions.StaleConnectionException;
@@ -10,19 +11,24 @@ import com.appsmith.external.models.DatasourceConfiguration;
 import com.appsmith.external.models.DatasourceStructure;
 import com.appsmith.external.plugins.BasePlugin;
 import com.appsmith.external.plugins.PluginExecutor;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import com.zaxxer.hikari.pool.HikariPool;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang.ObjectUtils;
 import org.pf4j.Extension;
 import org.pf4j.PluginWrapper;
 import org.springframework.util.StringUtils;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
 import reactor.core.scheduler.Schedulers;
 
 import java.sql.Connection;
-import java.sql.DriverManager;
 import java.sql.ResultSet;
 import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
 import java.sql.Statement;
 import java.util.ArrayList;
 import java.util.Comparator;
@@ -36,16 +42,21 @@ import java.util.TreeMap;
 import java.util.stream.Collectors;
 
 import static com.appsmith.external.exceptions.pluginExceptions.BasePluginErrorMessages.CONNECTION_CLOSED_ERROR_MSG;
-import static com.appsmith.external.exceptions.pluginExceptions.BasePluginErrorMessages.CONNECTION_INVALID_ERROR_MSG;
-import static com.appsmith.external.exceptions.pluginExceptions.BasePluginErrorMessages.CONNECTION_NULL_ERROR_MSG;
+import static com.appsmith.external.exceptions.pluginExceptions.BasePluginErrorMessages.CONNECTION_POOL_CLOSED_ERROR_MSG;
+import static com.appsmith.external.exceptions.pluginExceptions.BasePluginErrorMessages.CONNECTION_POOL_NOT_RUNNING_ERROR_MSG;
+import static com.appsmith.external.exceptions.pluginExceptions.BasePluginErrorMessages.CONNECTION_POOL_NULL_ERROR_MSG;
 import static com.appsmith.external.helpers.PluginUtils.getColumnsListForJdbcPlugin;
+import static com.external.plugins.exceptions.DatabricksErrorMessages.CONNECTION_POOL_CREATION_FAILED_ERROR_MSG;
 import static com.external.plugins.exceptions.DatabricksErrorMessages.QUERY_EXECUTION_FAILED_ERROR_MSG;
 import static com.external.plugins.exceptions.DatabricksPluginError.QUERY_EXECUTION_FAILED;
 
 public class DatabricksPlugin extends BasePlugin {
 
     private static final String JDBC_DRIVER = "com.databricks.client.jdbc.Driver";
-    public static final int VALIDITY_CHECK_TIMEOUT = 5;
+    private static final int MINIMUM_POOL_SIZE = 1;
+    private static final int MAXIMUM_POOL_SIZE = 5;
+    private static final long LEAK_DETECTION_TIME_MS = 60 * 1000;
+    private static final long CONNECTION_TIMEOUT_MILLISECONDS = 60 * 1000;
     private static final int INITIAL_ROWLIST_CAPACITY = 50;
     private static final int CATALOG_INDEX = 2;
     private static final int SCHEMA_INDEX = 3;
@@ -71,11 +82,19 @@ public class DatabricksPlugin extends BasePlugin {
 
     @Slf4j
     @Extension
-    public static class DatabricksPluginExecutor implements PluginExecutor<Connection> {
+    public static class DatabricksPluginExecutor implements PluginExecutor<HikariDataSource> {
+
+        private final Scheduler scheduler = Schedulers.boundedElastic();
+
+        private final ConnectionPoolConfig connectionPoolConfig;
+
+        public DatabricksPluginExecutor(ConnectionPoolConfig connectionPoolConfig) {
+            this.connectionPoolConfig = connectionPoolConfig;
+        }
 
         @Override
         public Mono<ActionExecutionResult> execute(
-                Connection connection,
+                HikariDataSource connectionPool,
                 DatasourceConfiguration datasourceConfiguration,
                 ActionConfiguration actionConfiguration) {
 
@@ -85,36 +104,30 @@ public class DatabricksPlugin extends BasePlugin {
             final List<String> columnsList = new ArrayList<>();
 
             return (Mono<ActionExecutionResult>) Mono.fromCallable(() -> {
+                        Connection connection;
                         try {
-
-                            // Check for connection validity :
-                            if (connection == null) {
-                                return Mono.error(new StaleConnectionException(CONNECTION_NULL_ERROR_MSG));
-                            } else if (connection.isClosed()) {
-                                return Mono.error(new StaleConnectionException(CONNECTION_CLOSED_ERROR_MSG));
-                            } else if (!connection.isValid(VALIDITY_CHECK_TIMEOUT)) {
-                                /**
-                                 * Not adding explicit `!sqlConnectionFromPool.isValid(VALIDITY_CHECK_TIMEOUT)`
-                                 * check here because this check may take few seconds to complete hence adding
-                                 * extra time delay.
-                                 */
-                                return Mono.error(new StaleConnectionException(CONNECTION_INVALID_ERROR_MSG));
+                            connection = getConnectionFromConnectionPool(connectionPool);
+                        } catch (SQLException e) {
+                            if (isStaleConnectionError(connectionPool, e)) {
+                                return Mono.error(new StaleConnectionException(e.getMessage()));
                             }
 
-                        } catch (SQLException error) {
-                            error.printStackTrace();
-                            // This should not happen ideally.
-                            System.out.println(
-                                    "Error checking validity of Databricks connection : " + error.getMessage());
+                            return Mono.error(new AppsmithPluginException(
+                                    QUERY_EXECUTION_FAILED,
+                                    QUERY_EXECUTION_FAILED_ERROR_MSG,
+                                    e.getMessage(),
+                                    "SQLSTATE: " + e.getSQLState()));
                         }
 
+                        printConnectionPoolStatus(connectionPool, false);
+
                         ActionExecutionResult result = new ActionExecutionResult();
                         result.setIsExecutionSuccess(true);
 
-                        try {
+                        // Closing the connection returns it to the pool.
+                        try (connection;
+                                Statement statement = connection.createStatement()) {
 
-                            // We can proceed since the connection is valid.
-                            Statement statement = connection.createStatement();
                             boolean hasResultSet = statement.execute(query);
 
                             if (!hasResultSet) {
@@ -173,11 +186,28 @@ public class DatabricksPlugin extends BasePlugin {
                         return Mono.just(result);
                     })
                     .flatMap(obj -> obj)
-                    .subscribeOn(Schedulers.boundedElastic());
+                    .subscribeOn(scheduler);
+        }
+
+        public void printConnectionPoolStatus(HikariDataSource connectionPool, boolean isFetchingStructure) {
+            HikariPoolMXBean poolProxy = connectionPool.getHikariPoolMXBean();
+            int idleConnections = poolProxy.getIdleConnections();
+            int activeConnections = poolProxy.getActiveConnections();
+            int totalConnections = poolProxy.getTotalConnections();
+            int threadsAwaitingConnection = poolProxy.getThreadsAwaitingConnection();
+            log.debug(Thread.currentThread().getName()
+                    + (isFetchingStructure
+                            ? "Before fetching Databricks db" + " structure."
+                            : "Before executing Databricks query.")
+                    + " Hikari Pool stats : " + " active - "
+                    + activeConnections + ", idle - "
+                    + idleConnections + ", awaiting - "
+                    + threadsAwaitingConnection + ", total - "
+                    + totalConnections);
         }
 
         @Override
-        public Mono<Connection> datasourceCreate(DatasourceConfiguration datasourceConfiguration) {
+        public Mono<HikariDataSource> datasourceCreate(DatasourceConfiguration datasourceConfiguration) {
 
             // Ensure the databricks JDBC driver is loaded.
             try {
@@ -186,119 +216,24 @@ public class DatabricksPlugin extends BasePlugin {
                 throw new RuntimeException(e);
             }
 
-            BearerTokenAuth bearerTokenAuth = (BearerTokenAuth) datasourceConfiguration.getAuthentication();
-
-            Properties p = new Properties();
-            p.put("UID", "token");
-            p.put("PWD", bearerTokenAuth.getBearerToken() == null ? "" : bearerTokenAuth.getBearerToken());
-            String url;
-            if (JDBC_URL_CONFIGURATION.equals(datasourceConfiguration
-                    .getProperties()
-                    .get(CONFIGURATION_TYPE_INDEX)
-                    .getValue())) {
-                url = (String) datasourceConfiguration
-                        .getProperties()
-                        .get(JDBC_URL_INDEX)
-                        .getValue();
-            } else if (FORM_PROPERTIES_CONFIGURATION.equals(datasourceConfiguration
-                    .getProperties()
-                    .get(CONFIGURATION_TYPE_INDEX)
-                    .getValue())) {
-                // Set up the connection URL
-                StringBuilder urlBuilder = new StringBuilder("jdbc:databricks://");
-
-                List<String> hosts = datasourceConfiguration.getEndpoints().stream()
-                        .map(endpoint ->
-                                endpoint.getHost() + ":" + ObjectUtils.defaultIfNull(endpoint.getPort(), DEFAULT_PORT))
-                        .collect(Collectors.toList());
-
-                urlBuilder.append(String.join(",", hosts)).append(";");
-
-                url = urlBuilder.toString();
-
-                p.put(
-                        "httpPath",
-                        datasourceConfiguration
-                                .getProperties()
-                                .get(HTTP_PATH_INDEX)
-                                .getValue());
-                p.put("AuthMech", "3");
-
-                // Always enable SSL for Databricks connections.
-                p.put("SSL", "1");
-
-                // Add user agent tag. Default to Appsmith if not provided.
-                String userAgentTag = (String) datasourceConfiguration
-                        .getProperties()
-                        .get(USER_AGENT_TAG)
-                        .getValue();
-                if (!StringUtils.hasText(userAgentTag)) {
-                    userAgentTag = "Appsmith";
-                }
-
-                p.put("UserAgentEntry", userAgentTag);
-            } else {
-                url = "";
-            }
-
-            return (Mono<Connection>) Mono.fromCallable(() -> {
-                        Connection connection = DriverManager.getConnection(url, p);
-
-                        // Execute statements to default catalog and schema for all queries on this datasource.
-                        if (FORM_PROPERTIES_CONFIGURATION.equals(datasourceConfiguration
-                                .getProperties()
-                                .get(CONFIGURATION_TYPE_INDEX)
-                                .getValue())) {
-                            try (Statement statement = connection.createStatement(); ) {
-                                String catalog = (String) datasourceConfiguration
-                                        .getProperties()
-                                        .get(CATALOG_INDEX)
-                                        .getValue();
-                                if (!StringUtils.hasText(catalog)) {
-                                    catalog = "samples";
-                                }
-                                String useCatalogQuery = "USE CATALOG " + catalog;
-                                statement.execute(useCatalogQuery);
-                            } catch (SQLException e) {
-                                return Mono.error(new AppsmithPluginException(
-                                        AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR,
-                                        "The Appsmith server has failed to change the catalog.",
-                                        e.getMessage()));
-                            }
-
-                            try (Statement statement = connection.createStatement(); ) {
-                                String schema = (String) datasourceConfiguration
-                                        .getProperties()
-                                        .get(SCHEMA_INDEX)
-                                        .getValue();
-                                if (!StringUtils.hasText(schema)) {
-                                    schema = "default";
-                                }
-                                String useSchemaQuery = "USE SCHEMA " + schema;
-                                statement.execute(useSchemaQuery);
-                            } catch (SQLException e) {
-                                return Mono.error(new AppsmithPluginException(
-                                        AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR,
-                                        "The Appsmith server has failed to change the schema",
-                                        e.getMessage()));
-                            }
-                        }
+            return connectionPoolConfig
+                    .getMaxConnectionPoolSize()
+                    .flatMap(maxPoolSize -> Mono.fromCallable(() -> {
+                        log.debug(Thread.currentThread().getName() + ": Connecting to Databricks");
+                        return createConnectionPool(datasourceConfiguration, maxPoolSize);
+                    }))
+                    .subscribeOn(scheduler);
+        }
 
-                        return Mono.just(connection);
-                    })
-                    .flatMap(obj -> obj)
-                    .subscribeOn(Schedulers.boundedElastic());
+        @Override
+        public Mono<Integer> getMaxConcurrentExecutions(DatasourceConfiguration datasourceConfiguration) {
+            return connectionPoolConfig.getMaxConnectionPoolSize().map(DatabricksPlugin::getMaxPoolSize);
         }
 
         @Override
-        public void datasourceDestroy(Connection connection) {
-            try {
-                if (connection != null) {
-                    connection.close();
-                }
-            } catch (SQLException e) {
-                // This should not happen ideally.
-                System.out.println("Error closing Databricks connection : " + e.getMessage());
+        public void datasourceDestroy(HikariDataSource connectionPool) {
+            if (connectionPool != null) {
+                connectionPool.close();
             }
         }
 
@@ -309,13 +244,31 @@ public class DatabricksPlugin extends BasePlugin {
 
         @Override
         public Mono<DatasourceStructure> getStructure(
-                Connection connection, DatasourceConfiguration datasourceConfiguration) {
+                HikariDataSource connectionPool, DatasourceConfiguration datasourceConfiguration) {
             return Mono.fromSupplier(() -> {
                         final DatasourceStructure structure = new DatasourceStructure();
                         final Map<String, DatasourceStructure.Table> tablesByName =
                                 new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
 
-                        try (Statement statement = connection.createStatement();
+                        Connection connection;
+                        try {
+                            connection = getConnectionFromConnectionPool(connectionPool);
+                        } catch (SQLException e) {
+                            if (isStaleConnectionError(connectionPool, e)) {
+                                throw new StaleConnectionException(e.getMessage());
+                            }
+
+                            throw new AppsmithPluginException(
+                                    AppsmithPluginError.PLUGIN_GET_STRUCTURE_ERROR,
+                                    "The Appsmith server has failed to fetch the structure of your schema.",
+                                    e.getMessage(),
+                                    "SQLSTATE: " + e.getSQLState());
+                        }
+
+                        printConnectionPoolStatus(connectionPool, true);
+
+                        try (connection;
+                                Statement statement = connection.createStatement();
                                 ResultSet columnsResultSet = statement.executeQuery(TABLES_QUERY)) {
 
                             while (columnsResultSet.next()) {
@@ -350,15 +303,151 @@ public class DatabricksPlugin extends BasePlugin {
                             log.debug("Got the structure of Databricks DB");
                             return structure;
                         } catch (SQLException e) {
-                            return Mono.error(new AppsmithPluginException(
+                            throw new AppsmithPluginException(
                                     AppsmithPluginError.PLUGIN_GET_STRUCTURE_ERROR,
                                     "The Appsmith server has failed to fetch the structure of your schema.",
                                     e.getMessage(),
-                                    "SQLSTATE: " + e.getSQLState()));
+                                    "SQLSTATE: " + e.getSQLState());
                         }
                     })
-                    .map(resultStructure -> (DatasourceStructure) resultStructure)
-                    .subscribeOn(Schedulers.boundedElastic());
+                    .subscribeOn(scheduler);
         }
     }
+
+    private static HikariDataSource createConnectionPool(
+            DatasourceConfiguration datasourceConfiguration, Integer maximumConfigurablePoolSize)
+            throws AppsmithPluginException {
+        HikariConfig config = getHikariConfig(datasourceConfiguration, maximumConfigurablePoolSize);
+
+        try {
+            return new HikariDataSource(config);
+        } catch (HikariPool.PoolInitializationException e) {
+            throw new AppsmithPluginException(
+                    AppsmithPluginError.PLUGIN_DATASOURCE_ARGUMENT_ERROR,
+                    CONNECTION_POOL_CREATION_FAILED_ERROR_MSG,
+                    e.getMessage());
+        }
+    }
+
+    private static int getMaxPoolSize(Integer maximumConfigurablePoolSize) {
+        if (maximumConfigurablePoolSize != null && maximumConfigurablePoolSize >= MAXIMUM_POOL_SIZE) {
+            return maximumConfigurablePoolSize;
+        }
+        return MAXIMUM_POOL_SIZE;
+    }
+
+    static HikariConfig getHikariConfig(
+            DatasourceConfiguration datasourceConfiguration, Integer maximumConfigurablePoolSize) {
+        HikariConfig config = new HikariConfig();
+
+        config.setDriverClassName(JDBC_DRIVER);
+        config.setMinimumIdle(MINIMUM_POOL_SIZE);
+
+        config.setMaximumPoolSize(getMaxPoolSize(maximumConfigurablePoolSize));
+
+        // Configuring leak detection threshold for 60 seconds. Any connection which hasn't been released in 60 seconds
+        // should get tracked (may be falsely for long running queries) as leaked connection
+        config.setLeakDetectionThreshold(LEAK_DETECTION_TIME_MS);
+        config.setConnectionTimeout(CONNECTION_TIMEOUT_MILLISECONDS);
+
+        BearerTokenAuth bearerTokenAuth = (BearerTokenAuth) datasourceConfiguration.getAuthentication();
+
+        Properties p = new Properties();
+        p.put("UID", "token");
+        p.put("PWD", bearerTokenAuth.getBearerToken() == null ? "" : bearerTokenAuth.getBearerToken());
+        String url;
+        if (JDBC_URL_CONFIGURATION.equals(datasourceConfiguration
+                .getProperties()
+                .get(CONFIGURATION_TYPE_INDEX)
+                .getValue())) {
+            url = (String)
+                    datasourceConfiguration.getProperties().get(JDBC_URL_INDEX).getValue();
+        } else if (FORM_PROPERTIES_CONFIGURATION.equals(datasourceConfiguration
+                .getProperties()
+                .get(CONFIGURATION_TYPE_INDEX)
+                .getValue())) {
+            // Set up the connection URL
+            StringBuilder urlBuilder = new StringBuilder("jdbc:databricks://");
+
+            List<String> hosts = datasourceConfiguration.getEndpoints().stream()
+                    .map(endpoint ->
+                            endpoint.getHost() + ":" + ObjectUtils.defaultIfNull(endpoint.getPort(), DEFAULT_PORT))
+                    .collect(Collectors.toList());
+
+            urlBuilder.append(String.join(",", hosts)).append(";");
+
+            url = urlBuilder.toString();
+
+            p.put(
+                    "httpPath",
+                    datasourceConfiguration.getProperties().get(HTTP_PATH_INDEX).getValue());
+            p.put("AuthMech", "3");
+
+            // Always enable SSL for Databricks connections.
+            p.put("SSL", "1");
+
+            // Add user agent tag. Default to Appsmith if not provided.
+            String userAgentTag = (String)
+                    datasourceConfiguration.getProperties().get(USER_AGENT_TAG).getValue();
+            if (!StringUtils.hasText(userAgentTag)) {
+                userAgentTag = "Appsmith";
+            }
+
+            p.put("UserAgentEntry", userAgentTag);
+
+            // Default catalog and schema for all queries on this datasource. The driver sets them up on every
+            // connection it opens, so every connection in the pool starts out on the same catalog and schema.
+            String catalog = (String)
+                    datasourceConfiguration.getProperties().get(CATALOG_INDEX).getValue();
+            if (!StringUtils.hasText(catalog)) {
+                catalog = "samples";
+            }
+            p.put("ConnCatalog", catalog);
+
+            String schema = (String)
+                    datasourceConfiguration.getProperties().get(SCHEMA_INDEX).getValue();
+            if (!StringUtils.hasText(schema)) {
+                schema = "default";
+            }
+            p.put("ConnSchema", schema);
+        } else {
+            url = "";
+        }
+
+        config.setJdbcUrl(url);
+        config.setDataSourceProperties(p);
+
+        return config;
+    }
+
+    private static void checkHikariCPConnectionPoolValidity(HikariDataSource connectionPool)
+            throws StaleConnectionException {
+        if (connectionPool == null) {
+            throw new StaleConnectionException(CONNECTION_POOL_NULL_ERROR_MSG);
+        } else if (connectionPool.isClosed()) {
+            throw new StaleConnectionException(CONNECTION_POOL_CLOSED_ERROR_MSG);
+        } else if (!connectionPool.isRunning()) {
+            throw new StaleConnectionException(CONNECTION_POOL_NOT_RUNNING_ERROR_MSG);
+        }
+    }
+
+    /**
+     * Only a pool that has been closed, or connections that the driver finds invalid, call for the pool to be created
+     * again. Hikari also fails with a SQLTransientConnectionException when no connection frees up in time, e.g. while
+     * all of them are busy with long queries, and a new pool wouldn't help with that.
+     */
+    private static boolean isStaleConnectionError(HikariDataSource connectionPool, SQLException e) {
+        if (e instanceof SQLTransientConnectionException) {
+            return false;
+        }
+
+        // SQL states of class 08 are connection exceptions
+        return connectionPool.isClosed()
+                || (e.getSQLState() != null && e.getSQLState().startsWith("08"));
+    }
+
+    private static Connection getConnectionFromConnectionPool(HikariDataSource connectionPool) throws SQLException {
+        checkHikariCPConnectionPoolValidity(connectionPool);
+        return connectionPool.getConnection();
+    }
 }
@@ -7,4 +7,7 @@ import lombok.NoArgsConstructor;
 public class DatabricksErrorMessages {
 
     public static final String QUERY_EXECUTION_FAILED_ERROR_MSG = "Your query failed to execute. ";
+
+    public static final String CONNECTION_POOL_CREATION_FAILED_ERROR_MSG =
+            "Exception occurred while creating connection pool. One or more arguments in the datasource configuration may be invalid. Please check your datasource configuration.";
 }
@@ -1,9 +1,17 @@
 package com.external.plugins;
 
+import com.appsmith.external.configurations.connectionpool.ConnectionPoolConfig;
+import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginException;
 import com.appsmith.external.exceptions.pluginExceptions.StaleConnectionException;
 import com.appsmith.external.models.ActionConfiguration;
 import com.appsmith.external.models.ActionExecutionResult;
+import com.appsmith.external.models.BearerTokenAuth;
 import com.appsmith.external.models.DatasourceConfiguration;
+import com.appsmith.external.models.Endpoint;
+import com.appsmith.external.models.Property;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
@@ -12,57 +20,156 @@ import reactor.test.StepVerifier;
 
 import java.sql.Connection;
 import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.sql.Statement;
+import java.util.List;
 
-import static com.appsmith.external.exceptions.pluginExceptions.BasePluginErrorMessages.CONNECTION_CLOSED_ERROR_MSG;
-import static com.appsmith.external.exceptions.pluginExceptions.BasePluginErrorMessages.CONNECTION_INVALID_ERROR_MSG;
-import static com.appsmith.external.exceptions.pluginExceptions.BasePluginErrorMessages.CONNECTION_NULL_ERROR_MSG;
-import static com.external.plugins.DatabricksPlugin.VALIDITY_CHECK_TIMEOUT;
+import static com.appsmith.external.exceptions.pluginExceptions.BasePluginErrorMessages.CONNECTION_POOL_CLOSED_ERROR_MSG;
+import static com.appsmith.external.exceptions.pluginExceptions.BasePluginErrorMessages.CONNECTION_POOL_NOT_RUNNING_ERROR_MSG;
+import static com.appsmith.external.exceptions.pluginExceptions.BasePluginErrorMessages.CONNECTION_POOL_NULL_ERROR_MSG;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class DatabricksPluginTest {
 
+    public class MockConnectionPoolConfig implements ConnectionPoolConfig {
+        @Override
+        public Mono<Integer> getMaxConnectionPoolSize() {
+            return Mono.just(10);
+        }
+    }
+
     public DatabricksPlugin.DatabricksPluginExecutor databricksPluginExecutor;
 
     @BeforeEach
     public void setUp() {
-        databricksPluginExecutor = new DatabricksPlugin.DatabricksPluginExecutor();
+        databricksPluginExecutor = new DatabricksPlugin.DatabricksPluginExecutor(new MockConnectionPoolConfig());
+    }
+
+    private static HikariDataSource mockRunningConnectionPool() {
+        HikariDataSource mockConnectionPool = Mockito.mock(HikariDataSource.class);
+        Mockito.when(mockConnectionPool.isClosed()).thenReturn(false);
+        Mockito.when(mockConnectionPool.isRunning()).thenReturn(true);
+        Mockito.when(mockConnectionPool.getHikariPoolMXBean()).thenReturn(Mockito.mock(HikariPoolMXBean.class));
+        return mockConnectionPool;
     }
 
     @Test
-    public void testExecuteNullConnection() {
+    public void testExecuteNullConnectionPool() {
         Mono<ActionExecutionResult> executionResultMono =
                 databricksPluginExecutor.execute(null, new DatasourceConfiguration(), new ActionConfiguration());
 
         StepVerifier.create(executionResultMono)
                 .expectErrorMatches(throwable -> throwable instanceof StaleConnectionException
-                        && throwable.getMessage().equals(CONNECTION_NULL_ERROR_MSG))
+                        && throwable.getMessage().equals(CONNECTION_POOL_NULL_ERROR_MSG))
                 .verify();
     }
 
     @Test
-    public void testExecuteClosedConnection() throws SQLException {
-        Connection mockConnection = Mockito.mock(Connection.class);
-        Mockito.when(mockConnection.isClosed()).thenReturn(true);
+    public void testExecuteClosedConnectionPool() {
+        HikariDataSource mockConnectionPool = Mockito.mock(HikariDataSource.class);
+        Mockito.when(mockConnectionPool.isClosed()).thenReturn(true);
 
         Mono<ActionExecutionResult> executionResultMono = databricksPluginExecutor.execute(
-                mockConnection, new DatasourceConfiguration(), new ActionConfiguration());
+                mockConnectionPool, new DatasourceConfiguration(), new ActionConfiguration());
 
         StepVerifier.create(executionResultMono)
                 .expectErrorMatches(throwable -> throwable instanceof StaleConnectionException
-                        && throwable.getMessage().equals(CONNECTION_CLOSED_ERROR_MSG))
+                        && throwable.getMessage().equals(CONNECTION_POOL_CLOSED_ERROR_MSG))
                 .verify();
     }
 
     @Test
-    public void testExecuteInvalidConnection() throws SQLException {
-        Connection mockConnection = Mockito.mock(Connection.class);
-        Mockito.when(mockConnection.isValid(VALIDITY_CHECK_TIMEOUT)).thenReturn(false);
+    public void testExecuteConnectionPoolNotRunning() {
+        HikariDataSource mockConnectionPool = Mockito.mock(HikariDataSource.class);
+        Mockito.when(mockConnectionPool.isClosed()).thenReturn(false);
+        Mockito.when(mockConnectionPool.isRunning()).thenReturn(false);
 
         Mono<ActionExecutionResult> executionResultMono = databricksPluginExecutor.execute(
-                mockConnection, new DatasourceConfiguration(), new ActionConfiguration());
+                mockConnectionPool, new DatasourceConfiguration(), new ActionConfiguration());
 
         StepVerifier.create(executionResultMono)
                 .expectErrorMatches(throwable -> throwable instanceof StaleConnectionException
-                        && throwable.getMessage().equals(CONNECTION_INVALID_ERROR_MSG))
+                        && throwable.getMessage().equals(CONNECTION_POOL_NOT_RUNNING_ERROR_MSG))
+                .verify();
+    }
+
+    @Test
+    public void testExecuteReturnsConnectionToPool() throws SQLException {
+        HikariDataSource mockConnectionPool = mockRunningConnectionPool();
+        Connection mockConnection = Mockito.mock(Connection.class);
+        Statement mockStatement = Mockito.mock(Statement.class);
+        Mockito.when(mockConnectionPool.getConnection()).thenReturn(mockConnection);
+        Mockito.when(mockConnection.createStatement()).thenReturn(mockStatement);
+        Mockito.when(mockStatement.execute("DELETE FROM users")).thenReturn(false);
+
+        ActionConfiguration actionConfiguration = new ActionConfiguration();
+        actionConfiguration.setBody("DELETE FROM users");
+
+        Mono<ActionExecutionResult> executionResultMono = databricksPluginExecutor.execute(
+                mockConnectionPool, new DatasourceConfiguration(), actionConfiguration);
+
+        StepVerifier.create(executionResultMono)
+                .assertNext(result -> assertTrue(result.getIsExecutionSuccess()))
+                .verifyComplete();
+        Mockito.verify(mockStatement).close();
+        Mockito.verify(mockConnection).close();
+    }
+
+    @Test
+    public void testExecuteFailsWithStaleConnectionWhenConnectionIsInvalid() throws SQLException {
+        HikariDataSource mockConnectionPool = mockRunningConnectionPool();
+        Mockito.when(mockConnectionPool.getConnection())
+                .thenThrow(new SQLException("Communication link failure", "08S01"));
+
+        ActionConfiguration actionConfiguration = new ActionConfiguration();
+        actionConfiguration.setBody("SELECT 1");
+
+        Mono<ActionExecutionResult> executionResultMono = databricksPluginExecutor.execute(
+                mockConnectionPool, new DatasourceConfiguration(), actionConfiguration);
+
+        StepVerifier.create(executionResultMono)
+                .expectErrorMatches(throwable -> throwable instanceof StaleConnectionException)
                 .verify();
     }
+
+    @Test
+    public void testExecuteFailsWithQueryErrorWhenPoolTimesOut() throws SQLException {
+        HikariDataSource mockConnectionPool = mockRunningConnectionPool();
+        Mockito.when(mockConnectionPool.getConnection())
+                .thenThrow(new SQLTransientConnectionException(
+                        "HikariPool-1 - Connection is not available, request timed out after 60000ms."));
+
+        ActionConfiguration actionConfiguration = new ActionConfiguration();
+        actionConfiguration.setBody("SELECT 1");
+
+        Mono<ActionExecutionResult> executionResultMono = databricksPluginExecutor.execute(
+                mockConnectionPool, new DatasourceConfiguration(), actionConfiguration);
+
+        StepVerifier.create(executionResultMono)
+                .expectErrorMatches(throwable -> throwable instanceof AppsmithPluginException)
+                .verify();
+    }
+
+    @Test
+    public void testHikariConfigSetsCatalogSchemaAndPoolSize() {
+        DatasourceConfiguration datasourceConfiguration = new DatasourceConfiguration();
+        datasourceConfiguration.setAuthentication(new BearerTokenAuth("token"));
+        datasourceConfiguration.setEndpoints(List.of(new Endpoint("dbc-host.cloud.databricks.com", null)));
+        datasourceConfiguration.setProperties(List.of(
+                new Property("Connection method", "FORM_PROPERTIES_CONFIGURATION"),
+                new Property("HTTP path", "/sql/1.0/warehouses/1234"),
+                new Property("Default catalog", "main"),
+                new Property("Default schema", ""),
+                new Property("User agent tag", ""),
+                new Property("JDBC URL", "")));
+
+        HikariConfig config = DatabricksPlugin.getHikariConfig(datasourceConfiguration, 10);
+
+        assertEquals("jdbc:databricks://dbc-host.cloud.databricks.com:443;", config.getJdbcUrl());
+        assertEquals(10, config.getMaximumPoolSize());
+        assertEquals("main", config.getDataSourceProperties().get("ConnCatalog"));
+        assertEquals("default", config.getDataSourceProperties().get("ConnSchema"));
+        assertEquals("token", config.getDataSourceProperties().get("PWD"));
+    }
 }
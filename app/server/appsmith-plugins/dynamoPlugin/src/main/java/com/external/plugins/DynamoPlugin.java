@@ -15,6 +15,8 @@ import com.appsmith.external.plugins.BasePlugin;
 import com.appsmith.external.plugins.PluginExecutor;
 import com.external.plugins.exceptions.DynamoErrorMessages;
 import com.external.plugins.exceptions.DynamoPluginError;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
 import lombok.NonNull;
 import lombok.extern.slf4j.Slf4j;
 import org.pf4j.Extension;
@@ -32,8 +34,12 @@ import software.amazon.awssdk.core.SdkPojo;
 import software.amazon.awssdk.regions.Region;
 import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
 import software.amazon.awssdk.services.dynamodb.DynamoDbClientBuilder;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.DynamoDbRequest;
 import software.amazon.awssdk.services.dynamodb.model.DynamoDbResponse;
 import software.amazon.awssdk.services.dynamodb.model.ListTablesResponse;
+import software.amazon.awssdk.services.dynamodb.model.QueryRequest;
+import software.amazon.awssdk.services.dynamodb.model.ScanRequest;
 
 import java.io.IOException;
 import java.lang.reflect.InvocationTargetException;
@@ -51,6 +57,8 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
@@ -71,6 +79,48 @@ public class DynamoPlugin extends BasePlugin {
     private static final String DYNAMO_TYPE_MAP_LABEL = "M";
     private static final String DYNAMO_TYPE_LIST_LABEL = "L";
 
+    // Auto-pagination of Scan and Query stops requesting further pages once any of these limits has been reached. The
+    // scanned count limit bounds the read capacity spent on a Scan or Query with a filter that matches few items.
+    private static final int MAX_AUTO_PAGINATED_ITEMS = 10000;
+    private static final int MAX_AUTO_PAGINATED_PAGES = 100;
+    private static final int MAX_AUTO_PAGINATED_SCANNED_COUNT = 100000;
+
+    /*
+     * - Every DynamoDB action maps to a method on `DynamoDbClient` that takes the `<Action>Request` model class. The
+     *   mapping is computed once here, instead of looking up the classes and methods on every execution.
+     */
+    private static final Map<String, DynamoAction> DYNAMO_ACTIONS = buildDynamoActions();
+
+    // Reflection metadata of SDK model classes, computed the first time a class is converted.
+    private static final Map<Class<?>, SdkModelMetadata> SDK_MODEL_METADATA = new ConcurrentHashMap<>();
+
+    @Getter
+    @AllArgsConstructor
+    private static class DynamoAction {
+        private final Class<?> requestClass;
+
+        private final Method executeMethod;
+    }
+
+    @Getter
+    @AllArgsConstructor
+    private static class SdkModelMetadata {
+        // Static `builder()` factory of the model class.
+        private final Method builderMethod;
+
+        private final Method buildMethod;
+
+        // Public methods on the builder type, grouped by name.
+        private final Map<String, List<Method>> setters;
+
+        Method findSetter(String name, Predicate<Method> predicate) {
+            return setters.getOrDefault(name, List.of()).stream()
+                    .filter(predicate)
+                    .findFirst()
+                    .orElse(null);
+        }
+    }
+
     public DynamoPlugin(PluginWrapper wrapper) {
         super(wrapper);
     }
@@ -215,26 +265,38 @@ public class DynamoPlugin extends BasePlugin {
                         }
                         requestData.put("parameters", parameters);
 
-                        final Class<?> requestClass;
-                        try {
-                            requestClass = Class.forName(
-                                    "software.amazon.awssdk.services.dynamodb.model." + action + "Request");
-                        } catch (ClassNotFoundException e) {
+                        final DynamoAction dynamoAction = DYNAMO_ACTIONS.get(action);
+                        if (dynamoAction == null) {
                             throw new AppsmithPluginException(
                                     DynamoPluginError.UNKNOWN_ACTION_NAME,
-                                    String.format(DynamoErrorMessages.UNKNOWN_ACTION_NAME_ERROR_MSG, action),
-                                    e.getMessage());
+                                    String.format(DynamoErrorMessages.UNKNOWN_ACTION_NAME_ERROR_MSG, action));
                         }
 
                         try {
-                            final Method actionExecuteMethod = DynamoDbClient.class.getMethod(
-                                    // Convert `ListTables` to `listTables`, which is the name of the method to execute
-                                    // this action.
-                                    toLowerCamelCase(action), requestClass);
-                            final Object sdkValue = plainToSdk(parameters, requestClass);
-                            final DynamoDbResponse response =
-                                    (DynamoDbResponse) actionExecuteMethod.invoke(ddb, sdkValue);
-                            Object rawResponse = sdkToPlain(response);
+                            final Object sdkValue = plainToSdk(parameters, dynamoAction.getRequestClass());
+                            final Object rawResponse;
+                            if (sdkValue instanceof ScanRequest scanRequest && scanRequest.limit() == null) {
+                                rawResponse = fetchAllPages(
+                                        startKey -> ddb.scan(
+                                                startKey == null
+                                                        ? scanRequest
+                                                        : scanRequest.toBuilder()
+                                                                .exclusiveStartKey(startKey)
+                                                                .build()),
+                                        result);
+                            } else if (sdkValue instanceof QueryRequest queryRequest && queryRequest.limit() == null) {
+                                rawResponse = fetchAllPages(
+                                        startKey -> ddb.query(
+                                                startKey == null
+                                                        ? queryRequest
+                                                        : queryRequest.toBuilder()
+                                                                .exclusiveStartKey(startKey)
+                                                                .build()),
+                                        result);
+                            } else {
+                                rawResponse = sdkToPlain(
+                                        dynamoAction.getExecuteMethod().invoke(ddb, sdkValue));
+                            }
                             Object transformedResponse =
                                     getTransformedResponse((Map<String, Object>) rawResponse, action);
                             result.setBody(transformedResponse);
@@ -372,6 +434,64 @@ public class DynamoPlugin extends BasePlugin {
                     })
                     .subscribeOn(scheduler);
         }
+
+        /**
+         * Scan and Query return at most 1MB of data per call. When the user hasn't asked for a specific page size via
+         * `Limit`, keep following `LastEvaluatedKey` and merge the pages into a single response, until the number of
+         * pages, items or scanned items reaches its limit. The `LastEvaluatedKey` of the last page read is retained, so
+         * a truncated result can still be continued.
+         *
+         * @param fetchPage Fetches the page that starts at the given key, or the first page if the key is null.
+         * @return The plain form of the last page, with the items and counts of all the pages read.
+         */
+        private static Map<String, Object> fetchAllPages(
+                Function<Map<String, AttributeValue>, DynamoDbResponse> fetchPage, ActionExecutionResult result) {
+            final List<Object> items = new ArrayList<>();
+            int count = 0;
+            int scannedCount = 0;
+            int pageCount = 0;
+            Map<String, AttributeValue> lastEvaluatedKey = null;
+            Map<String, Object> page;
+
+            do {
+                final DynamoDbResponse response = fetchPage.apply(lastEvaluatedKey);
+                page = (Map<String, Object>) sdkToPlain(response);
+                items.addAll((List<?>) page.getOrDefault("Items", Collections.emptyList()));
+                count += countOf(page.get("Count"));
+                scannedCount += countOf(page.get("ScannedCount"));
+                pageCount++;
+                lastEvaluatedKey =
+                        response.getValueForField("LastEvaluatedKey", Map.class).orElse(null);
+            } while (hasMorePages(lastEvaluatedKey)
+                    && pageCount < MAX_AUTO_PAGINATED_PAGES
+                    && items.size() < MAX_AUTO_PAGINATED_ITEMS
+                    && scannedCount < MAX_AUTO_PAGINATED_SCANNED_COUNT);
+
+            if (hasMorePages(lastEvaluatedKey)) {
+                addTruncationMessage(result, pageCount, items.size(), scannedCount);
+            }
+
+            page.put("Items", items);
+            page.put("Count", count);
+            page.put("ScannedCount", scannedCount);
+            return page;
+        }
+
+        private static boolean hasMorePages(Map<String, AttributeValue> lastEvaluatedKey) {
+            return lastEvaluatedKey != null && !lastEvaluatedKey.isEmpty();
+        }
+
+        private static int countOf(Object count) {
+            return count instanceof Integer ? (Integer) count : 0;
+        }
+
+        private static void addTruncationMessage(
+                ActionExecutionResult result, int pageCount, int itemCount, int scannedCount) {
+            Set<String> messages = result.getMessages() == null ? new HashSet<>() : result.getMessages();
+            messages.add(String.format(
+                    DynamoErrorMessages.AUTO_PAGINATION_TRUNCATED_MSG, pageCount, itemCount, scannedCount));
+            result.setMessages(messages);
+        }
     }
 
     private static String toLowerCamelCase(String action) {
@@ -380,7 +500,8 @@ public class DynamoPlugin extends BasePlugin {
 
     /**
      * Given a map that conforms to what a valid DynamoDB request should look like, this function will convert into
-     * a DynamoDBRequest object from AWS SDK. This is done using Java's reflection API.
+     * a DynamoDBRequest object from AWS SDK. This is done using Java's reflection API. The builder and setter methods
+     * of each model class are looked up once and cached in {@link #SDK_MODEL_METADATA}.
      *
      * @param mapping Mapping object representing the request details.
      * @param type    Request type that should be created. Eg., ListTablesRequest.class, PutItemRequest.class etc.
@@ -395,9 +516,9 @@ public class DynamoPlugin extends BasePlugin {
             throws IllegalAccessException, InvocationTargetException, NoSuchMethodException, AppsmithPluginException,
                     ClassNotFoundException {
 
-        final Class<?> builderType = Class.forName(type.getName() + "$Builder");
+        final SdkModelMetadata metadata = getSdkModelMetadata(type);
 
-        final Object builder = type.getMethod("builder").invoke(null);
+        final Object builder = metadata.getBuilderMethod().invoke(null);
 
         if (mapping != null) {
             for (final Map.Entry<String, Object> entry : mapping.entrySet()) {
@@ -408,9 +529,9 @@ public class DynamoPlugin extends BasePlugin {
                     // AWS SDK has two data types that are represented as Strings in JSON, namely strings and binary.
                     // We look at the parameter types for the setter method to decide which it should be, and then set
                     // convert the value if needed before calling the setter.
-                    final Method setterMethod = findMethod(builderType, method -> {
+                    final Method setterMethod = metadata.findSetter(setterName, method -> {
                         final Class<?>[] parameterTypes = method.getParameterTypes();
-                        return method.getName().equals(setterName)
+                        return parameterTypes.length == 1
                                 && (SdkBytes.class.isAssignableFrom(parameterTypes[0])
                                         || String.class.isAssignableFrom(parameterTypes[0]));
                     });
@@ -430,13 +551,18 @@ public class DynamoPlugin extends BasePlugin {
                         || value instanceof Double) {
                     // This will *never* be successful. DynamoDB takes in numeric values as strings, which means the
                     // control should never flow here for numeric types.
-                    builderType.getMethod(setterName, value.getClass()).invoke(builder, value);
+                    final Class<?> valueClass = value.getClass();
+                    final Method setterMethod = metadata.findSetter(
+                            setterName, m -> m.getParameterCount() == 1 && m.getParameterTypes()[0].equals(valueClass));
+                    if (setterMethod == null) {
+                        throw new NoSuchMethodException(setterName + "(" + valueClass.getName() + ")");
+                    }
+                    setterMethod.invoke(builder, value);
 
                 } else if (value instanceof Map) {
                     // For maps, we go recursive, applying this transformation to each value, and replacing with the
                     // result in the map. Generic types in the setter method's signature are used to convert the values.
-                    final Method setterMethod =
-                            findMethod(builderType, m -> m.getName().equals(setterName));
+                    final Method setterMethod = metadata.findSetter(setterName, m -> m.getParameterCount() == 1);
                     final Type parameterType = setterMethod.getGenericParameterTypes()[0];
                     if (parameterType instanceof ParameterizedType) {
                         final ParameterizedType valueType = (ParameterizedType) parameterType;
@@ -465,9 +591,9 @@ public class DynamoPlugin extends BasePlugin {
                     // For linear collections, the process is similar to that of maps.
                     final Collection<Object> valueAsCollection = (Collection) value;
                     // Find method by name and exclude the varargs version of the method.
-                    final Method setterMethod = findMethod(
-                            builderType,
-                            m -> m.getName().equals(setterName)
+                    final Method setterMethod = metadata.findSetter(
+                            setterName,
+                            m -> m.getParameterCount() == 1
                                     && !m.getParameterTypes()[0].getName().startsWith("[L"));
                     Type valueType = ((ParameterizedType) setterMethod.getGenericParameterTypes()[0])
                             .getActualTypeArguments()[0];
@@ -499,7 +625,7 @@ public class DynamoPlugin extends BasePlugin {
             }
         }
 
-        return (T) builderType.getMethod("build").invoke(builder);
+        return (T) metadata.getBuildMethod().invoke(builder);
     }
 
     public static Object plainToSdk(Map<String, Object> mapping, Type type)
@@ -531,11 +657,41 @@ public class DynamoPlugin extends BasePlugin {
                         DynamoErrorMessages.UNKNOWN_TYPE_FOUND_TO_CONVERT_TO_SDK_STYLE_ERROR_MSG, type.getTypeName()));
     }
 
-    private static Method findMethod(Class<?> builderType, Predicate<Method> predicate) {
-        return Arrays.stream(builderType.getMethods())
-                .filter(predicate)
-                .findFirst()
-                .orElse(null);
+    private static Map<String, DynamoAction> buildDynamoActions() {
+        final Map<String, DynamoAction> actions = new HashMap<>();
+        for (final Method method : DynamoDbClient.class.getMethods()) {
+            if (method.getParameterCount() != 1
+                    || !DynamoDbRequest.class.isAssignableFrom(method.getParameterTypes()[0])
+                    || !DynamoDbResponse.class.isAssignableFrom(method.getReturnType())) {
+                continue;
+            }
+
+            final Class<?> requestClass = method.getParameterTypes()[0];
+            final String requestClassName = requestClass.getSimpleName();
+            // `ListTablesRequest` is executed by `listTables`, which is the action `ListTables`.
+            final String action = requestClassName.substring(0, requestClassName.length() - "Request".length());
+            if (method.getName().equals(toLowerCamelCase(action))) {
+                actions.put(action, new DynamoAction(requestClass, method));
+            }
+        }
+
+        return Map.copyOf(actions);
+    }
+
+    private static SdkModelMetadata getSdkModelMetadata(Class<?> type) throws NoSuchMethodException {
+        final SdkModelMetadata cached = SDK_MODEL_METADATA.get(type);
+        if (cached != null) {
+            return cached;
+        }
+
+        final Method builderMethod = type.getMethod("builder");
+        final Class<?> builderType = builderMethod.getReturnType();
+        final Map<String, List<Method>> setters = Arrays.stream(builderType.getMethods())
+                .collect(Collectors.groupingBy(Method::getName, Collectors.toUnmodifiableList()));
+
+        final SdkModelMetadata metadata = new SdkModelMetadata(builderMethod, builderType.getMethod("build"), setters);
+        SDK_MODEL_METADATA.putIfAbsent(type, metadata);
+        return metadata;
     }
 
     /**
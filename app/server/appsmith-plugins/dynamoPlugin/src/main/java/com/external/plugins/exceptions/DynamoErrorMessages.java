@@ -23,4 +23,8 @@ public class DynamoErrorMessages extends BasePluginErrorMessages {
 
     public static final String UNKNOWN_TYPE_FOUND_TO_CONVERT_TO_SDK_STYLE_ERROR_MSG =
             "Unknown type to convert to SDK style %s";
+
+    public static final String AUTO_PAGINATION_TRUNCATED_MSG =
+            "The result has been truncated after reading %d pages, with %d items out of %d scanned items. "
+                    + "Use `Limit` and `ExclusiveStartKey` to page through the rest of the result.";
 }
@@ -12,6 +12,7 @@ import com.external.plugins.exceptions.DynamoPluginError;
 import lombok.extern.slf4j.Slf4j;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.testcontainers.containers.GenericContainer;
 import org.testcontainers.junit.jupiter.Container;
 import org.testcontainers.junit.jupiter.Testcontainers;
@@ -30,6 +31,8 @@ import software.amazon.awssdk.services.dynamodb.model.KeyType;
 import software.amazon.awssdk.services.dynamodb.model.ProvisionedThroughput;
 import software.amazon.awssdk.services.dynamodb.model.PutItemRequest;
 import software.amazon.awssdk.services.dynamodb.model.ScalarAttributeType;
+import software.amazon.awssdk.services.dynamodb.model.ScanRequest;
+import software.amazon.awssdk.services.dynamodb.model.ScanResponse;
 
 import java.net.URI;
 import java.util.ArrayList;
@@ -45,8 +48,15 @@ import static com.appsmith.external.constants.ActionConstants.ACTION_CONFIGURATI
 import static com.appsmith.external.constants.ActionConstants.ACTION_CONFIGURATION_PATH;
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 @Slf4j
 @Testcontainers
@@ -340,6 +350,112 @@ public class DynamoPluginTest {
                 .verifyComplete();
     }
 
+    @Test
+    public void testScanWithLimit_returnsSinglePageWithLastEvaluatedKey() {
+        final String body = "{\n" + "  \"TableName\": \"cities\",\n" + "  \"Limit\": 1\n" + "}\n";
+
+        StepVerifier.create(execute("Scan", body))
+                .assertNext(result -> {
+                    assertNotNull(result);
+                    assertTrue(result.getIsExecutionSuccess());
+                    assertNotNull(result.getBody());
+
+                    Map<String, Object> resultBody = (Map<String, Object>) result.getBody();
+                    List<Map<String, Object>> items = (List<Map<String, Object>>) resultBody.get("Items");
+                    assertEquals(1, items.size());
+
+                    // With an explicit `Limit`, pages are not followed and the key to continue from is returned.
+                    Map<String, Object> lastEvaluatedKey = (Map<String, Object>) resultBody.get("LastEvaluatedKey");
+                    assertNotNull(lastEvaluatedKey);
+                    assertEquals(items.get(0).get("Id"), lastEvaluatedKey.get("Id"));
+                })
+                .verifyComplete();
+    }
+
+    private static Map<String, AttributeValue> cityKey(String id) {
+        return Map.of("Id", AttributeValue.builder().s(id).build());
+    }
+
+    private static ScanResponse scanPage(String id, int scannedCount, Map<String, AttributeValue> lastEvaluatedKey) {
+        return ScanResponse.builder()
+                .items(List.of(cityKey(id)))
+                .count(1)
+                .scannedCount(scannedCount)
+                .lastEvaluatedKey(lastEvaluatedKey)
+                .build();
+    }
+
+    @Test
+    public void testScanWithoutLimit_followsLastEvaluatedKeyAndMergesPages() {
+        DynamoDbClient ddb = mock(DynamoDbClient.class);
+        when(ddb.scan(any(ScanRequest.class)))
+                .thenReturn(scanPage("1", 1, cityKey("1")))
+                .thenReturn(scanPage("2", 1, cityKey("2")))
+                .thenReturn(scanPage("3", 1, null));
+
+        ActionConfiguration actionConfiguration = new ActionConfiguration();
+        actionConfiguration.setPath("Scan");
+        actionConfiguration.setBody("{\"TableName\": \"cities\"}");
+
+        StepVerifier.create(pluginExecutor.execute(ddb, dsConfig, actionConfiguration))
+                .assertNext(result -> {
+                    assertTrue(result.getIsExecutionSuccess());
+                    assertNull(result.getMessages());
+
+                    Map<String, Object> resultBody = (Map<String, Object>) result.getBody();
+                    assertEquals(3, ((List<?>) resultBody.get("Items")).size());
+                    assertEquals(3, resultBody.get("Count"));
+                    assertEquals(3, resultBody.get("ScannedCount"));
+                    assertTrue(((Map<?, ?>) resultBody.get("LastEvaluatedKey")).isEmpty());
+                })
+                .verifyComplete();
+
+        ArgumentCaptor<ScanRequest> requests = ArgumentCaptor.forClass(ScanRequest.class);
+        verify(ddb, times(3)).scan(requests.capture());
+        assertFalse(requests.getAllValues().get(0).hasExclusiveStartKey());
+        assertEquals(cityKey("1"), requests.getAllValues().get(1).exclusiveStartKey());
+        assertEquals(cityKey("2"), requests.getAllValues().get(2).exclusiveStartKey());
+    }
+
+    @Test
+    public void testScanWithoutLimit_stopsAtScannedCountLimitAndReportsTruncation() {
+        DynamoDbClient ddb = mock(DynamoDbClient.class);
+        // Every page has more to come, but the filter only matches one of the 60000 scanned items
+        when(ddb.scan(any(ScanRequest.class))).thenAnswer(invocation -> {
+            ScanRequest request = invocation.getArgument(0);
+            String nextId = String.valueOf(
+                    request.hasExclusiveStartKey()
+                            ? Integer.parseInt(request.exclusiveStartKey()
+                                            .get("Id")
+                                            .s())
+                                    + 1
+                            : 1);
+            return scanPage(nextId, 60000, cityKey(nextId));
+        });
+
+        ActionConfiguration actionConfiguration = new ActionConfiguration();
+        actionConfiguration.setPath("Scan");
+        actionConfiguration.setBody("{\"TableName\": \"cities\"}");
+
+        StepVerifier.create(pluginExecutor.execute(ddb, dsConfig, actionConfiguration))
+                .assertNext(result -> {
+                    assertTrue(result.getIsExecutionSuccess());
+                    assertNotNull(result.getMessages());
+                    assertEquals(1, result.getMessages().size());
+                    assertTrue(result.getMessages().iterator().next().contains("truncated"));
+
+                    Map<String, Object> resultBody = (Map<String, Object>) result.getBody();
+                    assertEquals(2, ((List<?>) resultBody.get("Items")).size());
+                    assertEquals(120000, resultBody.get("ScannedCount"));
+                    // The key of the last page read is kept, so the rest of the result can still be fetched
+                    Map<String, Object> lastEvaluatedKey = (Map<String, Object>) resultBody.get("LastEvaluatedKey");
+                    assertEquals("2", lastEvaluatedKey.get("Id"));
+                })
+                .verifyComplete();
+
+        verify(ddb, times(2)).scan(any(ScanRequest.class));
+    }
+
     @Test
     public void testBatchGetItem() {
         final String body = "{\n" + "    \"RequestItems\": {\n"
@@ -1,5 +1,6 @@
 package com.external.plugins;
 
+import com.appsmith.external.dtos.ExecuteActionDTO;
 import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginError;
 import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginException;
 import com.appsmith.external.models.ActionConfiguration;
@@ -9,11 +10,15 @@ import com.appsmith.external.models.DBAuth;
 import com.appsmith.external.models.DatasourceConfiguration;
 import com.appsmith.external.models.DatasourceTestResult;
 import com.appsmith.external.models.Endpoint;
+import com.appsmith.external.models.PaginationField;
 import com.appsmith.external.models.RequestParamDTO;
 import com.appsmith.external.plugins.BasePlugin;
 import com.appsmith.external.plugins.PluginExecutor;
 import com.external.plugins.exceptions.ElasticSearchErrorMessages;
 import com.external.plugins.exceptions.ElasticSearchPluginError;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang.ObjectUtils;
 import org.apache.commons.lang3.StringUtils;
@@ -27,19 +32,23 @@ import org.apache.http.entity.ContentType;
 import org.apache.http.impl.client.BasicCredentialsProvider;
 import org.apache.http.message.BasicHeader;
 import org.apache.http.nio.entity.NStringEntity;
+import org.elasticsearch.client.Cancellable;
 import org.elasticsearch.client.Request;
 import org.elasticsearch.client.Response;
+import org.elasticsearch.client.ResponseListener;
 import org.elasticsearch.client.RestClient;
 import org.elasticsearch.client.RestClientBuilder;
 import org.pf4j.Extension;
 import org.pf4j.PluginWrapper;
 import org.springframework.http.HttpMethod;
 import org.springframework.util.CollectionUtils;
+import reactor.core.Exceptions;
 import reactor.core.publisher.Mono;
 import reactor.core.scheduler.Scheduler;
 import reactor.core.scheduler.Schedulers;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.net.MalformedURLException;
 import java.net.URL;
 import java.util.ArrayList;
@@ -74,11 +83,28 @@ public class ElasticSearchPlugin extends BasePlugin {
         private static final Pattern patternForNotFound =
                 Pattern.compile(".*not.?found|refused|not.?known|timed?\\s?out.*", Pattern.CASE_INSENSITIVE);
 
+        @Override
+        public Mono<ActionExecutionResult> executeParameterized(
+                RestClient client,
+                ExecuteActionDTO executeActionDTO,
+                DatasourceConfiguration datasourceConfiguration,
+                ActionConfiguration actionConfiguration) {
+            prepareConfigurationsForExecution(executeActionDTO, actionConfiguration, datasourceConfiguration);
+            final PaginationField paginationField =
+                    executeActionDTO == null ? null : executeActionDTO.getPaginationField();
+            return executeCommon(client, actionConfiguration, paginationField);
+        }
+
         @Override
         public Mono<ActionExecutionResult> execute(
                 RestClient client,
                 DatasourceConfiguration datasourceConfiguration,
                 ActionConfiguration actionConfiguration) {
+            return executeCommon(client, actionConfiguration, null);
+        }
+
+        private Mono<ActionExecutionResult> executeCommon(
+                RestClient client, ActionConfiguration actionConfiguration, PaginationField paginationField) {
 
             final Map<String, Object> requestData = new HashMap<>();
 
@@ -86,8 +112,6 @@ public class ElasticSearchPlugin extends BasePlugin {
             List<RequestParamDTO> requestParams = new ArrayList<>();
 
             return Mono.fromCallable(() -> {
-                        final ActionExecutionResult result = new ActionExecutionResult();
-
                         String body = query;
 
                         final String path = actionConfiguration.getPath();
@@ -119,40 +143,53 @@ public class ElasticSearchPlugin extends BasePlugin {
                                 } catch (IOException e) {
                                     final String message = "Error converting array to ND-JSON: " + e.getMessage();
                                     log.warn(message, e);
-                                    return Mono.error(new AppsmithPluginException(
+                                    throw new AppsmithPluginException(
                                             AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR,
                                             ElasticSearchErrorMessages.ARRAY_TO_ND_JSON_ARRAY_CONVERSION_ERROR_MSG,
-                                            e.getMessage()));
+                                            e.getMessage());
                                 }
                                 body = ndJsonBuilder.toString();
                             }
+                        } else {
+                            body = addSearchAfterForPagination(body, actionConfiguration, paginationField);
+                            if (body != null && !body.equals(query)) {
+                                requestData.put("body", body);
+                            }
                         }
 
                         if (body != null) {
                             request.setEntity(new NStringEntity(body, contentType));
                         }
 
-                        try {
-                            final String responseBody = new String(client.performRequest(request)
-                                    .getEntity()
-                                    .getContent()
-                                    .readAllBytes());
-                            result.setBody(objectMapper.readValue(responseBody, HashMap.class));
+                        return request;
+                    })
+                    .flatMap(request -> performRequestAsync(client, request))
+                    /*
+                     * The response listener is invoked on the http client's I/O dispatcher thread, which must not be
+                     * used for parsing the response body.
+                     */
+                    .publishOn(scheduler)
+                    .map(response -> {
+                        final ActionExecutionResult result = new ActionExecutionResult();
+                        try (InputStream content = response.getEntity().getContent()) {
+                            // Parse straight off the response stream, without building an intermediate String.
+                            result.setBody(objectMapper.readValue(content, HashMap.class));
                         } catch (IOException e) {
-                            final String message = "Error performing request: " + e.getMessage();
-                            log.warn(message, e);
-                            return Mono.error(new AppsmithPluginException(
-                                    ElasticSearchPluginError.QUERY_EXECUTION_FAILED,
-                                    ElasticSearchErrorMessages.QUERY_EXECUTION_FAILED_ERROR_MSG,
-                                    e.getMessage()));
+                            throw Exceptions.propagate(e);
                         }
 
                         result.setIsExecutionSuccess(true);
                         log.debug("In the Elastic Search Plugin, got action execution result");
-                        return Mono.just(result);
+                        return result;
+                    })
+                    .onErrorMap(IOException.class, e -> {
+                        final String message = "Error performing request: " + e.getMessage();
+                        log.warn(message, e);
+                        return new AppsmithPluginException(
+                                ElasticSearchPluginError.QUERY_EXECUTION_FAILED,
+                                ElasticSearchErrorMessages.QUERY_EXECUTION_FAILED_ERROR_MSG,
+                                e.getMessage());
                     })
-                    .flatMap(obj -> obj)
-                    .map(obj -> (ActionExecutionResult) obj)
                     .onErrorResume(error -> {
                         ActionExecutionResult result = new ActionExecutionResult();
                         result.setIsExecutionSuccess(false);
@@ -173,8 +210,72 @@ public class ElasticSearchPlugin extends BasePlugin {
                         request.setRequestParams(requestParams);
                         result.setRequest(request);
                         return result;
-                    })
-                    .subscribeOn(scheduler);
+                    });
+        }
+
+        /**
+         * Bridges the callback based async API of the rest client into a Mono, so that no thread is held while the
+         * request is in flight. Cancelling the subscription aborts the underlying http request.
+         */
+        private static Mono<Response> performRequestAsync(RestClient client, Request request) {
+            return Mono.create(sink -> {
+                final Cancellable cancellable = client.performRequestAsync(request, new ResponseListener() {
+                    @Override
+                    public void onSuccess(Response response) {
+                        sink.success(response);
+                    }
+
+                    @Override
+                    public void onFailure(Exception exception) {
+                        sink.error(exception);
+                    }
+                });
+                sink.onCancel(cancellable::cancel);
+            });
+        }
+
+        /**
+         * Search requests are paginated with `search_after`. The sort values of the last hit of the current page are
+         * configured as the next page value, and those of the page before as the previous page value. If the body
+         * contains a point in time (`pit`) as well, the pages are read off a consistent snapshot of the index.
+         * Ref: https://www.elastic.co/guide/en/elasticsearch/reference/current/paginate-search-results.html
+         */
+        private static String addSearchAfterForPagination(
+                String body, ActionConfiguration actionConfiguration, PaginationField paginationField) {
+            final String searchAfter;
+            if (PaginationField.NEXT.equals(paginationField)) {
+                searchAfter = actionConfiguration.getNext();
+            } else if (PaginationField.PREV.equals(paginationField)) {
+                searchAfter = actionConfiguration.getPrev();
+            } else {
+                return body;
+            }
+
+            if (isBlank(searchAfter)) {
+                return body;
+            }
+
+            try {
+                final JsonNode searchAfterNode = objectMapper.readTree(searchAfter);
+                if (!searchAfterNode.isArray()) {
+                    throw new AppsmithPluginException(
+                            AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR,
+                            ElasticSearchErrorMessages.INVALID_SEARCH_AFTER_ERROR_MSG);
+                }
+
+                final JsonNode bodyNode = isBlank(body) ? objectMapper.createObjectNode() : objectMapper.readTree(body);
+                if (!bodyNode.isObject()) {
+                    throw new AppsmithPluginException(
+                            AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR,
+                            ElasticSearchErrorMessages.PAGINATION_BODY_NOT_AN_OBJECT_ERROR_MSG);
+                }
+
+                ((ObjectNode) bodyNode).set("search_after", searchAfterNode);
+                return objectMapper.writeValueAsString(bodyNode);
+            } catch (JsonProcessingException e) {
+                throw new AppsmithPluginException(
+                        AppsmithPluginError.PLUGIN_JSON_PARSE_ERROR, searchAfter, e.getMessage());
+            }
         }
 
         private static boolean isBulkQuery(String path) {
@@ -271,51 +372,49 @@ public class ElasticSearchPlugin extends BasePlugin {
 
         @Override
         public Mono<DatasourceTestResult> testDatasource(RestClient connection) {
-            return Mono.fromCallable(() -> {
-                if (connection == null) {
-                    return new DatasourceTestResult("Null client object to ElasticSearch.");
-                }
-                // This HEAD request is to check if the base of datasource exists. It responds with 200 if the index
-                // exists,
-                // 404 if it doesn't. We just check for either of these two.
-                // Ref: https://www.elastic.co/guide/en/elasticsearch/reference/current/indices-exists.html
-                Request request = new Request("HEAD", "/");
-
-                final Response response;
-                try {
-                    response = connection.performRequest(request);
-                } catch (IOException e) {
-                    final String message = e.getMessage();
-
-                    /* since the 401, and 403 are registered as IOException, but for the given connection it
-                     * in the current rest-client. We will figure out with matching patterns with regexes.
-                     */
-
-                    if (patternForUnauthorized.matcher(message).find()) {
-                        return new DatasourceTestResult(ElasticSearchErrorMessages.UNAUTHORIZED_ERROR_MSG);
-                    }
+            if (connection == null) {
+                return Mono.just(new DatasourceTestResult("Null client object to ElasticSearch."));
+            }
+            // This HEAD request is to check if the base of datasource exists. It responds with 200 if the index
+            // exists,
+            // 404 if it doesn't. We just check for either of these two.
+            // Ref: https://www.elastic.co/guide/en/elasticsearch/reference/current/indices-exists.html
+            Request request = new Request("HEAD", "/");
+
+            return performRequestAsync(connection, request)
+                    .map(response -> {
+                        final StatusLine statusLine = response.getStatusLine();
+
+                        // earlier it was 404 and 200, now it has been changed to just expect 200 status code
+                        // here it checks if it is anything else than 200, even 404 is not allowed!
+                        if (statusLine.getStatusCode() == 404) {
+                            return new DatasourceTestResult(ElasticSearchErrorMessages.NOT_FOUND_ERROR_MSG);
+                        }
 
-                    if (patternForNotFound.matcher(message).find()) {
-                        return new DatasourceTestResult(ElasticSearchErrorMessages.NOT_FOUND_ERROR_MSG);
-                    }
+                        if (statusLine.getStatusCode() != 200) {
+                            return new DatasourceTestResult("Unexpected response from ElasticSearch: " + statusLine);
+                        }
 
-                    return new DatasourceTestResult("Error running HEAD request: " + message);
-                }
+                        return new DatasourceTestResult();
+                    })
+                    .onErrorResume(IOException.class, e -> {
+                        final String message = e.getMessage();
 
-                final StatusLine statusLine = response.getStatusLine();
+                        /* since the 401, and 403 are registered as IOException, but for the given connection it
+                         * in the current rest-client. We will figure out with matching patterns with regexes.
+                         */
 
-                // earlier it was 404 and 200, now it has been changed to just expect 200 status code
-                // here it checks if it is anything else than 200, even 404 is not allowed!
-                if (statusLine.getStatusCode() == 404) {
-                    return new DatasourceTestResult(ElasticSearchErrorMessages.NOT_FOUND_ERROR_MSG);
-                }
+                        if (patternForUnauthorized.matcher(message).find()) {
+                            return Mono.just(
+                                    new DatasourceTestResult(ElasticSearchErrorMessages.UNAUTHORIZED_ERROR_MSG));
+                        }
 
-                if (statusLine.getStatusCode() != 200) {
-                    return new DatasourceTestResult("Unexpected response from ElasticSearch: " + statusLine);
-                }
+                        if (patternForNotFound.matcher(message).find()) {
+                            return Mono.just(new DatasourceTestResult(ElasticSearchErrorMessages.NOT_FOUND_ERROR_MSG));
+                        }
 
-                return new DatasourceTestResult();
-            });
+                        return Mono.just(new DatasourceTestResult("Error running HEAD request: " + message));
+                    });
         }
 
         @Override
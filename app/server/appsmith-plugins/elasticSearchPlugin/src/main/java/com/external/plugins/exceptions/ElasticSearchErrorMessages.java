@@ -16,6 +16,12 @@ public class ElasticSearchErrorMessages extends BasePluginErrorMessages {
 
     public static final String UNAUTHORIZED_ERROR_MSG = "Your username or password is not correct";
 
+    public static final String INVALID_SEARCH_AFTER_ERROR_MSG =
+            "The next and previous page values should be JSON arrays of the sort values of a search hit.";
+
+    public static final String PAGINATION_BODY_NOT_AN_OBJECT_ERROR_MSG =
+            "Pagination is only supported for search requests with a JSON object as the body.";
+
     /*
     ************************************************************************************************************************************************
                                        Error messages related to validation of datasource.
@@ -1,11 +1,13 @@
 package com.external.plugins;
 
 import com.appsmith.external.constants.Authentication;
+import com.appsmith.external.dtos.ExecuteActionDTO;
 import com.appsmith.external.models.ActionConfiguration;
 import com.appsmith.external.models.ActionExecutionResult;
 import com.appsmith.external.models.DBAuth;
 import com.appsmith.external.models.DatasourceConfiguration;
 import com.appsmith.external.models.Endpoint;
+import com.appsmith.external.models.PaginationField;
 import com.appsmith.external.models.RequestParamDTO;
 import com.external.plugins.exceptions.ElasticSearchPluginError;
 import lombok.extern.slf4j.Slf4j;
@@ -149,6 +151,40 @@ public class ElasticSearchPluginTest {
                 .verifyComplete();
     }
 
+    @Test
+    public void testSearchWithNextPageSearchAfter() {
+        final String searchJson = "{\n" + "  \"query\": {\"ids\": {\"values\": [\"id1\", \"id2\", \"id3\"]}},\n"
+                + "  \"sort\": [{\"name.keyword\": \"asc\"}],\n"
+                + "  \"size\": 1\n"
+                + "}";
+
+        final ActionConfiguration actionConfiguration = new ActionConfiguration();
+        actionConfiguration.setHttpMethod(HttpMethod.POST);
+        actionConfiguration.setPath("/planets/_search");
+        actionConfiguration.setBody(searchJson);
+        actionConfiguration.setNext("[\"Earth\"]");
+
+        final ExecuteActionDTO executeActionDTO = new ExecuteActionDTO();
+        executeActionDTO.setPaginationField(PaginationField.NEXT);
+
+        final Mono<ActionExecutionResult> resultMono = execute(HttpMethod.POST, "/planets/_refresh", null)
+                .then(pluginExecutor.datasourceCreate(dsConfig))
+                .flatMap(conn ->
+                        pluginExecutor.executeParameterized(conn, executeActionDTO, dsConfig, actionConfiguration));
+
+        StepVerifier.create(resultMono)
+                .assertNext(result -> {
+                    assertNotNull(result);
+                    assertTrue(result.getIsExecutionSuccess());
+                    final Map<String, Object> hits = (Map<String, Object>) ((Map) result.getBody()).get("hits");
+                    final List<Map<String, Object>> hitList = (List<Map<String, Object>>) hits.get("hits");
+                    assertEquals(1, hitList.size());
+                    assertEquals(
+                            "Mercury", ((Map<String, String>) hitList.get(0).get("_source")).get("name"));
+                })
+                .verifyComplete();
+    }
+
     @Test
     public void testMultiGet() {
         final String contentJson = "{\n" + "  \"docs\": [\n"
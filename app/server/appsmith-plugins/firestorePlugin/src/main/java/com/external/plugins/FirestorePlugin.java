@@ -3,6 +3,7 @@ package com.external.plugins;
 import com.appsmith.external.dtos.ExecuteActionDTO;
 import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginError;
 import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginException;
+import com.appsmith.external.helpers.ConcurrencyLimiter;
 import com.appsmith.external.helpers.DataTypeStringUtils;
 import com.appsmith.external.helpers.MustacheHelper;
 import com.appsmith.external.helpers.PluginUtils;
@@ -24,6 +25,8 @@ import com.external.plugins.exceptions.FirestoreErrorMessages;
 import com.external.plugins.exceptions.FirestorePluginError;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.google.api.core.ApiFuture;
+import com.google.api.core.ApiFutureCallback;
+import com.google.api.core.ApiFutures;
 import com.google.auth.oauth2.GoogleCredentials;
 import com.google.cloud.firestore.CollectionReference;
 import com.google.cloud.firestore.DocumentReference;
@@ -34,6 +37,7 @@ import com.google.cloud.firestore.FirestoreException;
 import com.google.cloud.firestore.Query;
 import com.google.cloud.firestore.QuerySnapshot;
 import com.google.cloud.firestore.WriteResult;
+import com.google.common.util.concurrent.MoreExecutors;
 import com.google.firebase.FirebaseApp;
 import com.google.firebase.FirebaseOptions;
 import com.google.firebase.cloud.FirestoreClient;
@@ -58,7 +62,7 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import java.util.concurrent.ExecutionException;
+import java.util.WeakHashMap;
 import java.util.stream.Collectors;
 import java.util.stream.StreamSupport;
 
@@ -107,6 +111,14 @@ public class FirestorePlugin extends BasePlugin {
 
         private final Scheduler scheduler = Schedulers.boundedElastic();
 
+        // Requests beyond this count wait in a queue, so that a page fanning out many queries to the same project
+        // doesn't flood it all at once.
+        private static final int MAX_CONCURRENT_REQUESTS_PER_CONNECTION = 32;
+
+        // Keyed weakly, since connections are owned and discarded by the server's datasource context.
+        private final Map<Firestore, ConcurrencyLimiter> connectionLimiters =
+                Collections.synchronizedMap(new WeakHashMap<>());
+
         @Override
         @Deprecated
         public Mono<ActionExecutionResult> execute(
@@ -284,7 +296,7 @@ public class FirestorePlugin extends BasePlugin {
 
                         return Mono.just((Map<String, Object>) mapBody);
                     })
-                    .flatMap(mapBody -> {
+                    .flatMap(mapBody -> getConnectionLimiter(connection).limit(Mono.defer(() -> {
                         if (method.isDocumentLevel()) {
                             return handleDocumentLevelMethod(connection, path, method, mapBody, query, requestParams);
                         } else {
@@ -300,7 +312,7 @@ public class FirestorePlugin extends BasePlugin {
                                     hintMessages,
                                     actionConfiguration);
                         }
-                    })
+                    })))
                     .onErrorResume(error -> {
                         ActionExecutionResult result = new ActionExecutionResult();
                         result.setIsExecutionSuccess(false);
@@ -558,17 +570,7 @@ public class FirestorePlugin extends BasePlugin {
                         return Mono.just((ApiFuture<Object>) objFuture);
                     })
                     // Consume the Future to get the actual result object.
-                    .flatMap(resultFuture -> {
-                        try {
-
-                            return Mono.just(resultFuture.get());
-                        } catch (InterruptedException | ExecutionException e) {
-                            return Mono.error(new AppsmithPluginException(
-                                    FirestorePluginError.QUERY_EXECUTION_FAILED,
-                                    FirestoreErrorMessages.FAILURE_IN_GETTING_RESULT_FROM_FUTURE_ERROR_MSG,
-                                    e.getMessage()));
-                        }
-                    })
+                    .flatMap(this::toMono)
                     // Build a response object with the result.
                     .flatMap(objResult1 -> {
                         ActionExecutionResult result = new ActionExecutionResult();
@@ -754,16 +756,7 @@ public class FirestorePlugin extends BasePlugin {
                     // Run the Firestore query to get a Future of the results.
                     .map(Query::get)
                     // Consume the future to get the actual results.
-                    .flatMap(resultFuture -> {
-                        try {
-                            return Mono.just(resultFuture.get());
-                        } catch (InterruptedException | ExecutionException e) {
-                            return Mono.error(new AppsmithPluginException(
-                                    FirestorePluginError.QUERY_EXECUTION_FAILED,
-                                    FirestoreErrorMessages.FAILURE_IN_GETTING_RESULT_FROM_FUTURE_ERROR_MSG,
-                                    e.getMessage()));
-                        }
-                    })
+                    .flatMap(this::toMono)
                     // Build response object with the results from the Future.
                     .flatMap(objResult1 -> {
                         ActionExecutionResult result = new ActionExecutionResult();
@@ -805,17 +798,8 @@ public class FirestorePlugin extends BasePlugin {
 
         private Mono<ActionExecutionResult> methodAddToCollection(
                 CollectionReference collection, Map<String, Object> mapBody) {
-            return Mono.justOrEmpty(collection.add(mapBody))
-                    .flatMap(future -> {
-                        try {
-                            return Mono.just(future.get());
-                        } catch (InterruptedException | ExecutionException e) {
-                            return Mono.error(new AppsmithPluginException(
-                                    FirestorePluginError.QUERY_EXECUTION_FAILED,
-                                    FirestoreErrorMessages.FAILURE_IN_GETTING_RESULT_FROM_FUTURE_ERROR_MSG,
-                                    e.getMessage()));
-                        }
-                    })
+            return Mono.fromSupplier(() -> collection.add(mapBody))
+                    .flatMap(this::toMono)
                     .flatMap(opResult -> {
                         ActionExecutionResult result = new ActionExecutionResult();
                         try {
@@ -829,6 +813,43 @@ public class FirestorePlugin extends BasePlugin {
                     });
         }
 
+        /**
+         * Adapts a Firestore future to a Mono through a completion callback, so no thread is parked waiting on the
+         * request. The result is handed back to the plugin scheduler, keeping the conversion of large snapshots off the
+         * client's callback threads.
+         */
+        private <T> Mono<T> toMono(ApiFuture<T> future) {
+            return Mono.<T>create(sink -> {
+                        ApiFutures.addCallback(
+                                future,
+                                new ApiFutureCallback<T>() {
+                                    @Override
+                                    public void onSuccess(T result) {
+                                        sink.success(result);
+                                    }
+
+                                    @Override
+                                    public void onFailure(Throwable throwable) {
+                                        sink.error(throwable);
+                                    }
+                                },
+                                MoreExecutors.directExecutor());
+                        sink.onCancel(() -> future.cancel(true));
+                    })
+                    .onErrorMap(
+                            error -> !(error instanceof AppsmithPluginException),
+                            error -> new AppsmithPluginException(
+                                    FirestorePluginError.QUERY_EXECUTION_FAILED,
+                                    FirestoreErrorMessages.FAILURE_IN_GETTING_RESULT_FROM_FUTURE_ERROR_MSG,
+                                    error.toString()))
+                    .publishOn(scheduler);
+        }
+
+        private ConcurrencyLimiter getConnectionLimiter(Firestore connection) {
+            return connectionLimiters.computeIfAbsent(
+                    connection, ignored -> new ConcurrencyLimiter(MAX_CONCURRENT_REQUESTS_PER_CONNECTION));
+        }
+
         private Object resultToMap(Object objResult) throws AppsmithPluginException {
             return resultToMap(objResult, true);
         }
@@ -12,7 +12,9 @@ import com.appsmith.external.models.ActionExecutionRequest;
 import com.appsmith.external.models.ActionExecutionResult;
 import com.appsmith.external.models.ApiContentType;
 import com.appsmith.external.models.DatasourceConfiguration;
+import com.appsmith.external.models.DatasourceStructure;
 import com.appsmith.external.models.MustacheBindingToken;
+import com.appsmith.external.models.PaginationField;
 import com.appsmith.external.models.PaginationType;
 import com.appsmith.external.models.Param;
 import com.appsmith.external.models.Property;
@@ -22,6 +24,13 @@ import com.appsmith.external.services.SharedConfig;
 import com.external.plugins.exceptions.GraphQLErrorMessages;
 import com.external.plugins.exceptions.GraphQLPluginError;
 import com.external.utils.GraphQLHintMessageUtils;
+import com.external.utils.GraphQLPrefetchCache;
+import com.external.utils.GraphQLSchemaCache;
+import com.external.utils.GraphQLSchemaUtils;
+import graphql.schema.GraphQLSchema;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 import org.pf4j.Extension;
 import org.pf4j.PluginWrapper;
@@ -36,6 +45,7 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.Supplier;
 
 import static com.appsmith.external.helpers.PluginUtils.getValueSafelyFromPropertyList;
 import static com.appsmith.external.helpers.PluginUtils.setValueSafelyInPropertyList;
@@ -45,7 +55,14 @@ import static com.external.utils.GraphQLBodyUtils.convertToGraphQLPOSTBodyFormat
 import static com.external.utils.GraphQLBodyUtils.getGraphQLQueryParamsForBodyAndVariables;
 import static com.external.utils.GraphQLBodyUtils.validateBodyAndVariablesSyntax;
 import static com.external.utils.GraphQLDataTypeUtils.smartlyReplaceGraphQLQueryBodyPlaceholderWithValue;
+import static com.external.utils.GraphQLPaginationUtils.getNextPageCursor;
+import static com.external.utils.GraphQLPaginationUtils.isNextPagePrefetchEnabled;
+import static com.external.utils.GraphQLPaginationUtils.updateVariablesWithNextPageCursor;
 import static com.external.utils.GraphQLPaginationUtils.updateVariablesWithPaginationValues;
+import static com.external.utils.GraphQLPrefetchCache.getPageKey;
+import static com.external.utils.GraphQLSchemaUtils.getIntrospectionActionConfiguration;
+import static com.external.utils.GraphQLSchemaUtils.getSchemaFromIntrospectionResult;
+import static com.external.utils.GraphQLSchemaUtils.validateQueryAgainstSchema;
 import static java.lang.Boolean.TRUE;
 import static org.apache.commons.lang3.StringUtils.isBlank;
 
@@ -59,6 +76,12 @@ public class GraphQLPlugin extends BasePlugin {
     @Extension
     public static class GraphQLPluginExecutor extends BaseRestApiPluginExecutor {
 
+        @Getter(AccessLevel.PACKAGE)
+        private final GraphQLPrefetchCache prefetchCache = new GraphQLPrefetchCache();
+
+        @Setter(AccessLevel.PACKAGE)
+        private GraphQLSchemaCache schemaCache = new GraphQLSchemaCache();
+
         public GraphQLPluginExecutor(SharedConfig sharedConfig) {
             super(sharedConfig);
 
@@ -144,6 +167,16 @@ public class GraphQLPlugin extends BasePlugin {
                 return Mono.error(e);
             }
 
+            /*
+             * Check the query against the schema of the datasource. The schema is of the datasource URL, so queries
+             * sent to a different path are not checked.
+             */
+            Mono<Void> schemaValidation = Mono.empty();
+            if (isBlank(actionConfiguration.getPath())) {
+                schemaValidation =
+                        validateAgainstSchema(connection, datasourceConfiguration, actionConfiguration.getBody());
+            }
+
             if (actionConfiguration.getPaginationType() != null
                     && !PaginationType.NONE.equals(actionConfiguration.getPaginationType())) {
                 updateVariablesWithPaginationValues(actionConfiguration, executeActionDTO);
@@ -152,7 +185,101 @@ public class GraphQLPlugin extends BasePlugin {
             // Filter out any empty headers
             headerUtils.removeEmptyHeaders(actionConfiguration);
 
-            return this.executeCommon(connection, datasourceConfiguration, actionConfiguration, parameters);
+            if (!isNextPagePrefetchEnabled(actionConfiguration)
+                    || PaginationField.PREV.equals(executeActionDTO.getPaginationField())) {
+                return schemaValidation.then(Mono.defer(() ->
+                        this.executeCommon(connection, datasourceConfiguration, actionConfiguration, parameters)));
+            }
+
+            final String actionId = executeActionDTO.getActionId();
+            final GraphQLPrefetchCache.PageKey pageKey = getPageKey(
+                    connection,
+                    actionId,
+                    initUtils.initializeRequestUrl(actionConfiguration, datasourceConfiguration),
+                    actionConfiguration);
+            // Copied before it is executed, as executing a POST request rewrites the body in the configuration
+            final ActionConfiguration nextPageActionConfiguration =
+                    objectMapper.convertValue(actionConfiguration, ActionConfiguration.class);
+
+            return schemaValidation
+                    .then(prefetchCache.take(pageKey))
+                    .switchIfEmpty(Mono.defer(() ->
+                            this.executeCommon(connection, datasourceConfiguration, actionConfiguration, parameters)))
+                    .doOnNext(result -> prefetchNextPage(
+                            connection, actionId, datasourceConfiguration, nextPageActionConfiguration, result));
+        }
+
+        /**
+         * Validates the query against the schema of the datasource. See {@link GraphQLSchemaCache} for when the schema
+         * is fetched.
+         */
+        private Mono<Void> validateAgainstSchema(
+                APIConnection connection, DatasourceConfiguration datasourceConfiguration, String query) {
+            final Supplier<Mono<GraphQLSchema>> fetcher = () -> fetchSchema(connection, datasourceConfiguration);
+            final GraphQLSchema schema = schemaCache.getSchemaIfPresent(connection, fetcher);
+            if (schema == null) {
+                return Mono.empty();
+            }
+
+            try {
+                validateQueryAgainstSchema(query, schema);
+                return Mono.empty();
+            } catch (AppsmithPluginException e) {
+                log.debug("GraphQL query is not valid for the cached schema, fetching the schema again", e);
+            }
+
+            return schemaCache
+                    .refreshIfNotRecent(connection, fetcher)
+                    .onErrorResume(error -> {
+                        log.debug("Could not fetch the GraphQL schema again to validate the query", error);
+                        return Mono.empty();
+                    })
+                    .flatMap(freshSchema -> {
+                        try {
+                            validateQueryAgainstSchema(query, freshSchema);
+                            return Mono.<Void>empty();
+                        } catch (AppsmithPluginException e) {
+                            return Mono.<Void>error(e);
+                        }
+                    });
+        }
+
+        /**
+         * Starts fetching the page after the one in the result, so that it is ready by the time the user asks for it.
+         * The page is fetched with the same request as the one that the user would send for it, i.e. with the end
+         * cursor of the result set as the next page cursor.
+         */
+        private void prefetchNextPage(
+                APIConnection connection,
+                String actionId,
+                DatasourceConfiguration datasourceConfiguration,
+                ActionConfiguration nextPageActionConfiguration,
+                ActionExecutionResult result) {
+            if (!TRUE.equals(result.getIsExecutionSuccess())) {
+                return;
+            }
+
+            final String nextPageCursor = getNextPageCursor(result.getBody());
+            if (nextPageCursor == null) {
+                return;
+            }
+
+            try {
+                updateVariablesWithNextPageCursor(nextPageActionConfiguration, nextPageCursor);
+            } catch (AppsmithPluginException e) {
+                log.debug("Could not set the next page cursor of action {}", actionId, e);
+                return;
+            }
+
+            final GraphQLPrefetchCache.PageKey nextPageKey = getPageKey(
+                    connection,
+                    actionId,
+                    initUtils.initializeRequestUrl(nextPageActionConfiguration, datasourceConfiguration),
+                    nextPageActionConfiguration);
+            prefetchCache.prefetch(
+                    nextPageKey,
+                    () -> this.executeCommon(
+                            connection, datasourceConfiguration, nextPageActionConfiguration, new ArrayList<>()));
         }
 
         public Mono<ActionExecutionResult> executeCommon(
@@ -299,6 +426,34 @@ public class GraphQLPlugin extends BasePlugin {
                     });
         }
 
+        /**
+         * Fetches the schema of the GraphQL endpoint with an introspection query, and lists its types as the structure
+         * of the datasource. This also replaces the schema that queries are validated against.
+         */
+        @Override
+        public Mono<DatasourceStructure> getStructure(
+                APIConnection connection, DatasourceConfiguration datasourceConfiguration) {
+            return schemaCache
+                    .refresh(connection, () -> fetchSchema(connection, datasourceConfiguration))
+                    .map(GraphQLSchemaUtils::getStructure);
+        }
+
+        private Mono<GraphQLSchema> fetchSchema(
+                APIConnection connection, DatasourceConfiguration datasourceConfiguration) {
+            return this.executeCommon(
+                            connection,
+                            datasourceConfiguration,
+                            getIntrospectionActionConfiguration(),
+                            new ArrayList<>())
+                    .flatMap(result -> {
+                        try {
+                            return Mono.just(getSchemaFromIntrospectionResult(result));
+                        } catch (AppsmithPluginException e) {
+                            return Mono.error(e);
+                        }
+                    });
+        }
+
         @Override
         public Object substituteValueInInput(
                 int index,
@@ -13,4 +13,10 @@ public class GraphQLErrorMessages extends BasePluginErrorMessages {
             "An error occurred during the execution of your GraphQL query. Please check the error logs for more details.";
     public static final String UNEXPECTED_HTTP_METHOD_ERROR_MSG =
             "Appsmith server has found an unexpected HTTP method configured with the GraphQL " + "plugin query: %s";
+    public static final String SCHEMA_INTROSPECTION_FAILED_ERROR_MSG =
+            "Appsmith server could not fetch the schema of the GraphQL endpoint. Please check that the endpoint allows "
+                    + "introspection queries.";
+    public static final String QUERY_NOT_VALID_FOR_SCHEMA_ERROR_MSG =
+            "Your GraphQL query is not valid for the schema of the datasource: %s. If the schema has changed, please "
+                    + "refresh the datasource structure and try again.";
 }
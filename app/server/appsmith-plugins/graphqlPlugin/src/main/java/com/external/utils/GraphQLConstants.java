@@ -9,6 +9,7 @@ public class GraphQLConstants {
     public static final String NEXT_LIMIT_VAL = "nextLimitValue";
     public static final String NEXT_CURSOR_VARIABLE_NAME = "nextCursorVariableName";
     public static final String NEXT_CURSOR_VAL = "nextCursorValue";
+    public static final String NEXT_PAGE_PREFETCH = "nextPagePrefetch";
     public static final String LIMIT_VARIABLE_NAME = "limitVariableName";
     public static final String LIMIT_VAL = "limitValue";
     public static final String OFFSET_VARIABLE_NAME = "offsetVariableName";
@@ -8,12 +8,15 @@ import com.appsmith.external.models.PaginationField;
 import com.appsmith.external.models.PaginationType;
 import com.appsmith.external.models.Property;
 import com.external.plugins.exceptions.GraphQLPluginError;
+import com.fasterxml.jackson.databind.JsonNode;
 import org.json.JSONException;
 import org.json.JSONObject;
 
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 import static com.appsmith.external.helpers.PluginUtils.getValueSafelyFromFormData;
 import static com.appsmith.external.helpers.PluginUtils.getValueSafelyFromPropertyList;
@@ -27,6 +30,7 @@ import static com.external.utils.GraphQLConstants.NEXT_CURSOR_VAL;
 import static com.external.utils.GraphQLConstants.NEXT_CURSOR_VARIABLE_NAME;
 import static com.external.utils.GraphQLConstants.NEXT_LIMIT_VAL;
 import static com.external.utils.GraphQLConstants.NEXT_LIMIT_VARIABLE_NAME;
+import static com.external.utils.GraphQLConstants.NEXT_PAGE_PREFETCH;
 import static com.external.utils.GraphQLConstants.OFFSET_VAL;
 import static com.external.utils.GraphQLConstants.OFFSET_VARIABLE_NAME;
 import static com.external.utils.GraphQLConstants.PREV_CURSOR_VAL;
@@ -87,6 +91,7 @@ public class GraphQLPaginationUtils {
             String nextCursorVarName = getValueSafelyFromFormData(paginationData, "next.cursor.name", String.class, "");
             String nextCursorValString =
                     getValueSafelyFromFormData(paginationData, "next.cursor.value", String.class, "");
+            String nextPagePrefetch = String.valueOf(getValueSafelyFromFormData(paginationData, "next.prefetch"));
 
             transformedPaginationData.put(PREV_LIMIT_VARIABLE_NAME, prevLimitVarName);
             transformedPaginationData.put(PREV_LIMIT_VAL, prevLimitValString);
@@ -96,6 +101,7 @@ public class GraphQLPaginationUtils {
             transformedPaginationData.put(NEXT_LIMIT_VAL, nextLimitValString);
             transformedPaginationData.put(NEXT_CURSOR_VARIABLE_NAME, nextCursorVarName);
             transformedPaginationData.put(NEXT_CURSOR_VAL, nextCursorValString);
+            transformedPaginationData.put(NEXT_PAGE_PREFETCH, nextPagePrefetch);
         }
 
         return transformedPaginationData;
@@ -242,4 +248,72 @@ public class GraphQLPaginationUtils {
 
         setValueSafelyInPropertyList(properties, QUERY_VARIABLES_INDEX, queryVariablesJson.toString());
     }
+
+    /**
+     * Checks if the next page of this cursor paginated query should be fetched ahead of time, i.e. before the user asks
+     * for it. This is turned on with the `cursorBased.next.prefetch` field in the pagination data.
+     */
+    public static boolean isNextPagePrefetchEnabled(ActionConfiguration actionConfiguration) {
+        if (!PaginationType.CURSOR.equals(actionConfiguration.getPaginationType())) {
+            return false;
+        }
+
+        Map<String, String> paginationDataMap;
+        try {
+            paginationDataMap = getPaginationData(actionConfiguration);
+        } catch (AppsmithPluginException e) {
+            return false;
+        }
+
+        return !isEmpty(paginationDataMap)
+                && Boolean.parseBoolean(paginationDataMap.get(NEXT_PAGE_PREFETCH))
+                && !isBlank(paginationDataMap.get(NEXT_CURSOR_VARIABLE_NAME));
+    }
+
+    /**
+     * Finds the cursor of the page that comes after the one in the response. The server only knows where the cursor is
+     * in the response when it follows the GraphQL cursor connections spec, i.e. it has a `pageInfo` object with an
+     * `endCursor` and `hasNextPage`. Ref: https://relay.dev/graphql/connections.htm
+     *
+     * @return The end cursor, or null if there is no next page or the response doesn't have exactly one cursor in it
+     */
+    public static String getNextPageCursor(Object responseBody) {
+        if (!(responseBody instanceof JsonNode)) {
+            return null;
+        }
+
+        JsonNode data = ((JsonNode) responseBody).path("data");
+        Set<String> endCursors = data.findValues("pageInfo").stream()
+                .filter(pageInfo -> pageInfo.path("hasNextPage").asBoolean(false))
+                .map(pageInfo -> pageInfo.path("endCursor"))
+                .filter(JsonNode::isTextual)
+                .map(JsonNode::asText)
+                .collect(Collectors.toSet());
+
+        // With more than one paginated connection in the response, there's no telling which one the user is paging
+        // through
+        return endCursors.size() == 1 ? endCursors.iterator().next() : null;
+    }
+
+    /**
+     * Sets the next page cursor in the query variables, the same way as {@link #updateVariablesWithPaginationValues}
+     * does when the user asks for the next page with that cursor.
+     */
+    public static void updateVariablesWithNextPageCursor(ActionConfiguration actionConfiguration, String cursor)
+            throws AppsmithPluginException {
+        final List<Property> properties = actionConfiguration.getPluginSpecifiedTemplates();
+        String variables = getValueSafelyFromPropertyList(properties, QUERY_VARIABLES_INDEX, String.class);
+        JSONObject queryVariablesJson;
+        try {
+            queryVariablesJson = parseStringIntoJSONObject(variables);
+        } catch (JSONException e) {
+            throw new AppsmithPluginException(
+                    AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR,
+                    "GraphQL query " + "variables are not in proper JSON format: " + e.getMessage());
+        }
+
+        Map<String, String> paginationDataMap = getPaginationData(actionConfiguration);
+        queryVariablesJson.put(paginationDataMap.get(NEXT_CURSOR_VARIABLE_NAME), cursor);
+        setValueSafelyInPropertyList(properties, QUERY_VARIABLES_INDEX, queryVariablesJson.toString());
+    }
 }
@@ -0,0 +1,161 @@
+package com.external.utils;
+
+import com.appsmith.external.helpers.restApiUtils.connections.APIConnection;
+import com.appsmith.external.models.ActionConfiguration;
+import com.appsmith.external.models.ActionExecutionResult;
+import com.appsmith.external.models.Property;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.TextNode;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import static com.appsmith.external.helpers.PluginUtils.getValueSafelyFromPropertyList;
+import static com.external.utils.GraphQLBodyUtils.QUERY_VARIABLES_INDEX;
+
+/**
+ * Holds pages of cursor paginated GraphQL queries that have been fetched before the user asked for them. A page is
+ * only served once, to the first request that is exactly the same as the one it was fetched with, and is dropped if
+ * nobody asks for it within a short while. Pages that are still being fetched are shared with the request that asks
+ * for them, instead of being fetched again. The cache is bounded by the total size of the bodies of the pages in it.
+ */
+@Slf4j
+public class GraphQLPrefetchCache {
+
+    // Long enough for a user to click on the next page button, short enough for the data to not be stale by then
+    private static final Duration DEFAULT_TIME_TO_LIVE = Duration.ofSeconds(30);
+
+    // Roughly the number of characters in the bodies of all the cached pages, pages still being fetched weigh nothing
+    private static final long DEFAULT_MAXIMUM_WEIGHT = 32L * 1024 * 1024;
+
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final Cache<PageKey, CachedPage> pages;
+
+    /**
+     * @param weight The size of the body of the page, or 0 while it is being fetched
+     */
+    private record CachedPage(Mono<ActionExecutionResult> page, int weight) {}
+
+    /**
+     * Identifies a request for a page. Requests are only the same if they are sent over the same connection, i.e. to
+     * the same datasource with the same credentials, and end up with the same URL, headers, query and variables.
+     */
+    public record PageKey(
+            APIConnection connection,
+            String actionId,
+            String url,
+            String httpMethod,
+            List<Property> headers,
+            List<Property> queryParameters,
+            String body,
+            JsonNode variables) {}
+
+    public GraphQLPrefetchCache() {
+        this(DEFAULT_TIME_TO_LIVE, DEFAULT_MAXIMUM_WEIGHT);
+    }
+
+    public GraphQLPrefetchCache(Duration timeToLive, long maximumWeight) {
+        this.pages = CacheBuilder.newBuilder()
+                .expireAfterWrite(timeToLive.toMillis(), TimeUnit.MILLISECONDS)
+                .maximumWeight(maximumWeight)
+                .weigher((PageKey key, CachedPage cachedPage) -> cachedPage.weight())
+                .recordStats()
+                .build();
+    }
+
+    public static PageKey getPageKey(
+            APIConnection connection, String actionId, String url, ActionConfiguration actionConfiguration) {
+        String variables = getValueSafelyFromPropertyList(
+                actionConfiguration.getPluginSpecifiedTemplates(), QUERY_VARIABLES_INDEX, String.class);
+        JsonNode variablesNode;
+        try {
+            // Parsed, so that the order of the variables doesn't matter
+            variablesNode = objectMapper.readTree(variables == null ? "{}" : variables);
+        } catch (JsonProcessingException e) {
+            variablesNode = TextNode.valueOf(variables);
+        }
+
+        return new PageKey(
+                connection,
+                actionId,
+                url,
+                String.valueOf(actionConfiguration.getHttpMethod()),
+                copyOf(actionConfiguration.getHeaders()),
+                copyOf(actionConfiguration.getQueryParameters()),
+                actionConfiguration.getBody(),
+                variablesNode);
+    }
+
+    /**
+     * Takes the page for the request out of the cache.
+     *
+     * @return The page, or empty if it hasn't been fetched ahead of time or fetching it failed
+     */
+    public Mono<ActionExecutionResult> take(PageKey key) {
+        return Mono.defer(() -> {
+            final CachedPage cachedPage = pages.getIfPresent(key);
+            if (cachedPage == null) {
+                log.debug("GraphQL prefetch cache miss for action {}, stats: {}", key.actionId(), pages.stats());
+                return Mono.empty();
+            }
+
+            pages.asMap().remove(key, cachedPage);
+            log.debug("GraphQL prefetch cache hit for action {}, stats: {}", key.actionId(), pages.stats());
+            return cachedPage.page();
+        });
+    }
+
+    /**
+     * Starts fetching the page for the request in the background, unless it is already cached. Once fetched, the page
+     * is weighed by the size of its body, which may evict other pages, or this one if it is too large to be cached.
+     */
+    public void prefetch(PageKey key, Supplier<Mono<ActionExecutionResult>> fetcher) {
+        final Mono<ActionExecutionResult> page = Mono.defer(fetcher)
+                .filter(result -> Boolean.TRUE.equals(result.getIsExecutionSuccess()))
+                .onErrorResume(error -> {
+                    log.debug("Could not fetch the next page of action {} ahead of time", key.actionId(), error);
+                    return Mono.empty();
+                })
+                .cache();
+        final CachedPage pageInFlight = new CachedPage(page, 0);
+
+        if (pages.asMap().putIfAbsent(key, pageInFlight) == null) {
+            // Replaced only if the page hasn't been taken in the meantime
+            page.subscribe(result ->
+                    pages.asMap().replace(key, pageInFlight, new CachedPage(Mono.just(result), getWeight(result))));
+        }
+    }
+
+    public CacheStats getStats() {
+        return pages.stats();
+    }
+
+    public long size() {
+        return pages.size();
+    }
+
+    private static int getWeight(ActionExecutionResult result) {
+        final Object body = result.getBody();
+        if (body == null) {
+            return 1;
+        }
+
+        // The length of the body as JSON stands in for the memory it takes up, which can't be measured cheaply
+        return Math.max(1, String.valueOf(body).length());
+    }
+
+    private static List<Property> copyOf(List<Property> properties) {
+        return properties == null ? List.of() : new ArrayList<>(properties);
+    }
+}
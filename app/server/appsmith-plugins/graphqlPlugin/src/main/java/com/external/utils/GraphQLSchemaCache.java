@@ -0,0 +1,137 @@
+package com.external.utils;
+
+import com.appsmith.external.helpers.restApiUtils.connections.APIConnection;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import graphql.schema.GraphQLSchema;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.function.Supplier;
+
+/**
+ * Holds the introspected schema of each datasource, so that queries can be validated without sending them to the
+ * GraphQL endpoint. Schemas are kept per connection, i.e. per datasource and environment, and are dropped along with
+ * the connection. This is the one place that decides when a schema is fetched:
+ * <ul>
+ *     <li>Fetching the structure of the datasource always fetches the schema and replaces the cached one.</li>
+ *     <li>A query executed over a connection with no schema, or with one older than the time to live, starts a fetch
+ *     in the background, e.g. after the server restarts or on another node. The query itself is not validated and
+ *     never waits for the fetch.</li>
+ *     <li>A query that is not valid for the cached schema is validated once more against a freshly fetched schema,
+ *     unless the cached one was fetched within the minimum refetch interval. If that fetch fails, the query is sent
+ *     and the endpoint decides.</li>
+ *     <li>Failed fetches are cached for the time to live, so endpoints that don't allow introspection are asked for
+ *     their schema at most once per time to live.</li>
+ * </ul>
+ * Concurrent fetches for the same connection are shared.
+ */
+@Slf4j
+public class GraphQLSchemaCache {
+
+    private static final Duration DEFAULT_TIME_TO_LIVE = Duration.ofMinutes(10);
+
+    // A schema fetched this recently is not fetched again when a query fails to validate against it
+    private static final Duration DEFAULT_MIN_REFETCH_INTERVAL = Duration.ofSeconds(30);
+
+    private final Duration timeToLive;
+
+    private final Duration minRefetchInterval;
+
+    // Whether a missing or expired schema is fetched in the background when it is asked for
+    private final boolean fetchWhenMissing;
+
+    // Connections are compared by identity, as with all weak keys
+    private final Cache<APIConnection, CachedSchema> schemas =
+            CacheBuilder.newBuilder().weakKeys().build();
+
+    // Fetches in flight, shared by everyone that asks for the schema of the connection in the meantime
+    private final Cache<APIConnection, Mono<GraphQLSchema>> fetches =
+            CacheBuilder.newBuilder().weakKeys().build();
+
+    /**
+     * @param schema The schema, or null if it could not be fetched
+     */
+    private record CachedSchema(GraphQLSchema schema, Instant fetchedAt) {}
+
+    public GraphQLSchemaCache() {
+        this(DEFAULT_TIME_TO_LIVE, DEFAULT_MIN_REFETCH_INTERVAL, true);
+    }
+
+    public GraphQLSchemaCache(Duration timeToLive, Duration minRefetchInterval, boolean fetchWhenMissing) {
+        this.timeToLive = timeToLive;
+        this.minRefetchInterval = minRefetchInterval;
+        this.fetchWhenMissing = fetchWhenMissing;
+    }
+
+    /**
+     * Gets the schema of the datasource, if it has been fetched and is not older than the time to live. Unless this
+     * cache has been created not to, a missing or expired schema is fetched in the background with the fetcher. This
+     * never waits for the schema to be fetched.
+     *
+     * @return The schema, or null if there is no up-to-date schema for the datasource
+     */
+    public GraphQLSchema getSchemaIfPresent(APIConnection connection, Supplier<Mono<GraphQLSchema>> fetcher) {
+        if (connection == null) {
+            return null;
+        }
+
+        final CachedSchema cachedSchema = schemas.getIfPresent(connection);
+        if (cachedSchema != null && cachedSchema.fetchedAt().plus(timeToLive).isAfter(Instant.now())) {
+            return cachedSchema.schema();
+        }
+
+        if (!fetchWhenMissing) {
+            return null;
+        }
+
+        fetch(connection, fetcher)
+                .subscribe(
+                        schema -> {},
+                        error -> log.debug("Could not fetch the GraphQL schema of the datasource", error));
+        return null;
+    }
+
+    /**
+     * Fetches the schema of the datasource, and replaces the cached one with it.
+     */
+    public Mono<GraphQLSchema> refresh(APIConnection connection, Supplier<Mono<GraphQLSchema>> fetcher) {
+        return fetch(connection, fetcher);
+    }
+
+    /**
+     * Same as {@link #refresh}, unless the cached schema has only just been fetched, in which case that is returned.
+     * Meant for queries that fail to validate against the cached schema, which may be out of date.
+     */
+    public Mono<GraphQLSchema> refreshIfNotRecent(APIConnection connection, Supplier<Mono<GraphQLSchema>> fetcher) {
+        final CachedSchema cachedSchema = connection == null ? null : schemas.getIfPresent(connection);
+        if (cachedSchema != null
+                && cachedSchema.schema() != null
+                && cachedSchema.fetchedAt().plus(minRefetchInterval).isAfter(Instant.now())) {
+            return Mono.just(cachedSchema.schema());
+        }
+
+        return fetch(connection, fetcher);
+    }
+
+    private Mono<GraphQLSchema> fetch(APIConnection connection, Supplier<Mono<GraphQLSchema>> fetcher) {
+        if (connection == null) {
+            return Mono.defer(fetcher);
+        }
+
+        return Mono.defer(() -> {
+            final Mono<GraphQLSchema> fetch = Mono.defer(fetcher)
+                    .doOnNext(schema -> schemas.put(connection, new CachedSchema(schema, Instant.now())))
+                    // The endpoint may not allow introspection, so it isn't asked again until the time to live is up
+                    .doOnError(error -> schemas.put(connection, new CachedSchema(null, Instant.now())))
+                    // Only one fetch per connection is in flight at a time, so this can't remove a later one
+                    .doFinally(signalType -> fetches.invalidate(connection))
+                    .cache();
+
+            final Mono<GraphQLSchema> fetchInFlight = fetches.asMap().putIfAbsent(connection, fetch);
+            return fetchInFlight == null ? fetch : fetchInFlight;
+        });
+    }
+}
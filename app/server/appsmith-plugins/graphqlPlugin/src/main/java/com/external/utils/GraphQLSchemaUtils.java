@@ -0,0 +1,150 @@
+package com.external.utils;
+
+import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginError;
+import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginException;
+import com.appsmith.external.models.ActionConfiguration;
+import com.appsmith.external.models.ActionExecutionResult;
+import com.appsmith.external.models.DatasourceStructure;
+import com.appsmith.external.models.Property;
+import com.external.plugins.exceptions.GraphQLErrorMessages;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import graphql.ExecutionInput;
+import graphql.GraphQLError;
+import graphql.ParseAndValidate;
+import graphql.ParseAndValidateResult;
+import graphql.introspection.IntrospectionQuery;
+import graphql.introspection.IntrospectionResultToSchema;
+import graphql.language.Document;
+import graphql.schema.GraphQLFieldsContainer;
+import graphql.schema.GraphQLInputObjectType;
+import graphql.schema.GraphQLNamedType;
+import graphql.schema.GraphQLObjectType;
+import graphql.schema.GraphQLSchema;
+import graphql.schema.GraphQLTypeUtil;
+import graphql.schema.idl.SchemaParser;
+import graphql.schema.idl.UnExecutableSchemaGenerator;
+import org.springframework.http.HttpMethod;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+public class GraphQLSchemaUtils {
+
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+
+    /**
+     * Configuration of the introspection query that fetches the schema of the GraphQL endpoint of a datasource.
+     * Ref: https://graphql.org/learn/introspection/
+     */
+    public static ActionConfiguration getIntrospectionActionConfiguration() {
+        ActionConfiguration actionConfiguration = new ActionConfiguration();
+        actionConfiguration.setHttpMethod(HttpMethod.POST);
+        actionConfiguration.setHeaders(List.of(new Property("content-type", "application/json")));
+        actionConfiguration.setBody(IntrospectionQuery.INTROSPECTION_QUERY);
+
+        List<Property> properties = new ArrayList<>();
+        properties.add(new Property("smartSubstitution", "false"));
+        properties.add(new Property("queryVariables", "{}"));
+        actionConfiguration.setPluginSpecifiedTemplates(properties);
+        return actionConfiguration;
+    }
+
+    /**
+     * Builds the schema of the endpoint from the result of the introspection query. The schema can only be used to
+     * validate queries, as it has no way to resolve any of its fields.
+     */
+    public static GraphQLSchema getSchemaFromIntrospectionResult(ActionExecutionResult result)
+            throws AppsmithPluginException {
+        if (!Boolean.TRUE.equals(result.getIsExecutionSuccess()) || !(result.getBody() instanceof JsonNode body)) {
+            throw new AppsmithPluginException(
+                    AppsmithPluginError.PLUGIN_GET_STRUCTURE_ERROR,
+                    GraphQLErrorMessages.SCHEMA_INTROSPECTION_FAILED_ERROR_MSG);
+        }
+
+        final JsonNode data = body.path("data");
+        if (!data.path("__schema").isObject()) {
+            throw new AppsmithPluginException(
+                    AppsmithPluginError.PLUGIN_GET_STRUCTURE_ERROR,
+                    GraphQLErrorMessages.SCHEMA_INTROSPECTION_FAILED_ERROR_MSG,
+                    body.path("errors").toString());
+        }
+
+        try {
+            Map<String, Object> introspectionResult = objectMapper.convertValue(data, Map.class);
+            Document schemaDefinition = new IntrospectionResultToSchema().createSchemaDefinition(introspectionResult);
+            return UnExecutableSchemaGenerator.makeUnExecutableSchema(
+                    new SchemaParser().buildRegistry(schemaDefinition));
+        } catch (RuntimeException e) {
+            throw new AppsmithPluginException(
+                    AppsmithPluginError.PLUGIN_GET_STRUCTURE_ERROR,
+                    GraphQLErrorMessages.SCHEMA_INTROSPECTION_FAILED_ERROR_MSG,
+                    e.getMessage());
+        }
+    }
+
+    /**
+     * Checks the query against the schema, e.g. that all the fields in it exist and have all their required arguments,
+     * without sending it to the GraphQL endpoint.
+     */
+    public static void validateQueryAgainstSchema(String query, GraphQLSchema schema) throws AppsmithPluginException {
+        ParseAndValidateResult result = ParseAndValidate.parseAndValidate(
+                schema, ExecutionInput.newExecutionInput(query).build());
+        if (result.isFailure()) {
+            String errors =
+                    result.getErrors().stream().map(GraphQLError::getMessage).collect(Collectors.joining("; "));
+            throw new AppsmithPluginException(
+                    AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR,
+                    String.format(GraphQLErrorMessages.QUERY_NOT_VALID_FOR_SCHEMA_ERROR_MSG, errors));
+        }
+    }
+
+    /**
+     * Lists the types in the schema, with their fields as columns. The query, mutation and subscription types come
+     * first, as that's where the user would start writing a query.
+     */
+    public static DatasourceStructure getStructure(GraphQLSchema schema) {
+        List<GraphQLObjectType> operationTypes = Stream.of(
+                        schema.getQueryType(), schema.getMutationType(), schema.getSubscriptionType())
+                .filter(Objects::nonNull)
+                .toList();
+
+        List<DatasourceStructure.Table> tables = new ArrayList<>();
+        operationTypes.forEach(type -> tables.add(getTable(type)));
+        schema.getAllTypesAsList().stream()
+                .filter(type -> !type.getName().startsWith("__") && !operationTypes.contains(type))
+                .filter(type -> type instanceof GraphQLFieldsContainer || type instanceof GraphQLInputObjectType)
+                .sorted(Comparator.comparing(GraphQLNamedType::getName))
+                .forEach(type -> tables.add(getTable(type)));
+
+        return new DatasourceStructure(tables);
+    }
+
+    private static DatasourceStructure.Table getTable(GraphQLNamedType type) {
+        List<DatasourceStructure.Column> columns = new ArrayList<>();
+        if (type instanceof GraphQLFieldsContainer fieldsContainer) {
+            fieldsContainer
+                    .getFieldDefinitions()
+                    .forEach(field -> columns.add(new DatasourceStructure.Column(
+                            field.getName(), GraphQLTypeUtil.simplePrint(field.getType()), null, false)));
+        } else if (type instanceof GraphQLInputObjectType inputObjectType) {
+            inputObjectType
+                    .getFieldDefinitions()
+                    .forEach(field -> columns.add(new DatasourceStructure.Column(
+                            field.getName(), GraphQLTypeUtil.simplePrint(field.getType()), null, false)));
+        }
+
+        return new DatasourceStructure.Table(
+                DatasourceStructure.TableType.TABLE,
+                null,
+                type.getName(),
+                columns,
+                new ArrayList<>(),
+                new ArrayList<>());
+    }
+}
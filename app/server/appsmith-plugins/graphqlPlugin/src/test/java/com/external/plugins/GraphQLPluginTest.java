@@ -10,6 +10,7 @@ import com.appsmith.external.models.ActionExecutionResult;
 import com.appsmith.external.models.ApiKeyAuth;
 import com.appsmith.external.models.AuthenticationDTO;
 import com.appsmith.external.models.DatasourceConfiguration;
+import com.appsmith.external.models.DatasourceStructure;
 import com.appsmith.external.models.OAuth2;
 import com.appsmith.external.models.PaginationField;
 import com.appsmith.external.models.PaginationType;
@@ -18,8 +19,17 @@ import com.appsmith.external.models.Property;
 import com.appsmith.external.services.SharedConfig;
 import com.external.plugins.exceptions.GraphQLPluginError;
 import com.external.utils.GraphQLHintMessageUtils;
+import com.external.utils.GraphQLPrefetchCache;
+import com.external.utils.GraphQLSchemaCache;
 import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ObjectNode;
+import graphql.ExecutionResult;
+import graphql.GraphQL;
+import graphql.introspection.IntrospectionQuery;
+import graphql.schema.GraphQLSchema;
+import graphql.schema.idl.SchemaParser;
+import graphql.schema.idl.UnExecutableSchemaGenerator;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
 import mockwebserver3.MockResponse;
@@ -46,6 +56,7 @@ import javax.crypto.SecretKey;
 import java.io.EOFException;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
@@ -65,10 +76,12 @@ import static com.appsmith.external.helpers.restApiUtils.helpers.HintMessageUtil
 import static com.appsmith.external.helpers.restApiUtils.helpers.HintMessageUtils.DUPLICATE_ATTRIBUTE_LOCATION.DATASOURCE_AND_ACTION_CONFIG;
 import static com.appsmith.external.helpers.restApiUtils.helpers.HintMessageUtils.DUPLICATE_ATTRIBUTE_LOCATION.DATASOURCE_CONFIG_ONLY;
 import static com.external.utils.GraphQLBodyUtils.QUERY_VARIABLES_INDEX;
+import static com.external.utils.GraphQLPaginationUtils.getNextPageCursor;
 import static com.external.utils.GraphQLPaginationUtils.updateVariablesWithPaginationValues;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 @Testcontainers
@@ -111,6 +124,8 @@ public class GraphQLPluginTest {
         hintMessageUtils = new GraphQLHintMessageUtils();
         mockEndpoint = new MockWebServer();
         mockEndpoint.start();
+        // Requests to the mock endpoint are counted, so schemas are only fetched along with the structure here
+        pluginExecutor.setSchemaCache(new GraphQLSchemaCache(Duration.ofMinutes(10), Duration.ofSeconds(30), false));
     }
 
     @AfterEach
@@ -1309,6 +1324,261 @@ public class GraphQLPluginTest {
                         .getValue());
     }
 
+    private ActionConfiguration getCursorPaginatedActionConfiguration(String nextCursor) {
+        ActionConfiguration actionConfig = getDefaultActionConfiguration();
+        actionConfig.setPaginationType(PaginationType.CURSOR);
+        actionConfig.getPluginSpecifiedTemplates().get(QUERY_VARIABLES_INDEX).setValue("{}");
+
+        Map<String, Object> paginationDataMap = new HashMap<>();
+        setValueSafelyInFormData(paginationDataMap, "cursorBased.next.limit.name", "first");
+        setValueSafelyInFormData(paginationDataMap, "cursorBased.next.limit.value", "3");
+        setValueSafelyInFormData(paginationDataMap, "cursorBased.next.cursor.name", "after");
+        setValueSafelyInFormData(paginationDataMap, "cursorBased.next.cursor.value", nextCursor);
+        setValueSafelyInFormData(paginationDataMap, "cursorBased.next.prefetch", true);
+        Property property = new Property();
+        property.setKey("paginationData");
+        property.setValue(paginationDataMap);
+        actionConfig.getPluginSpecifiedTemplates().add(property);
+        return actionConfig;
+    }
+
+    private static String getPostsPage(String endCursor, boolean hasNextPage) {
+        return "{\"data\":{\"allPosts\":{\"nodes\":[{\"id\":1}],\"pageInfo\":{\"endCursor\":\"" + endCursor
+                + "\",\"hasNextPage\":" + hasNextPage + "}}}}";
+    }
+
+    @Test
+    public void testNextPageIsPrefetchedAndServedFromCache() throws InterruptedException {
+        DatasourceConfiguration dsConfig = getDefaultDatasourceConfig();
+        dsConfig.setUrl(String.format("http://%s:%s", mockEndpoint.getHostName(), mockEndpoint.getPort()));
+        mockEndpoint.enqueue(new MockResponse()
+                .setBody(getPostsPage("cursor1", true))
+                .addHeader("Content-Type", "application/json"));
+        mockEndpoint.enqueue(new MockResponse()
+                .setBody(getPostsPage("cursor2", false))
+                .addHeader("Content-Type", "application/json"));
+
+        GraphQLPlugin.GraphQLPluginExecutor prefetchingPluginExecutor =
+                new GraphQLPlugin.GraphQLPluginExecutor(new MockSharedConfig());
+        final APIConnection apiConnection =
+                prefetchingPluginExecutor.datasourceCreate(dsConfig).block();
+        ExecuteActionDTO executeActionDTO = new ExecuteActionDTO();
+        executeActionDTO.setActionId("actionId");
+        executeActionDTO.setPaginationField(PaginationField.NEXT);
+
+        StepVerifier.create(prefetchingPluginExecutor.executeParameterized(
+                        apiConnection, executeActionDTO, dsConfig, getCursorPaginatedActionConfiguration("null")))
+                .assertNext(result -> {
+                    assertTrue(result.getIsExecutionSuccess());
+                    assertEquals(
+                            "cursor1",
+                            ((JsonNode) result.getBody())
+                                    .at("/data/allPosts/pageInfo/endCursor")
+                                    .asText());
+                })
+                .verifyComplete();
+
+        RecordedRequest firstPageRequest = mockEndpoint.takeRequest(30, TimeUnit.SECONDS);
+        assertNotNull(firstPageRequest);
+        assertTrue(firstPageRequest.getBody().readUtf8().contains("\"variables\":{\"first\":3}"));
+
+        // The next page is fetched without the user asking for it
+        RecordedRequest nextPageRequest = mockEndpoint.takeRequest(30, TimeUnit.SECONDS);
+        assertNotNull(nextPageRequest);
+        assertTrue(nextPageRequest.getBody().readUtf8().contains("\"after\":\"cursor1\""));
+
+        StepVerifier.create(prefetchingPluginExecutor.executeParameterized(
+                        apiConnection, executeActionDTO, dsConfig, getCursorPaginatedActionConfiguration("cursor1")))
+                .assertNext(result -> {
+                    assertTrue(result.getIsExecutionSuccess());
+                    assertEquals(
+                            "cursor2",
+                            ((JsonNode) result.getBody())
+                                    .at("/data/allPosts/pageInfo/endCursor")
+                                    .asText());
+                })
+                .verifyComplete();
+
+        // The second page was served from the cache, and there's no page after it to fetch
+        assertEquals(2, mockEndpoint.getRequestCount());
+        assertEquals(1, prefetchingPluginExecutor.getPrefetchCache().getStats().hitCount());
+        assertEquals(1, prefetchingPluginExecutor.getPrefetchCache().getStats().missCount());
+        assertEquals(0, prefetchingPluginExecutor.getPrefetchCache().size());
+    }
+
+    @Test
+    public void testPrefetchCacheIsBoundedByPageSize() {
+        GraphQLPrefetchCache prefetchCache = new GraphQLPrefetchCache(Duration.ofSeconds(30), 1000);
+        ActionConfiguration actionConfig = getDefaultActionConfiguration();
+
+        ActionExecutionResult largePage = new ActionExecutionResult();
+        largePage.setIsExecutionSuccess(true);
+        largePage.setBody("x".repeat(5000));
+        GraphQLPrefetchCache.PageKey largePageKey =
+                GraphQLPrefetchCache.getPageKey(null, "largePage", "http://localhost/graphql", actionConfig);
+        prefetchCache.prefetch(largePageKey, () -> Mono.just(largePage));
+
+        ActionExecutionResult smallPage = new ActionExecutionResult();
+        smallPage.setIsExecutionSuccess(true);
+        smallPage.setBody("{\"data\":{}}");
+        GraphQLPrefetchCache.PageKey smallPageKey =
+                GraphQLPrefetchCache.getPageKey(null, "smallPage", "http://localhost/graphql", actionConfig);
+        prefetchCache.prefetch(smallPageKey, () -> Mono.just(smallPage));
+
+        // The large page is evicted as soon as it has been fetched and weighed
+        StepVerifier.create(prefetchCache.take(largePageKey)).verifyComplete();
+        StepVerifier.create(prefetchCache.take(smallPageKey))
+                .assertNext(result -> assertEquals("{\"data\":{}}", result.getBody()))
+                .verifyComplete();
+        assertEquals(0, prefetchCache.size());
+    }
+
+    @Test
+    public void testNextPageCursorIsOnlyFoundForSingleConnectionWithNextPage() throws Exception {
+        ObjectMapper objectMapper = new ObjectMapper();
+
+        assertEquals("cursor1", getNextPageCursor(objectMapper.readTree(getPostsPage("cursor1", true))));
+        assertNull(getNextPageCursor(objectMapper.readTree(getPostsPage("cursor1", false))));
+        assertNull(getNextPageCursor("not a json response"));
+
+        String twoConnections = "{\"data\":{\"a\":{\"pageInfo\":{\"endCursor\":\"x\",\"hasNextPage\":true}},"
+                + "\"b\":{\"pageInfo\":{\"endCursor\":\"y\",\"hasNextPage\":true}}}}";
+        assertNull(getNextPageCursor(objectMapper.readTree(twoConnections)));
+    }
+
+    @Test
+    public void testGetStructureAndValidateQueryAgainstSchema() throws Exception {
+        DatasourceConfiguration dsConfig = getDefaultDatasourceConfig();
+        dsConfig.setUrl(String.format("http://%s:%s", mockEndpoint.getHostName(), mockEndpoint.getPort()));
+
+        GraphQLSchema schema = UnExecutableSchemaGenerator.makeUnExecutableSchema(new SchemaParser()
+                .parse("type Query { allPosts(first: Int): [Post] } type Post { id: Int title: String }"));
+        ExecutionResult introspectionResult =
+                GraphQL.newGraphQL(schema).build().execute(IntrospectionQuery.INTROSPECTION_QUERY);
+        mockEndpoint.enqueue(new MockResponse()
+                .setBody(new ObjectMapper().writeValueAsString(introspectionResult.toSpecification()))
+                .addHeader("Content-Type", "application/json"));
+
+        final APIConnection apiConnection =
+                pluginExecutor.datasourceCreate(dsConfig).block();
+
+        StepVerifier.create(pluginExecutor.getStructure(apiConnection, dsConfig))
+                .assertNext(structure -> {
+                    List<DatasourceStructure.Table> tables = structure.getTables();
+                    assertEquals(2, tables.size());
+                    assertEquals("Query", tables.get(0).getName());
+                    assertEquals("allPosts", tables.get(0).getColumns().get(0).getName());
+                    assertEquals("[Post]", tables.get(0).getColumns().get(0).getType());
+                    assertEquals("Post", tables.get(1).getName());
+                    assertEquals(
+                            List.of("id", "title"),
+                            tables.get(1).getColumns().stream()
+                                    .map(DatasourceStructure.Column::getName)
+                                    .toList());
+                })
+                .verifyComplete();
+
+        // A query with a field that isn't in the schema fails without being sent to the endpoint
+        ActionConfiguration invalidActionConfig = getDefaultActionConfiguration();
+        invalidActionConfig.setBody("query { allPosts(first: 1) { name } }");
+        StepVerifier.create(pluginExecutor.executeParameterized(
+                        apiConnection, new ExecuteActionDTO(), dsConfig, invalidActionConfig))
+                .expectErrorMatches(throwable -> throwable instanceof AppsmithPluginException
+                        && throwable.getMessage().contains("name"))
+                .verify();
+        assertEquals(1, mockEndpoint.getRequestCount());
+
+        mockEndpoint.enqueue(new MockResponse()
+                .setBody("{\"data\":{\"allPosts\":[{\"title\":\"Hello\"}]}}")
+                .addHeader("Content-Type", "application/json"));
+        ActionConfiguration validActionConfig = getDefaultActionConfiguration();
+        validActionConfig.setBody("query { allPosts(first: 1) { title } }");
+        StepVerifier.create(pluginExecutor.executeParameterized(
+                        apiConnection, new ExecuteActionDTO(), dsConfig, validActionConfig))
+                .assertNext(result -> assertTrue(result.getIsExecutionSuccess()))
+                .verifyComplete();
+        assertEquals(2, mockEndpoint.getRequestCount());
+    }
+
+    private MockResponse getIntrospectionResponse(String schemaDefinition) throws Exception {
+        GraphQLSchema schema =
+                UnExecutableSchemaGenerator.makeUnExecutableSchema(new SchemaParser().parse(schemaDefinition));
+        ExecutionResult introspectionResult =
+                GraphQL.newGraphQL(schema).build().execute(IntrospectionQuery.INTROSPECTION_QUERY);
+        return new MockResponse()
+                .setBody(new ObjectMapper().writeValueAsString(introspectionResult.toSpecification()))
+                .addHeader("Content-Type", "application/json");
+    }
+
+    @Test
+    public void testQueryInvalidForStaleSchemaIsValidatedAgainstFreshSchema() throws Exception {
+        DatasourceConfiguration dsConfig = getDefaultDatasourceConfig();
+        dsConfig.setUrl(String.format("http://%s:%s", mockEndpoint.getHostName(), mockEndpoint.getPort()));
+        pluginExecutor.setSchemaCache(new GraphQLSchemaCache(Duration.ofMinutes(10), Duration.ZERO, false));
+        final APIConnection apiConnection =
+                pluginExecutor.datasourceCreate(dsConfig).block();
+
+        mockEndpoint.enqueue(
+                getIntrospectionResponse("type Query { allPosts(first: Int): [Post] } type Post { id: Int }"));
+        StepVerifier.create(pluginExecutor.getStructure(apiConnection, dsConfig))
+                .expectNextCount(1)
+                .verifyComplete();
+
+        // The field has since been added to the schema, so the query is sent once the schema has been fetched again
+        mockEndpoint.enqueue(getIntrospectionResponse(
+                "type Query { allPosts(first: Int): [Post] } type Post { id: Int title: String }"));
+        mockEndpoint.enqueue(new MockResponse()
+                .setBody("{\"data\":{\"allPosts\":[{\"title\":\"Hello\"}]}}")
+                .addHeader("Content-Type", "application/json"));
+        ActionConfiguration actionConfig = getDefaultActionConfiguration();
+        actionConfig.setBody("query { allPosts(first: 1) { title } }");
+        StepVerifier.create(pluginExecutor.executeParameterized(
+                        apiConnection, new ExecuteActionDTO(), dsConfig, actionConfig))
+                .assertNext(result -> assertTrue(result.getIsExecutionSuccess()))
+                .verifyComplete();
+        assertEquals(3, mockEndpoint.getRequestCount());
+
+        // A query that isn't valid for the fresh schema either is rejected after fetching the schema once more
+        mockEndpoint.enqueue(getIntrospectionResponse(
+                "type Query { allPosts(first: Int): [Post] } type Post { id: Int title: String }"));
+        ActionConfiguration invalidActionConfig = getDefaultActionConfiguration();
+        invalidActionConfig.setBody("query { allPosts(first: 1) { name } }");
+        StepVerifier.create(pluginExecutor.executeParameterized(
+                        apiConnection, new ExecuteActionDTO(), dsConfig, invalidActionConfig))
+                .expectErrorMatches(throwable -> throwable instanceof AppsmithPluginException
+                        && throwable.getMessage().contains("name"))
+                .verify();
+        assertEquals(4, mockEndpoint.getRequestCount());
+    }
+
+    @Test
+    public void testQueryInvalidForStaleSchemaIsSentWhenSchemaCannotBeFetched() throws Exception {
+        DatasourceConfiguration dsConfig = getDefaultDatasourceConfig();
+        dsConfig.setUrl(String.format("http://%s:%s", mockEndpoint.getHostName(), mockEndpoint.getPort()));
+        pluginExecutor.setSchemaCache(new GraphQLSchemaCache(Duration.ofMinutes(10), Duration.ZERO, false));
+        final APIConnection apiConnection =
+                pluginExecutor.datasourceCreate(dsConfig).block();
+
+        mockEndpoint.enqueue(
+                getIntrospectionResponse("type Query { allPosts(first: Int): [Post] } type Post { id: Int }"));
+        StepVerifier.create(pluginExecutor.getStructure(apiConnection, dsConfig))
+                .expectNextCount(1)
+                .verifyComplete();
+
+        // Introspection has since been turned off, so the endpoint is left to judge the query
+        mockEndpoint.enqueue(new MockResponse().setResponseCode(500));
+        mockEndpoint.enqueue(new MockResponse()
+                .setBody("{\"data\":{\"allPosts\":[{\"title\":\"Hello\"}]}}")
+                .addHeader("Content-Type", "application/json"));
+        ActionConfiguration actionConfig = getDefaultActionConfiguration();
+        actionConfig.setBody("query { allPosts(first: 1) { title } }");
+        StepVerifier.create(pluginExecutor.executeParameterized(
+                        apiConnection, new ExecuteActionDTO(), dsConfig, actionConfig))
+                .assertNext(result -> assertTrue(result.getIsExecutionSuccess()))
+                .verifyComplete();
+        assertEquals(3, mockEndpoint.getRequestCount());
+    }
+
     @Test
     public void verifyUniquenessOfGraphQLPluginErrorCode() {
         assertEquals(
@@ -34,36 +34,34 @@ import com.external.plugins.constants.MongoSpecialDataTypes;
 import com.external.plugins.datatypes.MongoSpecificDataTypes;
 import com.external.plugins.exceptions.MongoPluginError;
 import com.external.plugins.exceptions.MongoPluginErrorMessages;
+import com.external.plugins.utils.BsonToJsonNodeConverter;
 import com.external.plugins.utils.MongoErrorUtils;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.mongodb.ConnectionString;
-import com.mongodb.DBRefCodecProvider;
+import com.mongodb.MongoClientException;
 import com.mongodb.MongoClientSettings;
 import com.mongodb.MongoCommandException;
 import com.mongodb.MongoSocketWriteException;
 import com.mongodb.MongoTimeoutException;
-import com.mongodb.client.gridfs.codecs.GridFSFileCodecProvider;
-import com.mongodb.client.model.geojson.codecs.GeoJsonCodecProvider;
 import com.mongodb.connection.ConnectionPoolSettings;
+import com.mongodb.reactivestreams.client.ClientSession;
 import com.mongodb.reactivestreams.client.MongoClient;
 import com.mongodb.reactivestreams.client.MongoClients;
 import com.mongodb.reactivestreams.client.MongoDatabase;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
+import org.bson.BsonArray;
+import org.bson.BsonDocument;
+import org.bson.BsonInt32;
+import org.bson.BsonInt64;
+import org.bson.BsonString;
+import org.bson.BsonValue;
 import org.bson.Document;
-import org.bson.codecs.BsonTypeClassMap;
-import org.bson.codecs.BsonValueCodecProvider;
-import org.bson.codecs.DocumentCodec;
-import org.bson.codecs.DocumentCodecProvider;
-import org.bson.codecs.IterableCodecProvider;
-import org.bson.codecs.MapCodecProvider;
-import org.bson.codecs.ValueCodecProvider;
-import org.bson.codecs.configuration.CodecRegistries;
-import org.bson.codecs.configuration.CodecRegistry;
+import org.bson.RawBsonDocument;
 import org.bson.conversions.Bson;
-import org.json.JSONArray;
-import org.json.JSONObject;
 import org.pf4j.Extension;
 import org.pf4j.PluginWrapper;
 import org.reactivestreams.Publisher;
@@ -74,14 +72,10 @@ import reactor.core.publisher.Mono;
 import reactor.core.scheduler.Scheduler;
 import reactor.core.scheduler.Schedulers;
 
-import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.time.Duration;
 import java.time.Instant;
-import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
-import java.util.Arrays;
-import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
@@ -105,6 +99,7 @@ import static com.appsmith.external.helpers.PluginUtils.validConfigurationPresen
 import static com.external.plugins.constants.FieldName.AGGREGATE_PIPELINES;
 import static com.external.plugins.constants.FieldName.BODY;
 import static com.external.plugins.constants.FieldName.COUNT_QUERY;
+import static com.external.plugins.constants.FieldName.CURSOR_DOCUMENT_LIMIT;
 import static com.external.plugins.constants.FieldName.DELETE_QUERY;
 import static com.external.plugins.constants.FieldName.DISTINCT_QUERY;
 import static com.external.plugins.constants.FieldName.FIND_PROJECTION;
@@ -157,6 +152,14 @@ public class MongoPlugin extends BasePlugin {
 
     private static final int TEST_DATASOURCE_TIMEOUT_SECONDS = 15;
 
+    // Maximum number of documents collected across all the batches of a cursor, unless configured on the action
+    private static final int DEFAULT_CURSOR_DOCUMENT_LIMIT = 10000;
+
+    // Maximum size of the BSON output read while following a cursor. Any further batches are not fetched.
+    private static final long CURSOR_BYTES_LIMIT = 32L * 1024 * 1024;
+
+    private static final String CURSOR = "cursor";
+
     private static final String MOCK_DB_MOVIES_COLLECTION_NAME = "movies";
 
     /**
@@ -203,18 +206,6 @@ public class MongoPlugin extends BasePlugin {
 
     private static final MongoErrorUtils mongoErrorUtils = MongoErrorUtils.getInstance();
 
-    private static final CodecRegistry DEFAULT_REGISTRY = CodecRegistries.fromProviders(Arrays.asList(
-            new ValueCodecProvider(),
-            new IterableCodecProvider(),
-            new BsonValueCodecProvider(),
-            new DocumentCodecProvider(),
-            new MapCodecProvider(),
-            new DBRefCodecProvider(),
-            new GeoJsonCodecProvider(),
-            new GridFSFileCodecProvider()));
-
-    private static final BsonTypeClassMap DEFAULT_BSON_TYPE_CLASS_MAP = new org.bson.codecs.BsonTypeClassMap();
-
     public MongoPlugin(PluginWrapper wrapper) {
         super(wrapper);
     }
@@ -308,7 +299,7 @@ public class MongoPlugin extends BasePlugin {
                 log.info("Encountered null connection in MongoDB plugin. Reporting back.");
                 throw new StaleConnectionException(MONGO_CLIENT_NULL_ERROR_MSG);
             }
-            Mono<Document> mongoOutputMono;
+            Mono<MongoCommandOutput> mongoOutputMono;
             ActionExecutionResult result = new ActionExecutionResult();
             String query;
             List<RequestParamDTO> requestParams;
@@ -319,8 +310,31 @@ public class MongoPlugin extends BasePlugin {
 
                 query = PluginUtils.getDataValueSafelyFromFormData(formData, BODY, STRING_TYPE);
                 Bson command = Document.parse(query);
+                final int cursorDocumentLimit = getCursorDocumentLimit(formData);
 
-                mongoOutputMono = Mono.from(database.runCommand(command));
+                /*
+                 * The command and all the getMore calls following its cursor have to run in the same session,
+                 * otherwise the server refuses to hand out further batches of the cursor. Deployments that don't
+                 * support sessions get the command and its getMore calls run without one, which such deployments
+                 * allow.
+                 */
+                mongoOutputMono = Mono.usingWhen(
+                                Mono.from(mongoClient.startSession())
+                                        .onErrorResume(
+                                                error -> error instanceof MongoClientException
+                                                        && !(error instanceof MongoTimeoutException),
+                                                error -> {
+                                                    log.debug(
+                                                            "Running mongo command without a session: {}",
+                                                            error.getMessage());
+                                                    return Mono.empty();
+                                                }),
+                                session -> Mono.from(database.runCommand(session, command, RawBsonDocument.class))
+                                        .flatMap(output ->
+                                                readCommandOutput(database, session, output, cursorDocumentLimit)),
+                                session -> Mono.fromRunnable(session::close))
+                        .switchIfEmpty(Mono.defer(() -> Mono.from(database.runCommand(command, RawBsonDocument.class))
+                                .flatMap(output -> readCommandOutput(database, null, output, cursorDocumentLimit))));
                 requestParams = List.of(new RequestParamDTO(ACTION_CONFIGURATION_BODY, query, null, null, null));
             } catch (Exception error) {
                 return Mono.error(new AppsmithPluginException(
@@ -351,103 +365,94 @@ public class MongoPlugin extends BasePlugin {
                     // database drops the connection which makes the client throw the following exception.
                     .onErrorMap(
                             MongoSocketWriteException.class, error -> new StaleConnectionException(error.getMessage()))
-                    .flatMap(mongoOutput -> {
-                        try {
-                            /*
-                             * Added Custom codec for JSON conversion since MongoDB Reactive API does not support
-                             * processing of DbRef Object.
-                             * https://github.com/spring-projects/spring-data-mongodb/issues/3015 : Mark Paluch commented
-                             */
-                            DocumentCodec documentCodec =
-                                    new DocumentCodec(DEFAULT_REGISTRY, DEFAULT_BSON_TYPE_CLASS_MAP);
-
-                            JSONObject outputJson = new JSONObject(mongoOutput.toJson(documentCodec));
-
-                            // The output json contains the key "ok". This is the status of the command
-                            BigInteger status = outputJson.getBigInteger("ok");
-                            JSONArray headerArray = new JSONArray();
-
-                            if (BigInteger.ONE.equals(status)) {
-                                result.setIsExecutionSuccess(true);
-                                result.setDataTypes(List.of(
-                                        new ParsedDataType(DisplayDataType.JSON),
-                                        new ParsedDataType(DisplayDataType.RAW)));
-
-                                /*
-                                 For the `findAndModify` command, we don't get the count of modifications made. Instead,
-                                 we either get the modified new value or the pre-modified old value (depending on the
-                                 `new` field in the command. Let's return that value to the user.
-                                */
-                                if (outputJson.has(VALUE)) {
-                                    result.setBody(objectMapper.readTree(
-                                            cleanUp(new JSONObject().put(VALUE, outputJson.get(VALUE)))
-                                                    .toString()));
-                                }
-
-                                /*
-                                 The json contains key "cursor" when find command was issued and there are 1 or more
-                                 results. In case there are no results for find, this key is not present in the result json.
-                                */
-                                if (outputJson.has("cursor")) {
-                                    JSONArray outputResult = (JSONArray) cleanUp(
-                                            outputJson.getJSONObject("cursor").getJSONArray("firstBatch"));
-                                    result.setBody(objectMapper.readTree(outputResult.toString()));
-                                }
+                    .flatMap(mongoCommandOutput -> {
+                        /*
+                         * The BSON output is converted straight into Jackson nodes. Going through the driver's JSON
+                         * representation would cost a string serialization and two rounds of parsing per execution.
+                         */
+                        BsonDocument mongoOutput = mongoCommandOutput.getOutput();
+
+                        // The output contains the key "ok". This is the status of the command
+                        BigInteger status = getBigInteger(mongoOutput.get("ok"));
+                        ArrayNode headerArray = objectMapper.createArrayNode();
+
+                        if (BigInteger.ONE.equals(status)) {
+                            result.setIsExecutionSuccess(true);
+                            result.setDataTypes(List.of(
+                                    new ParsedDataType(DisplayDataType.JSON), new ParsedDataType(DisplayDataType.RAW)));
 
-                                /*
-                                 The json contains key "n" when insert/update command is issued. "n" for update
-                                 signifies the no of documents selected for update. "n" in case of insert signifies the
-                                 number of documents inserted.
-                                */
-                                if (outputJson.has("n")) {
-                                    JSONObject body = new JSONObject().put("n", outputJson.getBigInteger("n"));
-                                    result.setBody(objectMapper.readTree(body.toString()));
-                                    headerArray.put(body);
-                                }
+                            /*
+                             For the `findAndModify` command, we don't get the count of modifications made. Instead,
+                             we either get the modified new value or the pre-modified old value (depending on the
+                             `new` field in the command. Let's return that value to the user.
+                            */
+                            if (mongoOutput.containsKey(VALUE)) {
+                                ObjectNode body = objectMapper.createObjectNode();
+                                body.set(VALUE, BsonToJsonNodeConverter.toJsonNode(mongoOutput.get(VALUE)));
+                                result.setBody(body);
+                            }
 
-                                /*
-                                 The json key contains key "nModified" in case of update command. This signifies the no of
-                                 documents updated.
-                                */
-                                if (outputJson.has(N_MODIFIED)) {
-                                    JSONObject body =
-                                            new JSONObject().put(N_MODIFIED, outputJson.getBigInteger(N_MODIFIED));
-                                    result.setBody(objectMapper.readTree(body.toString()));
-                                    headerArray.put(body);
+                            /*
+                             The output contains key "cursor" when find command was issued and there are 1 or more
+                             results. In case there are no results for find, this key is not present in the result.
+                             All the batches of the cursor up to the configured limit have already been collected.
+                            */
+                            if (mongoCommandOutput.getCursorDocuments() != null) {
+                                result.setBody(mongoCommandOutput.getCursorDocuments());
+
+                                if (mongoCommandOutput.isTruncated()) {
+                                    result.setMessages(Set.of(String.format(
+                                            MongoPluginErrorMessages.CURSOR_RESULT_TRUNCATED_MSG,
+                                            mongoCommandOutput
+                                                    .getCursorDocuments()
+                                                    .size())));
                                 }
+                            }
 
-                                /*
-                                 The json contains key "values" when distinct command is used.
-                                */
-                                if (outputJson.has(VALUES)) {
-                                    JSONArray outputResult = (JSONArray) cleanUp(outputJson.getJSONArray(VALUES));
-
-                                    ObjectNode resultNode = objectMapper.createObjectNode();
-
-                                    // Create a JSON structure with the results stored with a key to abide by the
-                                    // Server-Client contract of only sending array of objects in result.
-                                    resultNode.putArray(VALUES).addAll((ArrayNode)
-                                            objectMapper.readTree(outputResult.toString()));
+                            /*
+                             The output contains key "n" when insert/update command is issued. "n" for update
+                             signifies the no of documents selected for update. "n" in case of insert signifies the
+                             number of documents inserted.
+                            */
+                            if (mongoOutput.containsKey("n")) {
+                                ObjectNode body =
+                                        objectMapper.createObjectNode().put("n", getBigInteger(mongoOutput.get("n")));
+                                result.setBody(body);
+                                headerArray.add(body);
+                            }
 
-                                    result.setBody(objectMapper.readTree(resultNode.toString()));
-                                }
+                            /*
+                             The output contains key "nModified" in case of update command. This signifies the no of
+                             documents updated.
+                            */
+                            if (mongoOutput.containsKey(N_MODIFIED)) {
+                                ObjectNode body = objectMapper
+                                        .createObjectNode()
+                                        .put(N_MODIFIED, getBigInteger(mongoOutput.get(N_MODIFIED)));
+                                result.setBody(body);
+                                headerArray.add(body);
+                            }
 
-                                /*
-                                TODO Go through all the possible fields that are returned in the output JSON and add all the fields
-                                 that are important to the headerArray.
-                                 */
+                            /*
+                             The output contains key "values" when distinct command is used.
+                            */
+                            if (mongoOutput.containsKey(VALUES)) {
+                                // Create a JSON structure with the results stored with a key to abide by the
+                                // Server-Client contract of only sending array of objects in result.
+                                ObjectNode resultNode = objectMapper.createObjectNode();
+                                resultNode.set(VALUES, BsonToJsonNodeConverter.toJsonNode(mongoOutput.get(VALUES)));
+                                result.setBody(resultNode);
                             }
 
-                            JSONObject statusJson = new JSONObject().put("ok", status);
-                            headerArray.put(statusJson);
-                            result.setHeaders(objectMapper.readTree(headerArray.toString()));
-                        } catch (JsonProcessingException e) {
-                            return Mono.error(new AppsmithPluginException(
-                                    MongoPluginError.QUERY_EXECUTION_FAILED,
-                                    MongoPluginErrorMessages.QUERY_EXECUTION_FAILED_ERROR_MSG,
-                                    e.getMessage()));
+                            /*
+                            TODO Go through all the possible fields that are returned in the output JSON and add all the fields
+                             that are important to the headerArray.
+                             */
                         }
 
+                        headerArray.add(objectMapper.createObjectNode().put("ok", status));
+                        result.setHeaders(headerArray);
+
                         return Mono.just(result);
                     })
                     .onErrorResume(error -> {
@@ -484,6 +489,149 @@ public class MongoPlugin extends BasePlugin {
                     .subscribeOn(scheduler);
         }
 
+        @Getter
+        @AllArgsConstructor
+        private static class MongoCommandOutput {
+            BsonDocument output;
+
+            // Documents collected across all the batches of the cursor, null if the command didn't return a cursor
+            ArrayNode cursorDocuments;
+
+            // Whether the cursor had more documents than were collected
+            boolean truncated;
+        }
+
+        private int getCursorDocumentLimit(Map<String, Object> formData) {
+            Object limit = getDataValueSafelyFromFormData(formData, CURSOR_DOCUMENT_LIMIT, OBJECT_TYPE);
+            if (limit == null || isBlank(String.valueOf(limit))) {
+                return DEFAULT_CURSOR_DOCUMENT_LIMIT;
+            }
+
+            try {
+                int cursorDocumentLimit = Integer.parseInt(String.valueOf(limit).trim());
+                return cursorDocumentLimit > 0 ? cursorDocumentLimit : DEFAULT_CURSOR_DOCUMENT_LIMIT;
+            } catch (NumberFormatException e) {
+                throw new AppsmithPluginException(
+                        AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR,
+                        String.format(MongoPluginErrorMessages.INVALID_CURSOR_DOCUMENT_LIMIT_ERROR_MSG, limit));
+            }
+        }
+
+        private static BigInteger getBigInteger(BsonValue value) {
+            if (value == null || !value.isNumber()) {
+                return null;
+            }
+
+            return value.isDouble()
+                    ? BigInteger.valueOf((long) value.asDouble().getValue())
+                    : BigInteger.valueOf(value.asNumber().longValue());
+        }
+
+        /**
+         * Commands like find and aggregate only return the first batch of their cursor. This method keeps issuing
+         * getMore commands on the cursor until it is exhausted, or the document or byte limit is reached, in which
+         * case the cursor is killed on the server and the output is marked as truncated. Without a session, i.e. when
+         * the session is null, the getMore and killCursors commands are run without one as well.
+         */
+        private Mono<MongoCommandOutput> readCommandOutput(
+                MongoDatabase database, ClientSession session, RawBsonDocument output, int cursorDocumentLimit) {
+            if (!output.isDocument(CURSOR)) {
+                return Mono.just(new MongoCommandOutput(output, null, false));
+            }
+
+            ArrayNode cursorDocuments = objectMapper.createArrayNode();
+            return followCursor(
+                            database,
+                            session,
+                            output.getDocument(CURSOR),
+                            "firstBatch",
+                            cursorDocuments,
+                            cursorDocumentLimit,
+                            output.getByteBuffer().remaining())
+                    .map(truncated -> new MongoCommandOutput(output, cursorDocuments, truncated));
+        }
+
+        private Mono<Boolean> followCursor(
+                MongoDatabase database,
+                ClientSession session,
+                BsonDocument cursor,
+                String batchField,
+                ArrayNode cursorDocuments,
+                int cursorDocumentLimit,
+                long bytesRead) {
+            long cursorId = cursor.getNumber("id", new BsonInt64(0)).longValue();
+            String collection = getCursorCollection(cursor);
+
+            BsonArray batch = cursor.getArray(batchField, new BsonArray());
+            for (BsonValue document : batch) {
+                if (cursorDocuments.size() >= cursorDocumentLimit) {
+                    return killCursor(database, session, cursorId, collection).thenReturn(true);
+                }
+                cursorDocuments.add(BsonToJsonNodeConverter.toJsonNode(document));
+            }
+
+            if (cursorId == 0) {
+                return Mono.just(false);
+            }
+
+            if (cursorDocuments.size() >= cursorDocumentLimit
+                    || bytesRead >= CURSOR_BYTES_LIMIT
+                    || collection == null) {
+                return killCursor(database, session, cursorId, collection).thenReturn(true);
+            }
+
+            BsonDocument getMore = new BsonDocument("getMore", new BsonInt64(cursorId))
+                    .append("collection", new BsonString(collection))
+                    .append("batchSize", new BsonInt32(cursorDocumentLimit - cursorDocuments.size()));
+
+            return Mono.from(runCommand(database, session, getMore))
+                    .flatMap(nextOutput -> followCursor(
+                            database,
+                            session,
+                            nextOutput.getDocument(CURSOR),
+                            "nextBatch",
+                            cursorDocuments,
+                            cursorDocumentLimit,
+                            bytesRead + nextOutput.getByteBuffer().remaining()));
+        }
+
+        private static Publisher<RawBsonDocument> runCommand(
+                MongoDatabase database, ClientSession session, BsonDocument command) {
+            return session == null
+                    ? database.runCommand(command, RawBsonDocument.class)
+                    : database.runCommand(session, command, RawBsonDocument.class);
+        }
+
+        private Mono<Void> killCursor(MongoDatabase database, ClientSession session, long cursorId, String collection) {
+            if (cursorId == 0 || collection == null) {
+                return Mono.empty();
+            }
+
+            BsonDocument killCursors = new BsonDocument("killCursors", new BsonString(collection))
+                    .append("cursors", new BsonArray(List.of(new BsonInt64(cursorId))));
+
+            // The cursor would time out on the server anyway, hence failing to kill it must not fail the execution.
+            return Mono.from(runCommand(database, session, killCursors))
+                    .onErrorResume(error -> {
+                        log.debug("Failed to kill mongo cursor {}: {}", cursorId, error.getMessage());
+                        return Mono.empty();
+                    })
+                    .then();
+        }
+
+        /**
+         * The cursor namespace is of the form `database.collection`. The collection name itself may contain dots.
+         */
+        private static String getCursorCollection(BsonDocument cursor) {
+            if (!cursor.isString("ns")) {
+                return null;
+            }
+
+            String namespace = cursor.getString("ns").getValue();
+            int separatorIndex = namespace.indexOf('.');
+            return separatorIndex < 0 ? null : namespace.substring(separatorIndex + 1);
+        }
+
         /**
          * This method is part of the pre-processing of the replacement value before the final substitution that
          * happens as part of smart substitution process.
@@ -1055,54 +1203,4 @@ public class MongoPlugin extends BasePlugin {
             }
         }
     }
-
-    private static Object cleanUp(Object object) {
-        if (object instanceof JSONObject) {
-            JSONObject jsonObject = (JSONObject) object;
-            final boolean isSingleKey = jsonObject.keySet().size() == 1;
-
-            if (isSingleKey && "$numberLong".equals(jsonObject.keys().next())) {
-                return jsonObject.getBigInteger("$numberLong");
-
-            } else if (isSingleKey && "$oid".equals(jsonObject.keys().next())) {
-                return jsonObject.getString("$oid");
-
-            } else if (isSingleKey && "$date".equals(jsonObject.keys().next())) {
-                JSONObject dateJSON = jsonObject.optJSONObject("$date");
-                /*
-                    For dates before Jan 1, 1970 then the output json from MongoDB driver looks like
-                    "$date": {
-                        "$numberLong": "-493033770000"
-                    }
-                    And for dates on or after Jan 1, 1970 the output json from MongoDB driver is readily available and looks like
-                    "$date": "2022-07-01T10:32:37.318Z"
-                */
-                if (dateJSON != null
-                        && dateJSON.keySet().size() == 1
-                        && "$numberLong".equals(dateJSON.keys().next())) {
-                    return DateTimeFormatter.ISO_INSTANT.format(Instant.ofEpochMilli(dateJSON.getLong("$numberLong")));
-                }
-                return DateTimeFormatter.ISO_INSTANT.format(Instant.parse(jsonObject.getString("$date")));
-
-            } else if (isSingleKey && "$numberDecimal".equals(jsonObject.keys().next())) {
-                return new BigDecimal(jsonObject.getString("$numberDecimal"));
-
-            } else {
-                for (String key : new HashSet<>(jsonObject.keySet())) {
-                    jsonObject.put(key, cleanUp(jsonObject.get(key)));
-                }
-            }
-
-        } else if (object instanceof JSONArray) {
-            Collection<Object> cleaned = new ArrayList<>();
-
-            for (Object child : (JSONArray) object) {
-                cleaned.add(cleanUp(child));
-            }
-
-            return new JSONArray(cleaned);
-        }
-
-        return object;
-    }
 }
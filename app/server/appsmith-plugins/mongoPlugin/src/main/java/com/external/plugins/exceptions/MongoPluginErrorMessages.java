@@ -18,6 +18,12 @@ public class MongoPluginErrorMessages {
 
     public static final String UNPARSABLE_FIELDNAME_ERROR_MSG = "%s has an invalid JSON format.";
 
+    public static final String INVALID_CURSOR_DOCUMENT_LIMIT_ERROR_MSG =
+            "Maximum documents to fetch should be a positive number, found: %s";
+
+    public static final String CURSOR_RESULT_TRUNCATED_MSG =
+            "The query returned more documents than the configured limit. Only the first %s documents are shown.";
+
     public static final String NO_VALID_MONGO_COMMAND_FOUND_ERROR_MSG = "No valid mongo command found.";
 
     public static final String FIELD_WITH_NO_CONFIGURATION_ERROR_MSG = "Try again after configuring the fields : %s";
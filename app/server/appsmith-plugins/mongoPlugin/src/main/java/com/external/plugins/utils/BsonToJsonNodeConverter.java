@@ -0,0 +1,153 @@
+package com.external.plugins.utils;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.bson.BsonBinary;
+import org.bson.BsonDbPointer;
+import org.bson.BsonDocument;
+import org.bson.BsonJavaScriptWithScope;
+import org.bson.BsonRegularExpression;
+import org.bson.BsonTimestamp;
+import org.bson.BsonValue;
+
+import java.time.Instant;
+import java.time.format.DateTimeFormatter;
+import java.util.Base64;
+import java.util.Map;
+
+/**
+ * Converts BSON values returned by the Mongo driver straight into Jackson nodes, without going through an
+ * intermediate JSON string. The output mirrors what the relaxed extended JSON representation of the driver looks like
+ * after cleanup, i.e. ObjectIds are rendered as plain strings, dates as ISO instants, longs and decimals as plain
+ * numbers. Types that don't have a natural JSON counterpart keep their extended JSON wrapper.
+ */
+public class BsonToJsonNodeConverter {
+
+    private static final JsonNodeFactory nodeFactory = JsonNodeFactory.instance;
+
+    public static JsonNode toJsonNode(BsonValue value) {
+        if (value == null) {
+            return nodeFactory.nullNode();
+        }
+
+        switch (value.getBsonType()) {
+            case DOCUMENT:
+                return toObjectNode(value.asDocument());
+
+            case ARRAY: {
+                ArrayNode arrayNode = nodeFactory.arrayNode();
+                for (BsonValue item : value.asArray()) {
+                    arrayNode.add(toJsonNode(item));
+                }
+                return arrayNode;
+            }
+
+            case STRING:
+                return nodeFactory.textNode(value.asString().getValue());
+
+            case INT32:
+                return nodeFactory.numberNode(value.asInt32().getValue());
+
+            case INT64:
+                return nodeFactory.numberNode(value.asInt64().getValue());
+
+            case DOUBLE: {
+                double doubleValue = value.asDouble().getValue();
+                if (Double.isNaN(doubleValue) || Double.isInfinite(doubleValue)) {
+                    return wrap("$numberDouble", nodeFactory.textNode(Double.toString(doubleValue)));
+                }
+                return nodeFactory.numberNode(doubleValue);
+            }
+
+            case DECIMAL128:
+                return nodeFactory.numberNode(value.asDecimal128().getValue().bigDecimalValue());
+
+            case BOOLEAN:
+                return nodeFactory.booleanNode(value.asBoolean().getValue());
+
+            case OBJECT_ID:
+                return nodeFactory.textNode(value.asObjectId().getValue().toHexString());
+
+            case DATE_TIME:
+                return nodeFactory.textNode(DateTimeFormatter.ISO_INSTANT.format(
+                        Instant.ofEpochMilli(value.asDateTime().getValue())));
+
+            case NULL:
+                return nodeFactory.nullNode();
+
+            case BINARY: {
+                BsonBinary binary = value.asBinary();
+                ObjectNode binaryNode = nodeFactory.objectNode();
+                binaryNode.put("base64", Base64.getEncoder().encodeToString(binary.getData()));
+                binaryNode.put("subType", String.format("%02x", binary.getType()));
+                return wrap("$binary", binaryNode);
+            }
+
+            case TIMESTAMP: {
+                BsonTimestamp timestamp = value.asTimestamp();
+                ObjectNode timestampNode = nodeFactory.objectNode();
+                timestampNode.put("t", timestamp.getTime());
+                timestampNode.put("i", timestamp.getInc());
+                return wrap("$timestamp", timestampNode);
+            }
+
+            case REGULAR_EXPRESSION: {
+                BsonRegularExpression regex = value.asRegularExpression();
+                ObjectNode regexNode = nodeFactory.objectNode();
+                regexNode.put("pattern", regex.getPattern());
+                regexNode.put("options", regex.getOptions());
+                return wrap("$regularExpression", regexNode);
+            }
+
+            case JAVASCRIPT:
+                return wrap("$code", nodeFactory.textNode(value.asJavaScript().getCode()));
+
+            case JAVASCRIPT_WITH_SCOPE: {
+                BsonJavaScriptWithScope javaScript = value.asJavaScriptWithScope();
+                ObjectNode codeNode = nodeFactory.objectNode();
+                codeNode.put("$code", javaScript.getCode());
+                codeNode.set("$scope", toObjectNode(javaScript.getScope()));
+                return codeNode;
+            }
+
+            case SYMBOL:
+                return wrap("$symbol", nodeFactory.textNode(value.asSymbol().getSymbol()));
+
+            case DB_POINTER: {
+                BsonDbPointer pointer = value.asDBPointer();
+                ObjectNode pointerNode = nodeFactory.objectNode();
+                pointerNode.put("$ref", pointer.getNamespace());
+                pointerNode.put("$id", pointer.getId().toHexString());
+                return wrap("$dbPointer", pointerNode);
+            }
+
+            case UNDEFINED:
+                return wrap("$undefined", nodeFactory.booleanNode(true));
+
+            case MIN_KEY:
+                return wrap("$minKey", nodeFactory.numberNode(1));
+
+            case MAX_KEY:
+                return wrap("$maxKey", nodeFactory.numberNode(1));
+
+            default:
+                return nodeFactory.textNode(value.toString());
+        }
+    }
+
+    public static ObjectNode toObjectNode(BsonDocument document) {
+        ObjectNode objectNode = nodeFactory.objectNode();
+        for (Map.Entry<String, BsonValue> entry : document.entrySet()) {
+            objectNode.set(entry.getKey(), toJsonNode(entry.getValue()));
+        }
+        return objectNode;
+    }
+
+    private static ObjectNode wrap(String key, JsonNode value) {
+        ObjectNode objectNode = nodeFactory.objectNode();
+        objectNode.set(key, value);
+        return objectNode;
+    }
+}
@@ -7,7 +7,8 @@ import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginError;
 import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginException;
 import com.appsmith.external.exceptions.pluginExceptions.StaleConnectionException;
 import com.appsmith.external.helpers.DataTypeServiceUtils;
-import com.appsmith.external.helpers.MustacheHelper;
+import com.appsmith.external.helpers.PreparedStatementTemplateCache;
+import com.appsmith.external.helpers.PreparedStatementTemplateCache.PreparedStatementTemplate;
 import com.appsmith.external.models.ActionConfiguration;
 import com.appsmith.external.models.ActionExecutionRequest;
 import com.appsmith.external.models.ActionExecutionResult;
@@ -95,6 +96,9 @@ public class MssqlPlugin extends BasePlugin {
 
     private static final long LEAK_DETECTION_TIME_MS = 60 * 1000;
 
+    // Number of prepared statement handles cached per connection by the driver
+    private static final int STATEMENT_POOLING_CACHE_SIZE = 256;
+
     private static final long MS_SQL_DEFAULT_PORT = 1433L;
 
     public static final MssqlDatasourceUtils mssqlDatasourceUtils = new MssqlDatasourceUtils();
@@ -167,10 +171,11 @@ public class MssqlPlugin extends BasePlugin {
             }
 
             // Prepared Statement
-            // First extract all the bindings in order
-            List<MustacheBindingToken> mustacheKeysInOrder = MustacheHelper.extractMustacheKeysInOrder(query);
-            // Replace all the bindings with a `?` as expected in a prepared statement.
-            String updatedQuery = MustacheHelper.replaceMustacheWithQuestionMark(query, mustacheKeysInOrder);
+            // Extract all the bindings in order and replace them with a ? as expected in a prepared statement. The
+            // parsed template is cached per query body so that repeated executions skip the regex based parsing.
+            PreparedStatementTemplate preparedStatementTemplate = PreparedStatementTemplateCache.getOrParse(query);
+            List<MustacheBindingToken> mustacheKeysInOrder = preparedStatementTemplate.getBindings();
+            String updatedQuery = preparedStatementTemplate.getQuery();
             actionConfiguration.setBody(updatedQuery);
             return executeCommon(hikariDSConnection, actionConfiguration, TRUE, mustacheKeysInOrder, executeActionDTO);
         }
@@ -352,6 +357,11 @@ public class MssqlPlugin extends BasePlugin {
                     .subscribeOn(scheduler);
         }
 
+        @Override
+        public Mono<Integer> getMaxConcurrentExecutions(DatasourceConfiguration datasourceConfiguration) {
+            return Mono.just(MAXIMUM_POOL_SIZE);
+        }
+
         @Override
         public void datasourceDestroy(HikariDataSource connection) {
             if (connection != null) {
@@ -563,6 +573,9 @@ public class MssqlPlugin extends BasePlugin {
         // Configuring leak detection threshold for 60 seconds. Any connection which hasn't been released in 60 seconds
         // should get tracked (may be falsely for long running queries) as leaked connection
         hikariConfig.setLeakDetectionThreshold(LEAK_DETECTION_TIME_MS);
+        // Reuse prepared statement handles on the server for repeated executions of the same query
+        hikariConfig.addDataSourceProperty("disableStatementPooling", "false");
+        hikariConfig.addDataSourceProperty("statementPoolingCacheSize", String.valueOf(STATEMENT_POOLING_CACHE_SIZE));
 
         authentication = (DBAuth) datasourceConfiguration.getAuthentication();
         if (authentication.getUsername() != null) {
@@ -6,7 +6,8 @@ import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginError;
 import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginException;
 import com.appsmith.external.exceptions.pluginExceptions.StaleConnectionException;
 import com.appsmith.external.helpers.DataTypeServiceUtils;
-import com.appsmith.external.helpers.MustacheHelper;
+import com.appsmith.external.helpers.PreparedStatementTemplateCache;
+import com.appsmith.external.helpers.PreparedStatementTemplateCache.PreparedStatementTemplate;
 import com.appsmith.external.helpers.SSHTunnelContext;
 import com.appsmith.external.helpers.SSHUtils;
 import com.appsmith.external.models.ActionConfiguration;
@@ -237,10 +238,11 @@ public class MySqlPlugin extends BasePlugin {
             }
 
             // This has to be executed as Prepared Statement
-            // First extract all the bindings in order
-            List<MustacheBindingToken> mustacheKeysInOrder = MustacheHelper.extractMustacheKeysInOrder(query);
-            // Replace all the bindings with a ? as expected in a prepared statement.
-            String updatedQuery = MustacheHelper.replaceMustacheWithQuestionMark(query, mustacheKeysInOrder);
+            // Extract all the bindings in order and replace them with a ? as expected in a prepared statement. The
+            // parsed template is cached per query body so that repeated executions skip the regex based parsing.
+            PreparedStatementTemplate preparedStatementTemplate = PreparedStatementTemplateCache.getOrParse(query);
+            List<MustacheBindingToken> mustacheKeysInOrder = preparedStatementTemplate.getBindings();
+            String updatedQuery = preparedStatementTemplate.getQuery();
             // Set the query with bindings extracted and replaced with '?' back in config
             actionConfiguration.setBody(updatedQuery);
             return executeCommon(
@@ -657,6 +659,11 @@ public class MySqlPlugin extends BasePlugin {
             });
         }
 
+        @Override
+        public Mono<Integer> getMaxConcurrentExecutions(DatasourceConfiguration datasourceConfiguration) {
+            return Mono.just(MySqlDatasourceUtils.MAX_CONNECTION_POOL_SIZE);
+        }
+
         @Override
         public void datasourceDestroy(ConnectionContext<ConnectionPool> connectionContext) {
             Mono.just(connectionContext)
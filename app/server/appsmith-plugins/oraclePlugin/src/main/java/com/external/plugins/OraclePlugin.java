@@ -6,7 +6,8 @@ import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginError;
 import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginException;
 import com.appsmith.external.exceptions.pluginExceptions.StaleConnectionException;
 import com.appsmith.external.helpers.DataTypeServiceUtils;
-import com.appsmith.external.helpers.MustacheHelper;
+import com.appsmith.external.helpers.PreparedStatementTemplateCache;
+import com.appsmith.external.helpers.PreparedStatementTemplateCache.PreparedStatementTemplate;
 import com.appsmith.external.models.ActionConfiguration;
 import com.appsmith.external.models.ActionExecutionRequest;
 import com.appsmith.external.models.ActionExecutionResult;
@@ -110,6 +111,11 @@ public class OraclePlugin extends BasePlugin {
                     .subscribeOn(scheduler);
         }
 
+        @Override
+        public Mono<Integer> getMaxConcurrentExecutions(DatasourceConfiguration datasourceConfiguration) {
+            return Mono.just(OracleDatasourceUtils.MAXIMUM_POOL_SIZE);
+        }
+
         @Override
         public void datasourceDestroy(HikariDataSource connection) {
             OracleDatasourceUtils.datasourceDestroy(connection);
@@ -161,10 +167,11 @@ public class OraclePlugin extends BasePlugin {
                 return executeCommon(connectionPool, datasourceConfiguration, actionConfiguration, FALSE, null, null);
             }
 
-            // First extract all the bindings in order
-            List<MustacheBindingToken> mustacheKeysInOrder = MustacheHelper.extractMustacheKeysInOrder(query);
-            // Replace all the bindings with a ? as expected in a prepared statement.
-            String updatedQuery = MustacheHelper.replaceMustacheWithQuestionMark(query, mustacheKeysInOrder);
+            // Extract all the bindings in order and replace them with a ? as expected in a prepared statement. The
+            // parsed template is cached per query body so that repeated executions skip the regex based parsing.
+            PreparedStatementTemplate preparedStatementTemplate = PreparedStatementTemplateCache.getOrParse(query);
+            List<MustacheBindingToken> mustacheKeysInOrder = preparedStatementTemplate.getBindings();
+            String updatedQuery = preparedStatementTemplate.getQuery();
             /**
              * PL/SQL cmds have a block structure of the following format: DECLARE...BEGIN...EXCEPTION...END
              * Ref: https://blogs.oracle.com/connect/post/building-with-blocks
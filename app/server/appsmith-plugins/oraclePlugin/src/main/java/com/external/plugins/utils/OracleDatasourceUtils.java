@@ -48,6 +48,7 @@ public class OracleDatasourceUtils {
     public static final int MINIMUM_POOL_SIZE = 1;
     public static final int MAXIMUM_POOL_SIZE = 5;
     public static final long LEAK_DETECTION_TIME_MS = 60 * 1000;
+    public static final int IMPLICIT_STATEMENT_CACHE_SIZE = 256;
     public static final String JDBC_DRIVER = "oracle.jdbc.driver.OracleDriver";
     public static final String ORACLE_URL_PREFIX = "jdbc:oracle:thin:@tcp://";
     public static final int ORACLE_URL_PREFIX_TCPS_OFFSET = 21;
@@ -444,6 +445,10 @@ public class OracleDatasourceUtils {
         // should get tracked (may be falsely for long running queries) as leaked connection
         config.setLeakDetectionThreshold(LEAK_DETECTION_TIME_MS);
 
+        // Cache prepared statements per connection so that repeated executions of the same query skip the parse step
+        config.addDataSourceProperty(
+                "oracle.jdbc.implicitStatementCacheSize", String.valueOf(IMPLICIT_STATEMENT_CACHE_SIZE));
+
         // Now create the connection pool from the configuration
         HikariDataSource datasource = null;
         try {
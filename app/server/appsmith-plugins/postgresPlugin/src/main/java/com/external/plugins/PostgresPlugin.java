@@ -8,7 +8,8 @@ import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginError;
 import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginException;
 import com.appsmith.external.exceptions.pluginExceptions.StaleConnectionException;
 import com.appsmith.external.helpers.DataTypeServiceUtils;
-import com.appsmith.external.helpers.MustacheHelper;
+import com.appsmith.external.helpers.PreparedStatementTemplateCache;
+import com.appsmith.external.helpers.PreparedStatementTemplateCache.PreparedStatementTemplate;
 import com.appsmith.external.models.ActionConfiguration;
 import com.appsmith.external.models.ActionExecutionRequest;
 import com.appsmith.external.models.ActionExecutionResult;
@@ -263,10 +264,11 @@ public class PostgresPlugin extends BasePlugin {
 
             // Prepared Statement
 
-            // First extract all the bindings in order
-            List<MustacheBindingToken> mustacheKeysInOrder = MustacheHelper.extractMustacheKeysInOrder(query);
-            // Replace all the bindings with a ? as expected in a prepared statement.
-            String updatedQuery = MustacheHelper.replaceMustacheWithQuestionMark(query, mustacheKeysInOrder);
+            // Extract all the bindings in order and replace them with a ? as expected in a prepared statement. The
+            // parsed template is cached per query body so that repeated executions skip the regex based parsing.
+            PreparedStatementTemplate preparedStatementTemplate = PreparedStatementTemplateCache.getOrParse(query);
+            List<MustacheBindingToken> mustacheKeysInOrder = preparedStatementTemplate.getBindings();
+            String updatedQuery = preparedStatementTemplate.getQuery();
             List<DataType> explicitCastDataTypes = extractExplicitCasting(updatedQuery);
             actionConfiguration.setBody(updatedQuery);
             return executeCommon(
@@ -646,6 +648,11 @@ public class PostgresPlugin extends BasePlugin {
                     .subscribeOn(scheduler);
         }
 
+        @Override
+        public Mono<Integer> getMaxConcurrentExecutions(DatasourceConfiguration datasourceConfiguration) {
+            return connectionPoolConfig.getMaxConnectionPoolSize().map(PostgresPlugin::getMaxPoolSize);
+        }
+
         @Override
         public void datasourceDestroy(HikariDataSource connection) {
             if (connection != null) {
@@ -1100,6 +1107,13 @@ public class PostgresPlugin extends BasePlugin {
      * @param datasourceConfiguration
      * @return connection pool
      */
+    private static int getMaxPoolSize(Integer maximumConfigurablePoolSize) {
+        if (maximumConfigurablePoolSize != null && maximumConfigurablePoolSize >= MAXIMUM_POOL_SIZE) {
+            return maximumConfigurablePoolSize;
+        }
+        return MAXIMUM_POOL_SIZE;
+    }
+
     private static HikariDataSource createConnectionPool(
             DatasourceConfiguration datasourceConfiguration, Integer maximumConfigurablePoolSize)
             throws AppsmithPluginException {
@@ -1111,12 +1125,7 @@ public class PostgresPlugin extends BasePlugin {
         com.appsmith.external.models.Connection configurationConnection = datasourceConfiguration.getConnection();
         config.setMinimumIdle(MINIMUM_POOL_SIZE);
 
-        int maxPoolSize = MAXIMUM_POOL_SIZE;
-        if (maximumConfigurablePoolSize != null && maximumConfigurablePoolSize >= maxPoolSize) {
-            maxPoolSize = maximumConfigurablePoolSize;
-        }
-
-        config.setMaximumPoolSize(maxPoolSize);
+        config.setMaximumPoolSize(getMaxPoolSize(maximumConfigurablePoolSize));
 
         // Set authentication properties
         DBAuth authentication = (DBAuth) datasourceConfiguration.getAuthentication();
@@ -376,6 +376,11 @@ public class RedshiftPlugin extends BasePlugin {
                     .subscribeOn(scheduler);
         }
 
+        @Override
+        public Mono<Integer> getMaxConcurrentExecutions(DatasourceConfiguration datasourceConfiguration) {
+            return Mono.just(RedshiftDatasourceUtils.MAXIMUM_POOL_SIZE);
+        }
+
         @Override
         public void datasourceDestroy(HikariDataSource connectionPool) {
             if (connectionPool != null) {
@@ -14,6 +14,7 @@ import com.appsmith.external.plugins.BasePlugin;
 import com.appsmith.external.plugins.PluginExecutor;
 import com.external.plugins.exceptions.SMTPErrorMessages;
 import com.external.plugins.exceptions.SMTPPluginError;
+import com.external.utils.SmtpTransportPool;
 import jakarta.activation.DataHandler;
 import jakarta.activation.DataSource;
 import jakarta.mail.AuthenticationFailedException;
@@ -39,8 +40,11 @@ import org.pf4j.PluginWrapper;
 import org.springframework.util.CollectionUtils;
 import org.springframework.util.StringUtils;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Base64;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -61,118 +65,51 @@ public class SmtpPlugin extends BasePlugin {
     }
 
     @Extension
-    public static class SmtpPluginExecutor implements PluginExecutor<Session> {
+    public static class SmtpPluginExecutor implements PluginExecutor<SmtpTransportPool> {
 
         private static final String ENCODING = "UTF-8";
 
+        private static final int MAXIMUM_POOL_SIZE = 5;
+
+        private final Scheduler scheduler = Schedulers.boundedElastic();
+
+        /**
+         * An attachment decoded once, to be added to every email of the action.
+         */
+        private record Attachment(String name, DataSource dataSource) {}
+
         @Override
         public Mono<ActionExecutionResult> execute(
-                Session connection,
+                SmtpTransportPool connection,
                 DatasourceConfiguration datasourceConfiguration,
                 ActionConfiguration actionConfiguration) {
 
-            MimeMessage message = getMimeMessage(connection);
-            ActionExecutionResult result = new ActionExecutionResult();
+            final Map<String, Object> formData = actionConfiguration.getFormData();
+            final boolean isBatch =
+                    Boolean.TRUE.equals(PluginUtils.getValueSafelyFromFormData(formData, "send.isBatch"));
+            final List<MimeMessage> messages = new ArrayList<>();
             try {
-                String fromAddress =
-                        (String) PluginUtils.getValueSafelyFromFormData(actionConfiguration.getFormData(), "send.from");
-                String toAddress =
-                        (String) PluginUtils.getValueSafelyFromFormData(actionConfiguration.getFormData(), "send.to");
-                String ccAddress =
-                        (String) PluginUtils.getValueSafelyFromFormData(actionConfiguration.getFormData(), "send.cc");
-                String bccAddress =
-                        (String) PluginUtils.getValueSafelyFromFormData(actionConfiguration.getFormData(), "send.bcc");
-                String subject = (String)
-                        PluginUtils.getValueSafelyFromFormData(actionConfiguration.getFormData(), "send.subject");
-                String bodyType = (String)
-                        PluginUtils.getValueSafelyFromFormData(actionConfiguration.getFormData(), "send.bodyType");
-                Boolean isReplyTo = (Boolean)
-                        PluginUtils.getValueSafelyFromFormData(actionConfiguration.getFormData(), "send.isReplyTo");
-                String replyTo = Boolean.TRUE.equals(isReplyTo)
-                        ? (String) PluginUtils.getValueSafelyFromFormData(
-                                actionConfiguration.getFormData(), "send.replyTo")
-                        : null;
-
-                if (!StringUtils.hasText(toAddress)) {
-                    return Mono.error(new AppsmithPluginException(
-                            AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR,
-                            SMTPErrorMessages.RECIPIENT_ADDRESS_NOT_FOUND_ERROR_MSG));
-                }
-                if (!StringUtils.hasText(fromAddress)) {
-                    return Mono.error(new AppsmithPluginException(
-                            AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR,
-                            SMTPErrorMessages.SENDER_ADDRESS_NOT_FOUND_ERROR_MSG));
-                }
-                message.setRecipients(Message.RecipientType.TO, InternetAddress.parse(toAddress, false));
-                message.setFrom(new InternetAddress(fromAddress));
-
-                if (StringUtils.hasText(ccAddress)) {
-                    message.setRecipients(Message.RecipientType.CC, InternetAddress.parse(ccAddress, false));
-                }
-                if (StringUtils.hasText(bccAddress)) {
-                    message.setRecipients(Message.RecipientType.BCC, InternetAddress.parse(bccAddress, false));
-                }
-                if (StringUtils.hasText(replyTo)) {
-                    message.setReplyTo(InternetAddress.parse(replyTo, false));
-                }
-
-                message.setSubject(subject, ENCODING);
-
-                String msg = StringUtils.hasText(actionConfiguration.getBody()) ? actionConfiguration.getBody() : "";
-                bodyType = StringUtils.hasText(bodyType) ? bodyType : "text/html";
-                String msgType = String.format("%s; charset=%s", bodyType, ENCODING);
-
-                MimeBodyPart mimeBodyPart = getMimeBodyPart();
-
-                mimeBodyPart.setContent(msg, msgType);
-                Multipart multipart = new MimeMultipart();
-                multipart.addBodyPart(mimeBodyPart);
-                message.setContent(multipart);
-
-                // Look for any attachments that need to be sent along with this email
-                String attachmentsStr = (String)
-                        PluginUtils.getValueSafelyFromFormData(actionConfiguration.getFormData(), "send.attachments");
-
-                if (StringUtils.hasText(attachmentsStr)) {
-                    MultipartFormDataDTO[] attachmentData =
-                            objectMapper.readValue(attachmentsStr, MultipartFormDataDTO[].class);
-
-                    // Iterate over each attachment and add it to the main multipart body of the email
-                    for (MultipartFormDataDTO attachment : attachmentData) {
-                        MimeBodyPart attachBodyPart = getMimeBodyPart();
+                final List<Attachment> attachments = getAttachments(formData);
+
+                if (isBatch) {
+                    String messagesStr = (String) PluginUtils.getValueSafelyFromFormData(formData, "send.messages");
+                    Map<String, Object>[] batchFields = StringUtils.hasText(messagesStr)
+                            ? objectMapper.readValue(messagesStr, Map[].class)
+                            : new Map[0];
+                    if (batchFields.length == 0) {
+                        return Mono.error(new AppsmithPluginException(
+                                AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR,
+                                SMTPErrorMessages.BATCH_MESSAGES_NOT_FOUND_ERROR_MSG));
+                    }
 
-                        // Decode the base64 data received in the input by first removing the sequence
-                        // data:image/png;base64,
-                        // from the start of the string.
-                        Base64.Decoder decoder = Base64.getDecoder();
-                        String attachmentStr = String.valueOf(attachment.getData());
-                        if (!attachmentStr.contains(BASE64_DELIMITER)) {
-                            return Mono.error(new AppsmithPluginException(
-                                    SMTPPluginError.MAIL_SENDING_FAILED,
-                                    String.format(
-                                            SMTPErrorMessages.INVALID_ATTACHMENT_ERROR_MSG, attachment.getName())));
-                        }
-                        byte[] bytes = decoder.decode(attachmentStr.split(BASE64_DELIMITER)[1]);
-                        DataSource emailDatasource = new ByteArrayDataSource(bytes, attachment.getType());
-
-                        attachBodyPart.setDataHandler(new DataHandler(emailDatasource));
-                        attachBodyPart.setDisposition(Part.ATTACHMENT);
-                        attachBodyPart.setFileName(attachment.getName());
-                        // Add the attachment body part to the multipart body
-                        multipart.addBodyPart(attachBodyPart);
+                    for (Map<String, Object> fields : batchFields) {
+                        messages.add(createMessage(connection.getSession(), actionConfiguration, fields, attachments));
                     }
+                } else {
+                    messages.add(createMessage(connection.getSession(), actionConfiguration, Map.of(), attachments));
                 }
-
-                // Send the email now
-                log.debug("Going to send the email");
-                Transport.send(message);
-
-                result.setIsExecutionSuccess(true);
-                Map<String, String> responseBody = new HashMap<>();
-                responseBody.put("message", "Sent the email successfully");
-                result.setBody(objectMapper.valueToTree(responseBody));
-
-                log.debug("Sent the email successfully");
+            } catch (AppsmithPluginException e) {
+                return Mono.error(e);
             } catch (MessagingException e) {
                 return Mono.error(new AppsmithPluginException(
                         SMTPPluginError.MAIL_SENDING_FAILED,
@@ -185,7 +122,156 @@ public class SmtpPlugin extends BasePlugin {
                         e.getMessage()));
             }
 
-            return Mono.just(result);
+            return Mono.fromCallable(() -> {
+                        // Send the emails now
+                        log.debug("Going to send {} email(s)", messages.size());
+                        try {
+                            connection.send(messages);
+                        } catch (SmtpTransportPool.SendException e) {
+                            throw new AppsmithPluginException(
+                                    SMTPPluginError.MAIL_SENDING_FAILED,
+                                    isBatch
+                                            ? String.format(
+                                                    SMTPErrorMessages.BATCH_SENDING_FAILED_ERROR_MSG,
+                                                    e.getSentCount() + 1,
+                                                    messages.size(),
+                                                    e.getSentCount())
+                                            : SMTPErrorMessages.MAIL_SENDING_FAILED_ERROR_MSG,
+                                    e.getMessage());
+                        } catch (MessagingException e) {
+                            throw new AppsmithPluginException(
+                                    SMTPPluginError.MAIL_SENDING_FAILED,
+                                    SMTPErrorMessages.MAIL_SENDING_FAILED_ERROR_MSG,
+                                    e.getMessage());
+                        }
+
+                        ActionExecutionResult result = new ActionExecutionResult();
+                        result.setIsExecutionSuccess(true);
+                        Map<String, Object> responseBody = new HashMap<>();
+                        if (isBatch) {
+                            responseBody.put("message", "Sent the emails successfully");
+                            responseBody.put("sentCount", messages.size());
+                        } else {
+                            responseBody.put("message", "Sent the email successfully");
+                        }
+                        result.setBody(objectMapper.valueToTree(responseBody));
+
+                        log.debug("Sent {} email(s) successfully", messages.size());
+                        return result;
+                    })
+                    .subscribeOn(scheduler);
+        }
+
+        /**
+         * Creates one email of the action. Fields of a batch entry take precedence over the fields of the action.
+         */
+        private MimeMessage createMessage(
+                Session session,
+                ActionConfiguration actionConfiguration,
+                Map<String, Object> batchFields,
+                List<Attachment> attachments)
+                throws MessagingException {
+            final Map<String, Object> formData = actionConfiguration.getFormData();
+
+            MimeMessage message = getMimeMessage(session);
+            String fromAddress = getField(formData, batchFields, "from");
+            String toAddress = getField(formData, batchFields, "to");
+            String ccAddress = getField(formData, batchFields, "cc");
+            String bccAddress = getField(formData, batchFields, "bcc");
+            String subject = getField(formData, batchFields, "subject");
+            String bodyType = getField(formData, batchFields, "bodyType");
+            Boolean isReplyTo = (Boolean) PluginUtils.getValueSafelyFromFormData(formData, "send.isReplyTo");
+            String replyTo = Boolean.TRUE.equals(isReplyTo) ? getField(formData, batchFields, "replyTo") : null;
+
+            if (!StringUtils.hasText(toAddress)) {
+                throw new AppsmithPluginException(
+                        AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR,
+                        SMTPErrorMessages.RECIPIENT_ADDRESS_NOT_FOUND_ERROR_MSG);
+            }
+            if (!StringUtils.hasText(fromAddress)) {
+                throw new AppsmithPluginException(
+                        AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR,
+                        SMTPErrorMessages.SENDER_ADDRESS_NOT_FOUND_ERROR_MSG);
+            }
+            message.setRecipients(Message.RecipientType.TO, InternetAddress.parse(toAddress, false));
+            message.setFrom(new InternetAddress(fromAddress));
+
+            if (StringUtils.hasText(ccAddress)) {
+                message.setRecipients(Message.RecipientType.CC, InternetAddress.parse(ccAddress, false));
+            }
+            if (StringUtils.hasText(bccAddress)) {
+                message.setRecipients(Message.RecipientType.BCC, InternetAddress.parse(bccAddress, false));
+            }
+            if (StringUtils.hasText(replyTo)) {
+                message.setReplyTo(InternetAddress.parse(replyTo, false));
+            }
+
+            message.setSubject(subject, ENCODING);
+
+            String msg = batchFields.get("body") != null
+                    ? String.valueOf(batchFields.get("body"))
+                    : actionConfiguration.getBody();
+            msg = StringUtils.hasText(msg) ? msg : "";
+            bodyType = StringUtils.hasText(bodyType) ? bodyType : "text/html";
+            String msgType = String.format("%s; charset=%s", bodyType, ENCODING);
+
+            MimeBodyPart mimeBodyPart = getMimeBodyPart();
+
+            mimeBodyPart.setContent(msg, msgType);
+            Multipart multipart = new MimeMultipart();
+            multipart.addBodyPart(mimeBodyPart);
+            message.setContent(multipart);
+
+            // Add the attachments to the main multipart body of the email
+            for (Attachment attachment : attachments) {
+                MimeBodyPart attachBodyPart = getMimeBodyPart();
+                attachBodyPart.setDataHandler(new DataHandler(attachment.dataSource()));
+                attachBodyPart.setDisposition(Part.ATTACHMENT);
+                attachBodyPart.setFileName(attachment.name());
+                multipart.addBodyPart(attachBodyPart);
+            }
+
+            return message;
+        }
+
+        private String getField(Map<String, Object> formData, Map<String, Object> batchFields, String field) {
+            Object value = batchFields.get(field);
+            if (value == null) {
+                value = PluginUtils.getValueSafelyFromFormData(formData, "send." + field);
+            }
+            return value == null ? null : String.valueOf(value);
+        }
+
+        /**
+         * Look for any attachments that need to be sent along with the emails of this action.
+         */
+        private List<Attachment> getAttachments(Map<String, Object> formData) throws IOException {
+            String attachmentsStr = (String) PluginUtils.getValueSafelyFromFormData(formData, "send.attachments");
+            if (!StringUtils.hasText(attachmentsStr)) {
+                return List.of();
+            }
+
+            MultipartFormDataDTO[] attachmentData =
+                    objectMapper.readValue(attachmentsStr, MultipartFormDataDTO[].class);
+
+            List<Attachment> attachments = new ArrayList<>();
+            for (MultipartFormDataDTO attachment : attachmentData) {
+                // Decode the base64 data received in the input by first removing the sequence
+                // data:image/png;base64,
+                // from the start of the string.
+                Base64.Decoder decoder = Base64.getDecoder();
+                String attachmentStr = String.valueOf(attachment.getData());
+                if (!attachmentStr.contains(BASE64_DELIMITER)) {
+                    throw new AppsmithPluginException(
+                            SMTPPluginError.MAIL_SENDING_FAILED,
+                            String.format(SMTPErrorMessages.INVALID_ATTACHMENT_ERROR_MSG, attachment.getName()));
+                }
+                byte[] bytes = decoder.decode(attachmentStr.split(BASE64_DELIMITER)[1]);
+                attachments.add(
+                        new Attachment(attachment.getName(), new ByteArrayDataSource(bytes, attachment.getType())));
+            }
+
+            return attachments;
         }
 
         @NotNull MimeBodyPart getMimeBodyPart() {
@@ -197,7 +283,7 @@ public class SmtpPlugin extends BasePlugin {
         }
 
         @Override
-        public Mono<Session> datasourceCreate(DatasourceConfiguration datasourceConfiguration) {
+        public Mono<SmtpTransportPool> datasourceCreate(DatasourceConfiguration datasourceConfiguration) {
 
             Endpoint endpoint = datasourceConfiguration.getEndpoints().get(0);
             DBAuth authentication = (DBAuth) datasourceConfiguration.getAuthentication();
@@ -220,18 +306,19 @@ public class SmtpPlugin extends BasePlugin {
                     return new PasswordAuthentication(username, password);
                 }
             });
-            return Mono.just(session);
+            return Mono.just(new SmtpTransportPool(session, MAXIMUM_POOL_SIZE));
+        }
+
+        @Override
+        public Mono<Integer> getMaxConcurrentExecutions(DatasourceConfiguration datasourceConfiguration) {
+            return Mono.just(MAXIMUM_POOL_SIZE);
         }
 
         @Override
-        public void datasourceDestroy(Session session) {
+        public void datasourceDestroy(SmtpTransportPool transportPool) {
             log.debug("Going to destroy email datasource");
-            try {
-                if (session != null && session.getTransport() != null) {
-                    session.getTransport().close();
-                }
-            } catch (MessagingException e) {
-                e.printStackTrace();
+            if (transportPool != null) {
+                transportPool.close();
             }
         }
 
@@ -259,15 +346,14 @@ public class SmtpPlugin extends BasePlugin {
         }
 
         @Override
-        public Mono<DatasourceTestResult> testDatasource(Session connection) {
+        public Mono<DatasourceTestResult> testDatasource(SmtpTransportPool connection) {
             log.debug("Going to test email datasource");
             return Mono.fromCallable(() -> {
                         Set<String> invalids = new HashSet<>();
                         try {
-                            Transport transport = connection.getTransport();
-                            if (transport != null) {
-                                transport.connect();
-                            }
+                            // Borrowing a transport connects to the SMTP server and logs in
+                            Transport transport = connection.borrow();
+                            connection.release(transport, true);
                             return invalids;
                         } catch (NoSuchProviderException e) {
                             invalids.add(SMTPErrorMessages.DS_NO_SUCH_PROVIDER_ERROR_MSG);
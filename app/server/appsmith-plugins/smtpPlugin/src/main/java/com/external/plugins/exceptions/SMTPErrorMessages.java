@@ -17,6 +17,13 @@ public class SMTPErrorMessages {
     public static final String MAIL_SENDING_FAILED_ERROR_MSG =
             "Error occurred while sending mail. To know more about the error please check the error details.";
 
+    public static final String BATCH_MESSAGES_NOT_FOUND_ERROR_MSG =
+            "Couldn't find any emails to send in the batch. Please check your action configuration.";
+
+    public static final String BATCH_SENDING_FAILED_ERROR_MSG =
+            "Error occurred while sending email %d of %d, the %d email(s) before it have been sent. To know more about "
+                    + "the error please check the error details.";
+
     public static final String UNPARSABLE_EMAIL_BODY_OR_ATTACHMENT_ERROR_MSG =
             "Unable to parse the email body/attachments because it was an invalid object.";
 
@@ -0,0 +1,199 @@
+package com.external.utils;
+
+import jakarta.mail.MessagingException;
+import jakarta.mail.SendFailedException;
+import jakarta.mail.Session;
+import jakarta.mail.Transport;
+import jakarta.mail.internet.MimeMessage;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A bounded pool of connected SMTP transports for one datasource, so that emails don't each pay for a new TCP and TLS
+ * handshake and a new login with the SMTP server. A transport is only used by one sender at a time. Transports that
+ * have been idle for a while are checked with a NOOP before they are used again, and transports that the server has
+ * dropped are replaced with new connections.
+ */
+@Slf4j
+public class SmtpTransportPool {
+
+    // Transports idle for less than this are used again without checking that they are still connected
+    private static final Duration VALIDATION_BYPASS_WINDOW = Duration.ofSeconds(1);
+
+    // SMTP servers usually drop connections that have been idle for a few minutes, so these are not worth checking
+    private static final Duration MAX_IDLE_TIME = Duration.ofMinutes(1);
+
+    private static final Duration BORROW_TIMEOUT = Duration.ofSeconds(30);
+
+    @Getter
+    private final Session session;
+
+    private final Semaphore permits;
+
+    private final Deque<IdleTransport> idleTransports = new ConcurrentLinkedDeque<>();
+
+    private volatile boolean closed;
+
+    private record IdleTransport(Transport transport, Instant idleSince) {}
+
+    /**
+     * Thrown when sending a list of messages fails part way, with the number of messages that were sent before it.
+     */
+    @Getter
+    public static class SendException extends MessagingException {
+
+        private final int sentCount;
+
+        SendException(int sentCount, MessagingException cause) {
+            super(cause.getMessage(), cause);
+            this.sentCount = sentCount;
+        }
+    }
+
+    public SmtpTransportPool(Session session, int maxSize) {
+        this.session = session;
+        this.permits = new Semaphore(maxSize, true);
+    }
+
+    /**
+     * Sends the messages in order, over a single connection from the pool.
+     */
+    public void send(List<MimeMessage> messages) throws MessagingException {
+        Transport transport = borrow();
+        boolean reusable = false;
+        int sentCount = 0;
+        try {
+            for (MimeMessage message : messages) {
+                // Transport.send does this before sending, sendMessage doesn't
+                message.saveChanges();
+
+                try {
+                    transport.sendMessage(message, message.getAllRecipients());
+                } catch (SendFailedException e) {
+                    throw e;
+                } catch (MessagingException e) {
+                    if (transport.isConnected()) {
+                        throw e;
+                    }
+
+                    // The server has dropped the connection, so the message is sent again over a new one
+                    log.debug("SMTP connection was closed while sending an email, reconnecting", e);
+                    closeQuietly(transport);
+                    transport = connect();
+                    transport.sendMessage(message, message.getAllRecipients());
+                }
+                sentCount++;
+            }
+            reusable = true;
+        } catch (SendFailedException e) {
+            // The server rejected some of the addresses, the connection itself is fine
+            reusable = true;
+            throw new SendException(sentCount, e);
+        } catch (MessagingException e) {
+            throw new SendException(sentCount, e);
+        } finally {
+            release(transport, reusable);
+        }
+    }
+
+    /**
+     * Gets a connected transport, waiting for one to be released if the pool is at its maximum size. The transport
+     * must be given back with {@link #release(Transport, boolean)}.
+     */
+    public Transport borrow() throws MessagingException {
+        if (closed) {
+            throw new MessagingException("SMTP transport pool is closed.");
+        }
+
+        try {
+            if (!permits.tryAcquire(BORROW_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS)) {
+                throw new MessagingException("Timed out waiting for a connection to the SMTP server.");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new MessagingException("Interrupted while waiting for a connection to the SMTP server.", e);
+        }
+
+        try {
+            IdleTransport idleTransport;
+            while ((idleTransport = idleTransports.pollFirst()) != null) {
+                if (isUsable(idleTransport)) {
+                    return idleTransport.transport();
+                }
+                closeQuietly(idleTransport.transport());
+            }
+
+            return connect();
+        } catch (MessagingException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    /**
+     * Gives a borrowed transport back to the pool. Transports that are not reusable, e.g. because sending failed half
+     * way through a command, are closed instead.
+     */
+    public void release(Transport transport, boolean reusable) {
+        if (reusable && !closed) {
+            idleTransports.offerFirst(new IdleTransport(transport, Instant.now()));
+        } else {
+            closeQuietly(transport);
+        }
+        permits.release();
+
+        // The pool may have been closed while the transport was being added back to it
+        if (closed) {
+            closeIdleTransports();
+        }
+    }
+
+    public void close() {
+        closed = true;
+        closeIdleTransports();
+    }
+
+    public int getIdleTransportCount() {
+        return idleTransports.size();
+    }
+
+    private Transport connect() throws MessagingException {
+        Transport transport = session.getTransport();
+        transport.connect();
+        return transport;
+    }
+
+    private boolean isUsable(IdleTransport idleTransport) {
+        final Duration idleTime = Duration.between(idleTransport.idleSince(), Instant.now());
+        if (idleTime.compareTo(MAX_IDLE_TIME) > 0) {
+            return false;
+        }
+
+        // For SMTP, isConnected checks the connection with a NOOP command
+        return idleTime.compareTo(VALIDATION_BYPASS_WINDOW) < 0
+                || idleTransport.transport().isConnected();
+    }
+
+    private void closeIdleTransports() {
+        IdleTransport idleTransport;
+        while ((idleTransport = idleTransports.pollFirst()) != null) {
+            closeQuietly(idleTransport.transport());
+        }
+    }
+
+    private static void closeQuietly(Transport transport) {
+        try {
+            transport.close();
+        } catch (MessagingException e) {
+            log.debug("Error closing SMTP transport", e);
+        }
+    }
+}
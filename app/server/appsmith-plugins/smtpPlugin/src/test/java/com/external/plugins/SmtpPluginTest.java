@@ -11,8 +11,9 @@ import com.appsmith.external.models.DatasourceTestResult;
 import com.appsmith.external.models.Endpoint;
 import com.external.plugins.exceptions.SMTPErrorMessages;
 import com.external.plugins.exceptions.SMTPPluginError;
+import com.external.utils.SmtpTransportPool;
+import com.fasterxml.jackson.databind.JsonNode;
 import jakarta.mail.MessagingException;
-import jakarta.mail.Session;
 import jakarta.mail.Transport;
 import jakarta.mail.internet.MimeBodyPart;
 import jakarta.mail.internet.MimeMessage;
@@ -166,8 +167,7 @@ public class SmtpPluginTest {
 
         Mono<ActionExecutionResult> resultMono = pluginExecutor
                 .datasourceCreate(invalidDatasourceConfiguration)
-                .flatMap(session ->
-                        pluginExecutor.execute(session, invalidDatasourceConfiguration, actionConfiguration));
+                .flatMap(pool -> pluginExecutor.execute(pool, invalidDatasourceConfiguration, actionConfiguration));
 
         StepVerifier.create(resultMono)
                 .expectErrorMatches(e -> e instanceof AppsmithPluginException
@@ -185,7 +185,7 @@ public class SmtpPluginTest {
         PluginUtils.setValueSafelyInFormData(actionConfiguration.getFormData(), "send.from", "   ");
         Mono<ActionExecutionResult> resultMono = pluginExecutor
                 .datasourceCreate(datasourceConfiguration)
-                .flatMap(session -> pluginExecutor.execute(session, datasourceConfiguration, actionConfiguration));
+                .flatMap(pool -> pluginExecutor.execute(pool, datasourceConfiguration, actionConfiguration));
 
         StepVerifier.create(resultMono)
                 .expectErrorMatches(e -> e instanceof AppsmithPluginException
@@ -201,7 +201,7 @@ public class SmtpPluginTest {
         PluginUtils.setValueSafelyInFormData(actionConfiguration.getFormData(), "send.to", "   ");
         Mono<ActionExecutionResult> resultMono = pluginExecutor
                 .datasourceCreate(datasourceConfiguration)
-                .flatMap(session -> pluginExecutor.execute(session, datasourceConfiguration, actionConfiguration));
+                .flatMap(pool -> pluginExecutor.execute(pool, datasourceConfiguration, actionConfiguration));
 
         StepVerifier.create(resultMono)
                 .expectErrorMatches(e -> e instanceof AppsmithPluginException
@@ -217,7 +217,7 @@ public class SmtpPluginTest {
         PluginUtils.setValueSafelyInFormData(actionConfiguration.getFormData(), "send.from", "invalid");
         Mono<ActionExecutionResult> resultMono = pluginExecutor
                 .datasourceCreate(datasourceConfiguration)
-                .flatMap(session -> pluginExecutor.execute(session, datasourceConfiguration, actionConfiguration));
+                .flatMap(pool -> pluginExecutor.execute(pool, datasourceConfiguration, actionConfiguration));
 
         StepVerifier.create(resultMono)
                 .expectErrorMatches(e -> e instanceof AppsmithPluginException)
@@ -232,7 +232,7 @@ public class SmtpPluginTest {
         PluginUtils.setValueSafelyInFormData(actionConfiguration.getFormData(), "send.to", "invalidEmail");
         Mono<ActionExecutionResult> resultMono = pluginExecutor
                 .datasourceCreate(datasourceConfiguration)
-                .flatMap(session -> pluginExecutor.execute(session, datasourceConfiguration, actionConfiguration));
+                .flatMap(pool -> pluginExecutor.execute(pool, datasourceConfiguration, actionConfiguration));
 
         StepVerifier.create(resultMono)
                 .expectErrorMatches(e -> e instanceof AppsmithPluginException)
@@ -247,7 +247,7 @@ public class SmtpPluginTest {
         PluginUtils.setValueSafelyInFormData(actionConfiguration.getFormData(), "subject", null);
         Mono<ActionExecutionResult> resultMono = pluginExecutor
                 .datasourceCreate(datasourceConfiguration)
-                .flatMap(session -> pluginExecutor.execute(session, datasourceConfiguration, actionConfiguration));
+                .flatMap(pool -> pluginExecutor.execute(pool, datasourceConfiguration, actionConfiguration));
 
         StepVerifier.create(resultMono)
                 .assertNext(result -> assertTrue(result.getIsExecutionSuccess()))
@@ -263,7 +263,7 @@ public class SmtpPluginTest {
 
         Mono<ActionExecutionResult> resultMono = pluginExecutor
                 .datasourceCreate(datasourceConfiguration)
-                .flatMap(session -> pluginExecutor.execute(session, datasourceConfiguration, actionConfiguration));
+                .flatMap(pool -> pluginExecutor.execute(pool, datasourceConfiguration, actionConfiguration));
 
         StepVerifier.create(resultMono)
                 .assertNext(result -> assertTrue(result.getIsExecutionSuccess()))
@@ -282,7 +282,7 @@ public class SmtpPluginTest {
 
         Mono<ActionExecutionResult> resultMono = pluginExecutor
                 .datasourceCreate(datasourceConfiguration)
-                .flatMap(session -> pluginExecutor.execute(session, datasourceConfiguration, actionConfiguration));
+                .flatMap(pool -> pluginExecutor.execute(pool, datasourceConfiguration, actionConfiguration));
 
         StepVerifier.create(resultMono)
                 .assertNext(result -> assertTrue(result.getIsExecutionSuccess()))
@@ -298,7 +298,7 @@ public class SmtpPluginTest {
 
         Mono<ActionExecutionResult> resultMono = pluginExecutor
                 .datasourceCreate(datasourceConfiguration)
-                .flatMap(session -> pluginExecutor.execute(session, datasourceConfiguration, actionConfiguration));
+                .flatMap(pool -> pluginExecutor.execute(pool, datasourceConfiguration, actionConfiguration));
 
         StepVerifier.create(resultMono)
                 .assertNext(result -> assertTrue(result.getIsExecutionSuccess()))
@@ -314,7 +314,7 @@ public class SmtpPluginTest {
 
         Mono<ActionExecutionResult> resultMono = pluginExecutor
                 .datasourceCreate(datasourceConfiguration)
-                .flatMap(session -> pluginExecutor.execute(session, datasourceConfiguration, actionConfiguration));
+                .flatMap(pool -> pluginExecutor.execute(pool, datasourceConfiguration, actionConfiguration));
 
         StepVerifier.create(resultMono)
                 .expectErrorMatches(e -> e instanceof AppsmithPluginException)
@@ -336,7 +336,7 @@ public class SmtpPluginTest {
 
         Mono<ActionExecutionResult> resultMono = pluginExecutor
                 .datasourceCreate(datasourceConfiguration)
-                .flatMap(session -> pluginExecutor.execute(session, datasourceConfiguration, actionConfiguration));
+                .flatMap(pool -> pluginExecutor.execute(pool, datasourceConfiguration, actionConfiguration));
 
         StepVerifier.create(resultMono)
                 .expectErrorMatches(e -> e instanceof AppsmithPluginException
@@ -350,13 +350,13 @@ public class SmtpPluginTest {
     public void testSendEmailValidWithAttachment() {
 
         DatasourceConfiguration dsConfig = createDatasourceConfiguration();
-        Mono<Session> sessionMono = pluginExecutor.datasourceCreate(dsConfig);
+        Mono<SmtpTransportPool> poolMono = pluginExecutor.datasourceCreate(dsConfig);
 
         ActionConfiguration actionConfiguration = createActionConfiguration();
         PluginUtils.setValueSafelyInFormData(actionConfiguration.getFormData(), "send.attachments", "");
 
         Mono<ActionExecutionResult> resultMono =
-                sessionMono.flatMap(session -> pluginExecutor.execute(session, dsConfig, actionConfiguration));
+                poolMono.flatMap(pool -> pluginExecutor.execute(pool, dsConfig, actionConfiguration));
 
         StepVerifier.create(resultMono)
                 .assertNext(result -> assertTrue(result.getIsExecutionSuccess()))
@@ -364,21 +364,21 @@ public class SmtpPluginTest {
     }
 
     /**
-     * This test case asserts that we can send multiple emails concurrently using the same email Session
+     * This test case asserts that we can send multiple emails concurrently using the same transport pool
      */
     @Test
     public void testSendMultipleEmailsConcurrently() {
         DatasourceConfiguration dsConfig = createDatasourceConfiguration();
-        Mono<Session> sessionMono = pluginExecutor.datasourceCreate(dsConfig);
+        Mono<SmtpTransportPool> poolMono = pluginExecutor.datasourceCreate(dsConfig);
 
         ActionConfiguration actionConfiguration1 = createActionConfiguration();
         ActionConfiguration actionConfiguration2 = createActionConfiguration();
         PluginUtils.setValueSafelyInFormData(actionConfiguration2.getFormData(), "send.from", "from2@example.com");
 
         Mono<ActionExecutionResult> email1Mono =
-                sessionMono.flatMap(session -> pluginExecutor.execute(session, dsConfig, actionConfiguration1));
+                poolMono.flatMap(pool -> pluginExecutor.execute(pool, dsConfig, actionConfiguration1));
         Mono<ActionExecutionResult> email2Mono =
-                sessionMono.flatMap(session -> pluginExecutor.execute(session, dsConfig, actionConfiguration2));
+                poolMono.flatMap(pool -> pluginExecutor.execute(pool, dsConfig, actionConfiguration2));
 
         StepVerifier.create(Mono.zip(email1Mono, email2Mono))
                 .assertNext(tuple -> {
@@ -390,6 +390,66 @@ public class SmtpPluginTest {
                 .verifyComplete();
     }
 
+    @Test
+    public void testSendEmailsSequentially_reusesConnection() {
+        DatasourceConfiguration dsConfig = createDatasourceConfiguration();
+        SmtpTransportPool pool = pluginExecutor.datasourceCreate(dsConfig).block();
+
+        Mono<ActionExecutionResult> resultsMono = pluginExecutor
+                .execute(pool, dsConfig, createActionConfiguration())
+                .then(pluginExecutor.execute(pool, dsConfig, createActionConfiguration()));
+
+        StepVerifier.create(resultsMono)
+                .assertNext(result -> assertTrue(result.getIsExecutionSuccess()))
+                .verifyComplete();
+        assertEquals(1, pool.getIdleTransportCount());
+
+        pluginExecutor.datasourceDestroy(pool);
+        assertEquals(0, pool.getIdleTransportCount());
+    }
+
+    @Test
+    public void testSendBatch_sendsAllEmails() {
+        DatasourceConfiguration dsConfig = createDatasourceConfiguration();
+        ActionConfiguration actionConfiguration = createActionConfiguration();
+        PluginUtils.setValueSafelyInFormData(actionConfiguration.getFormData(), "send.isBatch", true);
+        PluginUtils.setValueSafelyInFormData(
+                actionConfiguration.getFormData(),
+                "send.messages",
+                "[{\"to\": \"first@test.com\", \"body\": \"Hello first\"},"
+                        + " {\"to\": \"second@test.com\", \"subject\": \"Second subject\"},"
+                        + " {\"to\": \"third@test.com\"}]");
+
+        Mono<ActionExecutionResult> resultMono = pluginExecutor
+                .datasourceCreate(dsConfig)
+                .flatMap(pool -> pluginExecutor.execute(pool, dsConfig, actionConfiguration));
+
+        StepVerifier.create(resultMono)
+                .assertNext(result -> {
+                    assertTrue(result.getIsExecutionSuccess());
+                    assertEquals(
+                            3, ((JsonNode) result.getBody()).get("sentCount").asInt());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    public void testSendBatch_withoutEmails_returnsError() {
+        DatasourceConfiguration dsConfig = createDatasourceConfiguration();
+        ActionConfiguration actionConfiguration = createActionConfiguration();
+        PluginUtils.setValueSafelyInFormData(actionConfiguration.getFormData(), "send.isBatch", true);
+        PluginUtils.setValueSafelyInFormData(actionConfiguration.getFormData(), "send.messages", "[]");
+
+        Mono<ActionExecutionResult> resultMono = pluginExecutor
+                .datasourceCreate(dsConfig)
+                .flatMap(pool -> pluginExecutor.execute(pool, dsConfig, actionConfiguration));
+
+        StepVerifier.create(resultMono)
+                .expectErrorMatches(e -> e instanceof AppsmithPluginException
+                        && e.getMessage().equals(SMTPErrorMessages.BATCH_MESSAGES_NOT_FOUND_ERROR_MSG))
+                .verify();
+    }
+
     @Test
     public void testExecuteWithUTFEncoding() throws MessagingException {
         ActionConfiguration actionConfiguration = createActionConfiguration();
@@ -402,15 +462,15 @@ public class SmtpPluginTest {
         SmtpPlugin.SmtpPluginExecutor spySmtp = spy(pluginExecutor);
 
         try (MockedStatic<Transport> transportMock = Mockito.mockStatic(Transport.class)) {
-            Session session =
+            SmtpTransportPool pool =
                     pluginExecutor.datasourceCreate(datasourceConfiguration).block();
 
-            when(spySmtp.getMimeMessage(session)).thenReturn(mockMimeMessage);
+            when(spySmtp.getMimeMessage(pool.getSession())).thenReturn(mockMimeMessage);
             when(spySmtp.getMimeBodyPart()).thenReturn(mockMimeBodyPart);
 
             transportMock.when(() -> Transport.send(mockMimeMessage)).thenAnswer((Answer<Void>) invocation -> null);
 
-            spySmtp.execute(session, datasourceConfiguration, actionConfiguration); // test method call
+            spySmtp.execute(pool, datasourceConfiguration, actionConfiguration); // test method call
             String ENCODING = "UTF-8";
 
             verify(mockMimeMessage).setSubject("This is a test subject", ENCODING);
@@ -430,15 +490,15 @@ public class SmtpPluginTest {
         SmtpPlugin.SmtpPluginExecutor spySmtp = spy(pluginExecutor);
 
         try (MockedStatic<Transport> transportMock = Mockito.mockStatic(Transport.class)) {
-            Session session =
+            SmtpTransportPool pool =
                     pluginExecutor.datasourceCreate(datasourceConfiguration).block();
 
-            when(spySmtp.getMimeMessage(session)).thenReturn(mockMimeMessage);
+            when(spySmtp.getMimeMessage(pool.getSession())).thenReturn(mockMimeMessage);
             when(spySmtp.getMimeBodyPart()).thenReturn(mockMimeBodyPart);
 
             transportMock.when(() -> Transport.send(mockMimeMessage)).thenAnswer((Answer<Void>) invocation -> null);
 
-            spySmtp.execute(session, datasourceConfiguration, actionConfiguration); // test method call
+            spySmtp.execute(pool, datasourceConfiguration, actionConfiguration); // test method call
             String ENCODING = "UTF-8";
 
             verify(mockMimeMessage).setSubject("This is a test subject", ENCODING);
@@ -266,6 +266,11 @@ public class SnowflakePlugin extends BasePlugin {
             return properties;
         }
 
+        @Override
+        public Mono<Integer> getMaxConcurrentExecutions(DatasourceConfiguration datasourceConfiguration) {
+            return Mono.just(MAXIMUM_POOL_SIZE);
+        }
+
         @Override
         public void datasourceDestroy(HikariDataSource connection) {
             if (connection != null) {
@@ -54,6 +54,10 @@ public interface ApplicationServiceCE extends CrudService<Application, String> {
 
     Mono<Application> saveLastEditInformation(String applicationId);
 
+    Mono<Void> recordLastEditInformation(String applicationId);
+
+    Mono<Application> flushLastEditInformation(Application application);
+
     Mono<Application> setTransientFields(Application application);
 
     Mono<GitAuth> createOrUpdateSshKeyPair(String applicationId, String keyType);
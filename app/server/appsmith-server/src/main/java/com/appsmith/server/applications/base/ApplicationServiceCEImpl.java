@@ -87,6 +87,7 @@ public class ApplicationServiceCEImpl extends BaseService<ApplicationRepository,
     private final UserDataService userDataService;
     private final WorkspaceService workspaceService;
     private final WorkspacePermission workspacePermission;
+    private final LastEditInformationCoalescer lastEditInformationCoalescer;
 
     private static final Integer MAX_RETRIES = 5;
 
@@ -105,7 +106,8 @@ public class ApplicationServiceCEImpl extends BaseService<ApplicationRepository,
             SessionUserService sessionUserService,
             UserDataService userDataService,
             WorkspaceService workspaceService,
-            WorkspacePermission workspacePermission) {
+            WorkspacePermission workspacePermission,
+            LastEditInformationCoalescer lastEditInformationCoalescer) {
 
         super(validator, repository, analyticsService);
         this.policySolution = policySolution;
@@ -119,6 +121,7 @@ public class ApplicationServiceCEImpl extends BaseService<ApplicationRepository,
         this.userDataService = userDataService;
         this.workspaceService = workspaceService;
         this.workspacePermission = workspacePermission;
+        this.lastEditInformationCoalescer = lastEditInformationCoalescer;
     }
 
     @Override
@@ -860,6 +863,36 @@ public class ApplicationServiceCEImpl extends BaseService<ApplicationRepository,
         });
     }
 
+    /**
+     * Same as {@link #saveLastEditInformation(String)}, but for edits that come in bursts, like the autosaves of the
+     * editor. The edit is only held in memory, and written to the application together with the edits that follow it
+     * within the flush interval.
+     */
+    @Override
+    public Mono<Void> recordLastEditInformation(String applicationId) {
+        return sessionUserService
+                .getCurrentUser()
+                .doOnNext(currentUser -> lastEditInformationCoalescer.record(applicationId, currentUser.getUsername()))
+                .then();
+    }
+
+    /**
+     * Writes the last edit information recorded for the application, for flows that read it from the database, and
+     * copies it on to the given application, which may have been read before the write.
+     */
+    @Override
+    public Mono<Application> flushLastEditInformation(Application application) {
+        return lastEditInformationCoalescer
+                .flush(application.getId())
+                .map(lastEdit -> {
+                    application.setLastEditedAt(lastEdit.lastEditedAt());
+                    application.setModifiedBy(lastEdit.modifiedBy());
+                    application.setIsManualUpdate(true);
+                    return application;
+                })
+                .defaultIfEmpty(application);
+    }
+
     public Mono<String> findBranchedApplicationId(
             String branchName, String defaultApplicationId, AclPermission permission) {
         if (!StringUtils.hasLength(branchName)) {
@@ -36,7 +36,8 @@ public class ApplicationServiceImpl extends ApplicationServiceCECompatibleImpl i
             SessionUserService sessionUserService,
             UserDataService userDataService,
             WorkspaceService workspaceService,
-            WorkspacePermission workspacePermission) {
+            WorkspacePermission workspacePermission,
+            LastEditInformationCoalescer lastEditInformationCoalescer) {
 
         super(
                 validator,
@@ -52,6 +53,7 @@ public class ApplicationServiceImpl extends ApplicationServiceCECompatibleImpl i
                 sessionUserService,
                 userDataService,
                 workspaceService,
-                workspacePermission);
+                workspacePermission,
+                lastEditInformationCoalescer);
     }
 }
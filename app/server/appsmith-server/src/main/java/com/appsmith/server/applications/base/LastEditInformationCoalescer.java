@@ -0,0 +1,102 @@
+package com.appsmith.server.applications.base;
+
+import com.appsmith.server.repositories.ApplicationRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Holds the last edit information of applications in memory, so that a burst of edits to an application ends up as a
+ * single write to the application document. Pending edits are written at a fixed interval, and can be written right
+ * away with {@link #flush(String)} by flows that read them from the database.
+ * <p>
+ * Every server instance holds only the edits made through it. An edit is only written if it is later than the one
+ * already in the application, so instances flushing out of order never roll the last edit back. What isn't shared is
+ * the pending state, hence {@link #flush(String)} only writes the edits of this instance, and the application in the
+ * database may miss edits made through other instances for up to one flush interval.
+ */
+@Slf4j
+@Component
+public class LastEditInformationCoalescer {
+
+    private static final Duration SHUTDOWN_FLUSH_TIMEOUT = Duration.ofSeconds(10);
+
+    private final ApplicationRepository repository;
+
+    private final Scheduler scheduler;
+
+    private final Map<String, LastEdit> pendingEdits = new ConcurrentHashMap<>();
+
+    public record LastEdit(Instant lastEditedAt, String modifiedBy) {
+
+        private static LastEdit latest(LastEdit first, LastEdit second) {
+            return second.lastEditedAt().isBefore(first.lastEditedAt()) ? first : second;
+        }
+    }
+
+    public LastEditInformationCoalescer(ApplicationRepository repository, Scheduler scheduler) {
+        this.repository = repository;
+        this.scheduler = scheduler;
+    }
+
+    public void record(String applicationId, String modifiedBy) {
+        pendingEdits.merge(applicationId, new LastEdit(Instant.now(), modifiedBy), LastEdit::latest);
+    }
+
+    /**
+     * Writes the pending last edit information of the application, if there is any.
+     *
+     * @return The last edit that was written, or empty if there was nothing pending or a later edit was already saved
+     */
+    public Mono<LastEdit> flush(String applicationId) {
+        return Mono.defer(() -> {
+            final LastEdit lastEdit = pendingEdits.remove(applicationId);
+            if (lastEdit == null) {
+                return Mono.empty();
+            }
+
+            // The edit was only recorded after the user was allowed to make it, so the permission isn't checked again
+            return repository
+                    .updateLastEditInformation(applicationId, lastEdit.lastEditedAt(), lastEdit.modifiedBy())
+                    // Nothing was written if the application already has a later edit, from another instance
+                    .flatMap(updatedCount -> updatedCount > 0 ? Mono.just(lastEdit) : Mono.empty())
+                    .onErrorResume(error -> {
+                        log.warn("Could not save last edit information of application {}", applicationId, error);
+                        // Keep the edit around for the next flush, unless a newer one has been recorded since
+                        pendingEdits.merge(applicationId, lastEdit, LastEdit::latest);
+                        return Mono.empty();
+                    });
+        });
+    }
+
+    public Mono<Void> flushAll() {
+        return Flux.fromIterable(List.copyOf(pendingEdits.keySet()))
+                .flatMap(this::flush)
+                .then();
+    }
+
+    @Scheduled(
+            initialDelayString = "${appsmith.application.last-edit.flush-interval-ms:5000}",
+            fixedDelayString = "${appsmith.application.last-edit.flush-interval-ms:5000}")
+    public void flushPendingEdits() {
+        flushAll()
+                .doOnError(error -> log.error("Error while saving last edit information of applications", error))
+                .subscribeOn(scheduler)
+                .subscribe();
+    }
+
+    @PreDestroy
+    public void flushPendingEditsOnShutdown() {
+        flushAll().block(SHUTDOWN_FLUSH_TIMEOUT);
+    }
+}
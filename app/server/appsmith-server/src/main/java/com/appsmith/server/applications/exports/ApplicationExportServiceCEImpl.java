@@ -82,7 +82,9 @@ public class ApplicationExportServiceCEImpl implements ArtifactBasedExportServic
             String artifactId, String branchName, AclPermission aclPermission) {
 
         if (StringUtils.hasText(branchName)) {
-            return applicationService.findByBranchNameAndDefaultApplicationId(branchName, artifactId, aclPermission);
+            return applicationService
+                    .findByBranchNameAndDefaultApplicationId(branchName, artifactId, aclPermission)
+                    .flatMap(applicationService::flushLastEditInformation);
         }
 
         // find the application with appropriate permission
@@ -92,7 +94,10 @@ public class ApplicationExportServiceCEImpl implements ArtifactBasedExportServic
                 .switchIfEmpty(
                         Mono.defer(() -> applicationService.findByIdAndExportWithConfiguration(artifactId, TRUE)))
                 .switchIfEmpty(Mono.error(
-                        new AppsmithException(AppsmithError.NO_RESOURCE_FOUND, FieldName.APPLICATION_ID, artifactId)));
+                        new AppsmithException(AppsmithError.NO_RESOURCE_FOUND, FieldName.APPLICATION_ID, artifactId)))
+                // Edits still held in memory have to be in the database before the application is exported, or
+                // committed to git, which exports it too
+                .flatMap(applicationService::flushLastEditInformation);
     }
 
     @Override
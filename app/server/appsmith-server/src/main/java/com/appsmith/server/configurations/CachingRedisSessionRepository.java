@@ -0,0 +1,528 @@
+package com.appsmith.server.configurations;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.data.redis.connection.ReactiveRedisConnectionFactory;
+import org.springframework.data.redis.connection.ReactiveSubscription;
+import org.springframework.data.redis.core.ReactiveRedisOperations;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.ReactiveRedisMessageListenerContainer;
+import org.springframework.data.redis.serializer.RedisSerializationContext;
+import org.springframework.session.MapSession;
+import org.springframework.session.ReactiveSessionRepository;
+import org.springframework.session.Session;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Redis backed session repository that stores sessions with the same key layout as Spring Session's
+ * ReactiveRedisSessionRepository, so existing sessions, and the key scans in SessionUserServiceCEImpl, keep working.
+ * <p>
+ * A page load fires a burst of requests carrying the same session, so the encoded attributes of recently loaded
+ * sessions are kept in memory for a few seconds, and every request in the burst gets its own freshly decoded copy
+ * without a round trip to Redis. Any change to the attributes of a session, and any deletion, evicts it on every server
+ * instance through a Redis pub/sub channel. Should a message be lost, the short TTL bounds how long a stale session
+ * can be served.
+ * <p>
+ * The last accessed time is bumped on every request, but only written back to Redis once it has moved by
+ * LAST_ACCESSED_TIME_WRITE_INTERVAL, which is negligible next to the thirty days a session lives for.
+ */
+@Slf4j
+public class CachingRedisSessionRepository
+        implements ReactiveSessionRepository<CachingRedisSessionRepository.RedisSession>, DisposableBean {
+
+    public static final String SESSION_KEY_PREFIX = "spring:session:sessions:";
+
+    private static final String CREATION_TIME_KEY = "creationTime";
+
+    private static final String LAST_ACCESSED_TIME_KEY = "lastAccessedTime";
+
+    private static final String MAX_INACTIVE_INTERVAL_KEY = "maxInactiveInterval";
+
+    private static final String ATTRIBUTE_PREFIX = "sessionAttr:";
+
+    private static final ChannelTopic INVALIDATION_TOPIC = ChannelTopic.of("appsmith:session-invalidation");
+
+    private static final Duration CACHE_TTL = Duration.ofSeconds(10);
+
+    // Upper bound on the number of sessions held in memory. Least recently used entries are evicted first.
+    private static final int MAX_CACHED_SESSIONS = 10_000;
+
+    private static final Duration LAST_ACCESSED_TIME_WRITE_INTERVAL = Duration.ofMinutes(1);
+
+    private final ReactiveRedisOperations<String, Object> sessionRedisOperations;
+
+    private final RedisSerializationContext.SerializationPair<Object> attributeSerializer;
+
+    private final ReactiveRedisTemplate<String, String> invalidationRedisOperations;
+
+    private final Disposable invalidationSubscription;
+
+    private final Duration defaultMaxInactiveInterval;
+
+    private final Map<String, CachedSession> cachedSessions =
+            Collections.synchronizedMap(new LinkedHashMap<>(256, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, CachedSession> eldest) {
+                    return size() > MAX_CACHED_SESSIONS;
+                }
+            });
+
+    private final Timer cacheLoadTimer;
+
+    private final Timer redisLoadTimer;
+
+    public CachingRedisSessionRepository(
+            ReactiveRedisOperations<String, Object> sessionRedisOperations,
+            ReactiveRedisConnectionFactory connectionFactory,
+            ReactiveRedisMessageListenerContainer listenerContainer,
+            MeterRegistry meterRegistry,
+            Duration defaultMaxInactiveInterval) {
+        this.sessionRedisOperations = sessionRedisOperations;
+        this.attributeSerializer =
+                sessionRedisOperations.getSerializationContext().getHashValueSerializationPair();
+        this.defaultMaxInactiveInterval = defaultMaxInactiveInterval;
+
+        this.invalidationRedisOperations =
+                new ReactiveRedisTemplate<>(connectionFactory, RedisSerializationContext.string());
+        // The shared listener container is managed by Spring, only the subscription to it is ours to dispose
+        this.invalidationSubscription = listenerContainer
+                .receive(INVALIDATION_TOPIC)
+                .map(ReactiveSubscription.Message::getMessage)
+                .retryWhen(Retry.backoff(Long.MAX_VALUE, Duration.ofSeconds(1))
+                        .maxBackoff(Duration.ofSeconds(30))
+                        .filter(error -> !(error instanceof CancellationException)))
+                .subscribe(
+                        message -> {
+                            for (final String sessionId : message.split(",")) {
+                                cachedSessions.remove(sessionId);
+                            }
+                        },
+                        error -> {
+                            // The listener container cancels the subscription when the server shuts down.
+                            if (!(error instanceof CancellationException)) {
+                                log.error("Stopped listening for session invalidations", error);
+                            }
+                        });
+
+        this.cacheLoadTimer = Timer.builder("appsmith.session.load")
+                .description("Time taken to load a session for a request")
+                .tag("source", "cache")
+                .register(meterRegistry);
+        this.redisLoadTimer = Timer.builder("appsmith.session.load")
+                .description("Time taken to load a session for a request")
+                .tag("source", "redis")
+                .register(meterRegistry);
+        Gauge.builder("appsmith.session.cache.size", cachedSessions, Map::size)
+                .description("Number of sessions held in the in-process session cache")
+                .register(meterRegistry);
+    }
+
+    public static String getSessionKey(String sessionId) {
+        return SESSION_KEY_PREFIX + sessionId;
+    }
+
+    @Override
+    public Mono<RedisSession> createSession() {
+        return Mono.fromSupplier(() -> {
+            final MapSession session = new MapSession();
+            session.setMaxInactiveInterval(defaultMaxInactiveInterval);
+            return new RedisSession(session, true);
+        });
+    }
+
+    @Override
+    public Mono<Void> save(RedisSession session) {
+        return Mono.defer(() -> {
+            if (session.isNew) {
+                return session.save();
+            }
+
+            if (session.hasOnlyRecentLastAccessedTimeChange()) {
+                session.delta.clear();
+                return Mono.empty();
+            }
+
+            // A session that was deleted from another instance must not be brought back by writing to it.
+            final String sessionKey =
+                    getSessionKey(session.hasChangedSessionId() ? session.originalSessionId : session.getId());
+            return sessionRedisOperations
+                    .hasKey(sessionKey)
+                    .flatMap(exists -> Boolean.TRUE.equals(exists)
+                            ? session.save()
+                            : Mono.error(new IllegalStateException("Session was invalidated")));
+        });
+    }
+
+    @Override
+    public Mono<RedisSession> findById(String id) {
+        return Mono.defer(() -> {
+            final long startTime = System.nanoTime();
+
+            final MapSession cachedSession = getCachedSession(id);
+            if (cachedSession != null) {
+                cacheLoadTimer.record(System.nanoTime() - startTime, TimeUnit.NANOSECONDS);
+                return Mono.just(new RedisSession(cachedSession, false));
+            }
+
+            return loadSession(id)
+                    .doFinally(
+                            signalType -> redisLoadTimer.record(System.nanoTime() - startTime, TimeUnit.NANOSECONDS));
+        });
+    }
+
+    @Override
+    public Mono<Void> deleteById(String id) {
+        return sessionRedisOperations.delete(getSessionKey(id)).then(invalidate(List.of(id)));
+    }
+
+    /**
+     * Evicts the given sessions from the session cache of every server instance. Needs to be called whenever session
+     * data is changed or deleted in Redis without going through this repository.
+     *
+     * @param sessionIds The ids of the sessions to evict. Not the Redis keys.
+     * @return A Mono that completes once the eviction has been published.
+     */
+    public Mono<Void> invalidate(Collection<String> sessionIds) {
+        if (sessionIds.isEmpty()) {
+            return Mono.empty();
+        }
+
+        sessionIds.forEach(cachedSessions::remove);
+        return invalidationRedisOperations
+                .convertAndSend(INVALIDATION_TOPIC.getTopic(), String.join(",", sessionIds))
+                .doOnError(error -> log.error("Error publishing session invalidation", error))
+                .onErrorResume(error -> Mono.empty())
+                .then();
+    }
+
+    @Override
+    public void destroy() {
+        invalidationSubscription.dispose();
+    }
+
+    private Mono<RedisSession> loadSession(String id) {
+        return sessionRedisOperations
+                .<String, Object>opsForHash()
+                .entries(getSessionKey(id))
+                .collectMap(Map.Entry::getKey, Map.Entry::getValue)
+                .filter(entries -> !entries.isEmpty())
+                .flatMap(entries -> {
+                    final MapSession session = toMapSession(id, entries);
+                    if (session == null || session.isExpired()) {
+                        return deleteById(id).then(Mono.empty());
+                    }
+
+                    cacheSession(session);
+                    return Mono.just(new RedisSession(session, false));
+                });
+    }
+
+    private MapSession toMapSession(String id, Map<String, Object> entries) {
+        final Object creationTime = entries.get(CREATION_TIME_KEY);
+        final Object lastAccessedTime = entries.get(LAST_ACCESSED_TIME_KEY);
+        final Object maxInactiveInterval = entries.get(MAX_INACTIVE_INTERVAL_KEY);
+        if (!(creationTime instanceof Number)
+                || !(lastAccessedTime instanceof Number)
+                || !(maxInactiveInterval instanceof Number)) {
+            log.warn("Found incomplete session data in Redis for session {}, discarding it", id);
+            return null;
+        }
+
+        final MapSession session = new MapSession(id);
+        session.setCreationTime(Instant.ofEpochMilli(((Number) creationTime).longValue()));
+        session.setLastAccessedTime(Instant.ofEpochMilli(((Number) lastAccessedTime).longValue()));
+        session.setMaxInactiveInterval(Duration.ofSeconds(((Number) maxInactiveInterval).longValue()));
+        for (final Map.Entry<String, Object> entry : entries.entrySet()) {
+            if (entry.getKey().startsWith(ATTRIBUTE_PREFIX)) {
+                session.setAttribute(entry.getKey().substring(ATTRIBUTE_PREFIX.length()), entry.getValue());
+            }
+        }
+
+        return session;
+    }
+
+    private void cacheSession(MapSession session) {
+        final Map<String, ByteBuffer> attributes = new HashMap<>();
+        for (final String name : session.getAttributeNames()) {
+            final Object value = session.getAttribute(name);
+            if (value != null) {
+                attributes.put(name, attributeSerializer.write(value));
+            }
+        }
+
+        cachedSessions.put(
+                session.getId(),
+                new CachedSession(
+                        session.getCreationTime(),
+                        session.getLastAccessedTime(),
+                        session.getMaxInactiveInterval(),
+                        attributes,
+                        System.nanoTime()));
+    }
+
+    /**
+     * Session attributes, like the security context, are mutable and must never be shared between requests. Hence the
+     * cache only holds their encoded form, and every hit decodes a fresh copy.
+     */
+    private MapSession getCachedSession(String id) {
+        final CachedSession cachedSession = cachedSessions.get(id);
+        if (cachedSession == null) {
+            return null;
+        }
+
+        if (System.nanoTime() - cachedSession.cachedAtNanos() > CACHE_TTL.toNanos()) {
+            cachedSessions.remove(id, cachedSession);
+            return null;
+        }
+
+        final MapSession session = new MapSession(id);
+        session.setCreationTime(cachedSession.creationTime());
+        session.setLastAccessedTime(cachedSession.lastAccessedTime());
+        session.setMaxInactiveInterval(cachedSession.maxInactiveInterval());
+        if (session.isExpired()) {
+            cachedSessions.remove(id, cachedSession);
+            return null;
+        }
+
+        try {
+            for (final Map.Entry<String, ByteBuffer> entry :
+                    cachedSession.attributes().entrySet()) {
+                session.setAttribute(
+                        entry.getKey(),
+                        attributeSerializer.read(entry.getValue().duplicate()));
+            }
+        } catch (RuntimeException e) {
+            log.warn("Could not decode cached session {}, loading it from Redis instead", id, e);
+            cachedSessions.remove(id, cachedSession);
+            return null;
+        }
+
+        return session;
+    }
+
+    private record CachedSession(
+            Instant creationTime,
+            Instant lastAccessedTime,
+            Duration maxInactiveInterval,
+            Map<String, ByteBuffer> attributes,
+            long cachedAtNanos) {
+
+        CachedSession withLastAccessedTime(Instant lastAccessedTime) {
+            return new CachedSession(creationTime, lastAccessedTime, maxInactiveInterval, attributes, cachedAtNanos);
+        }
+    }
+
+    /**
+     * A session that records every change made to it, so that only the changed fields are written back to Redis.
+     * Mirrors ReactiveRedisSessionRepository.RedisSession.
+     */
+    public final class RedisSession implements Session {
+
+        private final MapSession cached;
+
+        private final Map<String, Object> delta = new HashMap<>();
+
+        private boolean isNew;
+
+        private String originalSessionId;
+
+        private Instant persistedLastAccessedTime;
+
+        private RedisSession(MapSession cached, boolean isNew) {
+            this.cached = cached;
+            this.isNew = isNew;
+            this.originalSessionId = cached.getId();
+            this.persistedLastAccessedTime = cached.getLastAccessedTime();
+
+            if (isNew) {
+                delta.put(CREATION_TIME_KEY, cached.getCreationTime().toEpochMilli());
+                delta.put(MAX_INACTIVE_INTERVAL_KEY, (int)
+                        cached.getMaxInactiveInterval().getSeconds());
+                delta.put(LAST_ACCESSED_TIME_KEY, cached.getLastAccessedTime().toEpochMilli());
+                for (final String name : cached.getAttributeNames()) {
+                    delta.put(ATTRIBUTE_PREFIX + name, cached.getAttribute(name));
+                }
+            }
+        }
+
+        @Override
+        public String getId() {
+            return cached.getId();
+        }
+
+        @Override
+        public String changeSessionId() {
+            final String newSessionId = UUID.randomUUID().toString();
+            cached.setId(newSessionId);
+            return newSessionId;
+        }
+
+        @Override
+        public <T> T getAttribute(String attributeName) {
+            return cached.getAttribute(attributeName);
+        }
+
+        @Override
+        public Set<String> getAttributeNames() {
+            return cached.getAttributeNames();
+        }
+
+        @Override
+        public void setAttribute(String attributeName, Object attributeValue) {
+            cached.setAttribute(attributeName, attributeValue);
+            delta.put(ATTRIBUTE_PREFIX + attributeName, attributeValue);
+        }
+
+        @Override
+        public void removeAttribute(String attributeName) {
+            cached.removeAttribute(attributeName);
+            delta.put(ATTRIBUTE_PREFIX + attributeName, null);
+        }
+
+        @Override
+        public Instant getCreationTime() {
+            return cached.getCreationTime();
+        }
+
+        @Override
+        public void setLastAccessedTime(Instant lastAccessedTime) {
+            cached.setLastAccessedTime(lastAccessedTime);
+            delta.put(LAST_ACCESSED_TIME_KEY, lastAccessedTime.toEpochMilli());
+        }
+
+        @Override
+        public Instant getLastAccessedTime() {
+            return cached.getLastAccessedTime();
+        }
+
+        @Override
+        public void setMaxInactiveInterval(Duration interval) {
+            cached.setMaxInactiveInterval(interval);
+            delta.put(MAX_INACTIVE_INTERVAL_KEY, (int) interval.getSeconds());
+        }
+
+        @Override
+        public Duration getMaxInactiveInterval() {
+            return cached.getMaxInactiveInterval();
+        }
+
+        @Override
+        public boolean isExpired() {
+            return cached.isExpired();
+        }
+
+        private boolean hasChangedSessionId() {
+            return !getId().equals(originalSessionId);
+        }
+
+        private boolean hasOnlyRecentLastAccessedTimeChange() {
+            return !hasChangedSessionId()
+                    && delta.size() == 1
+                    && delta.containsKey(LAST_ACCESSED_TIME_KEY)
+                    && Duration.between(persistedLastAccessedTime, getLastAccessedTime())
+                                    .compareTo(LAST_ACCESSED_TIME_WRITE_INTERVAL)
+                            < 0;
+        }
+
+        private Mono<Void> save() {
+            return Mono.defer(() -> {
+                final String previousSessionId = originalSessionId;
+                final boolean wasNew = isNew;
+                final boolean hasChangedSessionId = hasChangedSessionId();
+                final boolean hasChangedAttributes =
+                        delta.keySet().stream().anyMatch(key -> key.startsWith(ATTRIBUTE_PREFIX));
+
+                return saveChangeSessionId().then(saveDelta()).then(Mono.defer(() -> {
+                    isNew = false;
+                    if (wasNew) {
+                        return Mono.empty();
+                    }
+
+                    if (hasChangedSessionId || hasChangedAttributes) {
+                        final List<String> sessionIds = new ArrayList<>(List.of(getId()));
+                        if (hasChangedSessionId) {
+                            sessionIds.add(previousSessionId);
+                        }
+                        return invalidate(sessionIds);
+                    }
+
+                    cachedSessions.computeIfPresent(
+                            getId(), (id, cachedSession) -> cachedSession.withLastAccessedTime(getLastAccessedTime()));
+                    return Mono.empty();
+                }));
+            });
+        }
+
+        private Mono<Void> saveChangeSessionId() {
+            if (!hasChangedSessionId()) {
+                return Mono.empty();
+            }
+
+            final String sessionId = getId();
+            if (isNew) {
+                return Mono.fromRunnable(() -> originalSessionId = sessionId);
+            }
+
+            return sessionRedisOperations
+                    .rename(getSessionKey(originalSessionId), getSessionKey(sessionId))
+                    .doOnSuccess(renamed -> originalSessionId = sessionId)
+                    .then();
+        }
+
+        private Mono<Void> saveDelta() {
+            if (delta.isEmpty()) {
+                return Mono.empty();
+            }
+
+            final String sessionKey = getSessionKey(getId());
+            final Map<String, Object> updates = new HashMap<>();
+            final List<Object> removals = new ArrayList<>();
+            delta.forEach((key, value) -> {
+                if (value == null) {
+                    removals.add(key);
+                } else {
+                    updates.put(key, value);
+                }
+            });
+
+            final Mono<Boolean> update = updates.isEmpty()
+                    ? Mono.just(true)
+                    : sessionRedisOperations.opsForHash().putAll(sessionKey, updates);
+            final Mono<Long> remove = removals.isEmpty()
+                    ? Mono.just(0L)
+                    : sessionRedisOperations.opsForHash().remove(sessionKey, removals.toArray());
+
+            return update.then(remove)
+                    .then(sessionRedisOperations.expire(sessionKey, getMaxInactiveInterval()))
+                    .doOnSuccess(ignored -> {
+                        if (updates.containsKey(LAST_ACCESSED_TIME_KEY)) {
+                            persistedLastAccessedTime = getLastAccessedTime();
+                        }
+                        delta.keySet().removeAll(updates.keySet());
+                        delta.keySet().removeAll(removals);
+                    })
+                    .then();
+        }
+    }
+}
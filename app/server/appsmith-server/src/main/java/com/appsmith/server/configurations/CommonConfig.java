@@ -70,6 +70,10 @@ public class CommonConfig {
     @Value("${appsmith.micrometer.tracing.detail.enabled:false}")
     private boolean tracingDetail;
 
+    // Serve the published application data of the view mode page load API from an in-process cache
+    @Value("${appsmith.consolidated-api.view-cache.enabled:false}")
+    private boolean consolidatedApiViewCacheEnabled;
+
     private List<String> allowedDomains;
 
     private String mongoDBVersion;
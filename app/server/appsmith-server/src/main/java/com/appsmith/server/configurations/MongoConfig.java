@@ -3,6 +3,8 @@ package com.appsmith.server.configurations;
 import com.appsmith.external.annotations.documenttype.DocumentTypeMapper;
 import com.appsmith.external.annotations.encryption.EncryptionMongoEventListener;
 import com.appsmith.external.models.AuthenticationDTO;
+import com.appsmith.server.configurations.mongo.DslVersionMongoEventListener;
+import com.appsmith.server.configurations.mongo.SearchTokensMongoEventListener;
 import com.appsmith.server.configurations.mongo.SoftDeleteMongoRepositoryFactoryBean;
 import com.appsmith.server.converters.StringToInstantConverter;
 import com.appsmith.server.repositories.BaseRepositoryImpl;
@@ -269,6 +271,16 @@ public class MongoConfig {
         return new EncryptionMongoEventListener();
     }
 
+    @Bean
+    public SearchTokensMongoEventListener searchTokensMongoEventListener() {
+        return new SearchTokensMongoEventListener();
+    }
+
+    @Bean
+    public DslVersionMongoEventListener dslVersionMongoEventListener() {
+        return new DslVersionMongoEventListener();
+    }
+
     @Bean
     public ReactiveTransactionManager reactiveTransactionManager(ReactiveMongoDatabaseFactory factory) {
         return new ReactiveMongoTransactionManager(factory);
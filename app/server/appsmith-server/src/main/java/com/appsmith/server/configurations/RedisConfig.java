@@ -12,6 +12,8 @@ import io.lettuce.core.TimeoutOptions;
 import io.lettuce.core.cluster.ClusterClientOptions;
 import io.lettuce.core.cluster.RedisClusterClient;
 import io.lettuce.core.resource.ClientResources;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.observation.ObservationRegistry;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
@@ -32,6 +34,7 @@ import org.springframework.data.redis.connection.lettuce.observability.Micromete
 import org.springframework.data.redis.core.ReactiveRedisOperations;
 import org.springframework.data.redis.core.ReactiveRedisTemplate;
 import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.ReactiveRedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.Jackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.JdkSerializationRedisSerializer;
@@ -42,7 +45,7 @@ import org.springframework.data.redis.util.ByteUtils;
 import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextImpl;
 import org.springframework.security.oauth2.client.OAuth2AuthorizedClient;
-import org.springframework.session.data.redis.config.annotation.web.server.EnableRedisWebSession;
+import org.springframework.session.config.annotation.web.server.EnableSpringWebSession;
 
 import java.net.URI;
 import java.time.Duration;
@@ -52,13 +55,23 @@ import java.util.Map;
 
 @Configuration
 @Slf4j
-// Setting the maxInactiveInterval to 30 days
-@EnableRedisWebSession(maxInactiveIntervalInSeconds = 2592000)
+@EnableSpringWebSession
 public class RedisConfig {
 
+    // Setting the maxInactiveInterval to 30 days
+    private static final Duration SESSION_MAX_INACTIVE_INTERVAL = Duration.ofSeconds(2592000);
+
     @Value("${appsmith.redis.url:}")
     private String redisURL;
 
+    /**
+     * Instances running an older version can't read sessions in the compact format, so sessions are only written in it
+     * once this is turned on. Every instance reads both formats, so this should only be turned on after all instances
+     * sharing the Redis have been upgraded to a version that reads the compact format.
+     */
+    @Value("${appsmith.session.compact-serialization.enabled:false}")
+    private boolean compactSessionSerializationEnabled;
+
     /**
      * This is the topic to which we will publish & subscribe to. We can have multiple topics based on the messages
      * that we wish to broadcast. Starting with a single one for now.
@@ -153,8 +166,18 @@ public class RedisConfig {
     }
 
     @Bean
-    public RedisSerializer<Object> springSessionDefaultRedisSerializer() {
-        return new JSONSessionRedisSerializer();
+    public RedisSerializer<Object> springSessionDefaultRedisSerializer(MeterRegistry meterRegistry) {
+        return new JSONSessionRedisSerializer(compactSessionSerializationEnabled, meterRegistry);
+    }
+
+    @Bean
+    public CachingRedisSessionRepository sessionRepository(
+            ReactiveRedisTemplate<String, Object> reactiveRedisTemplate,
+            ReactiveRedisConnectionFactory factory,
+            ReactiveRedisMessageListenerContainer container,
+            MeterRegistry meterRegistry) {
+        return new CachingRedisSessionRepository(
+                reactiveRedisTemplate, factory, container, meterRegistry, SESSION_MAX_INACTIVE_INTERVAL);
     }
 
     @Bean
@@ -192,10 +215,17 @@ public class RedisConfig {
         return new ReactiveRedisTemplate<>(factory, serializationContext);
     }
 
-    private static class JSONSessionRedisSerializer implements RedisSerializer<Object> {
+    /**
+     * Writes the security context as a UserSessionDTO, in the compact binary format when possible and as JSON
+     * otherwise. Both formats, along with the OAuth client map format, are tagged with a prefix so that reading a
+     * value back doesn't need to know how it was written.
+     */
+    static class JSONSessionRedisSerializer implements RedisSerializer<Object> {
 
         private static final byte[] SESSION_DATA_PREFIX = "appsmith-session:".getBytes();
 
+        private static final byte[] COMPACT_SESSION_DATA_PREFIX = "appsmith-session-v2:".getBytes();
+
         private static final byte[] OAUTH_CLIENT_PREFIX = "appsmith-oauth-client:".getBytes();
 
         private final JdkSerializationRedisSerializer fallback = new JdkSerializationRedisSerializer();
@@ -203,12 +233,42 @@ public class RedisConfig {
         private final GenericJackson2JsonRedisSerializer jsonSerializer =
                 new GenericJackson2JsonRedisSerializer(new JsonMapper());
 
+        private final boolean compactSessionsEnabled;
+
+        private final DistributionSummary compactSessionSize;
+
+        private final DistributionSummary jsonSessionSize;
+
+        JSONSessionRedisSerializer(boolean compactSessionsEnabled, MeterRegistry meterRegistry) {
+            this.compactSessionsEnabled = compactSessionsEnabled;
+            this.compactSessionSize = buildSessionSizeSummary("compact", meterRegistry);
+            this.jsonSessionSize = buildSessionSizeSummary("json", meterRegistry);
+        }
+
+        private static DistributionSummary buildSessionSizeSummary(String format, MeterRegistry meterRegistry) {
+            return DistributionSummary.builder("appsmith.session.payload.size")
+                    .description("Size of the user session written to Redis")
+                    .baseUnit("bytes")
+                    .tag("format", format)
+                    .register(meterRegistry);
+        }
+
         @Override
         public byte[] serialize(Object t) {
             if (t instanceof SecurityContext) {
                 final UserSessionDTO session = UserSessionDTO.fromToken(((SecurityContext) t).getAuthentication());
+                if (compactSessionsEnabled && session.canWriteCompactly()) {
+                    final byte[] bytes = ByteUtils.concat(COMPACT_SESSION_DATA_PREFIX, session.toCompactBytes());
+                    compactSessionSize.record(bytes.length);
+                    return bytes;
+                }
+
                 final byte[] bytes = jsonSerializer.serialize(session);
-                return bytes == null ? null : ByteUtils.concat(SESSION_DATA_PREFIX, bytes);
+                if (bytes == null) {
+                    return null;
+                }
+                jsonSessionSize.record(SESSION_DATA_PREFIX.length + bytes.length);
+                return ByteUtils.concat(SESSION_DATA_PREFIX, bytes);
 
             } else if ((t instanceof Map)) {
                 final Map<?, ?> data = (Map<?, ?>) t;
@@ -255,7 +315,19 @@ public class RedisConfig {
 
         @Override
         public Object deserialize(byte[] bytes) {
-            if (ByteUtils.startsWith(bytes, SESSION_DATA_PREFIX)) {
+            if (ByteUtils.startsWith(bytes, COMPACT_SESSION_DATA_PREFIX)) {
+                final UserSessionDTO session;
+                try {
+                    session = UserSessionDTO.fromCompactBytes(bytes, COMPACT_SESSION_DATA_PREFIX.length);
+                } catch (IllegalArgumentException e) {
+                    // Written by a version with a different layout. The user has to log in again, instead of every
+                    // request with this session failing.
+                    log.warn("Discarding a user session that can't be read by this version", e);
+                    return null;
+                }
+                return new SecurityContextImpl(session.makeToken());
+
+            } else if (ByteUtils.startsWith(bytes, SESSION_DATA_PREFIX)) {
                 final byte[] data = Arrays.copyOfRange(bytes, SESSION_DATA_PREFIX.length, bytes.length);
                 final UserSessionDTO session = jsonSerializer.deserialize(data, UserSessionDTO.class);
 
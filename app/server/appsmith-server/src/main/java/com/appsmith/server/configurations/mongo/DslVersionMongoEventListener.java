@@ -0,0 +1,30 @@
+package com.appsmith.server.configurations.mongo;
+
+import com.appsmith.server.domains.Layout;
+import com.appsmith.server.domains.NewPage;
+import com.appsmith.server.dtos.PageDTO;
+import org.springframework.data.mongodb.core.mapping.event.AbstractMongoEventListener;
+import org.springframework.data.mongodb.core.mapping.event.BeforeConvertEvent;
+
+/**
+ * Moves the unpublished layouts of a page to their next DSL version right before the page is saved, so that widget
+ * deltas computed against the DSL from before the save are rejected as stale. This covers every write of the whole
+ * page, e.g. saving the layout, refactoring a widget name, migrating the DSL and importing from git, whether or not it
+ * changed the DSL. Delta updates don't save the page, they write the layout with an update that moves the version.
+ */
+public class DslVersionMongoEventListener extends AbstractMongoEventListener<NewPage> {
+
+    @Override
+    public void onBeforeConvert(BeforeConvertEvent<NewPage> event) {
+        final PageDTO unpublishedPage = event.getSource().getUnpublishedPage();
+        if (unpublishedPage == null || unpublishedPage.getLayouts() == null) {
+            return;
+        }
+
+        for (Layout layout : unpublishedPage.getLayouts()) {
+            // Layouts saved before the DSL was versioned have no version, which counts as version 0
+            final Integer dslVersion = layout.getDslVersion();
+            layout.setDslVersion(dslVersion == null ? 1 : dslVersion + 1);
+        }
+    }
+}
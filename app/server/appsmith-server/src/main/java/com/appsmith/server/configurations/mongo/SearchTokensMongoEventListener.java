@@ -0,0 +1,26 @@
+package com.appsmith.server.configurations.mongo;
+
+import com.appsmith.server.domains.Application;
+import com.appsmith.server.domains.Workspace;
+import com.appsmith.server.helpers.TextUtils;
+import org.springframework.data.mongodb.core.mapping.event.AbstractMongoEventListener;
+import org.springframework.data.mongodb.core.mapping.event.BeforeConvertEvent;
+
+/**
+ * Refreshes the name search tokens of applications and workspaces right before they're saved. The setters of the
+ * names already keep the tokens in sync, this covers the objects whose name field is set without going through them,
+ * e.g. when deserialized from an imported file.
+ */
+public class SearchTokensMongoEventListener extends AbstractMongoEventListener<Object> {
+
+    @Override
+    public void onBeforeConvert(BeforeConvertEvent<Object> event) {
+        final Object source = event.getSource();
+
+        if (source instanceof Application application) {
+            application.setNameSearchTokens(TextUtils.getSearchTokens(application.getName()));
+        } else if (source instanceof Workspace workspace) {
+            workspace.setNameSearchTokens(TextUtils.getSearchTokens(workspace.getName()));
+        }
+    }
+}
@@ -34,6 +34,9 @@ public class FieldNameCE {
     public static final String TYPE = "type";
     public static final String WIDGET_ID = "widgetId";
     public static final String WIDGET_NAME = "widgetName";
+    public static final String PARENT_WIDGET_ID = "parentId";
+    public static final String WIDGET_INDEX = "index";
+    public static final String DSL = "dsl";
     public static final String DYNAMIC_BINDINGS = "dynamicBindings";
     public static final String DYNAMIC_BINDING_PATH_LIST = "dynamicBindingPathList";
     public static final String KEY = "key";
@@ -10,7 +10,10 @@ import com.appsmith.server.services.ConsolidatedAPIService;
 import com.fasterxml.jackson.annotation.JsonView;
 import io.micrometer.observation.ObservationRegistry;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
@@ -19,7 +22,10 @@ import org.springframework.web.bind.annotation.RestController;
 import reactor.core.observability.micrometer.Micrometer;
 import reactor.core.publisher.Mono;
 
+import java.util.Arrays;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 import static com.appsmith.external.constants.spans.ConsolidatedApiSpanNames.CONSOLIDATED_API_ROOT_EDIT;
 import static com.appsmith.external.constants.spans.ConsolidatedApiSpanNames.CONSOLIDATED_API_ROOT_VIEW;
@@ -28,6 +34,10 @@ import static com.appsmith.external.constants.spans.ConsolidatedApiSpanNames.CON
 @RestController
 @RequestMapping(Url.CONSOLIDATED_API_URL)
 public class ConsolidatedAPIController {
+    // Clients may keep the response, but have to check with the server that it's still current before using it.
+    private static final CacheControl VIEW_MODE_CACHE_CONTROL =
+            CacheControl.noCache().cachePrivate();
+
     private final ConsolidatedAPIService consolidatedAPIService;
     private final ObservationRegistry observationRegistry;
 
@@ -67,12 +77,18 @@ public class ConsolidatedAPIController {
                 .tap(Micrometer.observation(observationRegistry));
     }
 
+    /**
+     * Same as the edit mode endpoint, for a published application. The response carries an ETag that only changes
+     * when the application is deployed again, or the permissions or feature flags of the user change. A client that
+     * sends the ETag back in If-None-Match gets an empty 304 response, without any of the page load data being fetched.
+     */
     @JsonView(Views.Public.class)
     @GetMapping("/view")
-    public Mono<ResponseDTO<ConsolidatedAPIResponseDTO>> getAllDataForFirstPageLoadForViewMode(
+    public Mono<ResponseEntity<ResponseDTO<ConsolidatedAPIResponseDTO>>> getAllDataForFirstPageLoadForViewMode(
             @RequestParam(required = false) String applicationId,
             @RequestParam(required = false) String defaultPageId,
-            @RequestHeader(name = FieldName.BRANCH_NAME, required = false) String branchName) {
+            @RequestHeader(name = FieldName.BRANCH_NAME, required = false) String branchName,
+            @RequestHeader(name = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
         log.debug(
                 "Going to fetch consolidatedAPI response for applicationId: {}, defaultPageId: {}, branchName: {}, "
                         + "mode: {}",
@@ -82,13 +98,66 @@ public class ConsolidatedAPIController {
                 ApplicationMode.PUBLISHED);
 
         return consolidatedAPIService
-                .getConsolidatedInfoForPageLoad(defaultPageId, applicationId, branchName, ApplicationMode.PUBLISHED)
-                .map(consolidatedAPIResponseDTO ->
-                        new ResponseDTO<>(HttpStatus.OK.value(), consolidatedAPIResponseDTO, null))
+                .getConsolidatedInfoETagForViewMode(defaultPageId, applicationId, branchName)
+                .map(Optional::of)
+                .defaultIfEmpty(Optional.empty())
+                .flatMap(eTag -> {
+                    if (eTag.isPresent() && isETagMatching(ifNoneMatch, eTag.get())) {
+                        return Mono.just(ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                                .eTag(eTag.get())
+                                .cacheControl(VIEW_MODE_CACHE_CONTROL)
+                                .<ResponseDTO<ConsolidatedAPIResponseDTO>>build());
+                    }
+
+                    return consolidatedAPIService
+                            .getConsolidatedInfoForPageLoad(
+                                    defaultPageId, applicationId, branchName, ApplicationMode.PUBLISHED)
+                            .map(consolidatedAPIResponseDTO -> {
+                                final ResponseEntity.BodyBuilder responseBuilder = ResponseEntity.ok();
+                                // A response with a failed part must not be served again from the client's cache
+                                if (eTag.isPresent() && isComplete(consolidatedAPIResponseDTO)) {
+                                    responseBuilder.eTag(eTag.get()).cacheControl(VIEW_MODE_CACHE_CONTROL);
+                                }
+                                return responseBuilder.body(
+                                        new ResponseDTO<>(HttpStatus.OK.value(), consolidatedAPIResponseDTO, null));
+                            });
+                })
                 .tag("pageId", Objects.toString(defaultPageId))
                 .tag("applicationId", Objects.toString(applicationId))
                 .tag("branchName", Objects.toString(branchName))
                 .name(CONSOLIDATED_API_ROOT_VIEW)
                 .tap(Micrometer.observation(observationRegistry));
     }
+
+    private static boolean isETagMatching(String ifNoneMatch, String eTag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+
+        final String opaqueTag = stripWeakPrefix(eTag);
+        return Arrays.stream(ifNoneMatch.split(","))
+                .map(String::trim)
+                .anyMatch(candidate -> "*".equals(candidate) || opaqueTag.equals(stripWeakPrefix(candidate)));
+    }
+
+    private static String stripWeakPrefix(String eTag) {
+        return eTag.startsWith("W/") ? eTag.substring(2) : eTag;
+    }
+
+    private static boolean isComplete(ConsolidatedAPIResponseDTO response) {
+        return Stream.of(
+                        response.getUserProfile(),
+                        response.getFeatureFlags(),
+                        response.getTenantConfig(),
+                        response.getProductAlert(),
+                        response.getPages(),
+                        response.getCurrentTheme(),
+                        response.getThemes(),
+                        response.getCustomJSLibraries(),
+                        response.getPageWithMigratedDsl(),
+                        response.getPublishedActions(),
+                        response.getPublishedActionCollections())
+                .filter(Objects::nonNull)
+                .allMatch(responseDTO -> responseDTO.getResponseMeta().isSuccess());
+    }
 }
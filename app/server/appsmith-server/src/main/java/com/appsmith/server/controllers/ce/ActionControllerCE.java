@@ -9,7 +9,9 @@ import com.appsmith.server.constants.Url;
 import com.appsmith.server.dtos.ActionMoveDTO;
 import com.appsmith.server.dtos.ActionViewDTO;
 import com.appsmith.server.dtos.EntityType;
+import com.appsmith.server.dtos.ExecutePageLoadActionsDTO;
 import com.appsmith.server.dtos.LayoutDTO;
+import com.appsmith.server.dtos.PageLoadActionResultDTO;
 import com.appsmith.server.dtos.RefactorEntityNameDTO;
 import com.appsmith.server.dtos.ResponseDTO;
 import com.appsmith.server.newactions.base.NewActionService;
@@ -92,6 +94,30 @@ public class ActionControllerCE {
                 .map(updatedResource -> new ResponseDTO<>(HttpStatus.OK.value(), updatedResource, null));
     }
 
+    /**
+     * Executes all the on page load actions of a page in one request. The results are streamed back as newline
+     * delimited JSON, one result per action as soon as that action has finished.
+     */
+    @JsonView(Views.Public.class)
+    @PostMapping(
+            value = "/execute/page-load",
+            consumes = MediaType.APPLICATION_JSON_VALUE,
+            produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<ResponseDTO<PageLoadActionResultDTO>> executePageLoadActions(
+            @Valid @RequestBody ExecutePageLoadActionsDTO executePageLoadActionsDTO,
+            @RequestHeader(name = FieldName.BRANCH_NAME, required = false) String branchName,
+            @RequestHeader(name = FieldName.HEADER_ENVIRONMENT_ID, required = false) String environmentId,
+            ServerWebExchange serverWebExchange) {
+
+        return actionExecutionSolution
+                .executePageLoadActions(
+                        executePageLoadActionsDTO,
+                        branchName,
+                        environmentId,
+                        serverWebExchange.getRequest().getHeaders())
+                .map(result -> new ResponseDTO<>(HttpStatus.OK.value(), result, null));
+    }
+
     @JsonView(Views.Public.class)
     @PutMapping("/move")
     public Mono<ResponseDTO<ActionDTO>> moveAction(
@@ -6,6 +6,7 @@ import com.appsmith.server.constants.Url;
 import com.appsmith.server.domains.Layout;
 import com.appsmith.server.dtos.EntityType;
 import com.appsmith.server.dtos.LayoutDTO;
+import com.appsmith.server.dtos.LayoutDeltaDTO;
 import com.appsmith.server.dtos.LayoutUpdateDTO;
 import com.appsmith.server.dtos.RefactorEntityNameDTO;
 import com.appsmith.server.dtos.ResponseDTO;
@@ -19,6 +20,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
@@ -81,6 +83,19 @@ public class LayoutControllerCE {
                 .map(created -> new ResponseDTO<>(HttpStatus.OK.value(), created, null));
     }
 
+    @JsonView(Views.Public.class)
+    @PatchMapping("/{layoutId}/pages/{pageId}")
+    public Mono<ResponseDTO<LayoutDTO>> updateLayoutWithDelta(
+            @PathVariable String pageId,
+            @PathVariable String layoutId,
+            @RequestBody @Valid LayoutDeltaDTO layoutDelta,
+            @RequestHeader(name = FieldName.BRANCH_NAME, required = false) String branchName) {
+        log.debug("update layout delta received for page {} at version {}", pageId, layoutDelta.dslVersion());
+        return updateLayoutService
+                .updateLayoutWithDelta(pageId, layoutId, layoutDelta, branchName)
+                .map(updated -> new ResponseDTO<>(HttpStatus.OK.value(), updated, null));
+    }
+
     @JsonView(Views.Public.class)
     @GetMapping("/{layoutId}/pages/{pageId}/view")
     public Mono<ResponseDTO<Layout>> getLayoutView(
@@ -5,6 +5,7 @@ import com.appsmith.external.views.Git;
 import com.appsmith.external.views.Views;
 import com.appsmith.server.constants.ArtifactType;
 import com.appsmith.server.dtos.CustomJSLibContextDTO;
+import com.appsmith.server.helpers.TextUtils;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonView;
 import jakarta.validation.constraints.NotNull;
@@ -43,6 +44,10 @@ public class Application extends BaseDomain implements Artifact {
     @NotNull @JsonView(Views.Public.class)
     String name;
 
+    // Lower-cased n-grams of the name, indexed to serve application search. Kept in sync with the name by setName.
+    @JsonView(Views.Internal.class)
+    Set<String> nameSearchTokens;
+
     @JsonView(Views.Public.class)
     String workspaceId;
 
@@ -262,6 +267,11 @@ public class Application extends BaseDomain implements Artifact {
         this.collapseInvisibleWidgets = application.getCollapseInvisibleWidgets();
     }
 
+    public void setName(String name) {
+        this.name = name;
+        this.nameSearchTokens = TextUtils.getSearchTokens(name);
+    }
+
     public void exportApplicationPages(final Map<String, String> pageIdToNameMap) {
         for (ApplicationPage applicationPage : this.getPages()) {
             applicationPage.setId(pageIdToNameMap.get(applicationPage.getId() + EDIT));
@@ -331,6 +341,7 @@ public class Application extends BaseDomain implements Artifact {
         this.setExportWithConfiguration(null);
         this.setForkWithConfiguration(null);
         this.setForkingEnabled(null);
+        this.setNameSearchTokens(null);
         super.sanitiseToExportDBObject();
     }
 
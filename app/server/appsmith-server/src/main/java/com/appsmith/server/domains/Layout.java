@@ -73,6 +73,11 @@ public class Layout {
     @JsonView(Views.Internal.class)
     Boolean validOnPageLoadActions = TRUE;
 
+    // Incremented on every save of the unpublished DSL, so that delta updates can be rejected when they were computed
+    // against a DSL that has changed since. Layouts saved before this field existed have no version, read as 0.
+    @JsonView(Views.Public.class)
+    Integer dslVersion;
+
     @JsonView({Views.Public.class, Views.Export.class})
     private String id;
 
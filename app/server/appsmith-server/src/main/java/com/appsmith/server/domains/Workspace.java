@@ -3,6 +3,7 @@ package com.appsmith.server.domains;
 import com.appsmith.external.models.BaseDomain;
 import com.appsmith.external.views.Views;
 import com.appsmith.server.constants.Url;
+import com.appsmith.server.helpers.TextUtils;
 import com.fasterxml.jackson.annotation.JsonView;
 import jakarta.validation.constraints.NotBlank;
 import lombok.Getter;
@@ -29,6 +30,10 @@ public class Workspace extends BaseDomain {
     @JsonView(Views.Public.class)
     private String name;
 
+    // Lower-cased n-grams of the name, indexed to serve workspace search. Kept in sync with the name by setName.
+    @JsonView(Views.Internal.class)
+    private Set<String> nameSearchTokens;
+
     @JsonView(Views.Public.class)
     private String website;
 
@@ -56,6 +61,11 @@ public class Workspace extends BaseDomain {
     @JsonView(Views.Internal.class)
     private Set<String> defaultPermissionGroups;
 
+    public void setName(String name) {
+        this.name = name;
+        this.nameSearchTokens = TextUtils.getSearchTokens(name);
+    }
+
     public String makeSlug() {
         return toSlug(name);
     }
@@ -1,5 +1,6 @@
 package com.appsmith.server.dtos;
 
+import com.appsmith.server.helpers.ActionExecutionMetadataCache;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -15,4 +16,7 @@ public class ExecuteActionMetaDTO {
     String branchName;
     HttpHeaders headers;
     boolean operateWithoutPermission = false;
+
+    // Only set when several actions are executed in the same request, to look up their shared metadata once
+    ActionExecutionMetadataCache metadataCache;
 }
@@ -0,0 +1,26 @@
+package com.appsmith.server.dtos;
+
+import com.appsmith.external.dtos.ExecuteActionDTO;
+import jakarta.validation.constraints.NotEmpty;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.List;
+
+/**
+ * The on page load actions of a page to execute in a single request, in the same order as the layoutOnLoadActions of
+ * the layout. The actions of a set don't depend on each other, so they are executed concurrently, and each set is only
+ * executed once all the sets before it have finished.
+ * <p>
+ * Each action carries the values of its bindings as evaluated by the client, in the same shape as the parts of the
+ * execute API: the params are keyed by their pseudo binding names, which the parameterMap maps back to the bindings.
+ */
+@Getter
+@Setter
+public class ExecutePageLoadActionsDTO {
+
+    Boolean viewMode = false;
+
+    @NotEmpty
+    List<List<ExecuteActionDTO>> actionSets;
+}
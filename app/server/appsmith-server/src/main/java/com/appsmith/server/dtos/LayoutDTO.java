@@ -23,6 +23,9 @@ public class LayoutDTO {
 
     JSONObject dsl;
 
+    // Version of the saved DSL, to be sent back as the base version of the next delta update
+    Integer dslVersion;
+
     List<Set<DslExecutableDTO>> layoutOnLoadActions;
 
     // this attribute will be used to display errors caused white calculating allOnLoadExecutable
@@ -0,0 +1,32 @@
+package com.appsmith.server.dtos;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+import net.minidev.json.JSONObject;
+
+import java.util.List;
+
+/**
+ * A set of widget level changes to the unpublished DSL of a layout, applied in order. The changes are only applied if
+ * the DSL is still at the given version, i.e. nobody has saved the layout since the client last read or saved it.
+ */
+public record LayoutDeltaDTO(@NotNull Integer dslVersion, @NotNull @Valid List<WidgetOperation> operations) {
+
+    public enum Op {
+        // Replaces the properties of the widget with the given widgetId, or adds it under the given parent if it
+        // doesn't exist yet. If the widget has no children in the operation, its existing children are kept.
+        UPSERT,
+        // Removes the widget with the given widgetId, along with all its children.
+        REMOVE,
+    }
+
+    /**
+     * @param op       What to do with the widget
+     * @param widgetId Id of the widget to change
+     * @param parentId Id of the widget to add a new widget under, only used when an UPSERT adds a widget
+     * @param index    Position of a new widget among the children of its parent, appended to them if not given
+     * @param widget   The widget to write, only used by UPSERT
+     */
+    public record WidgetOperation(
+            @NotNull Op op, @NotNull String widgetId, String parentId, Integer index, JSONObject widget) {}
+}
@@ -0,0 +1,25 @@
+package com.appsmith.server.dtos;
+
+import com.appsmith.external.models.ActionExecutionResult;
+import com.appsmith.external.views.Views;
+import com.fasterxml.jackson.annotation.JsonView;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Result of one of the actions executed with {@link ExecutePageLoadActionsDTO}. Results are sent as soon as their
+ * action has finished, so they are tagged with the action id that the client asked to execute.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class PageLoadActionResultDTO {
+    @JsonView(Views.Public.class)
+    String actionId;
+
+    @JsonView(Views.Public.class)
+    ActionExecutionResult result;
+}
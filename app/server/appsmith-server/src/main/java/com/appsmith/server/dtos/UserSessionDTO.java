@@ -7,10 +7,21 @@ import lombok.Data;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.oauth2.client.authentication.OAuth2AuthenticationToken;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 
 /**
@@ -57,6 +68,12 @@ public class UserSessionDTO {
 
     private static final Set<String> ALLOWED_OAUTH_PROVIDERS = LoginSource.getNonFormSources();
 
+    /**
+     * Written as the first byte of the compact format. This must be bumped on any change to the fields written by
+     * toCompactBytes, or their order, so that sessions written by another version are rejected instead of misread.
+     */
+    private static final byte COMPACT_FORMAT_VERSION = 1;
+
     /**
      * We don't expect this class to be instantiated outside this class. Remove this constructor when needed.
      */
@@ -139,4 +156,176 @@ public class UserSessionDTO {
 
         throw new IllegalArgumentException("Invalid registration ID " + authorizedClientRegistrationId);
     }
+
+    /**
+     * The compact format only knows about plain string credentials and simple authorities. Sessions holding anything
+     * else have to be written as JSON, which keeps the type information for every value.
+     *
+     * @return Whether this session can be written with toCompactBytes without losing any information.
+     */
+    public boolean canWriteCompactly() {
+        if (credentials != null && !(credentials instanceof String)) {
+            return false;
+        }
+
+        if (authorities != null) {
+            for (final GrantedAuthority authority : authorities) {
+                if (authority == null || authority.getClass() != SimpleGrantedAuthority.class) {
+                    return false;
+                }
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Writes this session in a fixed field order binary format. This is a fraction of the size of the JSON format, as
+     * it carries neither field names nor type information, and is much cheaper to read back on every request.
+     *
+     * @return The encoded session, to be read back with fromCompactBytes.
+     */
+    public byte[] toCompactBytes() {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream(256);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeByte(COMPACT_FORMAT_VERSION);
+            writeString(out, userId);
+            writeString(out, email);
+            writeString(out, hashedEmail);
+            writeString(out, name);
+            out.writeBoolean(createdAt != null);
+            if (createdAt != null) {
+                out.writeLong(createdAt);
+            }
+            writeBoolean(out, emailVerified);
+            writeBoolean(out, emailVerificationRequired);
+            writeString(out, source == null ? null : source.name());
+            writeString(out, state == null ? null : state.name());
+            writeBoolean(out, isEnabled);
+            writeString(out, currentWorkspaceId);
+            writeStrings(out, workspaceIds);
+            writeString(out, tenantId);
+            writeString(out, (String) credentials);
+            writeStrings(
+                    out,
+                    authorities == null
+                            ? null
+                            : authorities.stream()
+                                    .map(GrantedAuthority::getAuthority)
+                                    .toList());
+            writeString(out, authorizedClientRegistrationId);
+        } catch (IOException e) {
+            // Writing to an in-memory stream doesn't fail.
+            throw new UncheckedIOException(e);
+        }
+
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Performs the reverse of toCompactBytes method.
+     *
+     * @param data   The bytes holding the encoded session.
+     * @param offset The position in data where the encoded session starts.
+     * @return The decoded session.
+     * @throws IllegalArgumentException If the bytes were written with another version of the format, or are corrupt.
+     */
+    public static UserSessionDTO fromCompactBytes(byte[] data, int offset) {
+        final UserSessionDTO session = new UserSessionDTO();
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(data, offset, data.length - offset))) {
+            final byte version = in.readByte();
+            if (version != COMPACT_FORMAT_VERSION) {
+                throw new IllegalArgumentException("Unsupported compact user session version " + version);
+            }
+
+            session.userId = readString(in);
+            session.email = readString(in);
+            session.hashedEmail = readString(in);
+            session.name = readString(in);
+            session.createdAt = in.readBoolean() ? in.readLong() : null;
+            session.emailVerified = readBoolean(in);
+            session.emailVerificationRequired = readBoolean(in);
+            final String sourceName = readString(in);
+            session.source = sourceName == null ? null : LoginSource.valueOf(sourceName);
+            final String stateName = readString(in);
+            session.state = stateName == null ? null : UserState.valueOf(stateName);
+            session.isEnabled = readBoolean(in);
+            session.currentWorkspaceId = readString(in);
+            final List<String> workspaceIds = readStrings(in);
+            session.workspaceIds = workspaceIds == null ? null : new HashSet<>(workspaceIds);
+            session.tenantId = readString(in);
+            session.credentials = readString(in);
+            final List<String> authorities = readStrings(in);
+            session.authorities = authorities == null
+                    ? null
+                    : authorities.stream().map(SimpleGrantedAuthority::new).toList();
+            session.authorizedClientRegistrationId = readString(in);
+            if (in.available() != 0) {
+                throw new IllegalArgumentException("Unexpected trailing bytes in compact user session");
+            }
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Could not deserialize compact user session", e);
+        }
+
+        return session;
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        if (value == null) {
+            out.writeInt(-1);
+            return;
+        }
+
+        final byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        final int length = in.readInt();
+        if (length < 0) {
+            return null;
+        }
+        if (length > in.available()) {
+            throw new IOException("Compact user session is truncated");
+        }
+
+        final byte[] bytes = new byte[length];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static void writeStrings(DataOutputStream out, Collection<String> values) throws IOException {
+        if (values == null) {
+            out.writeInt(-1);
+            return;
+        }
+
+        out.writeInt(values.size());
+        for (final String value : values) {
+            writeString(out, value);
+        }
+    }
+
+    private static List<String> readStrings(DataInputStream in) throws IOException {
+        final int size = in.readInt();
+        if (size < 0) {
+            return null;
+        }
+
+        final List<String> values = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            values.add(readString(in));
+        }
+        return values;
+    }
+
+    private static void writeBoolean(DataOutputStream out, Boolean value) throws IOException {
+        out.writeByte(value == null ? -1 : (value ? 1 : 0));
+    }
+
+    private static Boolean readBoolean(DataInputStream in) throws IOException {
+        final byte value = in.readByte();
+        return value < 0 ? null : value == 1;
+    }
 }
@@ -274,6 +274,14 @@ public enum AppsmithError {
             "Duplicate key",
             ErrorType.BAD_REQUEST,
             null),
+    STALE_LAYOUT_VERSION(
+            409,
+            AppsmithErrorCode.STALE_LAYOUT_VERSION.getCode(),
+            "The layout {0} has been changed since version {1}. Please reload the page and try again.",
+            AppsmithErrorAction.DEFAULT,
+            "Layout changed",
+            ErrorType.BAD_REQUEST,
+            null),
     USER_ALREADY_EXISTS_SIGNUP(
             409,
             AppsmithErrorCode.USER_ALREADY_EXISTS_SIGNUP.getCode(),
@@ -2,10 +2,10 @@ package com.appsmith.server.fork.internal;
 
 import com.appsmith.external.constants.ActionCreationSourceTypeEnum;
 import com.appsmith.external.constants.AnalyticsEvents;
-import com.appsmith.external.helpers.AppsmithEventContext;
 import com.appsmith.external.helpers.AppsmithEventContextType;
 import com.appsmith.external.models.ActionDTO;
 import com.appsmith.external.models.BaseDomain;
+import com.appsmith.external.models.CreatorContextType;
 import com.appsmith.external.models.Datasource;
 import com.appsmith.external.models.DefaultResources;
 import com.appsmith.server.acl.AclPermission;
@@ -30,11 +30,14 @@ import com.appsmith.server.exceptions.AppsmithError;
 import com.appsmith.server.exceptions.AppsmithException;
 import com.appsmith.server.fork.forkable.ForkableService;
 import com.appsmith.server.helpers.ResponseUtils;
+import com.appsmith.server.helpers.TextUtils;
 import com.appsmith.server.helpers.UserPermissionUtils;
 import com.appsmith.server.imports.internal.ImportService;
 import com.appsmith.server.layouts.UpdateLayoutService;
 import com.appsmith.server.newactions.base.NewActionService;
+import com.appsmith.server.refactors.applications.RefactoringService;
 import com.appsmith.server.repositories.ActionCollectionRepository;
+import com.appsmith.server.repositories.ApplicationRepository;
 import com.appsmith.server.repositories.NewActionRepository;
 import com.appsmith.server.repositories.NewPageRepository;
 import com.appsmith.server.repositories.WorkspaceRepository;
@@ -56,15 +59,18 @@ import org.bson.types.ObjectId;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.util.function.Tuple2;
+import reactor.util.function.Tuples;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.UUID;
 
 @RequiredArgsConstructor
 @Slf4j
@@ -92,6 +98,9 @@ public class ApplicationForkingServiceCEImpl implements ApplicationForkingServic
     private final WorkspaceRepository workspaceRepository;
     private final ForkableService<Datasource> datasourceForkableService;
     private final UpdateLayoutService updateLayoutService;
+    private final ApplicationRepository applicationRepository;
+    private final RefactoringService refactoringService;
+
     /**
      * Clone all applications (except deleted ones), including its pages and actions from one workspace into
      * another. Also clones all datasources (not just the ones used by any applications) provided in the parameter list.
@@ -104,17 +113,13 @@ public class ApplicationForkingServiceCEImpl implements ApplicationForkingServic
     public Mono<List<String>> forkApplications(
             String toWorkspaceId, Application application, String sourceEnvironmentId) {
 
-        final List<NewPage> clonedPages = new ArrayList<>();
         final List<String> newApplicationIds = new ArrayList<>();
+        final String templateApplicationId = application.getId();
 
-        // A map of datasourceId => { a cached Mono that clones this datasource and yields the cloned datasource }
-        final Map<String, Mono<Datasource>> clonedDatasourceMonos = new HashMap<>();
-
-        final Map<ForkingMetaDTO, Flux<NewAction>> forkingSourceToForkableActionsFluxMap = new ConcurrentHashMap<>();
         ForkingMetaDTO sourceMeta = new ForkingMetaDTO();
         sourceMeta.setWorkspaceId(application.getWorkspaceId());
         sourceMeta.setEnvironmentId(sourceEnvironmentId);
-        sourceMeta.setApplicationId(application.getId());
+        sourceMeta.setApplicationId(templateApplicationId);
         ForkingMetaDTO targetMeta = new ForkingMetaDTO();
         targetMeta.setWorkspaceId(toWorkspaceId);
 
@@ -139,6 +144,7 @@ public class ApplicationForkingServiceCEImpl implements ApplicationForkingServic
             forkWithConfig = Boolean.FALSE;
         }
         sourceMeta.setForkWithConfiguration(forkWithConfig);
+        targetMeta.setForkWithConfiguration(forkWithConfig);
         // Setting the forkWithConfiguration, exportWithConfiguration and forkingEnabled fields to null for
         // newly forked app
         application.setForkWithConfiguration(null);
@@ -152,202 +158,23 @@ public class ApplicationForkingServiceCEImpl implements ApplicationForkingServic
                 .orElse("");
 
         return updateTargetEnvironmentIdMono
-                .thenMany(doOnlyForkApplicationObjectWithoutItsDependenciesAndReturnNonDeletedPages(
-                                application, newApplicationIds)
-                        .flatMap(page -> Mono.zip(Mono.just(page), Mono.just(defaultPageId.equals(page.getId())))))
-                .flatMap(tuple -> {
-                    final NewPage newPage = tuple.getT1();
-                    final boolean isDefault = tuple.getT2();
-                    final String templatePageId = newPage.getId();
-                    DefaultResources defaults = new DefaultResources();
-                    defaults.setApplicationId(newPage.getApplicationId());
-                    newPage.setDefaultResources(defaults);
-                    newPage.makePristine();
-                    PageDTO page = newPage.getUnpublishedPage();
-
-                    if (page.getLayouts() != null) {
-                        for (final Layout layout : page.getLayouts()) {
-                            layout.setId(new ObjectId().toString());
-                        }
-                    }
-
-                    page.setApplicationId(newPage.getApplicationId());
-                    page.setDefaultResources(defaults);
-
-                    ForkingMetaDTO sourceMetaForPage = sourceMeta.toBuilder()
-                            .applicationId(page.getApplicationId())
-                            .pageId(page.getId())
-                            .forkWithConfiguration(forkWithConfig)
-                            .build();
-
-                    Mono<NewPage> createForkedPageMono = applicationPageService
-                            .createPage(page)
-                            .flatMap(savedPage -> isDefault
-                                    ? applicationPageService
-                                            .makePageDefault(savedPage)
-                                            .thenReturn(savedPage)
-                                    : Mono.just(savedPage))
-                            .flatMap(savedPage -> newPageRepository.findById(savedPage.getId()));
-
-                    return createForkedPageMono.flatMap(savedPage -> {
-                        clonedPages.add(savedPage);
-                        Flux<NewAction> sourceActionFlux = newActionService
-                                .findByPageIdsForExport(List.of(templatePageId), Optional.empty())
-                                .cache();
-
-                        forkingSourceToForkableActionsFluxMap.put(sourceMetaForPage, sourceActionFlux);
-
-                        ForkingMetaDTO targetMetaForPage = targetMeta.toBuilder()
-                                .applicationId(newPage.getApplicationId())
-                                .pageId(newPage.getId())
-                                .forkWithConfiguration(forkWithConfig)
-                                .build();
-
-                        Flux<Datasource> forkableDatasourceFlux = datasourceForkableService
-                                .getForkableEntitiesFromSource(sourceMetaForPage, sourceActionFlux)
-                                .map(forkableDatasource -> {
-                                    if (!clonedDatasourceMonos.containsKey(forkableDatasource.getId())) {
-                                        Mono<Datasource> datasourceMono = datasourceForkableService
-                                                .createForkedEntity(
-                                                        forkableDatasource,
-                                                        sourceMetaForPage,
-                                                        targetMetaForPage,
-                                                        existingDatasourcesMono)
-                                                .cache();
-                                        clonedDatasourceMonos.put(forkableDatasource.getId(), datasourceMono);
-                                    }
-                                    return forkableDatasource;
-                                });
-
-                        Mono<HashMap<String, String>> forkedCollectionsMono = actionCollectionService
-                                .findByPageId(templatePageId)
-                                .flatMap(actionCollection -> {
-                                    // Keep a record of the original collection id
-                                    final String originalCollectionId = actionCollection.getId();
-                                    log.info("Creating clone of action collection {}", originalCollectionId);
-                                    // Sanitize them
-                                    actionCollection.makePristine();
-                                    actionCollection.setPublishedCollection(null);
-                                    final ActionCollectionDTO unpublishedCollection =
-                                            actionCollection.getUnpublishedCollection();
-                                    unpublishedCollection.setPageId(savedPage.getId());
-
-                                    DefaultResources defaultResources = new DefaultResources();
-                                    defaultResources.setPageId(savedPage.getId());
-                                    unpublishedCollection.setDefaultResources(defaultResources);
-
-                                    actionCollection.setWorkspaceId(toWorkspaceId);
-                                    actionCollection.setApplicationId(savedPage.getApplicationId());
-
-                                    DefaultResources defaultResources1 = new DefaultResources();
-                                    defaultResources1.setApplicationId(savedPage.getApplicationId());
-                                    actionCollection.setDefaultResources(defaultResources1);
-
-                                    actionCollectionService.generateAndSetPolicies(savedPage, actionCollection);
-
-                                    return actionCollectionService
-                                            .create(actionCollection)
-                                            .flatMap(clonedActionCollection -> {
-                                                Mono<Tuple2<String, String>> tuple2Mono = Mono.zip(
-                                                        Mono.just(clonedActionCollection.getId()),
-                                                        Mono.just(originalCollectionId));
-
-                                                if (org.springframework.util.StringUtils.isEmpty(clonedActionCollection
-                                                        .getDefaultResources()
-                                                        .getCollectionId())) {
-                                                    ActionCollection updates = new ActionCollection();
-                                                    DefaultResources defaultResources2 =
-                                                            clonedActionCollection.getDefaultResources();
-                                                    defaultResources2.setCollectionId(clonedActionCollection.getId());
-                                                    updates.setDefaultResources(defaultResources2);
-                                                    return actionCollectionService
-                                                            .update(clonedActionCollection.getId(), updates)
-                                                            .then(tuple2Mono);
-                                                }
-                                                return tuple2Mono;
-                                            });
-                                })
-                                .collect(
-                                        HashMap<String, String>::new,
-                                        (map, tuple2) -> map.put(tuple2.getT2(), tuple2.getT1()))
-                                .cache();
-
-                        Mono<HashMap<String, String>> forkedActionsMono =
-                                forkedCollectionsMono.flatMap(collectionIdMap -> {
-                                    return sourceActionFlux
-                                            .map(newAction -> {
-                                                ActionDTO action = newAction.getUnpublishedAction();
-                                                log.info(
-                                                        "Preparing action for cloning {} {}.",
-                                                        action.getName(),
-                                                        newAction.getId());
-                                                action.setPageId(savedPage.getId());
-                                                action.setDefaultResources(null);
-                                                return newAction;
-                                            })
-                                            .flatMap(newAction -> {
-                                                final String originalActionId = newAction.getId();
-                                                String originalCollectionId = newAction
-                                                        .getUnpublishedAction()
-                                                        .getCollectionId();
-                                                String forkedCollectionId = collectionIdMap.get(originalCollectionId);
-                                                log.info("Creating clone of action {}", originalActionId);
-                                                newAction.makePristine();
-                                                newAction.setWorkspaceId(toWorkspaceId);
-                                                ActionDTO action = newAction.getUnpublishedAction();
-                                                action.setCollectionId(forkedCollectionId);
-
-                                                Mono<ActionDTO> actionMono = Mono.just(action);
-                                                final Datasource datasourceInsideAction = action.getDatasource();
-                                                if (datasourceInsideAction != null) {
-                                                    if (datasourceInsideAction.getId() != null) {
-                                                        final String datasourceId = datasourceInsideAction.getId();
-                                                        actionMono = clonedDatasourceMonos
-                                                                .get(datasourceId)
-                                                                .map(newDatasource -> {
-                                                                    action.setDatasource(newDatasource);
-                                                                    return action;
-                                                                });
-                                                    } else {
-                                                        // If this is an embedded datasource, the config will get forked
-                                                        // along with the action
-                                                        datasourceInsideAction.setWorkspaceId(toWorkspaceId);
-                                                    }
-                                                }
-                                                return Mono.zip(
-                                                        actionMono
-                                                                .flatMap(actionDTO -> {
-                                                                    actionDTO.setId(null);
-                                                                    // Indicates that source of action creation is fork
-                                                                    // application
-                                                                    actionDTO.setSource(
-                                                                            ActionCreationSourceTypeEnum
-                                                                                    .FORK_APPLICATION);
-                                                                    return layoutActionService.createAction(
-                                                                            actionDTO,
-                                                                            new AppsmithEventContext(
-                                                                                    AppsmithEventContextType
-                                                                                            .CLONE_PAGE),
-                                                                            Boolean.FALSE);
-                                                                })
-                                                                .map(ActionDTO::getId),
-                                                        Mono.justOrEmpty(originalActionId));
-                                            })
-                                            // This call to `collectMap` will wait for all actions in all pages to have
-                                            // been processed,
-                                            // and so the `clonedPages` list will also contain all pages cloned.
-                                            .collect(
-                                                    HashMap::new,
-                                                    (map, tuple2) -> map.put(tuple2.getT2(), tuple2.getT1()));
-                                });
-
-                        return forkableDatasourceFlux
-                                .then(forkedCollectionsMono)
-                                .zipWhen(forkedCollectionsMap -> forkedActionsMono);
-                    });
+                .then(forkApplicationDocument(application))
+                .flatMap(savedApplication -> {
+                    newApplicationIds.add(savedApplication.getId());
+                    targetMeta.setApplicationId(savedApplication.getId());
+                    return forkThemes(application, savedApplication)
+                            .then(newPageRepository
+                                    .findByApplicationIdAndNonDeletedEditMode(
+                                            templateApplicationId, pagePermission.getReadPermission())
+                                    .collectList())
+                            .flatMap(sourcePages -> forkPages(savedApplication, sourcePages, defaultPageId))
+                            .flatMap(forkedPagesBySourceId -> forkActionsAndCollections(
+                                            forkedPagesBySourceId, sourceMeta, targetMeta, existingDatasourcesMono)
+                                    .thenReturn(forkedPagesBySourceId.values()));
                 })
-                .flatMapIterable(tuple2 -> clonedPages)
-                .flatMap(clonedPage -> updateLayoutService.updatePageLayoutsByPageId(clonedPage.getId()))
+                .flatMapMany(Flux::fromIterable)
+                // On-load actions are computed once per page, after every action and collection has been inserted.
+                .flatMap(forkedPage -> updateLayoutService.updatePageLayoutsByPageId(forkedPage.getId()))
                 .onErrorResume(throwable -> {
                     if (throwable instanceof AppsmithException e
                             && AppsmithError.INVALID_DYNAMIC_BINDING_REFERENCE.equals(e.getError())) {
@@ -365,31 +192,256 @@ public class ApplicationForkingServiceCEImpl implements ApplicationForkingServic
     }
 
     /**
-     * This function simply creates a clone of the Application object without cloning its children (page and actions)
-     * Once the new application object is created, it adds the new application's id into the list applicationIds
+     * Creates the forked copy of every given page in memory and inserts them all with a single bulk write. The ids of
+     * the forked pages are assigned upfront, so that the forked actions and collections can refer to them right away.
      *
-     * @param application    : Application to be cloned
-     * @param applicationIds : List where the cloned new application's id would be stored
-     * @return A flux that yields all the pages in the template application
+     * @param application   : The forked application that the pages are added to
+     * @param sourcePages   : Non-deleted pages of the source application
+     * @param defaultPageId : ID of the source page that is the default page of the source application
+     * @return A map of source page id to the forked page, in the order of the source pages
      */
-    private Flux<NewPage> doOnlyForkApplicationObjectWithoutItsDependenciesAndReturnNonDeletedPages(
-            Application application, List<String> applicationIds) {
-        final String templateApplicationId = application.getId();
-        return forkApplicationDocument(application).flatMapMany(savedApplication -> {
-            applicationIds.add(savedApplication.getId());
-            return forkThemes(application, savedApplication)
-                    .thenMany(newPageRepository
-                            .findByApplicationIdAndNonDeletedEditMode(
-                                    templateApplicationId, pagePermission.getReadPermission())
-                            .map(newPage -> {
-                                log.info(
-                                        "Preparing page for cloning {} {}.",
-                                        newPage.getUnpublishedPage().getName(),
-                                        newPage.getId());
-                                newPage.setApplicationId(savedApplication.getId());
-                                return newPage;
-                            }));
-        });
+    private Mono<Map<String, NewPage>> forkPages(
+            Application application, List<NewPage> sourcePages, String defaultPageId) {
+        final Map<String, NewPage> forkedPagesBySourceId = new LinkedHashMap<>();
+        final List<ApplicationPage> applicationPages = new ArrayList<>();
+
+        for (final NewPage sourcePage : sourcePages) {
+            final PageDTO page = sourcePage.getUnpublishedPage();
+            log.info("Preparing page for cloning {} {}.", page.getName(), sourcePage.getId());
+            if (page.getName() == null) {
+                return Mono.error(new AppsmithException(AppsmithError.INVALID_PARAMETER, FieldName.NAME));
+            }
+
+            final NewPage forkedPage = new NewPage();
+            forkedPage.updateForBulkWriteOperation();
+
+            if (page.getLayouts() != null) {
+                for (final Layout layout : page.getLayouts()) {
+                    layout.setId(new ObjectId().toString());
+                }
+            }
+
+            DefaultResources defaults = new DefaultResources();
+            defaults.setApplicationId(application.getId());
+            defaults.setPageId(forkedPage.getId());
+            page.setApplicationId(application.getId());
+            page.setDefaultResources(defaults);
+            page.setSlug(TextUtils.makeSlug(page.getName()));
+            applicationPageService.generateAndSetPagePolicies(application, page);
+
+            forkedPage.setApplicationId(application.getId());
+            forkedPage.setUnpublishedPage(page);
+            forkedPage.setPolicies(page.getPolicies());
+            forkedPage.setGitSyncId(application.getId() + "_" + UUID.randomUUID());
+            forkedPage.setDefaultResources(defaults);
+            forkedPagesBySourceId.put(sourcePage.getId(), forkedPage);
+
+            ApplicationPage applicationPage = new ApplicationPage();
+            applicationPage.setId(forkedPage.getId());
+            applicationPage.setIsDefault(defaultPageId.equals(sourcePage.getId()));
+            applicationPage.setDefaultPageId(forkedPage.getId());
+            applicationPages.add(applicationPage);
+        }
+
+        return newPageRepository
+                .bulkInsert(new ArrayList<>(forkedPagesBySourceId.values()))
+                .then(applicationRepository.setPages(application.getId(), applicationPages))
+                .then(applicationService.saveLastEditInformation(application.getId()))
+                .thenReturn(forkedPagesBySourceId);
+    }
+
+    /**
+     * Forks the datasources, action collections and actions of all the forked pages together. Source page and
+     * collection ids are remapped to the forked ones in memory, so that the collections and the actions are each
+     * written with a single bulk insert. The create analytics events of the collections and the actions are sent once
+     * they have been inserted.
+     *
+     * @param forkedPagesBySourceId : Map of source page id to the forked page
+     * @param sourceMeta            : Meta of the source application
+     * @param targetMeta            : Meta of the forked application
+     * @param existingDatasourcesMono : Datasources already present in the target workspace
+     * @return Empty Mono, once all the actions and collections have been inserted
+     */
+    private Mono<Void> forkActionsAndCollections(
+            Map<String, NewPage> forkedPagesBySourceId,
+            ForkingMetaDTO sourceMeta,
+            ForkingMetaDTO targetMeta,
+            Mono<List<Datasource>> existingDatasourcesMono) {
+        if (forkedPagesBySourceId.isEmpty()) {
+            return Mono.empty();
+        }
+
+        final List<String> sourcePageIds = new ArrayList<>(forkedPagesBySourceId.keySet());
+        final String toWorkspaceId = targetMeta.getWorkspaceId();
+
+        final Flux<NewAction> sourceActionFlux = newActionService
+                .findByPageIdsForExport(sourcePageIds, Optional.empty())
+                .cache();
+
+        // A map of source datasourceId => the datasource that actions in the forked application should use instead
+        final Mono<Map<String, Datasource>> forkedDatasourcesMono = datasourceForkableService
+                .getForkableEntitiesFromSource(sourceMeta, sourceActionFlux)
+                .distinct(Datasource::getId)
+                .flatMap(forkableDatasource -> {
+                    final String sourceDatasourceId = forkableDatasource.getId();
+                    return datasourceForkableService
+                            .createForkedEntity(forkableDatasource, sourceMeta, targetMeta, existingDatasourcesMono)
+                            .map(forkedDatasource -> Tuples.of(sourceDatasourceId, forkedDatasource));
+                })
+                .collectMap(Tuple2::getT1, Tuple2::getT2);
+
+        // A map of source collectionId => forked collectionId
+        final Mono<Map<String, String>> forkedCollectionIdsMono = actionCollectionRepository
+                .findByPageIds(sourcePageIds, null)
+                .collectList()
+                .flatMap(actionCollections -> {
+                    final Map<String, String> forkedCollectionIds = new HashMap<>();
+                    for (final ActionCollection actionCollection : actionCollections) {
+                        // Keep a record of the original collection id
+                        final String originalCollectionId = actionCollection.getId();
+                        log.info("Creating clone of action collection {}", originalCollectionId);
+                        final ActionCollectionDTO unpublishedCollection = actionCollection.getUnpublishedCollection();
+                        final NewPage forkedPage = forkedPagesBySourceId.get(unpublishedCollection.getPageId());
+
+                        // Sanitize them
+                        actionCollection.makePristine();
+                        actionCollection.setCreatedAt(null);
+                        actionCollection.updateForBulkWriteOperation();
+                        actionCollection.setPublishedCollection(null);
+                        unpublishedCollection.setPageId(forkedPage.getId());
+
+                        DefaultResources dtoDefaultResources = new DefaultResources();
+                        dtoDefaultResources.setPageId(forkedPage.getId());
+                        unpublishedCollection.setDefaultResources(dtoDefaultResources);
+
+                        actionCollection.setWorkspaceId(toWorkspaceId);
+                        actionCollection.setApplicationId(forkedPage.getApplicationId());
+
+                        DefaultResources defaultResources = new DefaultResources();
+                        defaultResources.setApplicationId(forkedPage.getApplicationId());
+                        defaultResources.setCollectionId(actionCollection.getId());
+                        actionCollection.setDefaultResources(defaultResources);
+
+                        if (actionCollection.getGitSyncId() == null) {
+                            actionCollection.setGitSyncId(
+                                    actionCollection.getApplicationId() + "_" + UUID.randomUUID());
+                        }
+
+                        actionCollectionService.generateAndSetPolicies(forkedPage, actionCollection);
+                        forkedCollectionIds.put(originalCollectionId, actionCollection.getId());
+                    }
+
+                    return actionCollectionService
+                            .bulkValidateAndInsertActionCollectionInRepository(actionCollections)
+                            .thenMany(Flux.fromIterable(actionCollections))
+                            .flatMap(actionCollection -> analyticsService.sendCreateEvent(
+                                    actionCollection, actionCollectionService.getAnalyticsProperties(actionCollection)))
+                            .then(Mono.just(forkedCollectionIds));
+                });
+
+        return Mono.zip(forkedDatasourcesMono, forkedCollectionIdsMono)
+                .flatMap(tuple -> sourceActionFlux
+                        .map(sourceAction -> forkAction(
+                                sourceAction, forkedPagesBySourceId, tuple.getT1(), tuple.getT2(), toWorkspaceId))
+                        .collectList())
+                .flatMap(forkedActions -> validateForkedActionNames(forkedPagesBySourceId.values(), forkedActions)
+                        .then(newActionService.bulkValidateAndInsertActionInRepository(forkedActions))
+                        .thenMany(Flux.fromIterable(forkedActions))
+                        .flatMap(forkedAction -> analyticsService.sendCreateEvent(
+                                forkedAction, newActionService.getAnalyticsProperties(forkedAction)))
+                        .then());
+    }
+
+    /**
+     * Fails with a duplicate name error if a forked action takes a name that is already used on its forked page, the
+     * same check that a new action goes through. The names on a page are fetched once, and the actions of the page are
+     * checked against them and against each other in memory.
+     *
+     * @param forkedPages   : The forked pages, with the forked collections already inserted
+     * @param forkedActions : The forked actions, not inserted yet
+     * @return Empty Mono if none of the names clash
+     */
+    private Mono<Void> validateForkedActionNames(Collection<NewPage> forkedPages, List<NewAction> forkedActions) {
+        final Map<String, List<NewAction>> forkedActionsByPageId = new HashMap<>();
+        for (final NewAction forkedAction : forkedActions) {
+            forkedActionsByPageId
+                    .computeIfAbsent(forkedAction.getUnpublishedAction().getPageId(), pageId -> new ArrayList<>())
+                    .add(forkedAction);
+        }
+
+        return Flux.fromIterable(forkedPages)
+                .filter(forkedPage -> forkedActionsByPageId.containsKey(forkedPage.getId()))
+                .flatMap(forkedPage -> {
+                    final Layout layout =
+                            forkedPage.getUnpublishedPage().getLayouts().get(0);
+                    return refactoringService
+                            .getAllExistingEntitiesMono(
+                                    forkedPage.getId(), CreatorContextType.PAGE, layout.getId(), false)
+                            .flatMap(existingNames -> {
+                                final Set<String> takenNames = new HashSet<>(existingNames);
+                                for (final NewAction forkedAction : forkedActionsByPageId.get(forkedPage.getId())) {
+                                    final String name =
+                                            forkedAction.getUnpublishedAction().getValidName();
+                                    if (!takenNames.add(name)) {
+                                        return Mono.error(new AppsmithException(
+                                                AppsmithError.DUPLICATE_KEY_USER_ERROR, name, FieldName.NAME));
+                                    }
+                                }
+                                return Mono.empty();
+                            });
+                })
+                .then();
+    }
+
+    /**
+     * Creates the forked copy of an action in memory, pointing to the forked page, collection and datasource. The
+     * action is set up the same way as a new action created with the {@link AppsmithEventContextType#CLONE_PAGE}
+     * context, and gets its id upfront so that it can be bulk inserted.
+     */
+    private NewAction forkAction(
+            NewAction sourceAction,
+            Map<String, NewPage> forkedPagesBySourceId,
+            Map<String, Datasource> forkedDatasources,
+            Map<String, String> forkedCollectionIds,
+            String toWorkspaceId) {
+        final ActionDTO action = sourceAction.getUnpublishedAction();
+        log.info("Creating clone of action {} {}", action.getName(), sourceAction.getId());
+        final NewPage forkedPage = forkedPagesBySourceId.get(action.getPageId());
+
+        action.setPageId(forkedPage.getId());
+        action.setDefaultResources(null);
+        action.setCollectionId(forkedCollectionIds.get(action.getCollectionId()));
+
+        final Datasource datasourceInsideAction = action.getDatasource();
+        if (datasourceInsideAction != null) {
+            if (datasourceInsideAction.getId() != null) {
+                final Datasource forkedDatasource = forkedDatasources.get(datasourceInsideAction.getId());
+                if (forkedDatasource == null) {
+                    throw new AppsmithException(
+                            AppsmithError.NO_RESOURCE_FOUND, FieldName.DATASOURCE, datasourceInsideAction.getId());
+                }
+                action.setDatasource(forkedDatasource);
+            } else {
+                // If this is an embedded datasource, the config will get forked along with the action
+                datasourceInsideAction.setWorkspaceId(toWorkspaceId);
+            }
+        }
+
+        action.setId(null);
+        // Indicates that source of action creation is fork application
+        action.setSource(ActionCreationSourceTypeEnum.FORK_APPLICATION);
+
+        final NewAction forkedAction = newActionService.generateActionDomain(action);
+        // Inherit the action policies from the page.
+        newActionService.generateAndSetActionPolicies(forkedPage, forkedAction);
+        newActionService.setCommonFieldsFromActionDTOIntoNewAction(action, forkedAction);
+        forkedAction.setApplicationId(forkedPage.getApplicationId());
+        forkedAction.setWorkspaceId(toWorkspaceId);
+        forkedAction.setUnpublishedAction(action);
+        forkedAction.updateForBulkWriteOperation();
+        newActionService.updateDefaultResourcesInAction(forkedAction);
+
+        return forkedAction;
     }
 
     private Mono<Integer> forkThemes(Application srcApplication, Application destApplication) {
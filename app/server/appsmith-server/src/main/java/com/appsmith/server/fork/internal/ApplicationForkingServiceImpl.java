@@ -8,7 +8,9 @@ import com.appsmith.server.helpers.ResponseUtils;
 import com.appsmith.server.imports.internal.ImportService;
 import com.appsmith.server.layouts.UpdateLayoutService;
 import com.appsmith.server.newactions.base.NewActionService;
+import com.appsmith.server.refactors.applications.RefactoringService;
 import com.appsmith.server.repositories.ActionCollectionRepository;
+import com.appsmith.server.repositories.ApplicationRepository;
 import com.appsmith.server.repositories.NewActionRepository;
 import com.appsmith.server.repositories.NewPageRepository;
 import com.appsmith.server.repositories.WorkspaceRepository;
@@ -53,7 +55,9 @@ public class ApplicationForkingServiceImpl extends ApplicationForkingServiceCEIm
             NewActionRepository newActionRepository,
             WorkspaceRepository workspaceRepository,
             ForkableService<Datasource> datasourceForkableService,
-            UpdateLayoutService updateLayoutService) {
+            UpdateLayoutService updateLayoutService,
+            ApplicationRepository applicationRepository,
+            RefactoringService refactoringService) {
         super(
                 applicationService,
                 workspaceService,
@@ -76,6 +80,8 @@ public class ApplicationForkingServiceImpl extends ApplicationForkingServiceCEIm
                 newActionRepository,
                 workspaceRepository,
                 datasourceForkableService,
-                updateLayoutService);
+                updateLayoutService,
+                applicationRepository,
+                refactoringService);
     }
 }
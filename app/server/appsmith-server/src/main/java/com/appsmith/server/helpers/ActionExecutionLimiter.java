@@ -0,0 +1,255 @@
+package com.appsmith.server.helpers;
+
+import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginError;
+import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginException;
+import com.appsmith.external.helpers.ConcurrencyLimiter;
+import com.appsmith.external.models.DatasourceConfiguration;
+import com.appsmith.external.models.DatasourceStorage;
+import com.appsmith.external.plugins.PluginExecutor;
+import com.appsmith.server.domains.Plugin;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.function.ToIntFunction;
+
+/**
+ * Admission control for action executions. An execution first takes a slot from the limiter of its datasource, and
+ * then from the limiter of its plugin, before it is handed to the plugin. Executions that find no free slot wait in
+ * arrival order, and fail with a queue timeout error if they can't get both slots in time.
+ */
+@Component
+public class ActionExecutionLimiter {
+
+    private static final String IN_FLIGHT_GAUGE = "appsmith.action.execution.inflight";
+    private static final String QUEUED_GAUGE = "appsmith.action.execution.queued";
+    private static final String SCOPE_DATASOURCE = "datasource";
+    private static final String SCOPE_PLUGIN = "plugin";
+
+    // Limiters of datasources that haven't run anything for this long are dropped, to not keep one for every datasource
+    // that was ever run on this server
+    private static final long IDLE_LIMITER_TIME_TO_LIVE_MILLIS = 10 * 60 * 1000;
+
+    private final MeterRegistry meterRegistry;
+
+    private final int defaultDatasourceMaxConcurrency;
+
+    private final int pluginMaxConcurrency;
+
+    private final int defaultQueueTimeoutInMillisecond;
+
+    // Keyed by datasource id and environment id, as every environment of a datasource has its own connections.
+    private final Map<String, DatasourceLimiter> datasourceLimiters = new ConcurrentHashMap<>();
+
+    // Keyed by plugin name, so bounded by the number of installed plugins
+    private final Map<String, ConcurrencyLimiter> pluginLimiters = new ConcurrentHashMap<>();
+
+    private final Set<String> pluginsWithGauges = ConcurrentHashMap.newKeySet();
+
+    private record DatasourceLimiter(String pluginName, ConcurrencyLimiter limiter, AtomicLong lastUsedAt) {
+
+        DatasourceLimiter(String pluginName, ConcurrencyLimiter limiter) {
+            this(pluginName, limiter, new AtomicLong(System.currentTimeMillis()));
+        }
+
+        ConcurrencyLimiter use() {
+            lastUsedAt.set(System.currentTimeMillis());
+            return limiter;
+        }
+
+        boolean isIdleSince(long cutoffMillis) {
+            return limiter.getInFlightCount() == 0 && limiter.getQueuedCount() == 0 && lastUsedAt.get() < cutoffMillis;
+        }
+    }
+
+    public ActionExecutionLimiter(
+            MeterRegistry meterRegistry,
+            @Value("${appsmith.action.execution.datasource.max-concurrency:50}") int defaultDatasourceMaxConcurrency,
+            @Value("${appsmith.action.execution.plugin.max-concurrency:0}") int pluginMaxConcurrency,
+            @Value("${appsmith.action.execution.queue-timeout-ms:10000}") int defaultQueueTimeoutInMillisecond) {
+        this.meterRegistry = meterRegistry;
+        this.defaultDatasourceMaxConcurrency = defaultDatasourceMaxConcurrency;
+        this.pluginMaxConcurrency = pluginMaxConcurrency;
+        this.defaultQueueTimeoutInMillisecond = defaultQueueTimeoutInMillisecond;
+    }
+
+    /**
+     * Subscribes to the given execution once it has a slot on both its datasource and its plugin. A concurrency of
+     * zero or less turns off the corresponding limit. Unless the datasource sets its own limit, a datasource gets as
+     * many slots as the plugin has connections for it, and the server default if the plugin doesn't pool them. The
+     * queue timeout covers the wait for both slots together.
+     *
+     * @param datasourceStorage The datasource the action runs against, its configuration may override the defaults
+     * @param plugin            The plugin the action runs on
+     * @param pluginExecutor    The executor of the plugin, asked for the size of its connection pool
+     * @param actionName        Name of the action, used in the queue timeout error
+     * @param execution         The execution to limit
+     * @return Result of the execution, or a PLUGIN_QUERY_QUEUE_TIMEOUT_ERROR if it couldn't start in time
+     */
+    public <T> Mono<T> limit(
+            DatasourceStorage datasourceStorage,
+            Plugin plugin,
+            PluginExecutor<?> pluginExecutor,
+            String actionName,
+            Mono<T> execution) {
+        final String pluginName = plugin.getPackageName();
+        final DatasourceConfiguration datasourceConfiguration = datasourceStorage.getDatasourceConfiguration();
+        final int queueTimeoutInMillisecond = valueOrDefault(
+                datasourceConfiguration == null
+                        ? null
+                        : datasourceConfiguration.getExecutionQueueTimeoutInMillisecond(),
+                defaultQueueTimeoutInMillisecond);
+        final Supplier<Throwable> queueTimeoutError = () -> new AppsmithPluginException(
+                AppsmithPluginError.PLUGIN_QUERY_QUEUE_TIMEOUT_ERROR, actionName, queueTimeoutInMillisecond);
+
+        registerGauges(pluginName);
+
+        return pluginExecutor
+                .getMaxConcurrentExecutions(datasourceConfiguration)
+                .map(Optional::of)
+                .defaultIfEmpty(Optional.empty())
+                .flatMap(pluginMaxConcurrency -> {
+                    // Time spent queueing for the datasource is taken off the time left to queue for the plugin
+                    final Scheduler scheduler = Schedulers.parallel();
+                    final long deadlineNanos = scheduler.now(TimeUnit.NANOSECONDS)
+                            + TimeUnit.MILLISECONDS.toNanos(queueTimeoutInMillisecond);
+
+                    Mono<T> limitedExecution = execution;
+
+                    final ConcurrencyLimiter pluginLimiter = getPluginLimiter(pluginName);
+                    if (pluginLimiter != null) {
+                        limitedExecution = Mono.defer(() -> pluginLimiter.limit(
+                                execution,
+                                Duration.ofNanos(Math.max(0, deadlineNanos - scheduler.now(TimeUnit.NANOSECONDS))),
+                                queueTimeoutError));
+                    }
+
+                    final ConcurrencyLimiter datasourceLimiter = getDatasourceLimiter(
+                            datasourceStorage,
+                            pluginName,
+                            pluginMaxConcurrency.orElse(defaultDatasourceMaxConcurrency));
+                    if (datasourceLimiter != null) {
+                        limitedExecution = datasourceLimiter.limit(
+                                limitedExecution, Duration.ofMillis(queueTimeoutInMillisecond), queueTimeoutError);
+                    }
+
+                    return limitedExecution;
+                });
+    }
+
+    private ConcurrencyLimiter getPluginLimiter(String pluginName) {
+        if (pluginMaxConcurrency <= 0) {
+            return null;
+        }
+
+        return pluginLimiters.computeIfAbsent(pluginName, ignored -> new ConcurrencyLimiter(pluginMaxConcurrency));
+    }
+
+    private ConcurrencyLimiter getDatasourceLimiter(
+            DatasourceStorage datasourceStorage, String pluginName, int defaultMaxConcurrency) {
+        // Datasources embedded in an action have no id, and aren't limited on their own.
+        if (datasourceStorage.getDatasourceId() == null) {
+            return null;
+        }
+
+        final DatasourceConfiguration datasourceConfiguration = datasourceStorage.getDatasourceConfiguration();
+        final int maxConcurrency = valueOrDefault(
+                datasourceConfiguration == null ? null : datasourceConfiguration.getMaxConcurrentExecutions(),
+                defaultMaxConcurrency);
+        if (maxConcurrency <= 0) {
+            return null;
+        }
+
+        final String key = datasourceStorage.getDatasourceId() + "_" + datasourceStorage.getEnvironmentId();
+        final DatasourceLimiter existing = datasourceLimiters.get(key);
+        if (existing != null && existing.limiter().getMaxConcurrency() == maxConcurrency) {
+            return existing.use();
+        }
+
+        // The limit was changed in the datasource settings. Executions still holding a slot on the old limiter finish
+        // there, new ones only see the new limiter.
+        return datasourceLimiters
+                .compute(
+                        key,
+                        (ignored, current) ->
+                                current != null && current.limiter().getMaxConcurrency() == maxConcurrency
+                                        ? current
+                                        : new DatasourceLimiter(pluginName, new ConcurrencyLimiter(maxConcurrency)))
+                .use();
+    }
+
+    /**
+     * Drops the limiters of datasources that have nothing running or waiting, and haven't been used for a while. An
+     * execution that picked up a limiter just as it was dropped still runs within it, and only the executions after it
+     * get a new one.
+     */
+    @Scheduled(initialDelay = 10 * 60 * 1000 /* ten minutes */, fixedDelay = 10 * 60 * 1000 /* ten minutes */)
+    public void removeIdleLimiters() {
+        removeIdleLimiters(System.currentTimeMillis());
+    }
+
+    void removeIdleLimiters(long nowMillis) {
+        final long cutoffMillis = nowMillis - IDLE_LIMITER_TIME_TO_LIVE_MILLIS;
+        datasourceLimiters.forEach((key, datasourceLimiter) -> {
+            if (datasourceLimiter.isIdleSince(cutoffMillis)) {
+                datasourceLimiters.remove(key, datasourceLimiter);
+            }
+        });
+    }
+
+    int getDatasourceLimiterCount() {
+        return datasourceLimiters.size();
+    }
+
+    private void registerGauges(String pluginName) {
+        if (!pluginsWithGauges.add(pluginName)) {
+            return;
+        }
+
+        registerGauge(
+                IN_FLIGHT_GAUGE,
+                "Number of action executions running",
+                pluginName,
+                ConcurrencyLimiter::getInFlightCount);
+        registerGauge(
+                QUEUED_GAUGE,
+                "Number of action executions waiting for a slot",
+                pluginName,
+                ConcurrencyLimiter::getQueuedCount);
+    }
+
+    private void registerGauge(
+            String name, String description, String pluginName, ToIntFunction<ConcurrencyLimiter> count) {
+        Gauge.builder(name, this, ignored -> datasourceLimiters.values().stream()
+                        .filter(datasourceLimiter -> pluginName.equals(datasourceLimiter.pluginName()))
+                        .mapToInt(datasourceLimiter -> count.applyAsInt(datasourceLimiter.limiter()))
+                        .sum())
+                .description(description)
+                .tags("scope", SCOPE_DATASOURCE, "plugin", pluginName)
+                .register(meterRegistry);
+        Gauge.builder(name, this, ignored -> {
+                    final ConcurrencyLimiter pluginLimiter = pluginLimiters.get(pluginName);
+                    return pluginLimiter == null ? 0 : count.applyAsInt(pluginLimiter);
+                })
+                .description(description)
+                .tags("scope", SCOPE_PLUGIN, "plugin", pluginName)
+                .register(meterRegistry);
+    }
+
+    private static int valueOrDefault(Integer value, int defaultValue) {
+        return value == null ? defaultValue : value;
+    }
+}
@@ -0,0 +1,26 @@
+package com.appsmith.server.helpers;
+
+import reactor.core.publisher.Mono;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Holds the metadata that is looked up while executing actions, e.g. datasources and plugins, for the lifetime of a
+ * single request that executes several actions. Actions of a page mostly share a handful of datasources, so these are
+ * then only fetched once for the whole request instead of once per action.
+ */
+public class ActionExecutionMetadataCache {
+
+    private final Map<String, Mono<?>> cache = new ConcurrentHashMap<>();
+
+    /**
+     * Returns the cached value for the key, or subscribes to the given Mono once and caches its outcome, including
+     * errors, for everyone else asking for the same key.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> Mono<T> get(String key, Supplier<Mono<T>> loader) {
+        return (Mono<T>) cache.computeIfAbsent(key, k -> loader.get().cache());
+    }
+}
@@ -3,8 +3,11 @@ package com.appsmith.server.helpers;
 import lombok.extern.slf4j.Slf4j;
 
 import java.text.Normalizer;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Locale;
 import java.util.Set;
 import java.util.regex.Pattern;
@@ -24,6 +27,11 @@ public class TextUtils {
      */
     private static final Pattern SEPARATORS = Pattern.compile("[\\s\\p{Punct}]+");
 
+    /**
+     * Length of the longest n-gram generated by {@link #getSearchTokens(String)}.
+     */
+    public static final int SEARCH_TOKEN_LENGTH = 3;
+
     /**
      * Creates URL safe text aka slug from the input text. It supports english locale only.
      * See the test cases for sample conversions
@@ -64,6 +72,52 @@ public class TextUtils {
         return parts;
     }
 
+    /**
+     * Generates the lower-cased n-grams of the input text, of every length from 1 up to {@link #SEARCH_TOKEN_LENGTH}.
+     * Storing these alongside a name lets a case-insensitive "contains" search on the name be served from an index.
+     * See {@link #getSearchTokensForQuery(String)} for the lookup side.
+     *
+     * @param inputText String to generate tokens for
+     * @return Set of distinct tokens, null if the input is null
+     */
+    public static Set<String> getSearchTokens(String inputText) {
+        if (inputText == null) {
+            return null;
+        }
+
+        final String lowerCased = inputText.toLowerCase(Locale.ROOT);
+        final Set<String> tokens = new LinkedHashSet<>();
+        for (int start = 0; start < lowerCased.length(); start++) {
+            final int maxEnd = Math.min(lowerCased.length(), start + SEARCH_TOKEN_LENGTH);
+            for (int end = start + 1; end <= maxEnd; end++) {
+                tokens.add(lowerCased.substring(start, end));
+            }
+        }
+        return tokens;
+    }
+
+    /**
+     * Returns the tokens that are all present in the {@link #getSearchTokens(String)} of any text containing the
+     * search string, ignoring case. A short search string is a token on its own, longer ones are split into their
+     * overlapping n-grams of {@link #SEARCH_TOKEN_LENGTH}. The latter can also match texts that have the n-grams in a
+     * different order, hence the candidates still have to be checked against the full search string.
+     *
+     * @param searchString Non-empty string being searched for
+     * @return List of distinct tokens
+     */
+    public static List<String> getSearchTokensForQuery(String searchString) {
+        final String lowerCased = searchString.toLowerCase(Locale.ROOT);
+        if (lowerCased.length() <= SEARCH_TOKEN_LENGTH) {
+            return List.of(lowerCased);
+        }
+
+        final Set<String> tokens = new LinkedHashSet<>();
+        for (int start = 0; start + SEARCH_TOKEN_LENGTH <= lowerCased.length(); start++) {
+            tokens.add(lowerCased.substring(start, start + SEARCH_TOKEN_LENGTH));
+        }
+        return new ArrayList<>(tokens);
+    }
+
     /**
      * Generates default names for roles based on role type and resource name.
      *
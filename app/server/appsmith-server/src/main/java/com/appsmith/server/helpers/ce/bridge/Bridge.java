@@ -5,6 +5,7 @@ import lombok.NonNull;
 import org.bson.types.ObjectId;
 import org.springframework.data.mongodb.core.query.Criteria;
 
+import java.time.Instant;
 import java.util.Collection;
 
 public final class Bridge {
@@ -88,10 +89,19 @@ public final class Bridge {
         return Bridge.<T>query().searchIgnoreCase(key, needle);
     }
 
+    public static <T extends BaseDomain> BridgeQuery<T> searchIgnoreCase(
+            @NonNull String key, @NonNull String tokensKey, @NonNull String needle) {
+        return Bridge.<T>query().searchIgnoreCase(key, tokensKey, needle);
+    }
+
     public static <T extends BaseDomain> BridgeQuery<T> in(@NonNull String key, @NonNull Collection<String> value) {
         return Bridge.<T>query().in(key, value);
     }
 
+    public static <T extends BaseDomain> BridgeQuery<T> lessThan(@NonNull String key, @NonNull Instant value) {
+        return Bridge.<T>query().lessThan(key, value);
+    }
+
     public static <T extends BaseDomain> BridgeQuery<T> exists(@NonNull String key) {
         return Bridge.<T>query().exists(key);
     }
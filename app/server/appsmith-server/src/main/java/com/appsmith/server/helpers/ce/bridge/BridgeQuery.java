@@ -1,11 +1,13 @@
 package com.appsmith.server.helpers.ce.bridge;
 
 import com.appsmith.external.models.BaseDomain;
+import com.appsmith.server.helpers.TextUtils;
 import lombok.NonNull;
 import org.bson.Document;
 import org.bson.types.ObjectId;
 import org.springframework.data.mongodb.core.query.Criteria;
 
+import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
@@ -72,11 +74,31 @@ public final class BridgeQuery<T extends BaseDomain> extends Criteria {
         return this;
     }
 
+    /**
+     * Same as {@link #searchIgnoreCase(String, String)}, but the candidates are first narrowed down through the tokens
+     * stored in {@code tokensKey}, generated with {@link TextUtils#getSearchTokens(String)}. With an index on that
+     * field, the database doesn't need to scan the collection to run the regex.
+     */
+    public BridgeQuery<T> searchIgnoreCase(@NonNull String key, @NonNull String tokensKey, @NonNull String needle) {
+        if (needle.isEmpty()) {
+            // Every value contains an empty string, there's nothing to narrow down.
+            return this;
+        }
+
+        checks.add(Criteria.where(tokensKey).all(TextUtils.getSearchTokensForQuery(needle)));
+        return searchIgnoreCase(key, needle);
+    }
+
     public BridgeQuery<T> in(@NonNull String key, @NonNull Collection<String> value) {
         checks.add(Criteria.where(key).in(value));
         return this;
     }
 
+    public BridgeQuery<T> lessThan(@NonNull String key, @NonNull Instant value) {
+        checks.add(Criteria.where(key).lt(value));
+        return this;
+    }
+
     public BridgeQuery<T> exists(@NonNull String key) {
         checks.add(Criteria.where(key).exists(true));
         return this;
@@ -4,6 +4,7 @@ import com.appsmith.external.dtos.DslExecutableDTO;
 import com.appsmith.external.models.CreatorContextType;
 import com.appsmith.server.domains.Layout;
 import com.appsmith.server.dtos.LayoutDTO;
+import com.appsmith.server.dtos.LayoutDeltaDTO;
 import com.appsmith.server.dtos.UpdateMultiplePageLayoutDTO;
 import net.minidev.json.JSONObject;
 import reactor.core.publisher.Mono;
@@ -17,6 +18,9 @@ public interface UpdateLayoutServiceCE {
     Mono<LayoutDTO> updateLayout(
             String defaultPageId, String defaultApplicationId, String layoutId, Layout layout, String branchName);
 
+    Mono<LayoutDTO> updateLayoutWithDelta(
+            String defaultPageId, String layoutId, LayoutDeltaDTO layoutDelta, String branchName);
+
     Mono<Integer> updateMultipleLayouts(
             String defaultApplicationId, String branchName, UpdateMultiplePageLayoutDTO updateMultiplePageLayoutDTO);
 
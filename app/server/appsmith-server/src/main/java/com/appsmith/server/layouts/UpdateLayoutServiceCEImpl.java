@@ -14,6 +14,8 @@ import com.appsmith.server.domains.Layout;
 import com.appsmith.server.domains.NewPage;
 import com.appsmith.server.domains.User;
 import com.appsmith.server.dtos.LayoutDTO;
+import com.appsmith.server.dtos.LayoutDeltaDTO;
+import com.appsmith.server.dtos.PageDTO;
 import com.appsmith.server.dtos.UpdateMultiplePageLayoutDTO;
 import com.appsmith.server.exceptions.AppsmithError;
 import com.appsmith.server.exceptions.AppsmithException;
@@ -40,13 +42,16 @@ import java.util.Arrays;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
+import static com.appsmith.external.helpers.StringUtils.dotted;
 import static com.appsmith.server.constants.CommonConstants.EVALUATION_VERSION;
 import static java.lang.Boolean.FALSE;
 
@@ -112,6 +117,23 @@ public class UpdateLayoutServiceCEImpl implements UpdateLayoutServiceCE {
             Layout layout,
             Integer evaluatedVersion,
             CreatorContextType creatorType) {
+        return updateLayoutDsl(
+                creatorId,
+                layoutId,
+                layout,
+                evaluatedVersion,
+                creatorType,
+                computedLayout ->
+                        onLoadExecutablesUtil.findAndUpdateLayout(creatorId, creatorType, layoutId, computedLayout));
+    }
+
+    private Mono<LayoutDTO> updateLayoutDsl(
+            String creatorId,
+            String layoutId,
+            Layout layout,
+            Integer evaluatedVersion,
+            CreatorContextType creatorType,
+            Function<Layout, Mono<Layout>> saveLayout) {
         JSONObject dsl = layout.getDsl();
         if (dsl == null) {
             // There is no DSL here. No need to process anything. Return as is.
@@ -194,7 +216,7 @@ public class UpdateLayoutServiceCEImpl implements UpdateLayoutServiceCE {
                     // valid when last stored in the database.
                     layout.setValidOnPageLoadActions(validOnLoadExecutables.get());
 
-                    return onLoadExecutablesUtil.findAndUpdateLayout(creatorId, creatorType, layoutId, layout);
+                    return saveLayout.apply(layout);
                 })
                 .map(savedLayout -> {
                     savedLayout.setDsl(this.unescapeMongoSpecialCharacters(savedLayout));
@@ -253,12 +275,465 @@ public class UpdateLayoutServiceCEImpl implements UpdateLayoutServiceCE {
         return Flux.merge(monoList).then(Mono.just(monoList.size()));
     }
 
+    @Override
+    public Mono<LayoutDTO> updateLayoutWithDelta(
+            String defaultPageId, String layoutId, LayoutDeltaDTO layoutDelta, String branchName) {
+        if (!StringUtils.hasLength(branchName)) {
+            return updateLayoutWithDelta(defaultPageId, layoutId, layoutDelta);
+        }
+        return newPageService
+                .findBranchedPageId(branchName, defaultPageId, pagePermission.getEditPermission())
+                .flatMap(branchedPageId -> updateLayoutWithDelta(branchedPageId, layoutId, layoutDelta))
+                .map(responseUtils::updateLayoutDTOWithDefaultResources);
+    }
+
+    /**
+     * Applies the widget operations of the delta to the saved DSL of the layout, instead of taking the whole DSL from
+     * the client. The bindings are only extracted again from the widgets that the delta touches, and the on load
+     * executables are only computed again if those bindings, or the widget names, have changed.
+     */
+    private Mono<LayoutDTO> updateLayoutWithDelta(String pageId, String layoutId, LayoutDeltaDTO layoutDelta) {
+        final int baseDslVersion = layoutDelta.dslVersion();
+
+        return newPageService
+                .findByIdAndLayoutsId(pageId, layoutId, pagePermission.getEditPermission(), false)
+                .switchIfEmpty(Mono.error(new AppsmithException(
+                        AppsmithError.ACL_NO_RESOURCE_FOUND,
+                        FieldName.PAGE_ID + " or " + FieldName.LAYOUT_ID,
+                        pageId + ", " + layoutId)))
+                .flatMap(page -> {
+                    // Because the findByIdAndLayoutsId call returned non-empty result, we are guaranteed to find the
+                    // layoutId here.
+                    final Layout storedLayout = page.getLayouts().stream()
+                            .filter(layout -> layoutId.equals(layout.getId()))
+                            .findFirst()
+                            .orElseThrow();
+
+                    if (getDslVersion(storedLayout) != baseDslVersion) {
+                        return Mono.error(
+                                new AppsmithException(AppsmithError.STALE_LAYOUT_VERSION, layoutId, baseDslVersion));
+                    }
+
+                    final DslChanges dslChanges = new DslChanges(new HashSet<>(), new HashSet<>());
+                    final boolean isOnLoadRecomputeRequired;
+                    try {
+                        isOnLoadRecomputeRequired = applyWidgetOperations(
+                                storedLayout, layoutDelta.operations(), dslChanges, pageId, layoutId);
+                    } catch (AppsmithException e) {
+                        return Mono.error(e);
+                    }
+
+                    if (isOnLoadRecomputeRequired) {
+                        return updateLayoutDslWithDelta(page, storedLayout, dslChanges, baseDslVersion);
+                    }
+
+                    return saveLayoutDelta(page.getApplicationId(), pageId, storedLayout, dslChanges, baseDslVersion)
+                            .map(savedLayout -> {
+                                savedLayout.setDsl(this.unescapeMongoSpecialCharacters(savedLayout));
+                                return generateResponseDTO(savedLayout);
+                            })
+                            .flatMap(layoutDTO -> sendUpdateLayoutAnalyticsEvent(
+                                            pageId, layoutId, layoutDTO.getDsl(), true, null, CreatorContextType.PAGE)
+                                    .thenReturn(layoutDTO));
+                });
+    }
+
+    private Mono<LayoutDTO> updateLayoutDslWithDelta(
+            PageDTO page, Layout storedLayout, DslChanges dslChanges, int baseDslVersion) {
+        // The on load executables depend on the bindings of all the widgets, so they are computed over the whole DSL,
+        // just like for a full update. Only the write to the database stays targeted.
+        final Layout layout = new Layout();
+        layout.setId(storedLayout.getId());
+        layout.setDsl(this.unescapeMongoSpecialCharacters(storedLayout));
+
+        return applicationService
+                .findById(page.getApplicationId())
+                .switchIfEmpty(Mono.error(new AppsmithException(
+                        AppsmithError.ACL_NO_RESOURCE_FOUND, FieldName.APPLICATION_ID, page.getApplicationId())))
+                .flatMap(application -> {
+                    Integer evaluationVersion = application.getEvaluationVersion();
+                    if (evaluationVersion == null) {
+                        evaluationVersion = EVALUATION_VERSION;
+                    }
+                    return updateLayoutDsl(
+                            page.getId(),
+                            layout.getId(),
+                            layout,
+                            evaluationVersion,
+                            CreatorContextType.PAGE,
+                            computedLayout -> saveLayoutDelta(
+                                    page.getApplicationId(), page.getId(), computedLayout, dslChanges, baseDslVersion));
+                });
+    }
+
+    private Mono<Layout> saveLayoutDelta(
+            String applicationId, String pageId, Layout layout, DslChanges dslChanges, int baseDslVersion) {
+        final Map<String, Object> changedDslParts = new LinkedHashMap<>();
+        collectChangedDslParts(layout.getDsl(), Layout.Fields.dsl, dslChanges, changedDslParts);
+
+        return newPageService
+                .updateUnpublishedLayoutIfDslVersionMatches(pageId, layout, changedDslParts, baseDslVersion)
+                .flatMap(isUpdated -> {
+                    if (!isUpdated) {
+                        // The layout has been saved by someone else since it was read for this delta
+                        return Mono.error(new AppsmithException(
+                                AppsmithError.STALE_LAYOUT_VERSION, layout.getId(), baseDslVersion));
+                    }
+                    layout.setDslVersion(baseDslVersion + 1);
+                    return applicationService
+                            .recordLastEditInformation(applicationId)
+                            .thenReturn(layout);
+                });
+    }
+
+    /**
+     * The widgets that the operations of a delta have changed, so that only their part of the DSL is written to the
+     * database. The children of a widget are written as a whole once any of them has been added or removed, as that
+     * shifts the positions of their siblings.
+     */
+    private record DslChanges(Set<String> changedWidgetIds, Set<String> widgetIdsWithChangedChildren) {}
+
+    /**
+     * Collects the parts of the DSL that have changed, keyed by their path in the layout. Only the outermost changed
+     * part on each branch is collected, as the database doesn't allow setting a path along with one inside of it.
+     */
+    private static void collectChangedDslParts(
+            Map<?, ?> widget, String path, DslChanges dslChanges, Map<String, Object> changedDslParts) {
+        final Object widgetId = widget.get(FieldName.WIDGET_ID);
+        if (dslChanges.changedWidgetIds().contains(widgetId)) {
+            changedDslParts.put(path, widget);
+            return;
+        }
+
+        final Object children = widget.get(FieldName.CHILDREN);
+        if (!(children instanceof List<?> childList)) {
+            return;
+        }
+
+        final String childrenPath = dotted(path, FieldName.CHILDREN);
+        if (dslChanges.widgetIdsWithChangedChildren().contains(widgetId)) {
+            changedDslParts.put(childrenPath, children);
+            return;
+        }
+
+        for (int i = 0; i < childList.size(); i++) {
+            if (childList.get(i) instanceof Map<?, ?> child) {
+                collectChangedDslParts(child, dotted(childrenPath, String.valueOf(i)), dslChanges, changedDslParts);
+            }
+        }
+    }
+
+    private static int getDslVersion(Layout layout) {
+        // Layouts saved before the DSL was versioned have no version
+        return layout.getDslVersion() == null ? 0 : layout.getDslVersion();
+    }
+
+    /**
+     * Applies the widget operations, in order, to the saved DSL of the layout, which has its widget keys escaped for
+     * the database. The widget names and the escaped widget names of the layout are kept in step with the DSL, and
+     * the widgets that have changed are noted in dslChanges.
+     *
+     * @return true if any operation has changed the bindings of a widget, or the widget names on the page, in which
+     * case the on load executables have to be computed again
+     */
+    private boolean applyWidgetOperations(
+            Layout layout,
+            List<LayoutDeltaDTO.WidgetOperation> operations,
+            DslChanges dslChanges,
+            String pageId,
+            String layoutId) {
+        final JSONObject dsl = layout.getDsl();
+        if (dsl == null) {
+            throw new AppsmithException(AppsmithError.INVALID_PARAMETER, FieldName.DSL);
+        }
+
+        final Set<String> widgetNames =
+                layout.getWidgetNames() == null ? new HashSet<>() : new HashSet<>(layout.getWidgetNames());
+        final Set<String> originalWidgetNames = new HashSet<>(widgetNames);
+        final Set<String> escapedWidgetNames = layout.getMongoEscapedWidgetNames() == null
+                ? new HashSet<>()
+                : new HashSet<>(layout.getMongoEscapedWidgetNames());
+
+        final Map<String, JSONObject> widgetsById = new HashMap<>();
+        final Map<String, JSONObject> parentsById = new HashMap<>();
+        indexWidgets(dsl, null, widgetsById, parentsById);
+
+        boolean isOnLoadRecomputeRequired = false;
+        for (LayoutDeltaDTO.WidgetOperation operation : operations) {
+            final String widgetId = operation.widgetId();
+            final JSONObject existingWidget = widgetsById.get(widgetId);
+            final JSONObject parent = parentsById.get(widgetId);
+            final Map<String, Set<String>> bindingsBefore = new HashMap<>();
+            final Map<String, Set<String>> bindingsAfter = new HashMap<>();
+            boolean areBindingsBeforeKnown = true;
+
+            if (operation.op() == LayoutDeltaDTO.Op.REMOVE) {
+                if (existingWidget == null) {
+                    throw new AppsmithException(AppsmithError.NO_RESOURCE_FOUND, FieldName.WIDGET_ID, widgetId);
+                }
+                if (parent == null) {
+                    // The main container can't be removed
+                    throw new AppsmithException(AppsmithError.INVALID_PARAMETER, FieldName.WIDGET_ID);
+                }
+
+                getChildren(parent).removeIf(child -> child == existingWidget);
+                dslChanges.widgetIdsWithChangedChildren().add(parent.getAsString(FieldName.WIDGET_ID));
+                areBindingsBeforeKnown = forgetWidgets(
+                        existingWidget,
+                        true,
+                        widgetNames,
+                        escapedWidgetNames,
+                        widgetsById,
+                        parentsById,
+                        bindingsBefore,
+                        pageId,
+                        layoutId);
+            } else {
+                final JSONObject widget = operation.widget();
+                if (widget == null || !widgetId.equals(widget.getAsString(FieldName.WIDGET_ID))) {
+                    throw new AppsmithException(AppsmithError.INVALID_PARAMETER, FieldName.WIDGET_ID);
+                }
+
+                JSONObject newWidget = new JSONObject(widget);
+                final boolean hasNewChildren = newWidget.containsKey(FieldName.CHILDREN);
+
+                if (existingWidget != null) {
+                    if (!hasNewChildren && existingWidget.containsKey(FieldName.CHILDREN)) {
+                        newWidget.put(FieldName.CHILDREN, existingWidget.get(FieldName.CHILDREN));
+                    }
+                    areBindingsBeforeKnown = forgetWidgets(
+                            existingWidget,
+                            hasNewChildren,
+                            widgetNames,
+                            escapedWidgetNames,
+                            widgetsById,
+                            parentsById,
+                            bindingsBefore,
+                            pageId,
+                            layoutId);
+                    dslChanges.changedWidgetIds().add(widgetId);
+
+                    if (parent == null) {
+                        // The main container is replaced in place, as it is the DSL of the layout itself
+                        dsl.clear();
+                        dsl.putAll(newWidget);
+                        newWidget = dsl;
+                    } else {
+                        final List<Object> siblings = getChildren(parent);
+                        for (int i = 0; i < siblings.size(); i++) {
+                            if (siblings.get(i) == existingWidget) {
+                                siblings.set(i, newWidget);
+                                break;
+                            }
+                        }
+                    }
+                } else {
+                    final JSONObject newParent = widgetsById.get(operation.parentId());
+                    if (newParent == null) {
+                        throw new AppsmithException(
+                                AppsmithError.NO_RESOURCE_FOUND, FieldName.PARENT_WIDGET_ID, operation.parentId());
+                    }
+
+                    final List<Object> siblings = getOrCreateChildren(newParent);
+                    final Integer index = operation.index();
+                    if (index != null && (index < 0 || index > siblings.size())) {
+                        throw new AppsmithException(AppsmithError.INVALID_PARAMETER, FieldName.WIDGET_INDEX);
+                    }
+                    siblings.add(index == null ? siblings.size() : index, newWidget);
+                    parentsById.put(widgetId, newParent);
+                    dslChanges.widgetIdsWithChangedChildren().add(operation.parentId());
+                }
+
+                learnWidgets(
+                        newWidget,
+                        hasNewChildren,
+                        widgetNames,
+                        escapedWidgetNames,
+                        widgetsById,
+                        parentsById,
+                        bindingsAfter,
+                        pageId,
+                        layoutId);
+            }
+
+            if (!areBindingsBeforeKnown || !bindingsBefore.equals(bindingsAfter)) {
+                isOnLoadRecomputeRequired = true;
+            }
+        }
+
+        layout.setWidgetNames(widgetNames);
+        layout.setMongoEscapedWidgetNames(escapedWidgetNames);
+
+        return isOnLoadRecomputeRequired || !widgetNames.equals(originalWidgetNames);
+    }
+
+    /**
+     * Drops the widget, and its children if withChildren is set, from the widget names and the indexes, and collects
+     * the bindings they had.
+     *
+     * @return false if the saved bindings of a widget could not be read, so it isn't known what they were
+     */
+    private boolean forgetWidgets(
+            JSONObject widget,
+            boolean withChildren,
+            Set<String> widgetNames,
+            Set<String> escapedWidgetNames,
+            Map<String, JSONObject> widgetsById,
+            Map<String, JSONObject> parentsById,
+            Map<String, Set<String>> bindings,
+            String pageId,
+            String layoutId) {
+        final String widgetName = widget.getAsString(FieldName.WIDGET_NAME);
+        boolean areBindingsKnown = true;
+
+        if (widgetName != null) {
+            final JSONObject savedWidget = new JSONObject(widget);
+            savedWidget.remove(FieldName.CHILDREN);
+            if (escapedWidgetNames.contains(widgetName)) {
+                WidgetSpecificUtils.unEscapeTableWidgetPrimaryColumns(savedWidget);
+            }
+            try {
+                extractAllWidgetNamesAndDynamicBindingsFromDSL(
+                        savedWidget,
+                        new HashSet<>(),
+                        bindings,
+                        pageId,
+                        layoutId,
+                        new HashSet<>(),
+                        CreatorContextType.PAGE);
+            } catch (AppsmithException e) {
+                areBindingsKnown = false;
+            }
+            widgetNames.remove(widgetName);
+            escapedWidgetNames.remove(widgetName);
+        }
+
+        widgetsById.remove(widget.getAsString(FieldName.WIDGET_ID));
+
+        if (withChildren) {
+            for (Object child : getChildren(widget)) {
+                if (child instanceof JSONObject childWidget) {
+                    parentsById.remove(childWidget.getAsString(FieldName.WIDGET_ID));
+                    areBindingsKnown &= forgetWidgets(
+                            childWidget,
+                            true,
+                            widgetNames,
+                            escapedWidgetNames,
+                            widgetsById,
+                            parentsById,
+                            bindings,
+                            pageId,
+                            layoutId);
+                }
+            }
+        }
+
+        return areBindingsKnown;
+    }
+
+    /**
+     * Adds the widget, and its children if withChildren is set, to the widget names and the indexes, and collects
+     * their bindings. The keys of the widgets are escaped for the database along the way.
+     */
+    private void learnWidgets(
+            JSONObject widget,
+            boolean withChildren,
+            Set<String> widgetNames,
+            Set<String> escapedWidgetNames,
+            Map<String, JSONObject> widgetsById,
+            Map<String, JSONObject> parentsById,
+            Map<String, Set<String>> bindings,
+            String pageId,
+            String layoutId) {
+        final JSONObject newWidget = new JSONObject(widget);
+        newWidget.remove(FieldName.CHILDREN);
+        widget.putAll(extractAllWidgetNamesAndDynamicBindingsFromDSL(
+                newWidget, widgetNames, bindings, pageId, layoutId, escapedWidgetNames, CreatorContextType.PAGE));
+
+        final String widgetId = widget.getAsString(FieldName.WIDGET_ID);
+        if (widgetId != null) {
+            widgetsById.put(widgetId, widget);
+        }
+
+        for (Object child : getChildren(widget)) {
+            if (child instanceof JSONObject childWidget) {
+                parentsById.put(childWidget.getAsString(FieldName.WIDGET_ID), widget);
+                if (withChildren) {
+                    learnWidgets(
+                            childWidget,
+                            true,
+                            widgetNames,
+                            escapedWidgetNames,
+                            widgetsById,
+                            parentsById,
+                            bindings,
+                            pageId,
+                            layoutId);
+                }
+            }
+        }
+    }
+
+    private void indexWidgets(
+            JSONObject widget,
+            JSONObject parent,
+            Map<String, JSONObject> widgetsById,
+            Map<String, JSONObject> parentsById) {
+        final String widgetId = widget.getAsString(FieldName.WIDGET_ID);
+        if (widgetId != null) {
+            widgetsById.put(widgetId, widget);
+            if (parent != null) {
+                parentsById.put(widgetId, parent);
+            }
+        }
+
+        for (Object child : getChildren(widget)) {
+            if (child instanceof JSONObject childWidget) {
+                indexWidgets(childWidget, widget, widgetsById, parentsById);
+            }
+        }
+    }
+
+    private List<Object> getOrCreateChildren(JSONObject widget) {
+        if (widget.get(FieldName.CHILDREN) == null) {
+            widget.put(FieldName.CHILDREN, new ArrayList<>());
+        }
+        return getChildren(widget);
+    }
+
+    /**
+     * Children read from the database are plain maps in plain lists. They are swapped for JSONObjects in an ArrayList
+     * the first time they are looked at, so that the widgets can be changed in place from then on.
+     */
+    private List<Object> getChildren(JSONObject widget) {
+        final Object children = widget.get(FieldName.CHILDREN);
+        if (!(children instanceof List<?> childList)) {
+            return new ArrayList<>();
+        }
+
+        final ArrayList<Object> widgetChildren;
+        if (children instanceof ArrayList<?>) {
+            widgetChildren = (ArrayList<Object>) children;
+        } else {
+            widgetChildren = new ArrayList<>(childList);
+            widget.put(FieldName.CHILDREN, widgetChildren);
+        }
+
+        for (int i = 0; i < widgetChildren.size(); i++) {
+            if (widgetChildren.get(i) instanceof Map<?, ?> child && !(child instanceof JSONObject)) {
+                widgetChildren.set(i, new JSONObject((Map<String, ?>) child));
+            }
+        }
+        return widgetChildren;
+    }
+
     private LayoutDTO generateResponseDTO(Layout layout) {
 
         LayoutDTO layoutDTO = new LayoutDTO();
 
         layoutDTO.setId(layout.getId());
         layoutDTO.setDsl(layout.getDsl());
+        layoutDTO.setDslVersion(layout.getDslVersion());
         layoutDTO.setScreen(layout.getScreen());
         layoutDTO.setLayoutOnLoadActions(layout.getLayoutOnLoadActions());
         layoutDTO.setLayoutOnLoadActionErrors(layout.getLayoutOnLoadActionErrors());
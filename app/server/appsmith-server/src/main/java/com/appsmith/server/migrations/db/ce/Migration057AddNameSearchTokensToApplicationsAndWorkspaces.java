@@ -0,0 +1,99 @@
+package com.appsmith.server.migrations.db.ce;
+
+import com.appsmith.external.models.BaseDomain;
+import com.appsmith.server.domains.Application;
+import com.appsmith.server.domains.Workspace;
+import com.appsmith.server.helpers.TextUtils;
+import io.mongock.api.annotations.ChangeUnit;
+import io.mongock.api.annotations.Execution;
+import io.mongock.api.annotations.RollbackExecution;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.util.List;
+import java.util.function.Function;
+
+import static com.appsmith.server.migrations.DatabaseChangelog1.dropIndexIfExists;
+import static com.appsmith.server.migrations.DatabaseChangelog1.ensureIndexes;
+import static com.appsmith.server.migrations.DatabaseChangelog1.makeIndex;
+
+/**
+ * Populates the name search tokens, used by the homepage search, on the existing applications and workspaces and
+ * indexes them. New and renamed entities get their tokens when they're saved.
+ */
+@Slf4j
+@ChangeUnit(order = "057", id = "add-name-search-tokens-to-applications-and-workspaces", author = " ")
+public class Migration057AddNameSearchTokensToApplicationsAndWorkspaces {
+
+    private final MongoTemplate mongoTemplate;
+
+    private static final int BATCH_SIZE = 5000;
+
+    public static final String APPLICATION_NAME_SEARCH_TOKENS_INDEX = "application_name_search_tokens";
+
+    public static final String WORKSPACE_NAME_SEARCH_TOKENS_INDEX = "workspace_name_search_tokens";
+
+    public Migration057AddNameSearchTokensToApplicationsAndWorkspaces(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    @RollbackExecution
+    public void rollbackExecution() {}
+
+    @Execution
+    public void addNameSearchTokens() {
+        populateNameSearchTokens(
+                Application.class, Application.Fields.name, Application.Fields.nameSearchTokens, Application::getName);
+        populateNameSearchTokens(
+                Workspace.class, Workspace.Fields.name, Workspace.Fields.nameSearchTokens, Workspace::getName);
+
+        // drop the indexes if they exist already
+        dropIndexIfExists(mongoTemplate, Application.class, APPLICATION_NAME_SEARCH_TOKENS_INDEX);
+        dropIndexIfExists(mongoTemplate, Workspace.class, WORKSPACE_NAME_SEARCH_TOKENS_INDEX);
+
+        Index applicationIndex =
+                makeIndex(Application.Fields.nameSearchTokens).named(APPLICATION_NAME_SEARCH_TOKENS_INDEX);
+        Index workspaceIndex = makeIndex(Workspace.Fields.nameSearchTokens).named(WORKSPACE_NAME_SEARCH_TOKENS_INDEX);
+
+        ensureIndexes(mongoTemplate, Application.class, applicationIndex);
+        ensureIndexes(mongoTemplate, Workspace.class, workspaceIndex);
+    }
+
+    /*
+     * Works through the documents that don't have the tokens yet, in batches. Every batch populates the tokens of the
+     * documents it fetched, so a restarted migration picks up from where it left.
+     */
+    private <T extends BaseDomain> void populateNameSearchTokens(
+            Class<T> domainClass, String nameField, String searchTokensField, Function<T, String> nameGetter) {
+        Query query = new Query(
+                Criteria.where(searchTokensField).exists(false).and(nameField).exists(true));
+        query.fields().include(nameField);
+        query.limit(BATCH_SIZE);
+
+        long updatedCount = 0;
+        List<T> batch;
+        do {
+            batch = mongoTemplate.find(query, domainClass);
+            if (batch.isEmpty()) {
+                break;
+            }
+
+            BulkOperations bulkOperations = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, domainClass);
+            for (T document : batch) {
+                Update update =
+                        new Update().set(searchTokensField, TextUtils.getSearchTokens(nameGetter.apply(document)));
+                Query byId = Query.query(Criteria.where(BaseDomain.Fields.id).is(document.getId()));
+                bulkOperations.updateOne(byId, update);
+            }
+            bulkOperations.execute();
+            updatedCount += batch.size();
+        } while (batch.size() == BATCH_SIZE);
+
+        log.info("Populated name search tokens on {} {} documents", updatedCount, domainClass.getSimpleName());
+    }
+}
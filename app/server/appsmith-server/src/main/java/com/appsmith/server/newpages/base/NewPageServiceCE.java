@@ -98,6 +98,9 @@ public interface NewPageServiceCE extends CrudService<NewPage, String> {
 
     Mono<String> updateDependencyMap(String pageId, Map<String, List<String>> dependencyMap, String branchName);
 
+    Mono<Boolean> updateUnpublishedLayoutIfDslVersionMatches(
+            String pageId, Layout layout, Map<String, Object> changedDslParts, int baseDslVersion);
+
     Flux<PageDTO> findByApplicationIdAndApplicationMode(
             String applicationId, AclPermission permission, ApplicationMode applicationMode);
 }
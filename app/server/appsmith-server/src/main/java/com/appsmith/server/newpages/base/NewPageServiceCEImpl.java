@@ -488,7 +488,7 @@ public class NewPageServiceCEImpl extends BaseService<NewPageRepository, NewPage
                     return this.update(pageId, dbPage);
                 })
                 .flatMap(savedPage -> applicationService
-                        .saveLastEditInformation(savedPage.getApplicationId())
+                        .recordLastEditInformation(savedPage.getApplicationId())
                         .then(getPageByViewMode(savedPage, false)));
     }
 
@@ -678,6 +678,22 @@ public class NewPageServiceCEImpl extends BaseService<NewPageRepository, NewPage
         });
     }
 
+    /**
+     * Writes the changed parts of the DSL and the on load information of the given layout, and moves it to the next
+     * DSL version, but only if nobody has saved the layout since it was at baseDslVersion.
+     *
+     * @param changedDslParts The parts of the DSL to write, keyed by their path in the layout
+     * @return true if the layout was updated, false if its DSL version has moved on
+     */
+    @Override
+    public Mono<Boolean> updateUnpublishedLayoutIfDslVersionMatches(
+            String pageId, Layout layout, Map<String, Object> changedDslParts, int baseDslVersion) {
+        return repository
+                .updateUnpublishedLayoutIfDslVersionMatches(
+                        pageId, layout, changedDslParts, baseDslVersion, pagePermission.getEditPermission())
+                .map(count -> count > 0);
+    }
+
     @Override
     public Flux<PageDTO> findByApplicationIdAndApplicationMode(
             String applicationId, AclPermission permission, ApplicationMode applicationMode) {
@@ -84,15 +84,19 @@ public class ExecutableOnPageLoadServiceCEImpl implements ExecutableOnLoadServic
                             // Now that all the on load actions have been computed, set the vertices, edges, actions in
                             // DSL in the layout for re-use to avoid computing DAG unnecessarily.
 
+                            final Integer storedDslVersion = storedLayout.getDslVersion();
                             BeanUtils.copyProperties(layout, storedLayout);
                             storedLayout.setId(layoutId);
+                            // Saving the page moves the layout to its next DSL version, see
+                            // DslVersionMongoEventListener
+                            storedLayout.setDslVersion(storedDslVersion);
 
                             break;
                         }
                     }
                     page.setLayouts(layoutList);
                     return applicationService
-                            .saveLastEditInformation(page.getApplicationId())
+                            .recordLastEditInformation(page.getApplicationId())
                             .then(newPageService.saveUnpublishedPage(page));
                 })
                 .flatMap(page -> {
@@ -6,38 +6,86 @@ import io.github.bucket4j.BucketConfiguration;
 import io.github.bucket4j.Refill;
 import io.github.bucket4j.distributed.BucketProxy;
 import io.github.bucket4j.distributed.ExpirationAfterWriteStrategy;
+import io.github.bucket4j.distributed.proxy.RemoteBucketBuilder;
+import io.github.bucket4j.distributed.proxy.optimization.DelayParameters;
+import io.github.bucket4j.distributed.proxy.optimization.Optimization;
+import io.github.bucket4j.distributed.proxy.optimization.Optimizations;
 import io.github.bucket4j.redis.lettuce.cas.LettuceBasedProxyManager;
 import io.lettuce.core.AbstractRedisClient;
 import io.lettuce.core.RedisClient;
 import io.lettuce.core.cluster.RedisClusterClient;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
 import java.time.Duration;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
-import java.util.Optional;
 
 @Configuration
 @Slf4j
 public class RateLimitConfig {
-    private static final Map<String, BucketConfiguration> apiConfigurationMap = new HashMap<>();
 
-    @Autowired
+    // Number of user specific buckets kept on this node. An evicted bucket is rebuilt from its Redis state on next use.
+    private static final int MAX_CACHED_USER_BUCKETS = 10_000;
+
+    private final Map<String, BucketConfiguration> apiConfigurationMap = new HashMap<>();
+
     private final AbstractRedisClient redisClient;
 
-    public RateLimitConfig(AbstractRedisClient redisClient) {
+    /*
+     User specific buckets consume from their local copy of the Redis state, and only write the consumed tokens back to
+     Redis once more than a tenth of the limit (at least 1, at most maxUnsynchronizedTokens) is pending, or the local
+     copy is older than maxUnsynchronizedDuration. So every other login or test datasource call at least is served
+     without a Redis round trip, and across N nodes a user can go over a limit by at most N times the pending tokens
+     per refill period, e.g. 5 + N logins a day instead of 5.
+    */
+    private final Map<String, Optimization> apiOptimizationMap = new HashMap<>();
+
+    private final long maxUnsynchronizedTokens;
+
+    private final Duration maxUnsynchronizedDuration;
+
+    private final Map<String, BucketProxy> userSpecificBuckets =
+            Collections.synchronizedMap(new LinkedHashMap<>(MAX_CACHED_USER_BUCKETS, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, BucketProxy> eldest) {
+                    return size() > MAX_CACHED_USER_BUCKETS;
+                }
+            });
+
+    public RateLimitConfig(
+            AbstractRedisClient redisClient,
+            @Value("${appsmith.ratelimit.login.limit:5}") int loginLimit,
+            @Value("${appsmith.ratelimit.login.period-seconds:86400}") long loginPeriodSeconds,
+            @Value("${appsmith.ratelimit.test-datasource.limit:3}") int testDatasourceLimit,
+            @Value("${appsmith.ratelimit.test-datasource.period-seconds:5}") long testDatasourcePeriodSeconds,
+            @Value("${appsmith.ratelimit.execute-action.limit:0}") int executeActionLimit,
+            @Value("${appsmith.ratelimit.execute-action.period-seconds:1}") long executeActionPeriodSeconds,
+            @Value("${appsmith.ratelimit.sync.max-unsynchronized-tokens:50}") long maxUnsynchronizedTokens,
+            @Value("${appsmith.ratelimit.sync.max-unsynchronized-millis:1000}") long maxUnsynchronizedMillis) {
         this.redisClient = redisClient;
-    }
+        this.maxUnsynchronizedTokens = maxUnsynchronizedTokens;
+        this.maxUnsynchronizedDuration = Duration.ofMillis(maxUnsynchronizedMillis);
 
-    static {
-        apiConfigurationMap.put(
-                RateLimitConstants.BUCKET_KEY_FOR_LOGIN_API, createBucketConfiguration(Duration.ofDays(1), 5));
-        apiConfigurationMap.put(
+        addApiConfiguration(RateLimitConstants.BUCKET_KEY_FOR_LOGIN_API, loginLimit, loginPeriodSeconds);
+        addApiOptimization(RateLimitConstants.BUCKET_KEY_FOR_LOGIN_API, loginLimit);
+        addApiConfiguration(
                 RateLimitConstants.BUCKET_KEY_FOR_TEST_DATASOURCE_API,
-                createBucketConfiguration(Duration.ofSeconds(5), 3));
+                testDatasourceLimit,
+                testDatasourcePeriodSeconds);
+        addApiOptimization(RateLimitConstants.BUCKET_KEY_FOR_TEST_DATASOURCE_API, testDatasourceLimit);
+        // Action execution is only rate limited when a limit has been configured for it
+        if (executeActionLimit > 0) {
+            addApiConfiguration(
+                    RateLimitConstants.BUCKET_KEY_FOR_EXECUTE_ACTION_API,
+                    executeActionLimit,
+                    executeActionPeriodSeconds);
+            addApiOptimization(RateLimitConstants.BUCKET_KEY_FOR_EXECUTE_ACTION_API, executeActionLimit);
+        }
         // Add more API configurations as needed
     }
 
@@ -73,12 +121,42 @@ public class RateLimitConfig {
 
     public BucketProxy getOrCreateAPIUserSpecificBucket(String apiIdentifier, String userId) {
         String bucketIdentifier = apiIdentifier + userId;
-        Optional<BucketConfiguration> bucketProxy = proxyManager().getProxyConfiguration(bucketIdentifier.getBytes());
-        if (bucketProxy.isPresent()) {
-            return proxyManager().builder().build(bucketIdentifier.getBytes(), bucketProxy.get());
-        }
 
-        return proxyManager().builder().build(bucketIdentifier.getBytes(), apiConfigurationMap.get(apiIdentifier));
+        // The bucket configuration is only used when the bucket doesn't exist in Redis yet, an existing bucket keeps
+        // the configuration it was created with. The proxy is kept around, as it holds the local copy of the tokens.
+        return userSpecificBuckets.computeIfAbsent(bucketIdentifier, key -> {
+            RemoteBucketBuilder<byte[]> bucketBuilder = proxyManager().builder();
+            Optimization optimization = apiOptimizationMap.get(apiIdentifier);
+            if (optimization != null) {
+                bucketBuilder = bucketBuilder.withOptimization(optimization);
+            }
+            return bucketBuilder.build(key.getBytes(), apiConfigurationMap.get(apiIdentifier));
+        });
+    }
+
+    public void resetAPIUserSpecificBucket(String apiIdentifier, String userId) {
+        String bucketIdentifier = apiIdentifier + userId;
+
+        // Drop the local copy of the tokens, and reset the bucket in Redis right away instead of whenever the local
+        // copy is synced next.
+        userSpecificBuckets.remove(bucketIdentifier);
+        proxyManager()
+                .builder()
+                .build(bucketIdentifier.getBytes(), apiConfigurationMap.get(apiIdentifier))
+                .reset();
+    }
+
+    private void addApiConfiguration(String apiIdentifier, int limit, long refillPeriodSeconds) {
+        apiConfigurationMap.put(
+                apiIdentifier, createBucketConfiguration(Duration.ofSeconds(refillPeriodSeconds), limit));
+    }
+
+    private void addApiOptimization(String apiIdentifier, int limit) {
+        // A tenth of the limit at most, so that a small limit isn't mostly spent before the nodes sync. Tokens are only
+        // synced once more than this many are pending, so even a single token halves the round trips.
+        long tokens = Math.max(1, Math.min(maxUnsynchronizedTokens, limit / 10));
+        apiOptimizationMap.put(
+                apiIdentifier, Optimizations.delaying(new DelayParameters(tokens, maxUnsynchronizedDuration)));
     }
 
     private static BucketConfiguration createBucketConfiguration(Duration refillDuration, int limit) {
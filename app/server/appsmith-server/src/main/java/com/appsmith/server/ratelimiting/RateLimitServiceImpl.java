@@ -3,6 +3,7 @@ package com.appsmith.server.ratelimiting;
 import com.appsmith.server.helpers.RedisUtils;
 import com.appsmith.server.ratelimiting.ce.RateLimitServiceCEImpl;
 import io.github.bucket4j.distributed.BucketProxy;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
@@ -13,7 +14,10 @@ import java.util.Map;
 public class RateLimitServiceImpl extends RateLimitServiceCEImpl implements RateLimitService {
 
     public RateLimitServiceImpl(
-            Map<String, BucketProxy> apiBuckets, RateLimitConfig rateLimitConfig, RedisUtils redisUtils) {
-        super(apiBuckets, rateLimitConfig, redisUtils);
+            Map<String, BucketProxy> apiBuckets,
+            RateLimitConfig rateLimitConfig,
+            RedisUtils redisUtils,
+            MeterRegistry meterRegistry) {
+        super(apiBuckets, rateLimitConfig, redisUtils, meterRegistry);
     }
 }
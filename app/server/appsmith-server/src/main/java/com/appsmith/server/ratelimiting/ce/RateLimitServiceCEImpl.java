@@ -5,12 +5,15 @@ import com.appsmith.server.exceptions.AppsmithException;
 import com.appsmith.server.helpers.RedisUtils;
 import com.appsmith.server.ratelimiting.RateLimitConfig;
 import io.github.bucket4j.distributed.BucketProxy;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
 import reactor.core.publisher.Mono;
 import reactor.core.scheduler.Scheduler;
 import reactor.core.scheduler.Schedulers;
 
 import java.time.Duration;
+import java.util.HashMap;
 import java.util.Map;
 
 import static java.lang.Boolean.FALSE;
@@ -27,12 +30,30 @@ public class RateLimitServiceCEImpl implements RateLimitServiceCE {
     // this is required for blocking the execution if bucket exhausted
     private final RedisUtils redisUtils;
     private final String BLOCKED_HOSTNAME_PREFIX = "blocked";
+    private final Map<String, Counter> throttledRequestCounters = new HashMap<>();
 
     public RateLimitServiceCEImpl(
-            Map<String, BucketProxy> apiBuckets, RateLimitConfig rateLimitConfig, RedisUtils redisUtils) {
+            Map<String, BucketProxy> apiBuckets,
+            RateLimitConfig rateLimitConfig,
+            RedisUtils redisUtils,
+            MeterRegistry meterRegistry) {
         this.apiBuckets = apiBuckets;
         this.rateLimitConfig = rateLimitConfig;
         this.redisUtils = redisUtils;
+
+        apiBuckets
+                .keySet()
+                .forEach(apiIdentifier -> throttledRequestCounters.put(
+                        apiIdentifier,
+                        Counter.builder("appsmith.ratelimit.throttled")
+                                .description("Number of requests rejected because the rate limit was exceeded")
+                                .tag("api", apiIdentifier)
+                                .register(meterRegistry)));
+    }
+
+    @Override
+    public boolean isApiRateLimited(String apiIdentifier) {
+        return apiBuckets.containsKey(apiIdentifier);
     }
 
     @Override
@@ -47,6 +68,7 @@ public class RateLimitServiceCEImpl implements RateLimitServiceCE {
                 })
                 .map(isSuccessful -> {
                     if (FALSE.equals(isSuccessful)) {
+                        throttledRequestCounters.get(apiIdentifier).increment();
                         log.debug(
                                 "{} - Rate Limit exceeded for apiIdentifier = {}, userIdentifier = {}",
                                 Thread.currentThread().getName(),
@@ -56,8 +78,8 @@ public class RateLimitServiceCEImpl implements RateLimitServiceCE {
 
                     return isSuccessful;
                 })
-                // Since we are interacting with redis, we want to make sure that the operation is done on a separate
-                // thread pool
+                // Tokens are mostly consumed from the local copy of the bucket, but it is synced with redis every now
+                // and then, so we want to make sure that the operation is done on a separate thread pool
                 .subscribeOn(scheduler);
     }
 
@@ -66,9 +88,7 @@ public class RateLimitServiceCEImpl implements RateLimitServiceCE {
 
         return sanitizeInput(apiIdentifier, userIdentifier)
                 .flatMap(isInputValid -> {
-                    rateLimitConfig
-                            .getOrCreateAPIUserSpecificBucket(apiIdentifier, userIdentifier)
-                            .reset();
+                    rateLimitConfig.resetAPIUserSpecificBucket(apiIdentifier, userIdentifier);
 
                     return Mono.just(TRUE);
                 })
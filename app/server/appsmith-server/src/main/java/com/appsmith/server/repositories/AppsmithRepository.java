@@ -1,12 +1,14 @@
 package com.appsmith.server.repositories;
 
 import com.appsmith.external.models.BaseDomain;
+import com.appsmith.external.models.Policy;
 import com.appsmith.server.acl.AclPermission;
 import com.appsmith.server.helpers.ce.bridge.BridgeUpdate;
 import com.appsmith.server.repositories.ce.params.QueryAllParams;
 import reactor.core.publisher.Mono;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 public interface AppsmithRepository<T extends BaseDomain> {
@@ -39,4 +41,6 @@ public interface AppsmithRepository<T extends BaseDomain> {
     Mono<Void> bulkInsert(List<T> domainList);
 
     Mono<Void> bulkUpdate(List<T> domainList);
+
+    Mono<Void> bulkUpdatePolicies(List<String> ids, Map<String, Policy> policyMap, boolean addPolicies);
 }
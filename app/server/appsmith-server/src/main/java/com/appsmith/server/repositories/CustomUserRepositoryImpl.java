@@ -2,8 +2,14 @@ package com.appsmith.server.repositories;
 
 import com.appsmith.server.repositories.ce.CustomUserRepositoryCEImpl;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.mongodb.core.ReactiveMongoOperations;
 import org.springframework.stereotype.Component;
 
 @Component
 @Slf4j
-public class CustomUserRepositoryImpl extends CustomUserRepositoryCEImpl implements CustomUserRepository {}
+public class CustomUserRepositoryImpl extends CustomUserRepositoryCEImpl implements CustomUserRepository {
+
+    public CustomUserRepositoryImpl(ReactiveMongoOperations mongoOperations) {
+        super(mongoOperations);
+    }
+}
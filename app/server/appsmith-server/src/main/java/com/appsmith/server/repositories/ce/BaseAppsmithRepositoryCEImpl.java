@@ -12,7 +12,9 @@ import com.appsmith.server.helpers.ce.bridge.BridgeQuery;
 import com.appsmith.server.helpers.ce.bridge.BridgeUpdate;
 import com.appsmith.server.repositories.CacheableRepositoryHelper;
 import com.appsmith.server.repositories.ce.params.QueryAllParams;
+import com.mongodb.client.model.UpdateManyModel;
 import com.mongodb.client.model.UpdateOneModel;
+import com.mongodb.client.model.UpdateOptions;
 import com.mongodb.client.model.WriteModel;
 import lombok.NonNull;
 import org.bson.Document;
@@ -36,6 +38,7 @@ import java.lang.reflect.Modifier;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Date;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
@@ -86,6 +89,9 @@ public abstract class BaseAppsmithRepositoryCEImpl<T extends BaseDomain> {
 
     public static final int NO_SKIP = 0;
 
+    // Number of documents whose policies are updated by a single bulk write.
+    private static final int POLICY_UPDATE_BATCH_SIZE = 500;
+
     @SuppressWarnings("unchecked")
     public BaseAppsmithRepositoryCEImpl() {
         this.genericDomain =
@@ -555,4 +561,81 @@ public abstract class BaseAppsmithRepositoryCEImpl<T extends BaseDomain> {
                 .collectList()
                 .then();
     }
+
+    /**
+     * Adds the given policies to, or removes them from, the documents with the given ids. Only the policies field is
+     * written, so documents with large bodies, like pages with their DSLs, don't have to be loaded and saved back in
+     * full. The documents are updated in batches of POLICY_UPDATE_BATCH_SIZE, one bulk write per batch.
+     *
+     * @param ids         Ids of the documents to update.
+     * @param policyMap   Policies to add or remove, keyed by their permission.
+     * @param addPolicies Whether the permission groups of the given policies should be added, or removed.
+     * @return An empty Mono that completes once all the documents have been updated.
+     */
+    public Mono<Void> bulkUpdatePolicies(List<String> ids, Map<String, Policy> policyMap, boolean addPolicies) {
+        if (CollectionUtils.isEmpty(ids) || CollectionUtils.isEmpty(policyMap)) {
+            return Mono.empty();
+        }
+
+        final String collectionName = mongoOperations.getCollectionName(genericDomain);
+        return Flux.fromIterable(ids)
+                .buffer(POLICY_UPDATE_BATCH_SIZE)
+                .concatMap(batch -> {
+                    final List<WriteModel<Document>> updates = getPolicyUpdates(batch, policyMap, addPolicies);
+                    return mongoOperations
+                            .getCollection(collectionName)
+                            .flatMap(collection -> Mono.from(collection.bulkWrite(updates)));
+                })
+                .then();
+    }
+
+    private static List<WriteModel<Document>> getPolicyUpdates(
+            List<String> ids, Map<String, Policy> policyMap, boolean addPolicies) {
+        final Document idFilter = new Document(
+                FieldName.MONGO_UNESCAPED_ID,
+                new Document("$in", ids.stream().map(ObjectId::new).toList()));
+        final Date now = Date.from(Instant.now());
+        final List<WriteModel<Document>> updates = new ArrayList<>();
+
+        for (final Policy policy : policyMap.values()) {
+            final List<String> permissionGroups =
+                    policy.getPermissionGroups() == null ? List.of() : List.copyOf(policy.getPermissionGroups());
+            final UpdateOptions matchingPolicy = new UpdateOptions()
+                    .arrayFilters(List.of(new Document("policy.permission", policy.getPermission())));
+            final String permissionGroupsPath = BaseDomain.Fields.policies + ".$[policy].permissionGroups";
+
+            if (addPolicies) {
+                // Documents without a policy for this permission get a new one, the rest get the permission groups
+                // added to their existing policy. The bulk write is ordered, so the second update is a no-op for the
+                // documents that were just given the policy.
+                final Document withoutPolicy = new Document(idFilter)
+                        .append(
+                                BaseDomain.Fields.policies + ".permission",
+                                new Document("$ne", policy.getPermission()));
+                updates.add(new UpdateManyModel<>(
+                        withoutPolicy,
+                        new Document(
+                                "$push",
+                                new Document(
+                                        BaseDomain.Fields.policies,
+                                        new Document("permission", policy.getPermission())
+                                                .append("permissionGroups", permissionGroups)))));
+                updates.add(new UpdateManyModel<>(
+                        idFilter,
+                        new Document(
+                                        "$addToSet",
+                                        new Document(permissionGroupsPath, new Document("$each", permissionGroups)))
+                                .append("$set", new Document(BaseDomain.Fields.updatedAt, now)),
+                        matchingPolicy));
+            } else {
+                updates.add(new UpdateManyModel<>(
+                        idFilter,
+                        new Document("$pull", new Document(permissionGroupsPath, new Document("$in", permissionGroups)))
+                                .append("$set", new Document(BaseDomain.Fields.updatedAt, now)),
+                        matchingPolicy));
+            }
+        }
+
+        return updates;
+    }
 }
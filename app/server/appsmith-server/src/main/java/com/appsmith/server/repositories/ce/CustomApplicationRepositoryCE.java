@@ -7,6 +7,7 @@ import com.appsmith.server.repositories.AppsmithRepository;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -37,6 +38,8 @@ public interface CustomApplicationRepositoryCE extends AppsmithRepository<Applic
 
     Mono<Integer> setPages(String applicationId, List<ApplicationPage> pages);
 
+    Mono<Integer> updateLastEditInformation(String applicationId, Instant lastEditedAt, String modifiedBy);
+
     Mono<Void> setDefaultPage(String applicationId, String pageId);
 
     Mono<Application> getApplicationByGitBranchAndDefaultApplicationId(
@@ -19,6 +19,7 @@ import org.springframework.util.StringUtils;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
@@ -95,6 +96,24 @@ public class CustomApplicationRepositoryCEImpl extends BaseAppsmithRepositoryImp
                 .updateFirst(Bridge.update().push(Application.Fields.pages, applicationPage));
     }
 
+    /**
+     * Sets the last edit information of the application, unless it already has a later edit. Edits may be written out
+     * of order, e.g. by different server instances, and this keeps an older edit from overwriting a newer one.
+     */
+    @Override
+    public Mono<Integer> updateLastEditInformation(String applicationId, Instant lastEditedAt, String modifiedBy) {
+        final BridgeQuery<Application> olderEdit = Bridge.or(
+                Bridge.isNull(Application.Fields.lastEditedAt),
+                Bridge.lessThan(Application.Fields.lastEditedAt, lastEditedAt));
+        final BridgeUpdate update = Bridge.update()
+                .set(Application.Fields.lastEditedAt, lastEditedAt)
+                .set(Application.Fields.isManualUpdate, true)
+                .set(Application.Fields.modifiedBy, modifiedBy)
+                .set(Application.Fields.updatedAt, Instant.now());
+
+        return queryBuilder().byId(applicationId).criteria(olderEdit).updateFirst(update);
+    }
+
     @Override
     public Mono<Integer> setPages(String applicationId, List<ApplicationPage> pages) {
         return queryBuilder().byId(applicationId).updateFirst(Bridge.update().set(Application.Fields.pages, pages));
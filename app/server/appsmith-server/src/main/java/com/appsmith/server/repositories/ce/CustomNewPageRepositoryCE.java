@@ -1,6 +1,7 @@
 package com.appsmith.server.repositories.ce;
 
 import com.appsmith.server.acl.AclPermission;
+import com.appsmith.server.domains.Layout;
 import com.appsmith.server.domains.NewPage;
 import com.appsmith.server.repositories.AppsmithRepository;
 import reactor.core.publisher.Flux;
@@ -45,4 +46,11 @@ public interface CustomNewPageRepositoryCE extends AppsmithRepository<NewPage> {
     Mono<String> findBranchedPageId(String branchName, String defaultPageId, AclPermission permission);
 
     Mono<Integer> updateDependencyMap(String pageId, Map<String, List<String>> dependencyMap);
+
+    Mono<Integer> updateUnpublishedLayoutIfDslVersionMatches(
+            String pageId,
+            Layout layout,
+            Map<String, Object> changedDslParts,
+            int baseDslVersion,
+            AclPermission permission);
 }
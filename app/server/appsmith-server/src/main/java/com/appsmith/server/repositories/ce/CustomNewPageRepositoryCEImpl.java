@@ -1,5 +1,6 @@
 package com.appsmith.server.repositories.ce;
 
+import com.appsmith.external.models.BaseDomain;
 import com.appsmith.server.acl.AclPermission;
 import com.appsmith.server.constants.FieldName;
 import com.appsmith.server.domains.Layout;
@@ -21,6 +22,7 @@ import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.core.scheduler.Schedulers;
 
+import java.time.Instant;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
@@ -248,4 +250,45 @@ public class CustomNewPageRepositoryCEImpl extends BaseAppsmithRepositoryImpl<Ne
         update.set(NewPage.Fields.unpublishedPage_dependencyMap, dependencyMap);
         return queryBuilder().criteria(q).updateFirst(update);
     }
+
+    @Override
+    public Mono<Integer> updateUnpublishedLayoutIfDslVersionMatches(
+            String pageId,
+            Layout layout,
+            Map<String, Object> changedDslParts,
+            int baseDslVersion,
+            AclPermission permission) {
+        final BridgeQuery<NewPage> q =
+                Bridge.<NewPage>equal(NewPage.Fields.id, pageId).isNull(NewPage.Fields.unpublishedPage_deletedAt);
+
+        // Layouts saved before the DSL was versioned have no version, which counts as version 0
+        Criteria layoutCriteria = where(Layout.Fields.id).is(layout.getId()).and(Layout.Fields.dslVersion);
+        layoutCriteria = baseDslVersion == 0 ? layoutCriteria.in(0, null) : layoutCriteria.is(baseDslVersion);
+
+        // The id and the version have to match on the same layout, which is then the one the `$` below points at
+        final Criteria versionMatches =
+                where(NewPage.Fields.unpublishedPage_layouts).elemMatch(layoutCriteria);
+
+        final String layoutKey = dotted(NewPage.Fields.unpublishedPage_layouts, "$");
+        final BridgeUpdate update = Bridge.update();
+        // Only the parts of the DSL that have changed are written, the DSL of a page can be large
+        changedDslParts.forEach((path, part) -> update.set(dotted(layoutKey, path), part));
+        update.set(dotted(layoutKey, Layout.Fields.dslVersion), baseDslVersion + 1);
+        update.set(dotted(layoutKey, Layout.Fields.widgetNames), layout.getWidgetNames());
+        update.set(dotted(layoutKey, Layout.Fields.mongoEscapedWidgetNames), layout.getMongoEscapedWidgetNames());
+        update.set(dotted(layoutKey, Layout.Fields.layoutOnLoadActions), layout.getLayoutOnLoadActions());
+        update.set(dotted(layoutKey, Layout.Fields.layoutOnLoadActionErrors), layout.getLayoutOnLoadActionErrors());
+        update.set(dotted(layoutKey, Layout.Fields.allOnPageLoadActionNames), layout.getAllOnPageLoadActionNames());
+        update.set(
+                dotted(layoutKey, Layout.Fields.actionsUsedInDynamicBindings),
+                layout.getActionsUsedInDynamicBindings());
+        update.set(dotted(layoutKey, Layout.Fields.validOnPageLoadActions), layout.getValidOnPageLoadActions());
+        update.set(BaseDomain.Fields.updatedAt, Instant.now());
+
+        return queryBuilder()
+                .criteria(q)
+                .criteria(versionMatches)
+                .permission(permission)
+                .updateFirst(update);
+    }
 }
@@ -11,6 +11,8 @@ public interface CustomThemeRepositoryCE extends AppsmithRepository<Theme> {
 
     Flux<Theme> getSystemThemes();
 
+    Flux<Theme> getSystemThemesWithoutPermission();
+
     Mono<Theme> getSystemThemeByName(String themeName);
 
     Mono<Boolean> archiveByApplicationId(String applicationId);
@@ -34,6 +34,13 @@ public class CustomThemeRepositoryCEImpl extends BaseAppsmithRepositoryImpl<Them
                 .all();
     }
 
+    @Override
+    public Flux<Theme> getSystemThemesWithoutPermission() {
+        return queryBuilder()
+                .criteria(Bridge.isTrue(Theme.Fields.isSystemTheme))
+                .all();
+    }
+
     @Override
     public Mono<Theme> getSystemThemeByName(String themeName) {
         return queryBuilder()
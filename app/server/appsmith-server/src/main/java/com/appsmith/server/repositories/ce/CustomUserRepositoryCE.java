@@ -5,6 +5,9 @@ import com.appsmith.server.domains.User;
 import com.appsmith.server.repositories.AppsmithRepository;
 import reactor.core.publisher.Mono;
 
+import java.time.Instant;
+import java.util.Map;
+
 public interface CustomUserRepositoryCE extends AppsmithRepository<User> {
 
     Mono<User> findByEmail(String email, AclPermission aclPermission);
@@ -12,4 +15,6 @@ public interface CustomUserRepositoryCE extends AppsmithRepository<User> {
     Mono<User> findByEmailAndTenantId(String email, String tenantId);
 
     Mono<Boolean> isUsersEmpty();
+
+    Mono<Void> updateLastActiveAt(Map<String, Instant> lastActiveAtByUserId);
 }
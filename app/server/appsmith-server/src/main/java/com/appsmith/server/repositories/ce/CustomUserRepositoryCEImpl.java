@@ -6,15 +6,32 @@ import com.appsmith.server.domains.User;
 import com.appsmith.server.helpers.ce.bridge.Bridge;
 import com.appsmith.server.helpers.ce.bridge.BridgeQuery;
 import com.appsmith.server.repositories.BaseAppsmithRepositoryImpl;
+import com.mongodb.client.model.BulkWriteOptions;
+import com.mongodb.client.model.UpdateOneModel;
+import com.mongodb.client.model.WriteModel;
 import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.springframework.data.mongodb.core.ReactiveMongoOperations;
+import org.springframework.util.CollectionUtils;
 import reactor.core.publisher.Mono;
 
+import java.time.Instant;
+import java.util.Date;
 import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 @Slf4j
 public class CustomUserRepositoryCEImpl extends BaseAppsmithRepositoryImpl<User> implements CustomUserRepositoryCE {
 
+    private final ReactiveMongoOperations mongoOperations;
+
+    public CustomUserRepositoryCEImpl(ReactiveMongoOperations mongoOperations) {
+        this.mongoOperations = mongoOperations;
+    }
+
     @Override
     public Mono<User> findByEmail(String email, AclPermission aclPermission) {
         BridgeQuery<User> emailCriteria = Bridge.equal(User.Fields.email, email);
@@ -46,6 +63,35 @@ public class CustomUserRepositoryCEImpl extends BaseAppsmithRepositoryImpl<User>
                 .map(count -> count == 0);
     }
 
+    /**
+     * Updates the last active time of many users with a single bulk write. The time is only ever moved forward, so
+     * that concurrent updates, e.g. from other server instances, can't make it go back.
+     *
+     * @param lastActiveAtByUserId Latest activity time keyed by user id
+     * @return Mono of Void
+     */
+    @Override
+    public Mono<Void> updateLastActiveAt(Map<String, Instant> lastActiveAtByUserId) {
+        if (CollectionUtils.isEmpty(lastActiveAtByUserId)) {
+            return Mono.empty();
+        }
+
+        List<WriteModel<Document>> updates = lastActiveAtByUserId.entrySet().stream()
+                .filter(entry -> ObjectId.isValid(entry.getKey()))
+                .map(entry -> (WriteModel<Document>) new UpdateOneModel<Document>(
+                        new Document("_id", new ObjectId(entry.getKey())),
+                        new Document("$max", new Document(User.Fields.lastActiveAt, Date.from(entry.getValue())))))
+                .toList();
+        if (updates.isEmpty()) {
+            return Mono.empty();
+        }
+
+        return mongoOperations
+                .getCollection(mongoOperations.getCollectionName(User.class))
+                .flatMapMany(collection -> collection.bulkWrite(updates, new BulkWriteOptions().ordered(false)))
+                .then();
+    }
+
     protected Set<String> getSystemGeneratedUserEmails() {
         Set<String> systemGeneratedEmails = new HashSet<>();
         systemGeneratedEmails.add(FieldName.ANONYMOUS_USER);
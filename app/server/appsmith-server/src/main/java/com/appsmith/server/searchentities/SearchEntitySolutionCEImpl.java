@@ -63,8 +63,9 @@ public class SearchEntitySolutionCEImpl implements SearchEntitySolutionCE {
         Mono<List<Workspace>> workspacesMono = Mono.just(new ArrayList<>());
         if (shouldSearchEntity(Workspace.class, entities)) {
             workspacesMono = workspaceService
-                    .filterByEntityFieldsWithoutPublicAccess(
-                            List.of(Workspace.Fields.name),
+                    .filterByIndexedEntityFieldWithoutPublicAccess(
+                            Workspace.Fields.name,
+                            Workspace.Fields.nameSearchTokens,
                             searchString,
                             pageable,
                             sort,
@@ -75,8 +76,9 @@ public class SearchEntitySolutionCEImpl implements SearchEntitySolutionCE {
         Mono<List<Application>> applicationsMono = Mono.just(new ArrayList<>());
         if (shouldSearchEntity(Application.class, entities)) {
             applicationsMono = applicationService
-                    .filterByEntityFieldsWithoutPublicAccess(
-                            List.of(Application.Fields.name),
+                    .filterByIndexedEntityFieldWithoutPublicAccess(
+                            Application.Fields.name,
+                            Application.Fields.nameSearchTokens,
                             searchString,
                             pageable,
                             sort,
@@ -9,6 +9,7 @@ import com.appsmith.server.helpers.ce.bridge.Bridge;
 import com.appsmith.server.helpers.ce.bridge.BridgeQuery;
 import com.appsmith.server.repositories.AppsmithRepository;
 import com.appsmith.server.repositories.BaseRepository;
+import com.appsmith.server.repositories.ce.params.QueryAllParams;
 import jakarta.validation.Validator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -136,4 +137,39 @@ public abstract class BaseService<
         }
         return result;
     }
+
+    /**
+     * This function is used to filter the entities based on a single entity field and the search string, like
+     * {@link #filterByEntityFieldsWithoutPublicAccess}. The matching entities are looked up through the search tokens
+     * of the field, which are indexed, so only those entities need to be checked for the permission. Pagination is
+     * applied by the database as well.
+     * @param searchableEntityField The entity field to search in.
+     * @param searchTokensField     The entity field holding the search tokens of the searchable field.
+     * @param searchString          The string to search for in the entity field.
+     * @param pageable              The page number of the results to return.
+     * @param sort                  The sort order of the results to return.
+     * @param permission            The permission to check for the entity.
+     * @return  A Flux of entities.
+     */
+    @Override
+    public Flux<T> filterByIndexedEntityFieldWithoutPublicAccess(
+            String searchableEntityField,
+            String searchTokensField,
+            String searchString,
+            Pageable pageable,
+            Sort sort,
+            AclPermission permission) {
+
+        final QueryAllParams<T> queryAllParams = repository
+                .queryBuilder()
+                .criteria(Bridge.searchIgnoreCase(
+                        searchableEntityField, searchTokensField, searchString == null ? "" : searchString))
+                .permission(permission)
+                .sort(sort)
+                .includeAnonymousUserPermissions(false);
+        if (pageable != null) {
+            queryAllParams.skip((int) pageable.getOffset()).limit(pageable.getPageSize());
+        }
+        return queryAllParams.all();
+    }
 }
@@ -26,4 +26,12 @@ public interface CrudService<T extends BaseDomain, ID> {
             Pageable pageable,
             Sort sort,
             AclPermission permission);
+
+    Flux<T> filterByIndexedEntityFieldWithoutPublicAccess(
+            String searchableEntityField,
+            String searchTokensField,
+            String searchString,
+            Pageable pageable,
+            Sort sort,
+            AclPermission permission);
 }
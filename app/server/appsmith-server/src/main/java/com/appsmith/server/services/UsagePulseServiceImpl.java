@@ -2,6 +2,7 @@ package com.appsmith.server.services;
 
 import com.appsmith.server.configurations.CommonConfig;
 import com.appsmith.server.repositories.UsagePulseRepository;
+import com.appsmith.server.repositories.UserRepository;
 import com.appsmith.server.services.ce.UsagePulseServiceCEImpl;
 import org.springframework.stereotype.Service;
 
@@ -14,7 +15,8 @@ public class UsagePulseServiceImpl extends UsagePulseServiceCEImpl implements Us
             UserService userService,
             TenantService tenantService,
             ConfigService configService,
-            CommonConfig commonConfig) {
-        super(repository, sessionUserService, userService, tenantService, configService, commonConfig);
+            CommonConfig commonConfig,
+            UserRepository userRepository) {
+        super(repository, sessionUserService, userService, tenantService, configService, commonConfig, userRepository);
     }
 }
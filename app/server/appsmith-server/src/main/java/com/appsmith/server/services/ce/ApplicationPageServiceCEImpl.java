@@ -1071,6 +1071,8 @@ public class ApplicationPageServiceCEImpl implements ApplicationPageServiceCE {
                 .findById(applicationId, applicationPermission.getEditPermission())
                 .switchIfEmpty(Mono.error(
                         new AppsmithException(AppsmithError.NO_RESOURCE_FOUND, FieldName.APPLICATION, applicationId)))
+                // The application is saved as part of publishing, so it must not miss edits still held in memory
+                .flatMap(applicationService::flushLastEditInformation)
                 .cache();
 
         Mono<Theme> publishThemeMono =
@@ -8,4 +8,6 @@ public interface ConsolidatedAPIServiceCE {
 
     Mono<ConsolidatedAPIResponseDTO> getConsolidatedInfoForPageLoad(
             String defaultPageId, String applicationId, String branchName, ApplicationMode mode);
+
+    Mono<String> getConsolidatedInfoETagForViewMode(String defaultPageId, String applicationId, String branchName);
 }
@@ -5,14 +5,21 @@ import com.appsmith.external.models.CreatorContextType;
 import com.appsmith.external.models.Datasource;
 import com.appsmith.server.actioncollections.base.ActionCollectionService;
 import com.appsmith.server.applications.base.ApplicationService;
+import com.appsmith.server.configurations.CommonConfig;
 import com.appsmith.server.datasources.base.DatasourceService;
 import com.appsmith.server.domains.Application;
 import com.appsmith.server.domains.ApplicationMode;
+import com.appsmith.server.domains.CustomJSLib;
 import com.appsmith.server.domains.NewPage;
 import com.appsmith.server.domains.Plugin;
+import com.appsmith.server.domains.Theme;
+import com.appsmith.server.domains.User;
+import com.appsmith.server.dtos.ActionCollectionViewDTO;
+import com.appsmith.server.dtos.ActionViewDTO;
 import com.appsmith.server.dtos.ApplicationPagesDTO;
 import com.appsmith.server.dtos.ConsolidatedAPIResponseDTO;
 import com.appsmith.server.dtos.MockDataDTO;
+import com.appsmith.server.dtos.PageDTO;
 import com.appsmith.server.dtos.ProductAlertResponseDTO;
 import com.appsmith.server.dtos.ResponseDTO;
 import com.appsmith.server.exceptions.AppsmithError;
@@ -23,6 +30,7 @@ import com.appsmith.server.newpages.base.NewPageService;
 import com.appsmith.server.plugins.base.PluginService;
 import com.appsmith.server.services.ApplicationPageService;
 import com.appsmith.server.services.MockDataService;
+import com.appsmith.server.services.PermissionGroupService;
 import com.appsmith.server.services.ProductAlertService;
 import com.appsmith.server.services.SessionUserService;
 import com.appsmith.server.services.TenantService;
@@ -32,6 +40,7 @@ import com.appsmith.server.themes.base.ThemeService;
 import io.micrometer.observation.ObservationRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.codec.digest.DigestUtils;
 import org.springframework.data.util.Pair;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
@@ -41,13 +50,21 @@ import reactor.core.observability.micrometer.Micrometer;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static com.appsmith.external.constants.PluginConstants.PLUGINS_THAT_ALLOW_QUERY_CREATION_WITHOUT_DATASOURCE;
 import static com.appsmith.external.constants.spans.ConsolidatedApiSpanNames.ACTIONS_SPAN;
@@ -84,6 +101,13 @@ public class ConsolidatedAPIServiceCEImpl implements ConsolidatedAPIServiceCE {
     public static final String INTERNAL_SERVER_ERROR_CODE = AppsmithError.INTERNAL_SERVER_ERROR.getAppErrorCode();
     public static final String EMPTY_WORKSPACE_ID_ON_ERROR = "";
 
+    private static final String VIEW_MODE_ETAG_VERSION = "3";
+
+    private static final Duration VIEW_MODE_DATA_CACHE_TTL = Duration.ofMinutes(10);
+
+    // Upper bound on the number of published page loads held in memory. Least recently used entries are evicted first.
+    private static final int MAX_CACHED_VIEW_MODE_DATA = 500;
+
     private final SessionUserService sessionUserService;
     private final UserService userService;
     private final UserDataService userDataService;
@@ -100,6 +124,16 @@ public class ConsolidatedAPIServiceCEImpl implements ConsolidatedAPIServiceCE {
     private final DatasourceService datasourceService;
     private final MockDataService mockDataService;
     private final ObservationRegistry observationRegistry;
+    private final PermissionGroupService permissionGroupService;
+    private final CommonConfig commonConfig;
+
+    private final Map<String, ViewModeData> viewModeDataCache =
+            Collections.synchronizedMap(new LinkedHashMap<>(64, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, ViewModeData> eldest) {
+                    return size() > MAX_CACHED_VIEW_MODE_DATA;
+                }
+            });
 
     <T> ResponseDTO<T> getSuccessResponse(T data) {
         return new ResponseDTO<>(HttpStatus.OK.value(), data, null);
@@ -198,17 +232,12 @@ public class ConsolidatedAPIServiceCEImpl implements ConsolidatedAPIServiceCE {
         /* Get view mode - EDIT or PUBLISHED */
         boolean isViewMode = ApplicationMode.PUBLISHED.equals(mode);
 
+        /* Fetches of data that belongs to the application, as opposed to the current user */
+        final List<Mono<?>> applicationFetches = new ArrayList<>();
+
         /* Fetch application id if not provided */
-        Mono<String> applicationIdMonoCache;
-        if (isBlank(applicationId)) {
-            applicationIdMonoCache = newPageService
-                    .findRootApplicationIdFromNewPage(branchName, defaultPageId)
-                    .name(getQualifiedSpanName(APPLICATION_ID_SPAN, mode))
-                    .tap(Micrometer.observation(observationRegistry))
-                    .cache();
-        } else {
-            applicationIdMonoCache = Mono.just(applicationId).cache();
-        }
+        Mono<String> applicationIdMonoCache = getApplicationIdMono(defaultPageId, applicationId, branchName, mode)
+                .cache();
 
         // dslMigration-over-here using the branchName and defaultId
         Mono<Application> branchedApplicationMonoCached = applicationIdMonoCache
@@ -235,10 +264,10 @@ public class ConsolidatedAPIServiceCEImpl implements ConsolidatedAPIServiceCE {
                 .tap(Micrometer.observation(observationRegistry))
                 .cache();
 
-        fetches.add(applicationPagesDTOResponseDTOMonoCache);
+        applicationFetches.add(applicationPagesDTOResponseDTOMonoCache);
 
         /* Get current theme */
-        fetches.add(applicationIdMonoCache
+        applicationFetches.add(applicationIdMonoCache
                 .flatMap(appId -> themeService.getApplicationTheme(appId, mode, branchName))
                 .as(this::toResponseDTO)
                 .doOnSuccess(consolidatedAPIResponseDTO::setCurrentTheme)
@@ -246,7 +275,7 @@ public class ConsolidatedAPIServiceCEImpl implements ConsolidatedAPIServiceCE {
                 .tap(Micrometer.observation(observationRegistry)));
 
         /* Get all themes */
-        fetches.add(applicationIdMonoCache
+        applicationFetches.add(applicationIdMonoCache
                 .flatMap(appId ->
                         themeService.getApplicationThemes(appId, branchName).collectList())
                 .as(this::toResponseDTO)
@@ -255,7 +284,7 @@ public class ConsolidatedAPIServiceCEImpl implements ConsolidatedAPIServiceCE {
                 .tap(Micrometer.observation(observationRegistry)));
 
         /* Get all custom JS libraries installed in the application */
-        fetches.add(applicationIdMonoCache
+        applicationFetches.add(applicationIdMonoCache
                 .flatMap(appId -> customJSLibService.getAllJSLibsInContext(
                         appId, CreatorContextType.APPLICATION, branchName, isViewMode))
                 .as(this::toResponseDTO)
@@ -265,7 +294,7 @@ public class ConsolidatedAPIServiceCEImpl implements ConsolidatedAPIServiceCE {
 
         if (!isBlank(defaultPageId)) {
             /* Get current page */
-            fetches.add(applicationPageService
+            applicationFetches.add(applicationPageService
                     .getPageAndMigrateDslByBranchAndDefaultPageId(defaultPageId, branchName, isViewMode, true)
                     .as(this::toResponseDTO)
                     .doOnSuccess(consolidatedAPIResponseDTO::setPageWithMigratedDsl)
@@ -276,7 +305,7 @@ public class ConsolidatedAPIServiceCEImpl implements ConsolidatedAPIServiceCE {
         /* Fetch view specific data */
         if (isViewMode) {
             /* Get list of all actions in view mode */
-            fetches.add(applicationIdMonoCache
+            applicationFetches.add(applicationIdMonoCache
                     .flatMap(appId -> newActionService
                             .getActionsForViewMode(appId, branchName)
                             .collectList())
@@ -286,7 +315,7 @@ public class ConsolidatedAPIServiceCEImpl implements ConsolidatedAPIServiceCE {
                     .tap(Micrometer.observation(observationRegistry)));
 
             /* Get list of all action collections in view mode */
-            fetches.add(applicationIdMonoCache
+            applicationFetches.add(applicationIdMonoCache
                     .flatMap(appId -> actionCollectionService
                             .getActionCollectionsForViewMode(appId, branchName)
                             .collectList())
@@ -428,10 +457,250 @@ public class ConsolidatedAPIServiceCEImpl implements ConsolidatedAPIServiceCE {
                     .tap(Micrometer.observation(observationRegistry)));
         }
 
+        if (isViewMode && commonConfig.isConsolidatedApiViewCacheEnabled()) {
+            fetches.add(fetchApplicationDataForViewMode(
+                    branchedApplicationMonoCached,
+                    defaultPageId,
+                    branchName,
+                    applicationFetches,
+                    consolidatedAPIResponseDTO));
+        } else {
+            fetches.addAll(applicationFetches);
+        }
+
         return Mono.when(fetches).thenReturn(consolidatedAPIResponseDTO);
     }
 
+    /**
+     * Computes an ETag for the view mode page load response of the current user. The published data only changes
+     * when the application is deployed again, or when its settings or permissions change, so the ETag is derived from
+     * the last deployment and update times of the application, along with the current user, their permission groups
+     * and their feature flags. The rest of the response, i.e. the user profile,
+     * the tenant configuration and the product alert, is covered by the last update time of the user and their data,
+     * the tenant configuration itself and the id of the alert. Only these, which are either cached or single document
+     * lookups, and the application itself are read here, so that a client that already has the response can be
+     * answered without fetching anything else.
+     *
+     * @return The ETag, or an empty Mono if the application can't be found or hasn't been deployed yet.
+     */
+    @Override
+    public Mono<String> getConsolidatedInfoETagForViewMode(
+            String defaultPageId, String applicationId, String branchName) {
+        if (isBlank(defaultPageId) && isBlank(applicationId)) {
+            return Mono.empty();
+        }
+
+        final Mono<Application> branchedApplicationMono = getApplicationIdMono(
+                        defaultPageId, applicationId, branchName, ApplicationMode.PUBLISHED)
+                .flatMap(defaultApplicationId -> applicationService.findByDefaultIdBranchNameAndApplicationMode(
+                        defaultApplicationId, branchName, ApplicationMode.PUBLISHED));
+
+        final Mono<User> currentUserMono = sessionUserService.getCurrentUser().cache();
+
+        // The user in the session isn't updated when the profile is, so the profile version comes from the database
+        final Mono<String> userProfileVersionMono = Mono.zip(
+                        currentUserMono
+                                .flatMap(user -> userService.findByEmail(user.getEmail()))
+                                .map(user -> Objects.toString(user.getUpdatedAt()))
+                                .defaultIfEmpty(""),
+                        userDataService
+                                .getForCurrentUser()
+                                .map(userData -> Objects.toString(userData.getUpdatedAt()))
+                                .defaultIfEmpty(""))
+                .map(tuple -> tuple.getT1() + "," + tuple.getT2());
+
+        final Mono<String> tenantVersionMono = tenantService
+                .getTenantConfiguration()
+                .map(tenant -> tenant.getUpdatedAt() + "," + tenant.getTenantConfiguration())
+                .defaultIfEmpty("");
+
+        final Mono<String> productAlertVersionMono = productAlertService
+                .getSingleApplicableMessage()
+                .map(messages -> messages.isEmpty()
+                        ? ""
+                        : Objects.toString(messages.get(0).getMessageId()))
+                .defaultIfEmpty("");
+
+        return Mono.zip(
+                        getViewModeDataKey(branchedApplicationMono, defaultPageId, branchName),
+                        currentUserMono,
+                        userDataService.getFeatureFlagsForCurrentUser(),
+                        userProfileVersionMono,
+                        tenantVersionMono,
+                        productAlertVersionMono)
+                .map(tuple -> {
+                    final String viewModeDataKey = tuple.getT1();
+                    final User user = tuple.getT2();
+                    // Sorted, so that the same flags always make the same ETag
+                    final Map<String, Boolean> featureFlags = new TreeMap<>(tuple.getT3());
+
+                    final String version = String.join(
+                            "\n",
+                            VIEW_MODE_ETAG_VERSION,
+                            viewModeDataKey,
+                            Objects.toString(user.getId()),
+                            Objects.toString(user.getEmail()),
+                            featureFlags.toString(),
+                            tuple.getT4(),
+                            tuple.getT5(),
+                            tuple.getT6());
+                    return "W/\"" + DigestUtils.sha256Hex(version) + "\"";
+                })
+                // Let the page load API report the error, if there is one.
+                .onErrorResume(error -> Mono.empty());
+    }
+
+    private Mono<String> getApplicationIdMono(
+            String defaultPageId, String applicationId, String branchName, ApplicationMode mode) {
+        if (!isBlank(applicationId)) {
+            return Mono.just(applicationId);
+        }
+
+        return newPageService
+                .findRootApplicationIdFromNewPage(branchName, defaultPageId)
+                .name(getQualifiedSpanName(APPLICATION_ID_SPAN, mode))
+                .tap(Micrometer.observation(observationRegistry));
+    }
+
+    /**
+     * The published data of an application is the same for all users that have the same permission groups, until the
+     * application is deployed again or its settings change. This builds a key that captures exactly that. Settings
+     * like the name, the slug, forking and public access change the response without a deployment, so they go into the
+     * key both through the last update time and by value, as not every update of them moves that time.
+     */
+    private Mono<String> getViewModeDataKey(
+            Mono<Application> branchedApplicationMono, String defaultPageId, String branchName) {
+        return Mono.zip(branchedApplicationMono, permissionGroupService.getSessionUserPermissionGroupIds())
+                .flatMap(tuple -> {
+                    final Application application = tuple.getT1();
+                    if (application.getLastDeployedAt() == null) {
+                        return Mono.empty();
+                    }
+
+                    final String permissionGroups = String.join(",", new TreeSet<>(tuple.getT2()));
+                    return Mono.just(String.join(
+                            "\n",
+                            application.getId(),
+                            Objects.toString(branchName, ""),
+                            Objects.toString(defaultPageId, ""),
+                            application.getLastDeployedAt(),
+                            Objects.toString(application.getUpdatedAt()),
+                            DigestUtils.sha256Hex(getApplicationSettingsKey(application)),
+                            DigestUtils.sha256Hex(permissionGroups)));
+                });
+    }
+
+    private static String getApplicationSettingsKey(Application application) {
+        // Sorted, so that the same policies always make the same key
+        final Set<String> policies = new TreeSet<>();
+        if (application.getPolicies() != null) {
+            application
+                    .getPolicies()
+                    .forEach(policy -> policies.add(policy.getPermission() + ":"
+                            + new TreeSet<>(Objects.requireNonNullElse(policy.getPermissionGroups(), Set.of()))));
+        }
+
+        return String.join(
+                "\n",
+                Objects.toString(application.getName()),
+                Objects.toString(application.getSlug()),
+                Objects.toString(application.getForkingEnabled()),
+                Objects.toString(application.getIsPublic()),
+                String.join(",", policies));
+    }
+
+    /**
+     * Runs the given application fetches, unless the result of the same fetches for the same published version of the
+     * application and the same permission groups is available in the in-process cache. The user specific parts of the
+     * response are always fetched by the caller.
+     */
+    private Mono<Void> fetchApplicationDataForViewMode(
+            Mono<Application> branchedApplicationMono,
+            String defaultPageId,
+            String branchName,
+            List<Mono<?>> applicationFetches,
+            ConsolidatedAPIResponseDTO consolidatedAPIResponseDTO) {
+        return getViewModeDataKey(branchedApplicationMono, defaultPageId, branchName)
+                .map(Optional::of)
+                .defaultIfEmpty(Optional.empty())
+                // Errors are reported by the application fetches themselves.
+                .onErrorReturn(Optional.empty())
+                .flatMap(key -> {
+                    if (key.isEmpty()) {
+                        return Mono.when(applicationFetches);
+                    }
+
+                    final ViewModeData cachedData = viewModeDataCache.get(key.get());
+                    if (cachedData != null && !cachedData.isExpired()) {
+                        cachedData.copyTo(consolidatedAPIResponseDTO);
+                        return Mono.<Void>empty();
+                    }
+
+                    return Mono.when(applicationFetches).then(Mono.<Void>fromRunnable(() -> {
+                        final ViewModeData data = ViewModeData.from(consolidatedAPIResponseDTO);
+                        if (data.isSuccessful()) {
+                            viewModeDataCache.put(key.get(), data);
+                        } else {
+                            viewModeDataCache.remove(key.get());
+                        }
+                    }));
+                });
+    }
+
     private boolean isPossibleToCreateQueryWithoutDatasource(Plugin plugin) {
         return PLUGINS_THAT_ALLOW_QUERY_CREATION_WITHOUT_DATASOURCE.contains(plugin.getPackageName());
     }
+
+    private record ViewModeData(
+            ResponseDTO<ApplicationPagesDTO> pages,
+            ResponseDTO<Theme> currentTheme,
+            ResponseDTO<List<Theme>> themes,
+            ResponseDTO<List<CustomJSLib>> customJSLibraries,
+            ResponseDTO<PageDTO> pageWithMigratedDsl,
+            ResponseDTO<List<ActionViewDTO>> publishedActions,
+            ResponseDTO<List<ActionCollectionViewDTO>> publishedActionCollections,
+            long cachedAtNanos) {
+
+        static ViewModeData from(ConsolidatedAPIResponseDTO response) {
+            return new ViewModeData(
+                    response.getPages(),
+                    response.getCurrentTheme(),
+                    response.getThemes(),
+                    response.getCustomJSLibraries(),
+                    response.getPageWithMigratedDsl(),
+                    response.getPublishedActions(),
+                    response.getPublishedActionCollections(),
+                    System.nanoTime());
+        }
+
+        void copyTo(ConsolidatedAPIResponseDTO response) {
+            response.setPages(pages);
+            response.setCurrentTheme(currentTheme);
+            response.setThemes(themes);
+            response.setCustomJSLibraries(customJSLibraries);
+            response.setPageWithMigratedDsl(pageWithMigratedDsl);
+            response.setPublishedActions(publishedActions);
+            response.setPublishedActionCollections(publishedActionCollections);
+        }
+
+        boolean isExpired() {
+            return System.nanoTime() - cachedAtNanos > VIEW_MODE_DATA_CACHE_TTL.toNanos();
+        }
+
+        /**
+         * Only complete responses are cached, so that a failure in one of the fetches isn't served to other users.
+         */
+        boolean isSuccessful() {
+            return Stream.of(
+                            pages,
+                            currentTheme,
+                            themes,
+                            customJSLibraries,
+                            pageWithMigratedDsl,
+                            publishedActions,
+                            publishedActionCollections)
+                    .filter(Objects::nonNull)
+                    .allMatch(response -> response.getResponseMeta().isSuccess());
+        }
+    }
 }
@@ -1,5 +1,6 @@
 package com.appsmith.server.services.ce;
 
+import com.appsmith.server.configurations.CachingRedisSessionRepository;
 import com.appsmith.server.domains.User;
 import com.appsmith.server.exceptions.AppsmithError;
 import com.appsmith.server.exceptions.AppsmithException;
@@ -30,6 +31,7 @@ public class SessionUserServiceCEImpl implements SessionUserServiceCE {
 
     private final UserRepository userRepository;
     private final ReactiveRedisOperations<String, Object> redisOperations;
+    private final CachingRedisSessionRepository sessionRepository;
 
     public static final String SPRING_SESSION_PATTERN = "spring:session:sessions:*";
     private static final String SESSION_ATTRIBUTE = "sessionAttr:";
@@ -121,10 +123,18 @@ public class SessionUserServiceCEImpl implements SessionUserServiceCE {
 
     @Override
     public Mono<Long> deleteSessionsByKeys(List<String> keys) {
-        return CollectionUtils.isNullOrEmpty(keys)
-                ? Mono.just(0L)
-                : redisOperations
-                        .delete(keys.toArray(String[]::new))
-                        .doOnError(error -> log.error("Error clearing user sessions", error));
+        if (CollectionUtils.isNullOrEmpty(keys)) {
+            return Mono.just(0L);
+        }
+
+        // Other server instances may still be holding these sessions in their session cache.
+        final List<String> sessionIds = keys.stream()
+                .map(key -> StringUtils.removeStart(key, CachingRedisSessionRepository.SESSION_KEY_PREFIX))
+                .toList();
+        return redisOperations
+                .delete(keys.toArray(String[]::new))
+                .flatMap(
+                        deletedCount -> sessionRepository.invalidate(sessionIds).thenReturn(deletedCount))
+                .doOnError(error -> log.error("Error clearing user sessions", error));
     }
 }
@@ -8,4 +8,6 @@ public interface UsagePulseServiceCE {
     Mono<UsagePulse> createPulse(UsagePulseDTO usagePulseDTO);
 
     Mono<UsagePulse> save(UsagePulse usagePulse);
+
+    Mono<Void> flushPulses();
 }
@@ -8,20 +8,30 @@ import com.appsmith.server.dtos.UsagePulseDTO;
 import com.appsmith.server.exceptions.AppsmithError;
 import com.appsmith.server.exceptions.AppsmithException;
 import com.appsmith.server.repositories.UsagePulseRepository;
+import com.appsmith.server.repositories.UserRepository;
 import com.appsmith.server.services.ConfigService;
 import com.appsmith.server.services.SessionUserService;
 import com.appsmith.server.services.TenantService;
 import com.appsmith.server.services.UserService;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.codec.digest.DigestUtils;
 import org.apache.commons.lang.StringUtils;
 import reactor.core.publisher.Mono;
 
+import java.time.Duration;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static java.lang.Boolean.FALSE;
 import static java.lang.Boolean.TRUE;
 
+@Slf4j
 @RequiredArgsConstructor
 public class UsagePulseServiceCEImpl implements UsagePulseServiceCE {
 
@@ -37,8 +47,34 @@ public class UsagePulseServiceCEImpl implements UsagePulseServiceCE {
 
     private final CommonConfig commonConfig;
 
+    private final UserRepository userRepository;
+
+    /*
+     * - Pulses are buffered in memory and written in bulk by flushPulses, which is called periodically.
+     * - Every open browser tab sends pulses, so within a flush interval only the first pulse of a user in a given
+     *   mode is kept. The remaining ones carry no additional information.
+     */
+    private final Map<PulseKey, UsagePulse> pendingPulses = new ConcurrentHashMap<>();
+
+    // Latest activity of the logged-in users since the last flush, keyed by user id
+    private final Map<String, Instant> pendingLastActiveAt = new ConcurrentHashMap<>();
+
+    private static final Duration SHUTDOWN_FLUSH_TIMEOUT = Duration.ofSeconds(10);
+
+    private record PulseKey(
+            String tenantId, String instanceId, String user, Boolean viewMode, Boolean isAnonymousUser) {
+        static PulseKey of(UsagePulse usagePulse) {
+            return new PulseKey(
+                    usagePulse.getTenantId(),
+                    usagePulse.getInstanceId(),
+                    usagePulse.getUser(),
+                    usagePulse.getViewMode(),
+                    usagePulse.getIsAnonymousUser());
+        }
+    }
+
     /**
-     * To create a usage pulse
+     * To create a usage pulse. The pulse is buffered and gets persisted with the next flush.
      *
      * @param usagePulseDTO UsagePulseDTO
      * @return Mono of UsagePulse
@@ -60,6 +96,8 @@ public class UsagePulseServiceCEImpl implements UsagePulseServiceCE {
         UsagePulse usagePulse = new UsagePulse();
         usagePulse.setEmail(null);
         usagePulse.setViewMode(usagePulseDTO.getViewMode());
+        // Pulses are written in bulk, which doesn't populate the audit fields. Record when the pulse actually happened.
+        usagePulse.setCreatedAt(Instant.now());
 
         Mono<User> currentUserMono = sessionUserService.getCurrentUser();
         // TODO: Change to getCurrentTenantId once multi-tenancy in introduced
@@ -80,27 +118,93 @@ public class UsagePulseServiceCEImpl implements UsagePulseServiceCE {
                 }
                 usagePulse.setIsAnonymousUser(true);
                 usagePulse.setUser(usagePulseDTO.getAnonymousUserId());
-                return save(usagePulse);
+                return Mono.just(bufferPulse(usagePulse));
             }
             usagePulse.setIsAnonymousUser(false);
-            User updateUser = new User();
+            pendingLastActiveAt.merge(user.getId(), usagePulse.getCreatedAt(), UsagePulseServiceCEImpl::latest);
+
             String hashedEmail = user.getHashedEmail();
-            if (StringUtils.isEmpty(hashedEmail)) {
-                hashedEmail = DigestUtils.sha256Hex(user.getEmail());
-                // Hashed user email is stored to user for future mapping of user and pulses
-                updateUser.setHashedEmail(hashedEmail);
+            if (!StringUtils.isEmpty(hashedEmail)) {
+                usagePulse.setUser(hashedEmail);
+                return Mono.just(bufferPulse(usagePulse));
             }
+
+            hashedEmail = DigestUtils.sha256Hex(user.getEmail());
             usagePulse.setUser(hashedEmail);
-            updateUser.setLastActiveAt(Instant.now());
+            // Hashed user email is stored to user for future mapping of user and pulses, only once per user.
+            User updateUser = new User();
+            updateUser.setHashedEmail(hashedEmail);
             // Avoid updating the ACL fields
             updateUser.setGroupIds(null);
             updateUser.setPolicies(null);
             updateUser.setPermissions(null);
 
-            return userService.updateWithoutPermission(user.getId(), updateUser).then(save(usagePulse));
+            return userService
+                    .updateWithoutPermission(user.getId(), updateUser)
+                    .then(Mono.fromSupplier(() -> bufferPulse(usagePulse)));
+        });
+    }
+
+    private UsagePulse bufferPulse(UsagePulse usagePulse) {
+        pendingPulses.putIfAbsent(PulseKey.of(usagePulse), usagePulse);
+        return usagePulse;
+    }
+
+    /**
+     * Writes the buffered pulses with a single bulk insert, and the last activity of the users seen since the previous
+     * flush with a single bulk update. Pulses that fail to be written are dropped, as retrying a partially applied
+     * insert would duplicate them. Activity times are idempotent and are buffered again for the next flush instead.
+     *
+     * @return Mono of Void
+     */
+    @Override
+    public Mono<Void> flushPulses() {
+        return Mono.defer(() -> {
+            final List<UsagePulse> pulses = new ArrayList<>();
+            for (PulseKey key : pendingPulses.keySet()) {
+                final UsagePulse usagePulse = pendingPulses.remove(key);
+                if (usagePulse != null) {
+                    usagePulse.updateForBulkWriteOperation();
+                    pulses.add(usagePulse);
+                }
+            }
+
+            final Map<String, Instant> lastActiveAtByUserId = new HashMap<>();
+            for (String userId : pendingLastActiveAt.keySet()) {
+                final Instant lastActiveAt = pendingLastActiveAt.remove(userId);
+                if (lastActiveAt != null) {
+                    lastActiveAtByUserId.put(userId, lastActiveAt);
+                }
+            }
+
+            final Mono<Void> insertPulsesMono = repository.bulkInsert(pulses).onErrorResume(error -> {
+                log.error("Error while saving {} usage pulses", pulses.size(), error);
+                return Mono.empty();
+            });
+
+            final Mono<Void> updateLastActiveAtMono = Mono.defer(
+                            () -> userRepository.updateLastActiveAt(lastActiveAtByUserId))
+                    .onErrorResume(error -> {
+                        log.error(
+                                "Error while updating last active time of users, retrying with the next flush", error);
+                        lastActiveAtByUserId.forEach((userId, lastActiveAt) ->
+                                pendingLastActiveAt.merge(userId, lastActiveAt, UsagePulseServiceCEImpl::latest));
+                        return Mono.empty();
+                    });
+
+            return Mono.when(insertPulsesMono, updateLastActiveAtMono);
         });
     }
 
+    private static Instant latest(Instant a, Instant b) {
+        return a.isAfter(b) ? a : b;
+    }
+
+    @PreDestroy
+    public void flushPulsesOnShutdown() {
+        flushPulses().block(SHUTDOWN_FLUSH_TIMEOUT);
+    }
+
     /**
      * To save usagePulse to the database
      *
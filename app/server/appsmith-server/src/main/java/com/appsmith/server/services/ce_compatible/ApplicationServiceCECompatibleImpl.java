@@ -1,6 +1,7 @@
 package com.appsmith.server.services.ce_compatible;
 
 import com.appsmith.server.applications.base.ApplicationServiceCEImpl;
+import com.appsmith.server.applications.base.LastEditInformationCoalescer;
 import com.appsmith.server.helpers.ResponseUtils;
 import com.appsmith.server.repositories.ApplicationRepository;
 import com.appsmith.server.repositories.NewActionRepository;
@@ -34,7 +35,8 @@ public class ApplicationServiceCECompatibleImpl extends ApplicationServiceCEImpl
             SessionUserService sessionUserService,
             UserDataService userDataService,
             WorkspaceService workspaceService,
-            WorkspacePermission workspacePermission) {
+            WorkspacePermission workspacePermission,
+            LastEditInformationCoalescer lastEditInformationCoalescer) {
         super(
                 validator,
                 repository,
@@ -49,6 +51,7 @@ public class ApplicationServiceCECompatibleImpl extends ApplicationServiceCEImpl
                 sessionUserService,
                 userDataService,
                 workspaceService,
-                workspacePermission);
+                workspacePermission,
+                lastEditInformationCoalescer);
     }
 }
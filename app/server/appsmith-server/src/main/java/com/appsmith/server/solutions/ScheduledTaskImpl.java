@@ -2,11 +2,16 @@ package com.appsmith.server.solutions;
 
 import com.appsmith.server.services.FeatureFlagService;
 import com.appsmith.server.services.TenantService;
+import com.appsmith.server.services.UsagePulseService;
 import com.appsmith.server.solutions.ce.ScheduledTaskCEImpl;
 import reactor.core.scheduler.Scheduler;
 
 public class ScheduledTaskImpl extends ScheduledTaskCEImpl implements ScheduledTask {
-    public ScheduledTaskImpl(FeatureFlagService featureFlagService, TenantService tenantService, Scheduler scheduler) {
-        super(featureFlagService, tenantService, scheduler);
+    public ScheduledTaskImpl(
+            FeatureFlagService featureFlagService,
+            TenantService tenantService,
+            Scheduler scheduler,
+            UsagePulseService usagePulseService) {
+        super(featureFlagService, tenantService, scheduler, usagePulseService);
     }
 }
@@ -4,6 +4,8 @@ import com.appsmith.external.dtos.ExecuteActionDTO;
 import com.appsmith.external.models.ActionDTO;
 import com.appsmith.external.models.ActionExecutionResult;
 import com.appsmith.server.dtos.ExecuteActionMetaDTO;
+import com.appsmith.server.dtos.ExecutePageLoadActionsDTO;
+import com.appsmith.server.dtos.PageLoadActionResultDTO;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.codec.multipart.Part;
 import reactor.core.publisher.Flux;
@@ -22,6 +24,12 @@ public interface ActionExecutionSolutionCE {
     Mono<ActionExecutionResult> executeAction(
             ExecuteActionDTO executeActionDTO, ExecuteActionMetaDTO executeActionMetaDTO);
 
+    Flux<PageLoadActionResultDTO> executePageLoadActions(
+            ExecutePageLoadActionsDTO executePageLoadActionsDTO,
+            String branchName,
+            String environmentId,
+            HttpHeaders httpHeaders);
+
     Mono<ActionDTO> getValidActionForExecution(
             ExecuteActionDTO executeActionDTO, ExecuteActionMetaDTO executeActionMetaDTO);
 
@@ -21,6 +21,7 @@ import com.appsmith.server.acl.AclPermission;
 import com.appsmith.server.applications.base.ApplicationService;
 import com.appsmith.server.constants.Constraint;
 import com.appsmith.server.constants.FieldName;
+import com.appsmith.server.constants.RateLimitConstants;
 import com.appsmith.server.datasources.base.DatasourceService;
 import com.appsmith.server.datasourcestorages.base.DatasourceStorageService;
 import com.appsmith.server.domains.Application;
@@ -30,14 +31,19 @@ import com.appsmith.server.domains.NewAction;
 import com.appsmith.server.domains.Plugin;
 import com.appsmith.server.domains.User;
 import com.appsmith.server.dtos.ExecuteActionMetaDTO;
+import com.appsmith.server.dtos.ExecutePageLoadActionsDTO;
+import com.appsmith.server.dtos.PageLoadActionResultDTO;
 import com.appsmith.server.exceptions.AppsmithError;
 import com.appsmith.server.exceptions.AppsmithException;
+import com.appsmith.server.helpers.ActionExecutionLimiter;
+import com.appsmith.server.helpers.ActionExecutionMetadataCache;
 import com.appsmith.server.helpers.DatasourceAnalyticsUtils;
 import com.appsmith.server.helpers.DateUtils;
 import com.appsmith.server.helpers.PluginExecutorHelper;
 import com.appsmith.server.newactions.base.NewActionService;
 import com.appsmith.server.newpages.base.NewPageService;
 import com.appsmith.server.plugins.base.PluginService;
+import com.appsmith.server.ratelimiting.RateLimitService;
 import com.appsmith.server.services.AnalyticsService;
 import com.appsmith.server.services.AuthenticationValidator;
 import com.appsmith.server.services.ConfigService;
@@ -81,6 +87,7 @@ import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
@@ -117,6 +124,8 @@ public class ActionExecutionSolutionCEImpl implements ActionExecutionSolutionCE
     private final EnvironmentPermission environmentPermission;
     private final ConfigService configService;
     private final TenantService tenantService;
+    private final RateLimitService rateLimitService;
+    private final ActionExecutionLimiter actionExecutionLimiter;
 
     static final String PARAM_KEY_REGEX = "^k\\d+$";
     static final String BLOB_KEY_REGEX =
@@ -143,7 +152,9 @@ public class ActionExecutionSolutionCEImpl implements ActionExecutionSolutionCE
             DatasourceStorageService datasourceStorageService,
             EnvironmentPermission environmentPermission,
             ConfigService configService,
-            TenantService tenantService) {
+            TenantService tenantService,
+            RateLimitService rateLimitService,
+            ActionExecutionLimiter actionExecutionLimiter) {
         this.newActionService = newActionService;
         this.actionPermission = actionPermission;
         this.observationRegistry = observationRegistry;
@@ -162,6 +173,8 @@ public class ActionExecutionSolutionCEImpl implements ActionExecutionSolutionCE
         this.environmentPermission = environmentPermission;
         this.configService = configService;
         this.tenantService = tenantService;
+        this.rateLimitService = rateLimitService;
+        this.actionExecutionLimiter = actionExecutionLimiter;
 
         this.patternList.add(Pattern.compile(PARAM_KEY_REGEX));
         this.patternList.add(Pattern.compile(BLOB_KEY_REGEX));
@@ -192,8 +205,8 @@ public class ActionExecutionSolutionCEImpl implements ActionExecutionSolutionCE
                         executePermission)
                 .cache();
 
-        Mono<ExecuteActionDTO> populatedExecuteActionDTOMono =
-                newActionMono.flatMap(newAction -> populateExecuteActionDTO(executeActionDTO, newAction));
+        Mono<ExecuteActionDTO> populatedExecuteActionDTOMono = newActionMono.flatMap(
+                newAction -> populateExecuteActionDTO(executeActionDTO, newAction, executeActionMetaDTO));
         Mono<String> environmentIdMono = Mono.zip(newActionMono, populatedExecuteActionDTOMono)
                 .flatMap(tuple -> {
                     NewAction newAction = tuple.getT1();
@@ -226,23 +239,35 @@ public class ActionExecutionSolutionCEImpl implements ActionExecutionSolutionCE
         AclPermission executePermission =
                 getPermission(executeActionMetaDTO, environmentPermission.getExecutePermission());
 
-        return datasourceService.getTrueEnvironmentId(
-                newAction.getWorkspaceId(),
-                executeActionMetaDTO.getEnvironmentId(),
-                newAction.getPluginId(),
-                executePermission,
-                isEmbedded);
+        return getCachedMetadata(
+                executeActionMetaDTO,
+                String.join(
+                        ":",
+                        "environmentId",
+                        newAction.getWorkspaceId(),
+                        newAction.getPluginId(),
+                        String.valueOf(isEmbedded)),
+                () -> datasourceService.getTrueEnvironmentId(
+                        newAction.getWorkspaceId(),
+                        executeActionMetaDTO.getEnvironmentId(),
+                        newAction.getPluginId(),
+                        executePermission,
+                        isEmbedded));
     }
 
     /**
      * Populates the executeActionDTO with the required fields
      * @param executeActionDTO
      * @param newAction
+     * @param executeActionMetaDTO
      * @return
      */
-    private Mono<ExecuteActionDTO> populateExecuteActionDTO(ExecuteActionDTO executeActionDTO, NewAction newAction) {
-        Mono<String> instanceIdMono = configService.getInstanceId();
-        Mono<String> defaultTenantIdMono = tenantService.getDefaultTenantId();
+    private Mono<ExecuteActionDTO> populateExecuteActionDTO(
+            ExecuteActionDTO executeActionDTO, NewAction newAction, ExecuteActionMetaDTO executeActionMetaDTO) {
+        Mono<String> instanceIdMono =
+                getCachedMetadata(executeActionMetaDTO, "instanceId", () -> configService.getInstanceId());
+        Mono<String> defaultTenantIdMono =
+                getCachedMetadata(executeActionMetaDTO, "tenantId", () -> tenantService.getDefaultTenantId());
 
         return Mono.zip(instanceIdMono, defaultTenantIdMono).map(tuple -> {
             String instanceId = tuple.getT1();
@@ -276,13 +301,131 @@ public class ActionExecutionSolutionCEImpl implements ActionExecutionSolutionCE
                 .branchName(branchName)
                 .environmentId(environmentId)
                 .build();
-        Mono<ExecuteActionDTO> executeActionDTOMono = createExecuteActionDTO(partFlux);
+        Mono<ExecuteActionDTO> executeActionDTOMono =
+                checkExecuteActionRateLimit().then(Mono.defer(() -> createExecuteActionDTO(partFlux)));
         return executeActionDTOMono
                 .flatMap(executeActionDTO -> populateAndExecuteAction(executeActionDTO, executeActionMetaDTO))
                 .name(ACTION_EXECUTION_SERVER_EXECUTION)
                 .tap(Micrometer.observation(observationRegistry));
     }
 
+    /**
+     * Executes the on page load actions of a page in a single request. The sets of actions are executed one after the
+     * other, and the actions within a set concurrently, since they don't depend on each other. Results are emitted as
+     * soon as their action has finished. The datasources, plugins and environments of the actions are only looked up
+     * once for the whole request.
+     *
+     * @param executePageLoadActionsDTO
+     * @param branchName
+     * @param environmentId
+     * @param httpHeaders
+     * @return Flux of the results of all the actions, in the order in which they finished
+     */
+    @Override
+    public Flux<PageLoadActionResultDTO> executePageLoadActions(
+            ExecutePageLoadActionsDTO executePageLoadActionsDTO,
+            String branchName,
+            String environmentId,
+            HttpHeaders httpHeaders) {
+        if (CollectionUtils.isEmpty(executePageLoadActionsDTO.getActionSets())) {
+            return Flux.error(new AppsmithException(AppsmithError.INVALID_PARAMETER, "actionSets"));
+        }
+
+        ExecuteActionMetaDTO executeActionMetaDTO = ExecuteActionMetaDTO.builder()
+                .headers(httpHeaders)
+                .operateWithoutPermission(false)
+                .branchName(branchName)
+                .environmentId(environmentId)
+                .metadataCache(new ActionExecutionMetadataCache())
+                .build();
+
+        return Flux.fromIterable(executePageLoadActionsDTO.getActionSets())
+                .concatMap(actionSet -> Flux.fromIterable(actionSet)
+                        .flatMap(executeActionDTO -> executePageLoadAction(
+                                executeActionDTO,
+                                TRUE.equals(executePageLoadActionsDTO.getViewMode()),
+                                // The environment id is resolved separately for every action, so only the cache is
+                                // shared between them
+                                executeActionMetaDTO.toBuilder().build())));
+    }
+
+    private Mono<PageLoadActionResultDTO> executePageLoadAction(
+            ExecuteActionDTO executeActionDTO, boolean viewMode, ExecuteActionMetaDTO executeActionMetaDTO) {
+        final String requestedActionId = executeActionDTO.getActionId();
+        if (requestedActionId == null) {
+            return Mono.just(new PageLoadActionResultDTO(
+                    null,
+                    getFailedExecutionResult(
+                            new AppsmithException(AppsmithError.INVALID_PARAMETER, FieldName.ACTION_ID))));
+        }
+
+        executeActionDTO.setViewMode(viewMode);
+        if (executeActionDTO.getParameterMap() == null) {
+            executeActionDTO.setParameterMap(new HashMap<>());
+        }
+        if (executeActionDTO.getParamProperties() == null) {
+            executeActionDTO.setParamProperties(new HashMap<>());
+        }
+        final List<Param> params = executeActionDTO.getParams() == null
+                ? new ArrayList<>()
+                : new ArrayList<>(executeActionDTO.getParams());
+        final AtomicLong totalReadableByteCount = new AtomicLong(params.stream()
+                .map(Param::getValue)
+                .filter(value -> value != null)
+                .mapToLong(value -> value.getBytes(StandardCharsets.UTF_8).length)
+                .sum());
+
+        return checkExecuteActionRateLimit()
+                .then(Mono.defer(() -> enrichExecutionParam(totalReadableByteCount, executeActionDTO, params)))
+                .flatMap(enrichedExecuteActionDTO ->
+                        populateAndExecuteAction(enrichedExecuteActionDTO, executeActionMetaDTO))
+                .switchIfEmpty(Mono.error(
+                        new AppsmithException(AppsmithError.NO_RESOURCE_FOUND, FieldName.ACTION, requestedActionId)))
+                .name(ACTION_EXECUTION_SERVER_EXECUTION)
+                .tap(Micrometer.observation(observationRegistry))
+                // A failing action must not keep the rest of the page from loading
+                .onErrorResume(error -> Mono.just(getFailedExecutionResult(error)))
+                .map(result -> new PageLoadActionResultDTO(requestedActionId, result));
+    }
+
+    private ActionExecutionResult getFailedExecutionResult(Throwable error) {
+        ActionExecutionResult result = new ActionExecutionResult();
+        result.setIsExecutionSuccess(false);
+        result.setErrorInfo(error);
+        return result;
+    }
+
+    /**
+     * Looks the metadata up in the cache of the request when several actions are executed in it, and straight from
+     * the loader otherwise.
+     */
+    protected <T> Mono<T> getCachedMetadata(
+            ExecuteActionMetaDTO executeActionMetaDTO, String key, Supplier<Mono<T>> loader) {
+        final ActionExecutionMetadataCache metadataCache = executeActionMetaDTO.getMetadataCache();
+        return metadataCache == null ? loader.get() : metadataCache.get(key, loader);
+    }
+
+    /**
+     * Rejects the execution when the current user has used up their action execution rate limit. Anonymous users all
+     * share the same identity, so they aren't rate limited here.
+     *
+     * @return Empty Mono if the execution can go ahead, error otherwise
+     */
+    protected Mono<Void> checkExecuteActionRateLimit() {
+        if (!rateLimitService.isApiRateLimited(RateLimitConstants.BUCKET_KEY_FOR_EXECUTE_ACTION_API)) {
+            return Mono.empty();
+        }
+
+        return sessionUserService
+                .getCurrentUser()
+                .filter(user -> !user.isAnonymous())
+                .flatMap(user -> rateLimitService.tryIncreaseCounter(
+                        RateLimitConstants.BUCKET_KEY_FOR_EXECUTE_ACTION_API, user.getEmail()))
+                .flatMap(isAllowed -> TRUE.equals(isAllowed)
+                        ? Mono.<Void>empty()
+                        : Mono.error(new AppsmithException(AppsmithError.TOO_MANY_REQUESTS)));
+    }
+
     /**
      * Fetches the required Mono (action, datasource, and plugin) and makes actionExecution call to plugin
      *
@@ -306,7 +449,12 @@ public class ActionExecutionSolutionCEImpl implements ActionExecutionSolutionCE
 
         // 3. Instantiate the implementation class based on the query type
         Mono<DatasourceStorage> datasourceStorageMono = getCachedDatasourceStorage(actionDTOMono, executeActionMetaDTO);
-        Mono<Plugin> pluginMono = getCachedPluginForActionExecution(datasourceStorageMono);
+        Mono<Plugin> pluginMono = executeActionMetaDTO.getMetadataCache() == null
+                ? getCachedPluginForActionExecution(datasourceStorageMono)
+                : datasourceStorageMono.flatMap(datasourceStorage -> getCachedMetadata(
+                        executeActionMetaDTO,
+                        "plugin:" + datasourceStorage.getPluginId(),
+                        () -> getCachedPluginForActionExecution(Mono.just(datasourceStorage))));
         Mono<PluginExecutor> pluginExecutorMono = pluginExecutorHelper.getPluginExecutor(pluginMono);
 
         // 4. Execute the query
@@ -600,11 +748,15 @@ public class ActionExecutionSolutionCEImpl implements ActionExecutionSolutionCE
                         // we need to find the entry from db and populate storage
                         AclPermission executePermission =
                                 getPermission(executeActionMetaDTO, datasourcePermission.getExecutePermission());
-                        datasourceStorageMono = datasourceService
-                                .findById(datasource.getId(), executePermission)
-                                .flatMap(datasource1 ->
-                                        datasourceStorageService.findByDatasourceAndEnvironmentIdForExecution(
-                                                datasource1, executeActionMetaDTO.getEnvironmentId()));
+                        datasourceStorageMono = getCachedMetadata(
+                                executeActionMetaDTO,
+                                "datasourceStorage:" + datasource.getId() + ":"
+                                        + executeActionMetaDTO.getEnvironmentId(),
+                                () -> datasourceService
+                                        .findById(datasource.getId(), executePermission)
+                                        .flatMap(datasource1 ->
+                                                datasourceStorageService.findByDatasourceAndEnvironmentIdForExecution(
+                                                        datasource1, executeActionMetaDTO.getEnvironmentId())));
                     } else if (datasource == null) {
                         datasourceStorageMono = Mono.empty();
                     } else {
@@ -812,10 +964,21 @@ public class ActionExecutionSolutionCEImpl implements ActionExecutionSolutionCE
                     Mono<ActionDTO> actionDTOWithAutoGeneratedHeadersMono =
                             setAutoGeneratedHeaders(plugin, actionDTO, httpHeaders);
 
+                    // The query timeout only starts once the execution has been let through by the limiter, time
+                    // spent waiting in its queue is bound by the separate queue timeout.
                     Mono<ActionExecutionResult> actionExecutionResultMono =
-                            actionDTOWithAutoGeneratedHeadersMono.flatMap(actionDTO1 -> verifyDatasourceAndMakeRequest(
-                                            executeActionDTO, actionDTO, datasourceStorage, plugin, pluginExecutor)
-                                    .timeout(Duration.ofMillis(timeoutDuration)));
+                            actionDTOWithAutoGeneratedHeadersMono.flatMap(actionDTO1 -> actionExecutionLimiter.limit(
+                                    datasourceStorage,
+                                    plugin,
+                                    pluginExecutor,
+                                    actionDTO.getName(),
+                                    verifyDatasourceAndMakeRequest(
+                                                    executeActionDTO,
+                                                    actionDTO,
+                                                    datasourceStorage,
+                                                    plugin,
+                                                    pluginExecutor)
+                                            .timeout(Duration.ofMillis(timeoutDuration))));
 
                     return actionExecutionResultMono
                             .onErrorMap(executionExceptionMapper(actionDTO, timeoutDuration))
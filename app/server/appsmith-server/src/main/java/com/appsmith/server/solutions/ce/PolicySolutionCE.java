@@ -4,13 +4,11 @@ import com.appsmith.external.models.BaseDomain;
 import com.appsmith.external.models.Datasource;
 import com.appsmith.external.models.Policy;
 import com.appsmith.server.acl.AclPermission;
-import com.appsmith.server.domains.ActionCollection;
 import com.appsmith.server.domains.Application;
-import com.appsmith.server.domains.NewAction;
-import com.appsmith.server.domains.NewPage;
 import com.appsmith.server.domains.PermissionGroup;
 import com.appsmith.server.domains.Theme;
 import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 import java.util.Map;
 import java.util.Set;
@@ -28,16 +26,16 @@ public interface PolicySolutionCE {
     Flux<Datasource> updateWithNewPoliciesToDatasourcesByDatasourceIdsWithoutPermission(
             Set<String> ids, Map<String, Policy> datasourcePolicyMap, boolean addPolicyToObject);
 
-    Flux<NewPage> updateWithApplicationPermissionsToAllItsPages(
+    Mono<Void> updateWithApplicationPermissionsToAllItsPages(
             String applicationId, Map<String, Policy> newPagePoliciesMap, boolean addPolicyToObject);
 
     Flux<Theme> updateThemePolicies(
             Application application, Map<String, Policy> themePolicyMap, boolean addPolicyToObject);
 
-    Flux<NewAction> updateWithPagePermissionsToAllItsActions(
+    Mono<Void> updateWithPagePermissionsToAllItsActions(
             String applicationId, Map<String, Policy> newActionPoliciesMap, boolean addPolicyToObject);
 
-    Flux<ActionCollection> updateWithPagePermissionsToAllItsActionCollections(
+    Mono<Void> updateWithPagePermissionsToAllItsActionCollections(
             String applicationId, Map<String, Policy> newActionPoliciesMap, boolean addPolicyToObject);
 
     Map<String, Policy> generateInheritedPoliciesFromSourcePolicies(
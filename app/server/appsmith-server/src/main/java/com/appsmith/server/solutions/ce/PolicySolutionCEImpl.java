@@ -12,6 +12,8 @@ import com.appsmith.server.domains.NewPage;
 import com.appsmith.server.domains.PermissionGroup;
 import com.appsmith.server.domains.Theme;
 import com.appsmith.server.dtos.Permission;
+import com.appsmith.server.helpers.ce.bridge.Bridge;
+import com.appsmith.server.projections.IdOnly;
 import com.appsmith.server.repositories.ActionCollectionRepository;
 import com.appsmith.server.repositories.ApplicationRepository;
 import com.appsmith.server.repositories.DatasourceRepository;
@@ -175,28 +177,23 @@ public class PolicySolutionCEImpl implements PolicySolutionCE {
                 .flatMapMany(datasources -> datasourceRepository.saveAll(datasources));
     }
 
-    public Flux<Application> updateWithNewPoliciesToApplicationsByWorkspaceId(
+    public Mono<Void> updateWithNewPoliciesToApplicationsByWorkspaceId(
             String workspaceId, Map<String, Policy> newAppPoliciesMap, boolean addPolicyToObject) {
 
         return applicationRepository
+                .queryBuilder()
+                .criteria(Bridge.equal(Application.Fields.workspaceId, workspaceId))
                 // fetch applications with read permissions so that app viewers can invite other app viewers
-                .findByWorkspaceId(workspaceId, applicationPermission.getReadPermission())
-                // In case we have come across an application for this workspace that the current user is not allowed to
-                // manage, move on.
-                .switchIfEmpty(Mono.empty())
-                .map(application -> {
-                    if (addPolicyToObject) {
-                        return addPoliciesToExistingObject(newAppPoliciesMap, application);
-                    } else {
-                        return removePoliciesFromExistingObject(newAppPoliciesMap, application);
-                    }
-                })
+                .permission(applicationPermission.getReadPermission())
+                .all(IdOnly.class)
+                .map(IdOnly::id)
                 .collectList()
-                .flatMapMany(updatedApplications -> applicationRepository.saveAll(updatedApplications));
+                .flatMap(applicationIds ->
+                        applicationRepository.bulkUpdatePolicies(applicationIds, newAppPoliciesMap, addPolicyToObject));
     }
 
     @Override
-    public Flux<NewPage> updateWithApplicationPermissionsToAllItsPages(
+    public Mono<Void> updateWithApplicationPermissionsToAllItsPages(
             String applicationId, Map<String, Policy> newPagePoliciesMap, boolean addPolicyToObject) {
 
         // Instead of fetching pages from the application object, we fetch pages from the page repository. This ensures
@@ -206,19 +203,17 @@ public class PolicySolutionCEImpl implements PolicySolutionCE {
         // in published app but has been deleted in the edit mode]. This means that we don't have to do any special
         // treatment
         // during deployment of the application to handle edge cases.
+        // Only the policies are written back, the page layouts are neither loaded nor saved.
         return newPageRepository
+                .queryBuilder()
+                .criteria(Bridge.equal(NewPage.Fields.applicationId, applicationId))
                 // fetch pages with read permissions so that app viewers can invite other app viewers
-                .findByApplicationId(applicationId, pagePermission.getReadPermission())
-                .switchIfEmpty(Mono.empty())
-                .map(page -> {
-                    if (addPolicyToObject) {
-                        return addPoliciesToExistingObject(newPagePoliciesMap, page);
-                    } else {
-                        return removePoliciesFromExistingObject(newPagePoliciesMap, page);
-                    }
-                })
+                .permission(pagePermission.getReadPermission())
+                .all(IdOnly.class)
+                .map(IdOnly::id)
                 .collectList()
-                .flatMapMany(updatedPages -> newPageRepository.saveAll(updatedPages));
+                .flatMap(pageIds ->
+                        newPageRepository.bulkUpdatePolicies(pageIds, newPagePoliciesMap, addPolicyToObject));
     }
 
     @Override
@@ -259,39 +254,31 @@ public class PolicySolutionCEImpl implements PolicySolutionCE {
      * @return
      */
     @Override
-    public Flux<NewAction> updateWithPagePermissionsToAllItsActions(
+    public Mono<Void> updateWithPagePermissionsToAllItsActions(
             String applicationId, Map<String, Policy> newActionPoliciesMap, boolean addPolicyToObject) {
 
         return newActionRepository
-                .findByApplicationId(applicationId)
-                .switchIfEmpty(Mono.empty())
-                .map(action -> {
-                    if (addPolicyToObject) {
-                        return addPoliciesToExistingObject(newActionPoliciesMap, action);
-                    } else {
-                        return removePoliciesFromExistingObject(newActionPoliciesMap, action);
-                    }
-                })
+                .queryBuilder()
+                .criteria(Bridge.equal(NewAction.Fields.applicationId, applicationId))
+                .all(IdOnly.class)
+                .map(IdOnly::id)
                 .collectList()
-                .flatMapMany(newActionRepository::saveAll);
+                .flatMap(actionIds ->
+                        newActionRepository.bulkUpdatePolicies(actionIds, newActionPoliciesMap, addPolicyToObject));
     }
 
     @Override
-    public Flux<ActionCollection> updateWithPagePermissionsToAllItsActionCollections(
+    public Mono<Void> updateWithPagePermissionsToAllItsActionCollections(
             String applicationId, Map<String, Policy> newActionPoliciesMap, boolean addPolicyToObject) {
 
         return actionCollectionRepository
-                .findByApplicationId(applicationId)
-                .switchIfEmpty(Mono.empty())
-                .map(action -> {
-                    if (addPolicyToObject) {
-                        return addPoliciesToExistingObject(newActionPoliciesMap, action);
-                    } else {
-                        return removePoliciesFromExistingObject(newActionPoliciesMap, action);
-                    }
-                })
+                .queryBuilder()
+                .criteria(Bridge.equal(ActionCollection.Fields.applicationId, applicationId))
+                .all(IdOnly.class)
+                .map(IdOnly::id)
                 .collectList()
-                .flatMapMany(actionCollectionRepository::saveAll);
+                .flatMap(actionCollectionIds -> actionCollectionRepository.bulkUpdatePolicies(
+                        actionCollectionIds, newActionPoliciesMap, addPolicyToObject));
     }
 
     @Override
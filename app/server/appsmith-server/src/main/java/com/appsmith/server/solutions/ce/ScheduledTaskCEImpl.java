@@ -2,6 +2,7 @@ package com.appsmith.server.solutions.ce;
 
 import com.appsmith.server.services.FeatureFlagService;
 import com.appsmith.server.services.TenantService;
+import com.appsmith.server.services.UsagePulseService;
 import io.micrometer.observation.annotation.Observed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -20,6 +21,8 @@ public class ScheduledTaskCEImpl implements ScheduledTaskCE {
 
     private final Scheduler scheduler;
 
+    private final UsagePulseService usagePulseService;
+
     @Scheduled(initialDelay = 10 * 1000 /* ten seconds */, fixedRate = 30 * 60 * 1000 /* thirty minutes */)
     @Observed(name = "fetchFeatures")
     public void fetchFeatures() {
@@ -34,4 +37,14 @@ public class ScheduledTaskCEImpl implements ScheduledTaskCE {
                 .subscribeOn(scheduler)
                 .subscribe();
     }
+
+    @Scheduled(initialDelay = 60 * 1000 /* one minute */, fixedDelay = 60 * 1000 /* one minute */)
+    @Observed(name = "flushUsagePulses")
+    public void flushUsagePulses() {
+        usagePulseService
+                .flushPulses()
+                .doOnError(error -> log.error("Error while flushing usage pulses", error))
+                .subscribeOn(scheduler)
+                .subscribe();
+    }
 }
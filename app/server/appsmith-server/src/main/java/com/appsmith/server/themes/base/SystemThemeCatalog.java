@@ -0,0 +1,179 @@
+package com.appsmith.server.themes.base;
+
+import com.appsmith.server.domains.Theme;
+import com.appsmith.server.repositories.ThemeRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.BeanUtils;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.core.ReactiveRedisOperations;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.ReactiveRedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static com.appsmith.server.acl.AclPermission.READ_THEMES;
+
+/**
+ * Holds the system themes in memory, indexed by id and by name. System themes are only written by migrations, so they
+ * are read from the database once, and then again only when a server that has just run the migrations asks for it over
+ * Redis. Every lookup returns a copy, so callers can't change the catalog by changing the theme they get.
+ */
+@Slf4j
+@Component
+public class SystemThemeCatalog {
+
+    private static final ChannelTopic RELOAD_TOPIC = new ChannelTopic("appsmith:system-themes:reload");
+
+    private final ThemeRepository repository;
+
+    private final ReactiveRedisOperations<String, String> reactiveRedisOperations;
+
+    private volatile Mono<Catalog> catalogMono;
+
+    private final Disposable reloadSubscription;
+
+    private record Catalog(List<Theme> themes, Map<String, Theme> themesById, Map<String, Theme> themesByName) {
+
+        static Catalog of(List<Theme> themes) {
+            return new Catalog(
+                    List.copyOf(themes),
+                    themes.stream().collect(Collectors.toUnmodifiableMap(Theme::getId, Function.identity())),
+                    // Theme names were matched ignoring case when they were read from the database
+                    themes.stream()
+                            .collect(Collectors.toUnmodifiableMap(
+                                    theme -> toNameKey(theme.getName()),
+                                    Function.identity(),
+                                    (first, second) -> first)));
+        }
+    }
+
+    public SystemThemeCatalog(
+            ThemeRepository repository,
+            ReactiveRedisOperations<String, String> reactiveRedisOperations,
+            ReactiveRedisMessageListenerContainer container) {
+        this.repository = repository;
+        this.reactiveRedisOperations = reactiveRedisOperations;
+        this.catalogMono = loadCatalog();
+
+        this.reloadSubscription = container
+                .receive(RELOAD_TOPIC)
+                .retryWhen(Retry.backoff(Long.MAX_VALUE, Duration.ofSeconds(1))
+                        .maxBackoff(Duration.ofSeconds(30))
+                        .filter(error -> !(error instanceof CancellationException)))
+                .subscribe(message -> reload(), error -> {
+                    // The listener container cancels the subscription when the server shuts down.
+                    if (!(error instanceof CancellationException)) {
+                        log.error("Stopped listening for system theme reloads", error);
+                    }
+                });
+    }
+
+    @PreDestroy
+    public void stopListeningForReloads() {
+        reloadSubscription.dispose();
+    }
+
+    /**
+     * This server has run the migrations by the time it is ready, so the other servers are asked to read the system
+     * themes again, in case the migrations have changed them.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void publishReload() {
+        reactiveRedisOperations
+                .convertAndSend(RELOAD_TOPIC.getTopic(), "reload")
+                .doOnError(error -> log.warn("Could not ask other servers to reload system themes", error))
+                .onErrorResume(error -> Mono.empty())
+                .subscribe();
+    }
+
+    public void reload() {
+        log.debug("Reloading system themes");
+        catalogMono = loadCatalog();
+    }
+
+    public Flux<Theme> getSystemThemes() {
+        return catalogMono.flatMapIterable(Catalog::themes).map(SystemThemeCatalog::copyOf);
+    }
+
+    public Mono<Theme> getSystemThemeById(String themeId) {
+        if (themeId == null) {
+            return Mono.empty();
+        }
+
+        return catalogMono
+                .mapNotNull(catalog -> catalog.themesById().get(themeId))
+                .map(SystemThemeCatalog::copyOf);
+    }
+
+    public Mono<Theme> getSystemThemeByName(String themeName) {
+        if (themeName == null) {
+            return Mono.empty();
+        }
+
+        return catalogMono
+                .mapNotNull(catalog -> catalog.themesByName().get(toNameKey(themeName)))
+                .map(SystemThemeCatalog::copyOf);
+    }
+
+    private Mono<Catalog> loadCatalog() {
+        return repository
+                .getSystemThemesWithoutPermission()
+                .collectList()
+                // Nothing to hold on to before the migrations have created the system themes
+                .filter(themes -> !themes.isEmpty())
+                .map(Catalog::of)
+                .cache(catalog -> Duration.ofMillis(Long.MAX_VALUE), error -> Duration.ZERO, () -> Duration.ZERO);
+    }
+
+    private static String toNameKey(String themeName) {
+        return themeName.toLowerCase(Locale.ROOT);
+    }
+
+    private static Theme copyOf(Theme theme) {
+        final Theme copy = new Theme();
+        BeanUtils.copyProperties(theme, copy);
+        copy.setPolicies(theme.getPolicies() == null ? null : new HashSet<>(theme.getPolicies()));
+        copy.setConfig(deepCopyOf(theme.getConfig()));
+        copy.setProperties(deepCopyOf(theme.getProperties()));
+        copy.setStylesheet(deepCopyOf(theme.getStylesheet()));
+        // Every user can read the system themes, they're shared with the public permission group.
+        copy.setUserPermissions(new HashSet<>(Set.of(READ_THEMES.getValue())));
+        return copy;
+    }
+
+    /**
+     * Copies the maps and lists that theme config, properties and stylesheets are made of. Everything else in them is
+     * a string, a number or a boolean, which can be shared.
+     */
+    @SuppressWarnings("unchecked")
+    private static <T> T deepCopyOf(T value) {
+        if (value instanceof Map<?, ?> map) {
+            final Map<Object, Object> copy = new LinkedHashMap<>();
+            map.forEach((key, entryValue) -> copy.put(key, deepCopyOf(entryValue)));
+            return (T) copy;
+        }
+
+        if (value instanceof Collection<?> collection) {
+            return (T) collection.stream().map(SystemThemeCatalog::deepCopyOf).collect(Collectors.toList());
+        }
+
+        return value;
+    }
+}
@@ -32,7 +32,7 @@ public class ThemeServiceCEImpl extends BaseService<ThemeRepository, Theme, Stri
     private final ApplicationService applicationService;
     private final PolicyGenerator policyGenerator;
     private final ApplicationPermission applicationPermission;
-    private String defaultThemeId; // acts as a simple cache so that we don't need to fetch from DB always
+    private final SystemThemeCatalog systemThemeCatalog;
 
     public ThemeServiceCEImpl(
             Validator validator,
@@ -41,12 +41,24 @@ public class ThemeServiceCEImpl extends BaseService<ThemeRepository, Theme, Stri
             ApplicationRepository applicationRepository,
             ApplicationService applicationService,
             PolicyGenerator policyGenerator,
-            ApplicationPermission applicationPermission) {
+            ApplicationPermission applicationPermission,
+            SystemThemeCatalog systemThemeCatalog) {
         super(validator, repository, analyticsService);
         this.applicationRepository = applicationRepository;
         this.applicationService = applicationService;
         this.policyGenerator = policyGenerator;
         this.applicationPermission = applicationPermission;
+        this.systemThemeCatalog = systemThemeCatalog;
+    }
+
+    /**
+     * Most applications use a system theme, so those are served from the in-memory catalog, and only customised themes
+     * are fetched from the database.
+     */
+    private Mono<Theme> findThemeById(String themeId, AclPermission permission) {
+        return systemThemeCatalog
+                .getSystemThemeById(themeId)
+                .switchIfEmpty(Mono.defer(() -> repository.findById(themeId, permission)));
     }
 
     @Override
@@ -79,11 +91,10 @@ public class ThemeServiceCEImpl extends BaseService<ThemeRepository, Theme, Stri
                         themeId = application.getPublishedModeThemeId();
                     }
                     if (StringUtils.hasLength(themeId)) {
-                        return repository
-                                .findById(themeId, READ_THEMES)
-                                .switchIfEmpty(repository.getSystemThemeByName(Theme.DEFAULT_THEME_NAME));
+                        return findThemeById(themeId, READ_THEMES)
+                                .switchIfEmpty(systemThemeCatalog.getSystemThemeByName(Theme.DEFAULT_THEME_NAME));
                     } else { // theme id is not present, return default theme
-                        return repository.getSystemThemeByName(Theme.DEFAULT_THEME_NAME);
+                        return systemThemeCatalog.getSystemThemeByName(Theme.DEFAULT_THEME_NAME);
                     }
                 });
     }
@@ -98,7 +109,7 @@ public class ThemeServiceCEImpl extends BaseService<ThemeRepository, Theme, Stri
 
     @Override
     public Flux<Theme> getSystemThemes() {
-        return repository.getSystemThemes();
+        return systemThemeCatalog.getSystemThemes();
     }
 
     @Override
@@ -174,18 +185,12 @@ public class ThemeServiceCEImpl extends BaseService<ThemeRepository, Theme, Stri
 
     @Override
     public Mono<String> getDefaultThemeId() {
-        if (StringUtils.isEmpty(defaultThemeId)) {
-            return repository.getSystemThemeByName(Theme.DEFAULT_THEME_NAME).map(theme -> {
-                defaultThemeId = theme.getId();
-                return theme.getId();
-            });
-        }
-        return Mono.just(defaultThemeId);
+        return systemThemeCatalog.getSystemThemeByName(Theme.DEFAULT_THEME_NAME).map(Theme::getId);
     }
 
     @Override
     public Mono<Theme> cloneThemeToApplication(String srcThemeId, Application destApplication) {
-        return repository.findById(srcThemeId, READ_THEMES).flatMap(theme -> {
+        return findThemeById(srcThemeId, READ_THEMES).flatMap(theme -> {
             if (theme.isSystemTheme()) { // it's a system theme, no need to copy
                 return Mono.just(theme);
             } else { // it's a customized theme, create a copy and return the copy
@@ -214,9 +219,9 @@ public class ThemeServiceCEImpl extends BaseService<ThemeRepository, Theme, Stri
                     Mono<Theme> editModeThemeMono;
                     if (!StringUtils.hasLength(
                             application.getEditModeThemeId())) { // theme id is empty, use the default theme
-                        editModeThemeMono = repository.getSystemThemeByName(Theme.LEGACY_THEME_NAME);
+                        editModeThemeMono = systemThemeCatalog.getSystemThemeByName(Theme.LEGACY_THEME_NAME);
                     } else { // theme id is not empty, fetch it by id
-                        editModeThemeMono = repository.findById(application.getEditModeThemeId(), READ_THEMES);
+                        editModeThemeMono = findThemeById(application.getEditModeThemeId(), READ_THEMES);
                     }
 
                     return editModeThemeMono.flatMap(editModeTheme -> {
@@ -401,7 +406,7 @@ public class ThemeServiceCEImpl extends BaseService<ThemeRepository, Theme, Stri
 
     @Override
     public Mono<Theme> getSystemTheme(String themeName) {
-        return repository.getSystemThemeByName(themeName);
+        return systemThemeCatalog.getSystemThemeByName(themeName);
     }
 
     @Override
@@ -434,11 +439,11 @@ public class ThemeServiceCEImpl extends BaseService<ThemeRepository, Theme, Stri
     @Override
     public Mono<Theme> getOrSaveTheme(Theme theme, Application destApplication) {
         if (theme == null) { // this application was exported without theme, assign the legacy theme to it
-            return repository.getSystemThemeByName(Theme.LEGACY_THEME_NAME); // return the default theme
+            return systemThemeCatalog.getSystemThemeByName(Theme.LEGACY_THEME_NAME); // return the default theme
         } else if (theme.isSystemTheme()) {
-            return repository
+            return systemThemeCatalog
                     .getSystemThemeByName(theme.getName())
-                    .switchIfEmpty(repository.getSystemThemeByName(Theme.DEFAULT_THEME_NAME));
+                    .switchIfEmpty(systemThemeCatalog.getSystemThemeByName(Theme.DEFAULT_THEME_NAME));
         } else {
             // create a new theme
             Theme newTheme = new Theme();
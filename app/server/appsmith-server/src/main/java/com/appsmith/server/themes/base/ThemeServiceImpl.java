@@ -20,7 +20,8 @@ public class ThemeServiceImpl extends ThemeServiceCEImpl implements ThemeService
             ApplicationRepository applicationRepository,
             ApplicationService applicationService,
             PolicyGenerator policyGenerator,
-            ApplicationPermission applicationPermission) {
+            ApplicationPermission applicationPermission,
+            SystemThemeCatalog systemThemeCatalog) {
         super(
                 validator,
                 repository,
@@ -28,6 +29,7 @@ public class ThemeServiceImpl extends ThemeServiceCEImpl implements ThemeService
                 applicationRepository,
                 applicationService,
                 policyGenerator,
-                applicationPermission);
+                applicationPermission,
+                systemThemeCatalog);
     }
 }
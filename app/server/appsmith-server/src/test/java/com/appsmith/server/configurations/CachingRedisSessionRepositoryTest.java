@@ -0,0 +1,300 @@
+package com.appsmith.server.configurations;
+
+import com.appsmith.server.domains.LoginSource;
+import com.appsmith.server.domains.User;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import org.springframework.data.redis.listener.ReactiveRedisMessageListenerContainer;
+import org.springframework.data.redis.serializer.RedisSerializationContext;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextImpl;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Testcontainers
+public class CachingRedisSessionRepositoryTest {
+
+    private static final String SECURITY_CONTEXT_ATTRIBUTE = "SPRING_SECURITY_CONTEXT";
+
+    private static final Duration MAX_INACTIVE_INTERVAL = Duration.ofHours(1);
+
+    @Container
+    public static GenericContainer redisContainer =
+            new GenericContainer(DockerImageName.parse("redis:6.2.6-alpine")).withExposedPorts(6379);
+
+    private static LettuceConnectionFactory connectionFactory;
+
+    private static ReactiveRedisMessageListenerContainer listenerContainer;
+
+    private ReactiveRedisTemplate<String, Object> jsonRedisTemplate;
+
+    private ReactiveRedisTemplate<String, Object> compactRedisTemplate;
+
+    private CachingRedisSessionRepository jsonRepository;
+
+    private CachingRedisSessionRepository compactRepository;
+
+    @BeforeAll
+    public static void setUpConnection() {
+        connectionFactory = new LettuceConnectionFactory(
+                new RedisStandaloneConfiguration(redisContainer.getHost(), redisContainer.getMappedPort(6379)));
+        connectionFactory.afterPropertiesSet();
+        listenerContainer = new ReactiveRedisMessageListenerContainer(connectionFactory);
+    }
+
+    @AfterAll
+    public static void tearDownConnection() {
+        listenerContainer.destroy();
+        connectionFactory.destroy();
+    }
+
+    /**
+     * Two repositories sharing the Redis, like two server instances. One writes sessions in the JSON format, as
+     * instances running an older version do, and the other in the compact format.
+     */
+    @BeforeEach
+    public void setUp() {
+        jsonRedisTemplate = createRedisTemplate(false);
+        compactRedisTemplate = createRedisTemplate(true);
+        jsonRepository = new CachingRedisSessionRepository(
+                jsonRedisTemplate,
+                connectionFactory,
+                listenerContainer,
+                new SimpleMeterRegistry(),
+                MAX_INACTIVE_INTERVAL);
+        compactRepository = new CachingRedisSessionRepository(
+                compactRedisTemplate,
+                connectionFactory,
+                listenerContainer,
+                new SimpleMeterRegistry(),
+                MAX_INACTIVE_INTERVAL);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        jsonRepository.destroy();
+        compactRepository.destroy();
+    }
+
+    private static ReactiveRedisTemplate<String, Object> createRedisTemplate(boolean compactSessionsEnabled) {
+        final RedisConfig.JSONSessionRedisSerializer serializer =
+                new RedisConfig.JSONSessionRedisSerializer(compactSessionsEnabled, new SimpleMeterRegistry());
+        final RedisSerializationContext<String, Object> serializationContext =
+                RedisSerializationContext.<String, Object>newSerializationContext(serializer)
+                        .key(new StringRedisSerializer())
+                        .hashKey(new StringRedisSerializer())
+                        .build();
+        return new ReactiveRedisTemplate<>(connectionFactory, serializationContext);
+    }
+
+    private static SecurityContext createSecurityContext(String email) {
+        final User user = new User();
+        user.setId("user-id");
+        user.setEmail(email);
+        user.setSource(LoginSource.FORM);
+        user.setIsEnabled(true);
+        user.setTenantId("tenant-id");
+        return new SecurityContextImpl(
+                new UsernamePasswordAuthenticationToken(user, null, List.of(new SimpleGrantedAuthority("ROLE_USER"))));
+    }
+
+    private static String getEmail(CachingRedisSessionRepository.RedisSession session) {
+        final SecurityContext securityContext = session.getAttribute(SECURITY_CONTEXT_ATTRIBUTE);
+        return securityContext == null
+                ? null
+                : ((User) securityContext.getAuthentication().getPrincipal()).getEmail();
+    }
+
+    private static String createSession(CachingRedisSessionRepository repository, String email) {
+        final CachingRedisSessionRepository.RedisSession session =
+                repository.createSession().block();
+        session.setAttribute(SECURITY_CONTEXT_ATTRIBUTE, createSecurityContext(email));
+        repository.save(session).block();
+        return session.getId();
+    }
+
+    @Test
+    public void findById_withSavedSession_roundTripsSecurityContext() {
+        final String sessionId = createSession(compactRepository, "user@example.com");
+
+        StepVerifier.create(compactRepository.findById(sessionId))
+                .assertNext(session -> {
+                    assertThat(session.getId()).isEqualTo(sessionId);
+                    assertThat(session.getMaxInactiveInterval()).isEqualTo(MAX_INACTIVE_INTERVAL);
+                    assertThat(getEmail(session)).isEqualTo("user@example.com");
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    public void findById_withSessionInLegacyJsonFormat_readsIt() {
+        final String sessionId = createSession(jsonRepository, "legacy@example.com");
+
+        final String sessionKey = CachingRedisSessionRepository.getSessionKey(sessionId);
+        final Object storedContext = jsonRedisTemplate
+                .opsForHash()
+                .get(sessionKey, "sessionAttr:" + SECURITY_CONTEXT_ATTRIBUTE)
+                .block();
+        assertThat(storedContext).isInstanceOf(SecurityContext.class);
+
+        StepVerifier.create(compactRepository.findById(sessionId))
+                .assertNext(session -> assertThat(getEmail(session)).isEqualTo("legacy@example.com"))
+                .verifyComplete();
+    }
+
+    @Test
+    public void deserialize_withUnreadableCompactSession_discardsIt() {
+        final RedisConfig.JSONSessionRedisSerializer serializer =
+                new RedisConfig.JSONSessionRedisSerializer(true, new SimpleMeterRegistry());
+        final byte[] bytes = serializer.serialize(createSecurityContext("user@example.com"));
+        final int versionIndex = "appsmith-session-v2:".length();
+        assertThat(new String(bytes, 0, versionIndex)).isEqualTo("appsmith-session-v2:");
+
+        final byte[] truncated = Arrays.copyOf(bytes, bytes.length - 1);
+        assertThat(serializer.deserialize(truncated)).isNull();
+
+        final byte[] otherVersion = bytes.clone();
+        otherVersion[versionIndex]++;
+        assertThat(serializer.deserialize(otherVersion)).isNull();
+
+        assertThat(serializer.deserialize(bytes)).isInstanceOf(SecurityContext.class);
+    }
+
+    @Test
+    public void findById_afterChangeOnAnotherInstance_isInvalidated() {
+        final String sessionId = createSession(jsonRepository, "before@example.com");
+
+        // Gets the session into the cache of the compact repository
+        assertThat(getEmail(compactRepository.findById(sessionId).block())).isEqualTo("before@example.com");
+
+        final CachingRedisSessionRepository.RedisSession session =
+                jsonRepository.findById(sessionId).block();
+        session.setAttribute(SECURITY_CONTEXT_ATTRIBUTE, createSecurityContext("after@example.com"));
+        jsonRepository.save(session).block();
+
+        // The invalidation reaches the other repository over pub/sub, so it isn't immediate
+        StepVerifier.create(Mono.defer(() -> compactRepository.findById(sessionId))
+                        .map(CachingRedisSessionRepositoryTest::getEmail)
+                        .filter("after@example.com"::equals)
+                        .repeatWhenEmpty(repeat -> repeat.delayElements(Duration.ofMillis(100))))
+                .expectNext("after@example.com")
+                .expectComplete()
+                .verify(Duration.ofSeconds(15));
+    }
+
+    @Test
+    public void findById_afterChangeInRedisAndInvalidate_loadsFromRedis() {
+        final String sessionId = createSession(compactRepository, "before@example.com");
+        final String sessionKey = CachingRedisSessionRepository.getSessionKey(sessionId);
+        assertThat(compactRepository.findById(sessionId).block()).isNotNull();
+
+        compactRedisTemplate
+                .opsForHash()
+                .put(
+                        sessionKey,
+                        "sessionAttr:" + SECURITY_CONTEXT_ATTRIBUTE,
+                        createSecurityContext("after@example.com"))
+                .block();
+
+        // Changes made without going through the repository are only seen once the cached session is invalidated
+        assertThat(getEmail(compactRepository.findById(sessionId).block())).isEqualTo("before@example.com");
+
+        compactRepository.invalidate(List.of(sessionId)).block();
+        assertThat(getEmail(compactRepository.findById(sessionId).block())).isEqualTo("after@example.com");
+    }
+
+    @Test
+    public void findById_afterDeleteById_isEmpty() {
+        final String sessionId = createSession(compactRepository, "user@example.com");
+        assertThat(compactRepository.findById(sessionId).block()).isNotNull();
+
+        compactRepository.deleteById(sessionId).block();
+
+        StepVerifier.create(compactRepository.findById(sessionId)).verifyComplete();
+        StepVerifier.create(compactRedisTemplate.hasKey(CachingRedisSessionRepository.getSessionKey(sessionId)))
+                .expectNext(false)
+                .verifyComplete();
+    }
+
+    @Test
+    public void findById_withExpiredSession_isEmptyAndDeletesIt() {
+        final CachingRedisSessionRepository.RedisSession session =
+                compactRepository.createSession().block();
+        session.setAttribute(SECURITY_CONTEXT_ATTRIBUTE, createSecurityContext("user@example.com"));
+        session.setLastAccessedTime(Instant.now().minus(MAX_INACTIVE_INTERVAL).minusSeconds(60));
+        compactRepository.save(session).block();
+
+        StepVerifier.create(compactRepository.findById(session.getId())).verifyComplete();
+        final String sessionKey = CachingRedisSessionRepository.getSessionKey(session.getId());
+        StepVerifier.create(compactRedisTemplate.hasKey(sessionKey))
+                .expectNext(false)
+                .verifyComplete();
+    }
+
+    @Test
+    public void save_withOnlyRecentLastAccessedTimeChange_doesNotWriteToRedis() {
+        final String sessionId = createSession(compactRepository, "user@example.com");
+        final String sessionKey = CachingRedisSessionRepository.getSessionKey(sessionId);
+        final Object persistedLastAccessedTime = compactRedisTemplate
+                .opsForHash()
+                .get(sessionKey, "lastAccessedTime")
+                .block();
+
+        final CachingRedisSessionRepository.RedisSession session =
+                compactRepository.findById(sessionId).block();
+        session.setLastAccessedTime(session.getLastAccessedTime().plusSeconds(10));
+        compactRepository.save(session).block();
+        assertThat(compactRedisTemplate
+                        .opsForHash()
+                        .get(sessionKey, "lastAccessedTime")
+                        .block())
+                .isEqualTo(persistedLastAccessedTime);
+
+        final Instant lastAccessedTime = session.getLastAccessedTime().plus(Duration.ofMinutes(2));
+        session.setLastAccessedTime(lastAccessedTime);
+        compactRepository.save(session).block();
+        assertThat(compactRedisTemplate
+                        .opsForHash()
+                        .get(sessionKey, "lastAccessedTime")
+                        .block())
+                .isEqualTo(lastAccessedTime.toEpochMilli());
+    }
+
+    @Test
+    public void save_withSessionDeletedOnAnotherInstance_doesNotBringItBack() {
+        final String sessionId = createSession(compactRepository, "user@example.com");
+        final CachingRedisSessionRepository.RedisSession session =
+                compactRepository.findById(sessionId).block();
+
+        jsonRepository.deleteById(sessionId).block();
+
+        session.setAttribute(SECURITY_CONTEXT_ATTRIBUTE, createSecurityContext("other@example.com"));
+        StepVerifier.create(compactRepository.save(session))
+                .expectError(IllegalStateException.class)
+                .verify();
+        StepVerifier.create(compactRedisTemplate.hasKey(CachingRedisSessionRepository.getSessionKey(sessionId)))
+                .expectNext(false)
+                .verifyComplete();
+    }
+}
@@ -0,0 +1,109 @@
+package com.appsmith.server.dtos;
+
+import com.appsmith.server.domains.LoginSource;
+import com.appsmith.server.domains.User;
+import com.appsmith.server.domains.UserState;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.oauth2.client.authentication.OAuth2AuthenticationToken;
+import org.springframework.security.oauth2.core.user.OAuth2UserAuthority;
+
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class UserSessionDTOTest {
+
+    private static User createUser() {
+        final User user = new User();
+        user.setId("user-id");
+        user.setEmail("user@example.com");
+        user.setHashedEmail("hashed-email");
+        user.setName("Ünïcode Üser");
+        user.setCreatedAt(Instant.ofEpochSecond(1700000000L));
+        user.setSource(LoginSource.FORM);
+        user.setState(UserState.ACTIVATED);
+        user.setIsEnabled(true);
+        user.setWorkspaceIds(Set.of("workspace-1", "workspace-2"));
+        user.setTenantId("tenant-id");
+        user.setEmailVerified(true);
+        return user;
+    }
+
+    @Test
+    public void compactBytes_withPasswordToken_roundTripsEveryField() {
+        final Authentication token = new UsernamePasswordAuthenticationToken(
+                createUser(), null, List.of(new SimpleGrantedAuthority("ROLE_USER")));
+        final UserSessionDTO session = UserSessionDTO.fromToken(token);
+        assertThat(session.canWriteCompactly()).isTrue();
+
+        final byte[] prefixed = new byte[] {'x', 'y'};
+        final byte[] compact = session.toCompactBytes();
+        final byte[] bytes = new byte[prefixed.length + compact.length];
+        System.arraycopy(prefixed, 0, bytes, 0, prefixed.length);
+        System.arraycopy(compact, 0, bytes, prefixed.length, compact.length);
+
+        final UserSessionDTO decoded = UserSessionDTO.fromCompactBytes(bytes, prefixed.length);
+        assertThat(decoded).usingRecursiveComparison().isEqualTo(session);
+
+        final Authentication decodedToken = decoded.makeToken();
+        assertThat(decodedToken).isInstanceOf(UsernamePasswordAuthenticationToken.class);
+        assertThat(decodedToken.getAuthorities())
+                .extracting(GrantedAuthority::getAuthority)
+                .containsExactly("ROLE_USER");
+        final User user = (User) decodedToken.getPrincipal();
+        assertThat(user.getEmail()).isEqualTo("user@example.com");
+        assertThat(user.getName()).isEqualTo("Ünïcode Üser");
+        assertThat(user.getCreatedAt()).isEqualTo(Instant.ofEpochSecond(1700000000L));
+        assertThat(user.getWorkspaceIds()).containsExactlyInAnyOrder("workspace-1", "workspace-2");
+    }
+
+    @Test
+    public void compactBytes_withOAuthTokenAndMissingFields_roundTripsNulls() {
+        final User user = new User();
+        user.setEmail("anonymousUser");
+        final Authentication token =
+                new OAuth2AuthenticationToken(user, List.of(new SimpleGrantedAuthority("ROLE_USER")), "google");
+        final UserSessionDTO session = UserSessionDTO.fromToken(token);
+
+        final UserSessionDTO decoded = UserSessionDTO.fromCompactBytes(session.toCompactBytes(), 0);
+        assertThat(decoded).usingRecursiveComparison().isEqualTo(session);
+        assertThat(decoded.getCreatedAt()).isNull();
+        assertThat(decoded.getWorkspaceIds()).isNull();
+        assertThat(decoded.makeToken()).isInstanceOf(OAuth2AuthenticationToken.class);
+    }
+
+    @Test
+    public void canWriteCompactly_withRichAuthorities_isFalse() {
+        final Authentication token = new UsernamePasswordAuthenticationToken(
+                createUser(), null, List.of(new OAuth2UserAuthority(Map.of("sub", "user-id"))));
+
+        assertThat(UserSessionDTO.fromToken(token).canWriteCompactly()).isFalse();
+    }
+
+    @Test
+    public void fromCompactBytes_withOtherVersionOrCorruptBytes_throws() {
+        final Authentication token = new UsernamePasswordAuthenticationToken(
+                createUser(), null, List.of(new SimpleGrantedAuthority("ROLE_USER")));
+        final byte[] compact = UserSessionDTO.fromToken(token).toCompactBytes();
+
+        final byte[] otherVersion = compact.clone();
+        otherVersion[0]++;
+        assertThatThrownBy(() -> UserSessionDTO.fromCompactBytes(otherVersion, 0))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        assertThatThrownBy(() -> UserSessionDTO.fromCompactBytes(Arrays.copyOf(compact, compact.length - 1), 0))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        assertThatThrownBy(() -> UserSessionDTO.fromCompactBytes(Arrays.copyOf(compact, compact.length + 1), 0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
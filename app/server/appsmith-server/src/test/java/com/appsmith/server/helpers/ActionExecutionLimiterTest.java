@@ -0,0 +1,197 @@
+package com.appsmith.server.helpers;
+
+import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginError;
+import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginException;
+import com.appsmith.external.models.DatasourceConfiguration;
+import com.appsmith.external.models.DatasourceStorage;
+import com.appsmith.external.plugins.PluginExecutor;
+import com.appsmith.server.domains.Plugin;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ActionExecutionLimiterTest {
+
+    private static Plugin createPlugin() {
+        Plugin plugin = new Plugin();
+        plugin.setPackageName("postgres-plugin");
+        return plugin;
+    }
+
+    private static PluginExecutor<Object> createPluginExecutor(Integer maxConcurrentExecutions) {
+        PluginExecutor<Object> pluginExecutor = Mockito.mock(PluginExecutor.class);
+        Mockito.when(pluginExecutor.getMaxConcurrentExecutions(Mockito.any()))
+                .thenReturn(Mono.justOrEmpty(maxConcurrentExecutions));
+        return pluginExecutor;
+    }
+
+    private static DatasourceStorage createDatasourceStorage(Integer maxConcurrentExecutions) {
+        return createDatasourceStorage("datasource-id", maxConcurrentExecutions);
+    }
+
+    private static DatasourceStorage createDatasourceStorage(String datasourceId, Integer maxConcurrentExecutions) {
+        DatasourceConfiguration datasourceConfiguration = new DatasourceConfiguration();
+        datasourceConfiguration.setMaxConcurrentExecutions(maxConcurrentExecutions);
+        datasourceConfiguration.setExecutionQueueTimeoutInMillisecond(50);
+
+        DatasourceStorage datasourceStorage = new DatasourceStorage();
+        datasourceStorage.setDatasourceId(datasourceId);
+        datasourceStorage.setEnvironmentId("environment-id");
+        datasourceStorage.setDatasourceConfiguration(datasourceConfiguration);
+        return datasourceStorage;
+    }
+
+    private static double gaugeValue(MeterRegistry meterRegistry, String name, String scope) {
+        return meterRegistry
+                .get(name)
+                .tags("scope", scope, "plugin", "postgres-plugin")
+                .gauge()
+                .value();
+    }
+
+    @Test
+    public void limit_whenDatasourceIsBusy_failsWithQueueTimeoutError() {
+        MeterRegistry meterRegistry = new SimpleMeterRegistry();
+        ActionExecutionLimiter limiter = new ActionExecutionLimiter(meterRegistry, 50, 0, 10000);
+        DatasourceStorage datasourceStorage = createDatasourceStorage(1);
+        AtomicInteger secondSubscriptions = new AtomicInteger();
+        Mono<String> second = Mono.fromCallable(() -> {
+            secondSubscriptions.incrementAndGet();
+            return "second";
+        });
+
+        Disposable pending = limiter.limit(
+                        datasourceStorage, createPlugin(), createPluginExecutor(null), "Query1", Mono.never())
+                .subscribe();
+        assertThat(gaugeValue(meterRegistry, "appsmith.action.execution.inflight", "datasource"))
+                .isEqualTo(1);
+
+        StepVerifier.create(
+                        limiter.limit(datasourceStorage, createPlugin(), createPluginExecutor(null), "Query2", second))
+                .then(() -> assertThat(gaugeValue(meterRegistry, "appsmith.action.execution.queued", "datasource"))
+                        .isEqualTo(1))
+                .expectErrorMatches(error -> error instanceof AppsmithPluginException
+                        && ((AppsmithPluginException) error)
+                                .getAppErrorCode()
+                                .equals(AppsmithPluginError.PLUGIN_QUERY_QUEUE_TIMEOUT_ERROR.getAppErrorCode()))
+                .verify(Duration.ofSeconds(5));
+        assertThat(secondSubscriptions.get()).isZero();
+        assertThat(gaugeValue(meterRegistry, "appsmith.action.execution.queued", "datasource"))
+                .isZero();
+
+        pending.dispose();
+        assertThat(gaugeValue(meterRegistry, "appsmith.action.execution.inflight", "datasource"))
+                .isZero();
+
+        StepVerifier.create(
+                        limiter.limit(datasourceStorage, createPlugin(), createPluginExecutor(null), "Query2", second))
+                .expectNext("second")
+                .verifyComplete();
+    }
+
+    private static boolean isQueueTimeoutError(Throwable error) {
+        return error instanceof AppsmithPluginException
+                && ((AppsmithPluginException) error)
+                        .getAppErrorCode()
+                        .equals(AppsmithPluginError.PLUGIN_QUERY_QUEUE_TIMEOUT_ERROR.getAppErrorCode());
+    }
+
+    @Test
+    public void limit_whenDatasourceHasNoLimit_usesThePluginPoolSize() {
+        ActionExecutionLimiter limiter = new ActionExecutionLimiter(new SimpleMeterRegistry(), 50, 0, 10000);
+        DatasourceStorage datasourceStorage = createDatasourceStorage(null);
+        PluginExecutor<Object> pluginExecutor = createPluginExecutor(1);
+
+        Disposable pending = limiter.limit(datasourceStorage, createPlugin(), pluginExecutor, "Query1", Mono.never())
+                .subscribe();
+
+        StepVerifier.create(
+                        limiter.limit(datasourceStorage, createPlugin(), pluginExecutor, "Query2", Mono.just("second")))
+                .expectErrorMatches(ActionExecutionLimiterTest::isQueueTimeoutError)
+                .verify(Duration.ofSeconds(5));
+        pending.dispose();
+    }
+
+    @Test
+    public void limit_whenWaitingForDatasourceAndPlugin_failsWithinOneQueueTimeout() {
+        ActionExecutionLimiter limiter = new ActionExecutionLimiter(new SimpleMeterRegistry(), 50, 2, 10000);
+        DatasourceStorage busyDatasourceStorage = createDatasourceStorage("busy-datasource-id", 1);
+        DatasourceStorage otherDatasourceStorage = createDatasourceStorage("other-datasource-id", 0);
+        PluginExecutor<Object> pluginExecutor = createPluginExecutor(null);
+        List<Disposable> pending = new ArrayList<>();
+
+        // Query4 waits 30ms for the busy datasource, and then finds both plugin slots taken by the other datasource.
+        // It has 20ms left of its 50ms queue timeout to wait for the plugin.
+        StepVerifier.withVirtualTime(() -> {
+                    pending.add(limiter.limit(
+                                    busyDatasourceStorage,
+                                    createPlugin(),
+                                    pluginExecutor,
+                                    "Query1",
+                                    Mono.delay(Duration.ofMillis(30)))
+                            .subscribe());
+                    pending.add(limiter.limit(
+                                    otherDatasourceStorage, createPlugin(), pluginExecutor, "Query2", Mono.never())
+                            .subscribe());
+                    pending.add(limiter.limit(
+                                    otherDatasourceStorage, createPlugin(), pluginExecutor, "Query3", Mono.never())
+                            .subscribe());
+                    return limiter.limit(
+                            busyDatasourceStorage, createPlugin(), pluginExecutor, "Query4", Mono.just("fourth"));
+                })
+                .expectSubscription()
+                .expectNoEvent(Duration.ofMillis(49))
+                .thenAwait(Duration.ofMillis(1))
+                .expectErrorMatches(ActionExecutionLimiterTest::isQueueTimeoutError)
+                .verify(Duration.ofSeconds(5));
+        pending.forEach(Disposable::dispose);
+    }
+
+    @Test
+    public void removeIdleLimiters_keepsLimitersInUseOrUsedRecently() {
+        ActionExecutionLimiter limiter = new ActionExecutionLimiter(new SimpleMeterRegistry(), 50, 0, 10000);
+        DatasourceStorage datasourceStorage = createDatasourceStorage(1);
+
+        Disposable pending = limiter.limit(
+                        datasourceStorage, createPlugin(), createPluginExecutor(null), "Query1", Mono.never())
+                .subscribe();
+
+        long anHourLater = System.currentTimeMillis() + Duration.ofHours(1).toMillis();
+        limiter.removeIdleLimiters(anHourLater);
+        assertThat(limiter.getDatasourceLimiterCount()).isEqualTo(1);
+
+        pending.dispose();
+        limiter.removeIdleLimiters(System.currentTimeMillis());
+        assertThat(limiter.getDatasourceLimiterCount()).isEqualTo(1);
+
+        limiter.removeIdleLimiters(anHourLater);
+        assertThat(limiter.getDatasourceLimiterCount()).isZero();
+    }
+
+    @Test
+    public void limit_withoutLimits_subscribesRightAway() {
+        ActionExecutionLimiter limiter = new ActionExecutionLimiter(new SimpleMeterRegistry(), 0, 0, 10000);
+        DatasourceStorage datasourceStorage = createDatasourceStorage(null);
+
+        Disposable pending = limiter.limit(
+                        datasourceStorage, createPlugin(), createPluginExecutor(null), "Query1", Mono.never())
+                .subscribe();
+
+        StepVerifier.create(limiter.limit(
+                        datasourceStorage, createPlugin(), createPluginExecutor(null), "Query2", Mono.just("second")))
+                .expectNext("second")
+                .verifyComplete();
+        pending.dispose();
+    }
+}
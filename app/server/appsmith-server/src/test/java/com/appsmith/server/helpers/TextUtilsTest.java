@@ -49,4 +49,23 @@ public class TextUtilsTest {
         checkFromCsv("", 0);
         checkFromCsv(null, 0);
     }
+
+    @Test
+    public void getSearchTokens() {
+        assertThat(TextUtils.getSearchTokens(null)).isNull();
+        assertThat(TextUtils.getSearchTokens("")).isEmpty();
+        assertThat(TextUtils.getSearchTokens("AbAb")).containsExactlyInAnyOrder("a", "ab", "aba", "b", "ba", "bab");
+    }
+
+    @Test
+    public void getSearchTokensForQuery_tokensArePresentInTextsContainingTheSearchString() {
+        assertThat(TextUtils.getSearchTokensForQuery("aB")).containsExactly("ab");
+        assertThat(TextUtils.getSearchTokensForQuery("Sales App"))
+                .containsExactly("sal", "ale", "les", "es ", "s a", " ap", "app");
+
+        Set<String> textTokens = TextUtils.getSearchTokens("Quarterly SALES Application v2");
+        assertThat(textTokens).containsAll(TextUtils.getSearchTokensForQuery("sales app"));
+        assertThat(textTokens).containsAll(TextUtils.getSearchTokensForQuery("V2"));
+        assertThat(textTokens).doesNotContainAnyElementsOf(TextUtils.getSearchTokensForQuery("v3"));
+    }
 }
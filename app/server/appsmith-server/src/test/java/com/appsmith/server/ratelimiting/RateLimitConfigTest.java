@@ -0,0 +1,112 @@
+package com.appsmith.server.ratelimiting;
+
+import com.appsmith.server.constants.RateLimitConstants;
+import io.github.bucket4j.distributed.BucketProxy;
+import io.lettuce.core.RedisClient;
+import io.lettuce.core.event.command.CommandListener;
+import io.lettuce.core.event.command.CommandStartedEvent;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Testcontainers
+public class RateLimitConfigTest {
+
+    private static final int EXECUTE_ACTION_LIMIT = 1000;
+
+    @Container
+    public static GenericContainer redisContainer =
+            new GenericContainer(DockerImageName.parse("redis:6.2.6-alpine")).withExposedPorts(6379);
+
+    private static RedisClient redisClient;
+
+    private static final AtomicInteger redisCommandCount = new AtomicInteger();
+
+    private RateLimitConfig rateLimitConfig;
+
+    @BeforeAll
+    public static void setUpRedisClient() {
+        redisClient =
+                RedisClient.create("redis://" + redisContainer.getHost() + ":" + redisContainer.getMappedPort(6379));
+        redisClient.addListener(new CommandListener() {
+            @Override
+            public void commandStarted(CommandStartedEvent event) {
+                redisCommandCount.incrementAndGet();
+            }
+        });
+    }
+
+    @AfterAll
+    public static void tearDownRedisClient() {
+        redisClient.shutdown();
+    }
+
+    @BeforeEach
+    public void setUp() {
+        rateLimitConfig = new RateLimitConfig(redisClient, 5, 86400, 3, 5, EXECUTE_ACTION_LIMIT, 60, 50, 1000);
+    }
+
+    @Test
+    public void tryConsume_onExecuteActionBucket_syncsWithRedisLessThanOncePerToken() {
+        String userId = UUID.randomUUID().toString();
+        BucketProxy bucket = rateLimitConfig.getOrCreateAPIUserSpecificBucket(
+                RateLimitConstants.BUCKET_KEY_FOR_EXECUTE_ACTION_API, userId);
+
+        int consumeCount = 200;
+        redisCommandCount.set(0);
+        for (int i = 0; i < consumeCount; i++) {
+            assertThat(bucket.tryConsume(1)).isTrue();
+        }
+
+        assertThat(redisCommandCount.get()).isLessThan(consumeCount);
+    }
+
+    @Test
+    public void tryConsume_onLoginBucket_syncsWithRedisEveryOtherToken() {
+        String userId = UUID.randomUUID().toString();
+        BucketProxy bucket =
+                rateLimitConfig.getOrCreateAPIUserSpecificBucket(RateLimitConstants.BUCKET_KEY_FOR_LOGIN_API, userId);
+
+        // The first token always syncs, as there is no local copy of the bucket yet
+        redisCommandCount.set(0);
+        assertThat(bucket.tryConsume(1)).isTrue();
+        int commandsPerSync = redisCommandCount.get();
+
+        redisCommandCount.set(0);
+        for (int i = 0; i < 4; i++) {
+            assertThat(bucket.tryConsume(1)).isTrue();
+        }
+        assertThat(bucket.tryConsume(1)).isFalse();
+
+        assertThat(redisCommandCount.get()).isLessThan(4 * commandsPerSync);
+    }
+
+    @Test
+    public void tryConsume_onLoginBucketAcrossNodes_admitsAtMostOneTokenPerNodeOverTheLimit() {
+        String userId = UUID.randomUUID().toString();
+        BucketProxy bucket =
+                rateLimitConfig.getOrCreateAPIUserSpecificBucket(RateLimitConstants.BUCKET_KEY_FOR_LOGIN_API, userId);
+        BucketProxy bucketOnOtherNode = new RateLimitConfig(redisClient, 5, 86400, 3, 5, 0, 1, 50, 1000)
+                .getOrCreateAPIUserSpecificBucket(RateLimitConstants.BUCKET_KEY_FOR_LOGIN_API, userId);
+
+        int admitted = 0;
+        for (int i = 0; i < 10; i++) {
+            admitted += bucket.tryConsume(1) ? 1 : 0;
+            admitted += bucketOnOtherNode.tryConsume(1) ? 1 : 0;
+        }
+
+        assertThat(admitted).isBetween(5, 5 + 2);
+        assertThat(bucket.tryConsume(1)).isFalse();
+        assertThat(bucketOnOtherNode.tryConsume(1)).isFalse();
+    }
+}
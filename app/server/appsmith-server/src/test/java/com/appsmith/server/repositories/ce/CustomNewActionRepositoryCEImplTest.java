@@ -3,6 +3,7 @@ package com.appsmith.server.repositories.ce;
 import com.appsmith.external.models.ActionDTO;
 import com.appsmith.external.models.Datasource;
 import com.appsmith.external.models.PluginType;
+import com.appsmith.external.models.Policy;
 import com.appsmith.server.domains.NewAction;
 import com.appsmith.server.dtos.PluginTypeAndCountDTO;
 import com.appsmith.server.repositories.NewActionRepository;
@@ -20,7 +21,10 @@ import reactor.util.function.Tuple2;
 
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -289,4 +293,72 @@ public class CustomNewActionRepositoryCEImplTest {
                 })
                 .verifyComplete();
     }
+
+    @Test
+    public void bulkUpdatePolicies_WhenPoliciesAddedAndRemoved_OnlyMatchingPermissionGroupsChanged() {
+        String applicationId = UUID.randomUUID().toString();
+        NewAction actionWithPolicy = new NewAction();
+        actionWithPolicy.setApplicationId(applicationId);
+        actionWithPolicy.setPolicies(Set.of(
+                Policy.builder()
+                        .permission("read:actions")
+                        .permissionGroups(Set.of("existing-group"))
+                        .build(),
+                Policy.builder()
+                        .permission("execute:actions")
+                        .permissionGroups(Set.of("existing-group"))
+                        .build()));
+        NewAction actionWithoutPolicy = new NewAction();
+        actionWithoutPolicy.setApplicationId(applicationId);
+
+        Map<String, Policy> policyMap = Map.of(
+                "read:actions",
+                Policy.builder()
+                        .permission("read:actions")
+                        .permissionGroups(Set.of("new-group"))
+                        .build());
+
+        Mono<List<NewAction>> addedPoliciesMono = newActionRepository
+                .saveAll(List.of(actionWithPolicy, actionWithoutPolicy))
+                .map(NewAction::getId)
+                .collectList()
+                .flatMap(ids -> newActionRepository
+                        .bulkUpdatePolicies(ids, policyMap, true)
+                        .then(newActionRepository
+                                .findByApplicationId(applicationId)
+                                .collectList()));
+
+        StepVerifier.create(addedPoliciesMono)
+                .assertNext(newActions -> {
+                    assertThat(newActions).hasSize(2);
+                    newActions.forEach(newAction -> {
+                        Map<String, Set<String>> permissionGroupsByPermission = new HashMap<>();
+                        newAction
+                                .getPolicies()
+                                .forEach(policy -> permissionGroupsByPermission.put(
+                                        policy.getPermission(), policy.getPermissionGroups()));
+                        if (newAction.getId().equals(actionWithPolicy.getId())) {
+                            assertThat(permissionGroupsByPermission.get("read:actions"))
+                                    .containsExactlyInAnyOrder("existing-group", "new-group");
+                            assertThat(permissionGroupsByPermission.get("execute:actions"))
+                                    .containsExactly("existing-group");
+                        } else {
+                            assertThat(permissionGroupsByPermission.keySet()).containsExactly("read:actions");
+                            assertThat(permissionGroupsByPermission.get("read:actions"))
+                                    .containsExactly("new-group");
+                        }
+                    });
+                })
+                .verifyComplete();
+
+        Mono<NewAction> removedPoliciesMono = newActionRepository
+                .bulkUpdatePolicies(List.of(actionWithPolicy.getId()), policyMap, false)
+                .then(newActionRepository.findById(actionWithPolicy.getId()));
+
+        StepVerifier.create(removedPoliciesMono)
+                .assertNext(
+                        newAction -> newAction.getPolicies().forEach(policy -> assertThat(policy.getPermissionGroups())
+                                .containsExactly("existing-group")))
+                .verifyComplete();
+    }
 }
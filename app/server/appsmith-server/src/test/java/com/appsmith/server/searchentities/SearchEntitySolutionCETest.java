@@ -200,6 +200,37 @@ class SearchEntitySolutionCETest {
                 .verifyComplete();
     }
 
+    @Test
+    @WithUserDetails("api_user")
+    public void searchEntity_searchStringInTheMiddleOfNameWithDifferentCase_returnsMatchingEntities() {
+        final String name = UUID.randomUUID().toString();
+        Workspace workspace = workspaceService.create(mockWorkspace(name)).block();
+        assertNotNull(workspace, "Workspace should not be null");
+        workspaceIds.add(workspace.getId());
+        Application application = mockNonGitConnectedApplication(name, workspace);
+        application = applicationPageService
+                .createApplication(application, workspace.getId())
+                .block();
+        assertNotNull(application, "Application should not be null");
+        applicationIds.add(application.getId());
+
+        // Both the indexed tokens and the final check on the name are case-insensitive
+        final String searchString = name.substring(4, 20).toUpperCase();
+        Mono<SearchEntityDTO> searchEntityDTOMono =
+                searchEntitySolution.searchEntity(new String[] {}, searchString, 0, 10, true);
+
+        StepVerifier.create(searchEntityDTOMono)
+                .assertNext(searchEntityDTO -> {
+                    assertThat(searchEntityDTO.getWorkspaces()).hasSize(1);
+                    assertThat(searchEntityDTO.getWorkspaces().get(0).getId()).isEqualTo(workspace.getId());
+
+                    assertThat(searchEntityDTO.getApplications()).hasSize(1);
+                    assertThat(searchEntityDTO.getApplications().get(0).getName())
+                            .isEqualTo(name + "_application");
+                })
+                .verifyComplete();
+    }
+
     @Test
     @WithUserDetails("api_user")
     public void searchEntity_fetchApplicationWithDefaultBranch_entriesPresentWithSearchString_returnsPaginatedResult() {
@@ -14,6 +14,7 @@ import com.appsmith.server.domains.Plugin;
 import com.appsmith.server.domains.Tenant;
 import com.appsmith.server.domains.Theme;
 import com.appsmith.server.domains.User;
+import com.appsmith.server.domains.UserData;
 import com.appsmith.server.dtos.ActionCollectionDTO;
 import com.appsmith.server.dtos.ActionCollectionViewDTO;
 import com.appsmith.server.dtos.ActionViewDTO;
@@ -848,4 +849,89 @@ public class ConsolidatedAPIServiceImplTest {
                 })
                 .verifyComplete();
     }
+
+    @Test
+    public void testETagForViewModeChangesWhenApplicationIsDeployedOrUpdatedOrPageLoadDataChanges() {
+        User sampleUser = new User();
+        sampleUser.setId("sampleUserId");
+        sampleUser.setEmail("sampleuser@example.com");
+        when(mockSessionUserService.getCurrentUser()).thenReturn(Mono.just(sampleUser));
+
+        Map<String, Boolean> sampleFeatureFlagMap = new HashMap<>();
+        sampleFeatureFlagMap.put("sampleFeatureFlag", true);
+        when(mockUserDataService.getFeatureFlagsForCurrentUser()).thenReturn(Mono.just(sampleFeatureFlagMap));
+
+        User sampleUserFromDb = new User();
+        sampleUserFromDb.setUpdatedAt(Instant.parse("2024-01-01T00:00:00Z"));
+        when(mockUserService.findByEmail(anyString())).thenReturn(Mono.just(sampleUserFromDb));
+        when(mockUserDataService.getForCurrentUser()).thenReturn(Mono.just(new UserData()));
+
+        Tenant sampleTenant = new Tenant();
+        sampleTenant.setUpdatedAt(Instant.parse("2024-01-01T00:00:00Z"));
+        when(mockTenantService.getTenantConfiguration()).thenReturn(Mono.just(sampleTenant));
+
+        ProductAlertResponseDTO sampleProductAlertResponseDTO = new ProductAlertResponseDTO();
+        sampleProductAlertResponseDTO.setMessageId("sampleMessageId");
+        when(mockProductAlertService.getSingleApplicableMessage())
+                .thenReturn(Mono.just(List.of(sampleProductAlertResponseDTO)));
+
+        Application sampleApplication = new Application();
+        sampleApplication.setId("appId");
+        sampleApplication.setLastDeployedAt(Instant.parse("2024-01-01T00:00:00Z"));
+        doReturn(Mono.just(sampleApplication))
+                .when(spyApplicationService)
+                .findByDefaultIdBranchNameAndApplicationMode(anyString(), anyString(), any());
+
+        String eTag = consolidatedAPIService
+                .getConsolidatedInfoETagForViewMode("pageId", "appId", "branch")
+                .block();
+        assertThat(eTag).startsWith("W/\"");
+        assertThat(consolidatedAPIService
+                        .getConsolidatedInfoETagForViewMode("pageId", "appId", "branch")
+                        .block())
+                .isEqualTo(eTag);
+
+        sampleApplication.setLastDeployedAt(Instant.parse("2024-01-02T00:00:00Z"));
+        String redeployedETag = consolidatedAPIService
+                .getConsolidatedInfoETagForViewMode("pageId", "appId", "branch")
+                .block();
+        assertThat(redeployedETag).isNotEqualTo(eTag);
+
+        // The user profile, tenant configuration and product alert in the response are covered too
+        sampleUserFromDb.setUpdatedAt(Instant.parse("2024-01-02T00:00:00Z"));
+        String updatedUserETag = consolidatedAPIService
+                .getConsolidatedInfoETagForViewMode("pageId", "appId", "branch")
+                .block();
+        assertThat(updatedUserETag).isNotEqualTo(redeployedETag);
+
+        sampleTenant.setUpdatedAt(Instant.parse("2024-01-02T00:00:00Z"));
+        String updatedTenantETag = consolidatedAPIService
+                .getConsolidatedInfoETagForViewMode("pageId", "appId", "branch")
+                .block();
+        assertThat(updatedTenantETag).isNotEqualTo(updatedUserETag);
+
+        sampleProductAlertResponseDTO.setMessageId("otherMessageId");
+        String updatedProductAlertETag = consolidatedAPIService
+                .getConsolidatedInfoETagForViewMode("pageId", "appId", "branch")
+                .block();
+        assertThat(updatedProductAlertETag).isNotEqualTo(updatedTenantETag);
+
+        // So are the settings of the application, which change without a deployment
+        sampleApplication.setUpdatedAt(Instant.parse("2024-01-02T00:00:00Z"));
+        String updatedApplicationETag = consolidatedAPIService
+                .getConsolidatedInfoETagForViewMode("pageId", "appId", "branch")
+                .block();
+        assertThat(updatedApplicationETag).isNotEqualTo(updatedProductAlertETag);
+
+        sampleApplication.setForkingEnabled(true);
+        assertThat(consolidatedAPIService
+                        .getConsolidatedInfoETagForViewMode("pageId", "appId", "branch")
+                        .block())
+                .isNotEqualTo(updatedApplicationETag);
+
+        // An application that was never deployed has no published data to tag
+        sampleApplication.setLastDeployedAt(null);
+        StepVerifier.create(consolidatedAPIService.getConsolidatedInfoETagForViewMode("pageId", "appId", "branch"))
+                .verifyComplete();
+    }
 }
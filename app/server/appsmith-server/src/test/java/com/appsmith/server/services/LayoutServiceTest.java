@@ -16,6 +16,7 @@ import com.appsmith.server.domains.Plugin;
 import com.appsmith.server.domains.User;
 import com.appsmith.server.domains.Workspace;
 import com.appsmith.server.dtos.LayoutDTO;
+import com.appsmith.server.dtos.LayoutDeltaDTO;
 import com.appsmith.server.dtos.PageDTO;
 import com.appsmith.server.exceptions.AppsmithError;
 import com.appsmith.server.exceptions.AppsmithException;
@@ -1290,6 +1291,140 @@ public class LayoutServiceTest {
                 .verifyComplete();
     }
 
+    private LayoutDTO saveLayoutWithOneWidget(PageDTO page) {
+        JSONObject button = new JSONObject(Map.of("widgetName", "Button1", "widgetId", "button1", "type", "BUTTON"));
+        JSONObject mainContainer = new JSONObject(Map.of(
+                "widgetName", "MainContainer", "widgetId", "0", "type", "CANVAS_WIDGET", "children", List.of(button)));
+        Layout layout = new Layout();
+        layout.setDsl(mainContainer);
+
+        return updateLayoutService
+                .updateLayout(
+                        page.getId(),
+                        page.getApplicationId(),
+                        page.getLayouts().get(0).getId(),
+                        layout)
+                .block();
+    }
+
+    @Test
+    @WithUserDetails(value = "api_user")
+    public void updateLayoutWithDelta_whenWidgetsAreChanged_onlyChangesThoseWidgets() {
+        PageDTO testPage = new PageDTO();
+        testPage.setName("LayoutServiceTest updateLayoutWithDelta");
+
+        Application app = new Application();
+        app.setName("newApplication-updateLayoutWithDelta-Test");
+
+        PageDTO page = createPage(app, testPage).block();
+        assertThat(page).isNotNull();
+        final String layoutId = page.getLayouts().get(0).getId();
+        LayoutDTO savedLayout = saveLayoutWithOneWidget(page);
+        assertThat(savedLayout).isNotNull();
+        final int dslVersion = savedLayout.getDslVersion();
+
+        JSONObject input = new JSONObject(Map.of("widgetName", "Input1", "widgetId", "input1", "type", "INPUT"));
+        JSONObject button = new JSONObject(
+                Map.of("widgetName", "Button1", "widgetId", "button1", "type", "BUTTON", "text", "Submit"));
+        LayoutDeltaDTO layoutDelta = new LayoutDeltaDTO(
+                dslVersion,
+                List.of(
+                        new LayoutDeltaDTO.WidgetOperation(LayoutDeltaDTO.Op.UPSERT, "input1", "0", 0, input),
+                        new LayoutDeltaDTO.WidgetOperation(LayoutDeltaDTO.Op.UPSERT, "button1", null, null, button)));
+
+        StepVerifier.create(updateLayoutService.updateLayoutWithDelta(page.getId(), layoutId, layoutDelta, null))
+                .assertNext(layoutDTO -> {
+                    assertThat(layoutDTO.getDslVersion()).isEqualTo(dslVersion + 1);
+                    List<Map<String, Object>> children =
+                            (List<Map<String, Object>>) layoutDTO.getDsl().get("children");
+                    assertThat(children).hasSize(2);
+                    assertThat(children.get(0)).containsEntry("widgetName", "Input1");
+                    assertThat(children.get(1)).containsEntry("text", "Submit");
+                })
+                .verifyComplete();
+
+        StepVerifier.create(
+                        newPageService.findByIdAndLayoutsId(page.getId(), layoutId, AclPermission.MANAGE_PAGES, false))
+                .assertNext(pageDTO -> {
+                    Layout layout = pageDTO.getLayouts().get(0);
+                    assertThat(layout.getDslVersion()).isEqualTo(dslVersion + 1);
+                    assertThat(layout.getWidgetNames()).containsExactlyInAnyOrder("MainContainer", "Input1", "Button1");
+                    assertThat((List<?>) layout.getDsl().get("children")).hasSize(2);
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    @WithUserDetails(value = "api_user")
+    public void updateLayoutWithDelta_whenDslVersionIsStale_failsWithoutChangingLayout() {
+        PageDTO testPage = new PageDTO();
+        testPage.setName("LayoutServiceTest updateLayoutWithDelta stale");
+
+        Application app = new Application();
+        app.setName("newApplication-updateLayoutWithDelta-stale-Test");
+
+        PageDTO page = createPage(app, testPage).block();
+        assertThat(page).isNotNull();
+        final String layoutId = page.getLayouts().get(0).getId();
+        LayoutDTO savedLayout = saveLayoutWithOneWidget(page);
+        assertThat(savedLayout).isNotNull();
+        final int staleDslVersion = savedLayout.getDslVersion() - 1;
+
+        LayoutDeltaDTO layoutDelta = new LayoutDeltaDTO(
+                staleDslVersion,
+                List.of(new LayoutDeltaDTO.WidgetOperation(LayoutDeltaDTO.Op.REMOVE, "button1", null, null, null)));
+
+        StepVerifier.create(updateLayoutService.updateLayoutWithDelta(page.getId(), layoutId, layoutDelta, null))
+                .expectErrorMatches(throwable -> throwable instanceof AppsmithException
+                        && throwable
+                                .getMessage()
+                                .equals(AppsmithError.STALE_LAYOUT_VERSION.getMessage(layoutId, staleDslVersion)))
+                .verify();
+
+        StepVerifier.create(
+                        newPageService.findByIdAndLayoutsId(page.getId(), layoutId, AclPermission.MANAGE_PAGES, false))
+                .assertNext(pageDTO -> assertThat(
+                                (List<?>) pageDTO.getLayouts().get(0).getDsl().get("children"))
+                        .hasSize(1))
+                .verifyComplete();
+    }
+
+    @Test
+    @WithUserDetails(value = "api_user")
+    public void updateLayoutWithDelta_whenPageHasBeenSavedSince_failsAsStale() {
+        PageDTO testPage = new PageDTO();
+        testPage.setName("LayoutServiceTest updateLayoutWithDelta saved since");
+
+        Application app = new Application();
+        app.setName("newApplication-updateLayoutWithDelta-saved-since-Test");
+
+        PageDTO page = createPage(app, testPage).block();
+        assertThat(page).isNotNull();
+        final String layoutId = page.getLayouts().get(0).getId();
+        LayoutDTO savedLayout = saveLayoutWithOneWidget(page);
+        assertThat(savedLayout).isNotNull();
+        final int dslVersion = savedLayout.getDslVersion();
+
+        // Any other write of the page, e.g. a widget rename, moves the DSL version on
+        PageDTO savedPage = newPageService
+                .findByIdAndLayoutsId(page.getId(), layoutId, AclPermission.MANAGE_PAGES, false)
+                .flatMap(newPageService::saveUnpublishedPage)
+                .block();
+        assertThat(savedPage).isNotNull();
+        assertThat(savedPage.getLayouts().get(0).getDslVersion()).isEqualTo(dslVersion + 1);
+
+        LayoutDeltaDTO layoutDelta = new LayoutDeltaDTO(
+                dslVersion,
+                List.of(new LayoutDeltaDTO.WidgetOperation(LayoutDeltaDTO.Op.REMOVE, "button1", null, null, null)));
+
+        StepVerifier.create(updateLayoutService.updateLayoutWithDelta(page.getId(), layoutId, layoutDelta, null))
+                .expectErrorMatches(throwable -> throwable instanceof AppsmithException
+                        && throwable
+                                .getMessage()
+                                .equals(AppsmithError.STALE_LAYOUT_VERSION.getMessage(layoutId, dslVersion)))
+                .verify();
+    }
+
     @AfterEach
     public void purgePages() {
         newPageService.deleteAll().block();
@@ -189,6 +189,26 @@ public class ThemeServiceTest {
                 .block();
     }
 
+    @WithUserDetails("api_user")
+    @Test
+    public void getSystemTheme_WhenReturnedThemeIsChanged_NextLookupIsNotAffected() {
+        Theme classicTheme = themeService.getSystemTheme("classic").block();
+        assertThat(classicTheme.getName()).isEqualTo("Classic");
+        String classicThemeId = classicTheme.getId();
+
+        classicTheme.setId(null);
+        classicTheme.setName("Changed");
+        classicTheme.getUserPermissions().clear();
+
+        StepVerifier.create(themeService.getSystemTheme("Classic"))
+                .assertNext(theme -> {
+                    assertThat(theme.getId()).isEqualTo(classicThemeId);
+                    assertThat(theme.getName()).isEqualTo("Classic");
+                    assertThat(theme.getUserPermissions()).contains(READ_THEMES.getValue());
+                })
+                .verifyComplete();
+    }
+
     @WithUserDetails("api_user")
     @Test
     public void getApplicationTheme_WhenThemeIsSet_ThemesReturned() {
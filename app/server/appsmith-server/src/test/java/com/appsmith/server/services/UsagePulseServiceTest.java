@@ -2,10 +2,12 @@ package com.appsmith.server.services;
 
 import com.appsmith.server.configurations.CommonConfig;
 import com.appsmith.server.constants.FieldName;
+import com.appsmith.server.domains.User;
 import com.appsmith.server.dtos.UsagePulseDTO;
 import com.appsmith.server.exceptions.AppsmithError;
 import com.appsmith.server.exceptions.AppsmithException;
 import com.appsmith.server.repositories.UsagePulseRepository;
+import com.appsmith.server.repositories.UserRepository;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.codec.digest.DigestUtils;
 import org.junit.jupiter.api.BeforeEach;
@@ -37,6 +39,9 @@ public class UsagePulseServiceTest {
     @Autowired
     private UsagePulseRepository repository;
 
+    @Autowired
+    private UserRepository userRepository;
+
     @BeforeEach
     public void setup() {
         commonConfig.setCloudHosting(false);
@@ -55,7 +60,7 @@ public class UsagePulseServiceTest {
 
         StepVerifier.create(usagePulseService.createPulse(usagePulseDTO))
                 .assertNext(usagePulse -> {
-                    assertThat(usagePulse.getId()).isNotNull();
+                    assertThat(usagePulse.getCreatedAt()).isNotNull();
                     assertThat(usagePulse.getEmail()).isNull();
                     assertThat(usagePulse.getUser()).isEqualTo(anonymousUserId);
                     assertThat(usagePulse.getIsAnonymousUser()).isTrue();
@@ -92,7 +97,7 @@ public class UsagePulseServiceTest {
         StepVerifier.create(usagePulseService.createPulse(usagePulseDTO))
                 .assertNext(usagePulse -> {
                     String hashedUserEmail = DigestUtils.sha256Hex("api_user");
-                    assertThat(usagePulse.getId()).isNotNull();
+                    assertThat(usagePulse.getCreatedAt()).isNotNull();
                     assertThat(usagePulse.getEmail()).isNull();
                     assertThat(usagePulse.getUser()).isEqualTo(hashedUserEmail);
                     assertThat(usagePulse.getIsAnonymousUser()).isFalse();
@@ -125,12 +130,15 @@ public class UsagePulseServiceTest {
         usagePulseDTO.setAnonymousUserId(anonymousUserId);
 
         usagePulseService.createPulse(usagePulseDTO).block();
+        usagePulseService.flushPulses().block();
         Long usagePulseCount = repository.count().block();
         usagePulseService.createPulse(usagePulseDTO).block();
+        usagePulseService.flushPulses().block();
         Long usagePulseCountForSelfHostedInstance = repository.count().block();
 
         commonConfig.setCloudHosting(true);
         usagePulseService.createPulse(usagePulseDTO).block();
+        usagePulseService.flushPulses().block();
         Long usagePulseCountForCloud = repository.count().block();
 
         assertThat(usagePulseCount).isNotNull();
@@ -138,6 +146,37 @@ public class UsagePulseServiceTest {
         assertThat(usagePulseCountForSelfHostedInstance).isEqualTo(usagePulseCountForCloud);
     }
 
+    /**
+     * To verify pulses of a user in the same mode are written once per flush, and that the user's last active time is
+     * updated with the flush
+     */
+    @Test
+    @WithUserDetails(value = "api_user")
+    public void createPulse_multiplePulsesWithinFlushInterval_savedOnceWithFlush() {
+        usagePulseService.flushPulses().block();
+        User userBeforePulses = userRepository.findByEmail("api_user").block();
+        assertThat(userBeforePulses).isNotNull();
+        Long usagePulseCountBeforePulses = repository.count().block();
+
+        UsagePulseDTO usagePulseDTO = new UsagePulseDTO();
+        usagePulseDTO.setViewMode(false);
+        usagePulseService.createPulse(usagePulseDTO).block();
+        usagePulseService.createPulse(usagePulseDTO).block();
+        usagePulseService.createPulse(usagePulseDTO).block();
+
+        assertThat(repository.count().block()).isEqualTo(usagePulseCountBeforePulses);
+
+        usagePulseService.flushPulses().block();
+
+        assertThat(repository.count().block()).isEqualTo(usagePulseCountBeforePulses + 1);
+        User userAfterPulses = userRepository.findByEmail("api_user").block();
+        assertThat(userAfterPulses).isNotNull();
+        assertThat(userAfterPulses.getLastActiveAt()).isNotNull();
+        if (userBeforePulses.getLastActiveAt() != null) {
+            assertThat(userAfterPulses.getLastActiveAt()).isAfterOrEqualTo(userBeforePulses.getLastActiveAt());
+        }
+    }
+
     @Test
     public void createPulse_inEditMode_withAnonymousUser_throwException() {
         UsagePulseDTO usagePulseDTO = new UsagePulseDTO();
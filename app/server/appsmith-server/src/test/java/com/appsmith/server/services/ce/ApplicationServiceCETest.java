@@ -117,6 +117,8 @@ import reactor.util.function.Tuple2;
 import reactor.util.function.Tuple4;
 
 import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
@@ -3604,6 +3606,65 @@ public class ApplicationServiceCETest {
                 .verifyComplete();
     }
 
+    @WithUserDetails("api_user")
+    @Test
+    public void recordLastEditInformation_WhenFlushed_ApplicationUpdated() {
+        Application testApplication = new Application();
+        testApplication.setName("RecordLastEditInformation TestApp");
+        Application createdApplication = applicationPageService
+                .createApplication(testApplication, workspaceId)
+                .block();
+        assertThat(createdApplication).isNotNull();
+
+        Mono<Tuple2<Application, Application>> flushedApplicationMono = applicationService
+                .recordLastEditInformation(createdApplication.getId())
+                .then(applicationService.recordLastEditInformation(createdApplication.getId()))
+                .then(applicationService.findById(createdApplication.getId(), MANAGE_APPLICATIONS))
+                .flatMap(applicationService::flushLastEditInformation)
+                .zipWhen(application -> applicationRepository.findById(application.getId()));
+
+        StepVerifier.create(flushedApplicationMono)
+                .assertNext(tuple -> {
+                    Application flushedApplication = tuple.getT1();
+                    Application savedApplication = tuple.getT2();
+                    assertThat(flushedApplication.getIsManualUpdate()).isTrue();
+                    assertThat(flushedApplication.getModifiedBy()).isEqualTo("api_user");
+                    assertThat(savedApplication.getIsManualUpdate()).isTrue();
+                    assertThat(savedApplication.getModifiedBy()).isEqualTo("api_user");
+                    assertThat(savedApplication.getLastEditedAt()).isNotNull();
+                })
+                .verifyComplete();
+    }
+
+    @WithUserDetails("api_user")
+    @Test
+    public void updateLastEditInformation_WhenOlderThanSavedEdit_ApplicationNotUpdated() {
+        Application testApplication = new Application();
+        testApplication.setName("UpdateLastEditInformation TestApp");
+        Application createdApplication = applicationPageService
+                .createApplication(testApplication, workspaceId)
+                .block();
+        assertThat(createdApplication).isNotNull();
+
+        Instant newerEdit = Instant.now().plusSeconds(60).truncatedTo(ChronoUnit.MILLIS);
+        Instant olderEdit = newerEdit.minusSeconds(30);
+
+        Mono<Tuple2<Integer, Application>> olderEditMono = applicationRepository
+                .updateLastEditInformation(createdApplication.getId(), newerEdit, "newer_user")
+                .then(applicationRepository.updateLastEditInformation(
+                        createdApplication.getId(), olderEdit, "older_user"))
+                .zipWhen(updatedCount -> applicationRepository.findById(createdApplication.getId()));
+
+        StepVerifier.create(olderEditMono)
+                .assertNext(tuple -> {
+                    Application savedApplication = tuple.getT2();
+                    assertThat(tuple.getT1()).isZero();
+                    assertThat(savedApplication.getLastEditedAt()).isEqualTo(newerEdit);
+                    assertThat(savedApplication.getModifiedBy()).isEqualTo("newer_user");
+                })
+                .verifyComplete();
+    }
+
     @WithUserDetails("api_user")
     @Test
     public void generateSshKeyPair_WhenDefaultApplicationIdNotSet_CurrentAppUpdated() {
@@ -9,15 +9,21 @@ import com.appsmith.external.models.Datasource;
 import com.appsmith.external.models.Param;
 import com.appsmith.server.applications.base.ApplicationService;
 import com.appsmith.server.constants.FieldName;
+import com.appsmith.server.constants.RateLimitConstants;
 import com.appsmith.server.datasources.base.DatasourceService;
 import com.appsmith.server.datasourcestorages.base.DatasourceStorageService;
 import com.appsmith.server.domains.NewAction;
+import com.appsmith.server.domains.User;
+import com.appsmith.server.dtos.ExecutePageLoadActionsDTO;
+import com.appsmith.server.dtos.PageLoadActionResultDTO;
 import com.appsmith.server.exceptions.AppsmithError;
 import com.appsmith.server.exceptions.AppsmithException;
+import com.appsmith.server.helpers.ActionExecutionLimiter;
 import com.appsmith.server.helpers.PluginExecutorHelper;
 import com.appsmith.server.newactions.base.NewActionService;
 import com.appsmith.server.newpages.base.NewPageService;
 import com.appsmith.server.plugins.base.PluginService;
+import com.appsmith.server.ratelimiting.RateLimitService;
 import com.appsmith.server.services.AnalyticsService;
 import com.appsmith.server.services.AuthenticationValidator;
 import com.appsmith.server.services.ConfigService;
@@ -64,15 +70,21 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
 @ExtendWith(SpringExtension.class)
 @SpringBootTest
@@ -133,6 +145,12 @@ class ActionExecutionSolutionCEImplTest {
     @Autowired
     EnvironmentPermission environmentPermission;
 
+    @MockBean
+    RateLimitService rateLimitService;
+
+    @SpyBean
+    ActionExecutionLimiter actionExecutionLimiter;
+
     private BodyExtractor.Context context;
 
     private Map<String, Object> hints;
@@ -159,7 +177,9 @@ class ActionExecutionSolutionCEImplTest {
                 datasourceStorageService,
                 environmentPermission,
                 configService,
-                tenantService);
+                tenantService,
+                rateLimitService,
+                actionExecutionLimiter);
 
         ObservationRegistry.ObservationConfig mockObservationConfig =
                 Mockito.mock(ObservationRegistry.ObservationConfig.class);
@@ -208,6 +228,25 @@ class ActionExecutionSolutionCEImplTest {
                 .verify();
     }
 
+    @Test
+    public void testExecuteAction_whenRateLimitIsExceeded_failsWithTooManyRequests() {
+        User user = new User();
+        user.setEmail("usertest@usertest.com");
+        doReturn(true).when(rateLimitService).isApiRateLimited(RateLimitConstants.BUCKET_KEY_FOR_EXECUTE_ACTION_API);
+        doReturn(Mono.just(false))
+                .when(rateLimitService)
+                .tryIncreaseCounter(RateLimitConstants.BUCKET_KEY_FOR_EXECUTE_ACTION_API, user.getEmail());
+        doReturn(Mono.just(user)).when(sessionUserService).getCurrentUser();
+
+        final Mono<ActionExecutionResult> actionExecutionResultMono = actionExecutionSolution.executeAction(
+                Flux.empty(), null, FieldName.UNUSED_ENVIRONMENT_ID, null, Boolean.FALSE);
+
+        StepVerifier.create(actionExecutionResultMono)
+                .expectErrorMatches(e -> e instanceof AppsmithException
+                        && ((AppsmithException) e).getError().equals(AppsmithError.TOO_MANY_REQUESTS))
+                .verify();
+    }
+
     @Test
     public void testExecuteAction_withMalformedExecuteActionDTO_failsValidation() {
         MockServerHttpRequest mock = MockServerHttpRequest.method(HttpMethod.POST, URI.create("https://example.com"))
@@ -451,4 +490,118 @@ class ActionExecutionSolutionCEImplTest {
                 })
                 .verifyComplete();
     }
+
+    private ExecuteActionDTO createPageLoadExecuteActionDTO(String actionId) {
+        ExecuteActionDTO executeActionDTO = new ExecuteActionDTO();
+        executeActionDTO.setActionId(actionId);
+        executeActionDTO.setParamProperties(Map.of("k0", new ParamProperty("string", null)));
+        executeActionDTO.setParameterMap(Map.of("Input1.text", "k0"));
+        Param param = new Param();
+        param.setPseudoBindingName("k0");
+        param.setValue("xyz");
+        executeActionDTO.setParams(List.of(param));
+        return executeActionDTO;
+    }
+
+    private void mockPageLoadActionLookups(ActionExecutionSolutionCE executionSolutionSpy) {
+        doAnswer(invocation -> {
+                    NewAction newAction = new NewAction();
+                    newAction.setId(invocation.getArgument(1));
+                    newAction.setWorkspaceId("workspaceId");
+                    newAction.setPluginId("pluginId");
+                    ActionDTO actionDTO = new ActionDTO();
+                    actionDTO.setDatasource(new Datasource());
+                    newAction.setUnpublishedAction(actionDTO);
+                    return Mono.just(newAction);
+                })
+                .when(newActionService)
+                .findByBranchNameAndDefaultActionId(any(), any(), Mockito.anyBoolean(), any());
+        doReturn(Mono.just(FieldName.UNUSED_ENVIRONMENT_ID))
+                .when(datasourceService)
+                .getTrueEnvironmentId(
+                        any(), any(), any(), Mockito.eq(environmentPermission.getExecutePermission()), anyBoolean());
+        doAnswer(invocation -> {
+                    ExecuteActionDTO executeActionDTO = invocation.getArgument(0);
+                    ActionExecutionResult result = new ActionExecutionResult();
+                    result.setIsExecutionSuccess(true);
+                    result.setBody(executeActionDTO.getParams().get(0).getKey());
+                    return Mono.just(result);
+                })
+                .when(executionSolutionSpy)
+                .executeAction(any(), any());
+    }
+
+    @Test
+    public void testExecutePageLoadActions_executesSetsInOrderAndResolvesEnvironmentOnce() {
+        ActionExecutionSolutionCE executionSolutionSpy = spy(actionExecutionSolution);
+        mockPageLoadActionLookups(executionSolutionSpy);
+
+        ExecutePageLoadActionsDTO executePageLoadActionsDTO = new ExecutePageLoadActionsDTO();
+        executePageLoadActionsDTO.setActionSets(List.of(
+                List.of(createPageLoadExecuteActionDTO("action1"), createPageLoadExecuteActionDTO("action2")),
+                List.of(createPageLoadExecuteActionDTO("action3"))));
+
+        Mono<List<PageLoadActionResultDTO>> resultsMono = executionSolutionSpy
+                .executePageLoadActions(executePageLoadActionsDTO, null, null, null)
+                .collectList();
+
+        StepVerifier.create(resultsMono)
+                .assertNext(results -> {
+                    assertEquals(3, results.size());
+                    assertEquals(
+                            Set.of("action1", "action2"),
+                            results.subList(0, 2).stream()
+                                    .map(PageLoadActionResultDTO::getActionId)
+                                    .collect(Collectors.toSet()));
+                    assertEquals("action3", results.get(2).getActionId());
+                    results.forEach(result -> {
+                        assertTrue(result.getResult().getIsExecutionSuccess());
+                        // The params are mapped back to their bindings, the same as in the multipart execute API
+                        assertEquals("Input1.text", result.getResult().getBody());
+                    });
+                })
+                .verifyComplete();
+
+        // All the actions use the same plugin in the same workspace, so they share the environment
+        verify(datasourceService, times(1))
+                .getTrueEnvironmentId(
+                        any(), any(), any(), Mockito.eq(environmentPermission.getExecutePermission()), anyBoolean());
+    }
+
+    @Test
+    public void testExecutePageLoadActions_whenActionFails_executesTheOtherActions() {
+        ActionExecutionSolutionCE executionSolutionSpy = spy(actionExecutionSolution);
+        mockPageLoadActionLookups(executionSolutionSpy);
+        doReturn(Mono.error(new AppsmithException(AppsmithError.NO_RESOURCE_FOUND, FieldName.ACTION, "missing")))
+                .when(newActionService)
+                .findByBranchNameAndDefaultActionId(any(), Mockito.eq("missing"), Mockito.anyBoolean(), any());
+
+        ExecutePageLoadActionsDTO executePageLoadActionsDTO = new ExecutePageLoadActionsDTO();
+        executePageLoadActionsDTO.setActionSets(List.of(
+                List.of(createPageLoadExecuteActionDTO("missing")),
+                List.of(createPageLoadExecuteActionDTO("action1"))));
+
+        Mono<List<PageLoadActionResultDTO>> resultsMono = executionSolutionSpy
+                .executePageLoadActions(executePageLoadActionsDTO, null, null, null)
+                .collectList();
+
+        StepVerifier.create(resultsMono)
+                .assertNext(results -> {
+                    assertEquals(2, results.size());
+                    assertEquals("missing", results.get(0).getActionId());
+                    assertFalse(results.get(0).getResult().getIsExecutionSuccess());
+                    assertEquals("action1", results.get(1).getActionId());
+                    assertTrue(results.get(1).getResult().getIsExecutionSuccess());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    public void testExecutePageLoadActions_withoutActions_failsValidation() {
+        StepVerifier.create(actionExecutionSolution.executePageLoadActions(
+                        new ExecutePageLoadActionsDTO(), null, null, null))
+                .expectErrorMatches(e -> e instanceof AppsmithException
+                        && e.getMessage().equals(AppsmithError.INVALID_PARAMETER.getMessage("actionSets")))
+                .verify();
+    }
 }
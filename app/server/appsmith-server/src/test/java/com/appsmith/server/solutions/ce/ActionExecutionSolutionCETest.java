@@ -195,6 +195,8 @@ public class ActionExecutionSolutionCETest {
 
     @BeforeEach
     public void setup() {
+        Mockito.when(pluginExecutor.getMaxConcurrentExecutions(any())).thenReturn(Mono.empty());
+
         User currentUser = sessionUserService.getCurrentUser().block();
         User apiUser = userService.findByEmail("api_user").block();
 